@@ -0,0 +1,201 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.media.Image;
+import android.media.ImageReader;
+import android.os.Handler;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import io.flutter.plugin.common.MethodChannel;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects the JPEG images of a capture burst and writes them to disk on a pool of {@link
+ * ImageSaver}s.
+ *
+ * <p>Images are acquired on the capture thread as soon as they arrive, but never more than the
+ * {@link ImageReader} can hold at once. Whenever a saver closes its image the reader is drained
+ * again. Once every shot has been written the paths are sent to Dart together with the per shot
+ * latency and the throughput of the burst.
+ */
+class BurstCapture implements ImageReader.OnImageAvailableListener {
+  private static final String TAG = "BurstCapture";
+
+  private final List<File> files;
+  private final boolean syncToDisk;
+  private final Executor saverExecutor;
+  private final Handler handler;
+  private final DartMessenger dartMessenger;
+  private final MethodChannel.Result result;
+  private final long startNs;
+
+  private final String[] paths;
+  private final long[] completionNs;
+  private final long[] writeDurationNs;
+  private final long[] bytesWritten;
+  private final AtomicInteger imagesInFlight = new AtomicInteger();
+  private final AtomicInteger shotsFinished = new AtomicInteger();
+  private final AtomicBoolean done = new AtomicBoolean();
+
+  // Only accessed on the capture thread.
+  private int imagesReceived;
+
+  /**
+   * Creates a new burst.
+   *
+   * @param files the files to write the shots to, one per requested shot.
+   * @param syncToDisk whether every file is flushed to the storage device before completion.
+   * @param saverExecutor the executor running the {@link ImageSaver}s.
+   * @param handler the handler of the thread the {@link ImageReader} reports images on.
+   * @param dartMessenger used to report the result on the main thread.
+   * @param result the result to complete once the burst has finished.
+   */
+  BurstCapture(
+      @NonNull List<File> files,
+      boolean syncToDisk,
+      @NonNull Executor saverExecutor,
+      @NonNull Handler handler,
+      @NonNull DartMessenger dartMessenger,
+      @NonNull MethodChannel.Result result) {
+    this.files = files;
+    this.syncToDisk = syncToDisk;
+    this.saverExecutor = saverExecutor;
+    this.handler = handler;
+    this.dartMessenger = dartMessenger;
+    this.result = result;
+    this.startNs = System.nanoTime();
+    this.paths = new String[files.size()];
+    this.completionNs = new long[files.size()];
+    this.writeDurationNs = new long[files.size()];
+    this.bytesWritten = new long[files.size()];
+  }
+
+  /** Returns true once the burst has completed or failed. */
+  boolean isDone() {
+    return done.get();
+  }
+
+  @Override
+  public void onImageAvailable(ImageReader reader) {
+    while (imagesInFlight.get() < reader.getMaxImages()) {
+      Image image;
+      try {
+        image = reader.acquireNextImage();
+      } catch (IllegalStateException e) {
+        // All buffers are still held by savers, the reader is drained again once one finishes.
+        return;
+      }
+      if (image == null) {
+        return;
+      }
+      if (done.get() || imagesReceived >= files.size()) {
+        // Images of a failed burst are discarded so they can't be mistaken for later shots.
+        image.close();
+        continue;
+      }
+      final int index = imagesReceived++;
+      imagesInFlight.incrementAndGet();
+      final ImageSaver saver =
+          new ImageSaver(image, files.get(index), syncToDisk, createCallback(index));
+      try {
+        saverExecutor.execute(
+            () -> {
+              saver.run();
+              imagesInFlight.decrementAndGet();
+              handler.post(() -> onImageAvailable(reader));
+            });
+      } catch (RejectedExecutionException e) {
+        // The camera is closing and the savers are shutting down.
+        image.close();
+        imagesInFlight.decrementAndGet();
+        cancel();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Fails the burst when one of its capture requests could not be completed.
+   *
+   * @param reason the {@link android.hardware.camera2.CaptureFailure} reason.
+   */
+  void onCaptureFailed(int reason) {
+    fail("captureFailed", "Burst capture failed with reason " + reason);
+  }
+
+  /**
+   * Fails the burst because the camera is closing.
+   *
+   * <p>Does nothing if the burst has already completed or failed.
+   */
+  void cancel() {
+    fail("cameraAccess", "The camera was closed during the burst.");
+  }
+
+  private ImageSaver.Callback createCallback(final int index) {
+    return new ImageSaver.Callback() {
+      @Override
+      public void onComplete(String absolutePath, long bytes, long durationNs) {
+        paths[index] = absolutePath;
+        completionNs[index] = System.nanoTime();
+        writeDurationNs[index] = durationNs;
+        bytesWritten[index] = bytes;
+        if (shotsFinished.incrementAndGet() == files.size()) {
+          complete();
+        }
+      }
+
+      @Override
+      public void onError(String errorCode, String errorMessage) {
+        fail(errorCode, errorMessage);
+      }
+    };
+  }
+
+  private void complete() {
+    if (!done.compareAndSet(false, true)) {
+      return;
+    }
+
+    List<String> shotPaths = new ArrayList<>(paths.length);
+    List<Double> shotLatenciesMs = new ArrayList<>(paths.length);
+    List<Double> writeLatenciesMs = new ArrayList<>(paths.length);
+    long totalBytesWritten = 0;
+    long lastCompletionNs = startNs;
+    for (int i = 0; i < paths.length; i++) {
+      shotPaths.add(paths[i]);
+      shotLatenciesMs.add((completionNs[i] - startNs) / 1e6);
+      writeLatenciesMs.add(writeDurationNs[i] / 1e6);
+      totalBytesWritten += bytesWritten[i];
+      lastCompletionNs = Math.max(lastCompletionNs, completionNs[i]);
+    }
+    double durationMs = (lastCompletionNs - startNs) / 1e6;
+
+    Map<String, Object> reply = new HashMap<>();
+    reply.put("paths", shotPaths);
+    reply.put("shotLatenciesMs", shotLatenciesMs);
+    reply.put("writeLatenciesMs", writeLatenciesMs);
+    reply.put("bytesWritten", totalBytesWritten);
+    reply.put("durationMs", durationMs);
+    reply.put("shotsPerSecond", durationMs > 0 ? paths.length * 1000.0 / durationMs : 0.0);
+    Log.i(TAG, "Burst of " + paths.length + " shots took " + durationMs + "ms");
+    dartMessenger.finish(result, reply);
+  }
+
+  private void fail(String errorCode, String errorMessage) {
+    if (done.compareAndSet(false, true)) {
+      dartMessenger.error(result, errorCode, errorMessage, null);
+    }
+  }
+}
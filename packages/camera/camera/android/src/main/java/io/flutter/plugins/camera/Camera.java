@@ -15,6 +15,7 @@ import android.hardware.camera2.CameraCaptureSession;
 import android.hardware.camera2.CameraDevice;
 import android.hardware.camera2.CameraManager;
 import android.hardware.camera2.CameraMetadata;
+import android.hardware.camera2.CaptureFailure;
 import android.hardware.camera2.CaptureRequest;
 import android.hardware.camera2.TotalCaptureResult;
 import android.hardware.camera2.params.OutputConfiguration;
@@ -23,6 +24,7 @@ import android.media.CamcorderProfile;
 import android.media.EncoderProfiles;
 import android.media.Image;
 import android.media.ImageReader;
+import android.media.MediaCodec;
 import android.media.MediaRecorder;
 import android.os.Build;
 import android.os.Build.VERSION;
@@ -30,6 +32,8 @@ import android.os.Build.VERSION_CODES;
 import android.os.Handler;
 import android.os.HandlerThread;
 import android.os.Looper;
+import android.os.Message;
+import android.os.SystemClock;
 import android.util.Log;
 import android.util.Size;
 import android.view.Display;
@@ -59,20 +63,27 @@ import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
 import io.flutter.plugins.camera.features.sensororientation.DeviceOrientationManager;
 import io.flutter.plugins.camera.features.sensororientation.SensorOrientationFeature;
 import io.flutter.plugins.camera.features.zoomlevel.ZoomLevelFeature;
+import io.flutter.plugins.camera.media.ImageStreamBackpressure;
+import io.flutter.plugins.camera.media.ImageStreamBufferPool;
+import io.flutter.plugins.camera.media.ImageStreamFrame;
+import io.flutter.plugins.camera.media.ImageStreamTransform;
+import io.flutter.plugins.camera.media.MediaCodecRecorder;
 import io.flutter.plugins.camera.media.MediaRecorderBuilder;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
 import io.flutter.plugins.camera.types.CaptureTimeoutsWrapper;
+import io.flutter.plugins.camera.types.LatencyStats;
 import io.flutter.view.TextureRegistry.SurfaceTextureEntry;
 import java.io.File;
 import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 @FunctionalInterface
 interface ErrorCallback {
@@ -102,6 +113,12 @@ class Camera
         ImageReader.OnImageAvailableListener {
   private static final String TAG = "Camera";
 
+  /** The default number of images an {@link ImageReader} can hold at once. */
+  static final int DEFAULT_MAX_IMAGES = 1;
+
+  /** The number of threads writing the shots of a burst to disk. */
+  private static final int BURST_SAVER_THREAD_COUNT = 2;
+
   private static final HashMap<String, Integer> supportedImageFormats;
 
   // Current supported outputs.
@@ -126,26 +143,73 @@ class Camera
   private final Activity activity;
   /** A {@link CameraCaptureSession.CaptureCallback} that handles events related to JPEG capture. */
   private final CameraCaptureCallback cameraCaptureCallback;
-  /** A {@link Handler} for running tasks in the background. */
+  /** Records the timings of opening the camera, null when tracing is disabled. */
+  @Nullable private CameraInitializationTrace initializationTrace;
+  /** A {@link Handler} for camera device, session and capture callbacks. */
   private Handler backgroundHandler;
 
   /** An additional thread for running tasks that shouldn't block the UI. */
   private HandlerThread backgroundHandlerThread;
 
+  /** A {@link Handler} for copying image stream frames. */
+  private Handler imageStreamHandler;
+
+  /** A thread dedicated to image stream copies, so they never delay capture callbacks. */
+  private HandlerThread imageStreamHandlerThread;
+
+  /** A {@link Handler} for writing captured pictures to disk. */
+  private Handler imageSaverHandler;
+
+  /** A thread dedicated to file writes, so slow storage never delays the preview. */
+  private HandlerThread imageSaverHandlerThread;
+
+  private final LatencyStats backgroundLatencyStats = new LatencyStats();
+  private final LatencyStats imageStreamLatencyStats = new LatencyStats();
+  private final LatencyStats imageSaverLatencyStats = new LatencyStats();
+
+  /** Writes the shots of a burst to disk, created when the first burst is taken. */
+  private ExecutorService burstSaverExecutor;
+  /** The burst that is currently being captured or saved. */
+  private BurstCapture burstCapture;
+
   private CameraDeviceWrapper cameraDevice;
   private CameraCaptureSession captureSession;
   private ImageReader pictureImageReader;
   private ImageReader imageStreamReader;
+  /** Recycles the plane buffers and frame envelopes used by the image stream. */
+  private final ImageStreamBufferPool imageStreamBufferPool = new ImageStreamBufferPool();
+  /** Decides which image stream frames are delivered when Dart can't keep up. */
+  private ImageStreamBackpressure imageStreamBackpressure = ImageStreamBackpressure.deliverAll();
+  /** The crop, subsampling and plane selection applied to image stream frames. */
+  private ImageStreamTransform imageStreamTransform = ImageStreamTransform.identity();
   /** {@link CaptureRequest.Builder} for the camera preview */
   private CaptureRequest.Builder previewRequestBuilder;
 
+  /**
+   * Whether one capture session holding every output is configured up front, so switching between
+   * preview, image stream and recording only changes the targets of the repeating request.
+   */
+  private boolean sharedCaptureSessionEnabled;
+  /** True when the current capture session is the shared one. */
+  private boolean captureSessionShared;
+  /** The Flutter surface the shared capture session was configured with. */
+  private Surface sharedFlutterSurface;
+  /** A persistent recorder input surface that is part of the shared capture session. */
+  private Surface recorderSurface;
+
   private MediaRecorder mediaRecorder;
+  /** The encoder of the current recording when it was started with video encoder options. */
+  private MediaCodecRecorder mediaCodecRecorder;
+  /** The encoder of the last recording made with a {@link MediaCodecRecorder}. */
+  private MediaCodecRecorder lastMediaCodecRecorder;
   /** True when recording video. */
   private boolean recordingVideo;
   /** True when the preview is paused. */
   private boolean pausedPreview;
 
   private File captureFile;
+  /** Whether captured pictures are flushed to the storage device before they are reported. */
+  private boolean syncCaptureToDisk;
 
   /** Holds the current capture timeouts */
   private CaptureTimeoutsWrapper captureTimeouts;
@@ -154,6 +218,15 @@ class Camera
 
   private MethodChannel.Result flutterResult;
 
+  /** How often the repeating request was issued to the capture session. */
+  private final AtomicLong repeatingRequestsIssued = new AtomicLong();
+  /** How often every feature was applied to a new repeating request builder. */
+  private final AtomicLong fullBuilderUpdates = new AtomicLong();
+  /** How often only the changed features were applied to the repeating request builder. */
+  private final AtomicLong partialBuilderUpdates = new AtomicLong();
+  /** How often a setting was set to the value it already had, without reissuing the request. */
+  private final AtomicLong unchangedSettingsSkipped = new AtomicLong();
+
   /** A CameraDeviceWrapper implementation that forwards calls to a CameraDevice. */
   private class DefaultCameraDeviceWrapper implements CameraDeviceWrapper {
     private final CameraDevice cameraDevice;
@@ -223,6 +296,37 @@ class Camera
     startBackgroundThread();
   }
 
+  /**
+   * Sets the trace that records the timings of opening the camera.
+   *
+   * @param initializationTrace the trace to record into, or null to disable tracing.
+   */
+  void setInitializationTrace(@Nullable CameraInitializationTrace initializationTrace) {
+    this.initializationTrace = initializationTrace;
+    cameraCaptureCallback.setInitializationTrace(initializationTrace);
+  }
+
+  /**
+   * Configures a single capture session with the preview, picture, image stream and recorder
+   * outputs, instead of rebuilding the session every time the preview mode changes.
+   *
+   * <p>Must be called before {@link #open(String, int, int)}. Requires Android M for the
+   * persistent recorder surface and falls back to separate sessions below it, or when the device
+   * can't configure all outputs at once.
+   *
+   * @param enabled whether the shared capture session is used.
+   */
+  void setSharedCaptureSessionEnabled(boolean enabled) {
+    sharedCaptureSessionEnabled = enabled && VERSION.SDK_INT >= VERSION_CODES.M;
+  }
+
+  private void markInitializationPhase(CameraInitializationTrace.Phase phase) {
+    CameraInitializationTrace trace = initializationTrace;
+    if (trace != null) {
+      trace.mark(phase);
+    }
+  }
+
   @Override
   public void onConverged() {
     takePictureAfterPrecapture();
@@ -239,10 +343,33 @@ class Camera
    * @param requestBuilder request builder to update.
    */
   private void updateBuilderSettings(CaptureRequest.Builder requestBuilder) {
-    for (CameraFeature feature : cameraFeatures.getAllFeatures()) {
-      Log.d(TAG, "Updating builder with feature: " + feature.getDebugName());
-      feature.updateBuilder(requestBuilder);
+    cameraFeatures.updateBuilder(requestBuilder);
+  }
+
+  /** Applies every feature to a newly created builder of the repeating request. */
+  private void updatePreviewBuilderSettings() {
+    cameraFeatures.updateRepeatingBuilder(previewRequestBuilder);
+    fullBuilderUpdates.incrementAndGet();
+  }
+
+  /**
+   * Applies a feature whose value was just set to the builder of the repeating request.
+   *
+   * @param feature the feature whose value was set.
+   * @return false when the value equals the one last applied, so the repeating request doesn't
+   *     have to be reissued.
+   */
+  private boolean applyChangedFeature(CameraFeature<?> feature) {
+    if (!cameraFeatures.markChanged(feature)) {
+      unchangedSettingsSkipped.incrementAndGet();
+      return false;
+    }
+    if (previewRequestBuilder != null) {
+      // Without a builder the change is applied with every other feature once it's created.
+      cameraFeatures.updateRepeatingBuilderWithChangedFeatures(previewRequestBuilder);
+      partialBuilderUpdates.incrementAndGet();
     }
+    return true;
   }
 
   private void prepareMediaRecorder(String outputFilePath) throws IOException {
@@ -252,30 +379,65 @@ class Camera
       mediaRecorder.release();
     }
 
-    final PlatformChannel.DeviceOrientation lockedOrientation =
-        ((SensorOrientationFeature) cameraFeatures.getSensorOrientation())
-            .getLockedCaptureOrientation();
-
-    MediaRecorderBuilder mediaRecorderBuilder;
-
-    if (Build.VERSION.SDK_INT >= 31) {
-      mediaRecorderBuilder = new MediaRecorderBuilder(getRecordingProfile(), outputFilePath);
-    } else {
-      mediaRecorderBuilder = new MediaRecorderBuilder(getRecordingProfileLegacy(), outputFilePath);
+    MediaRecorderBuilder mediaRecorderBuilder =
+        new MediaRecorderBuilder(
+            cameraFeatures.getResolution().getResolutionProfile(), outputFilePath);
+    if (recorderSurface != null) {
+      mediaRecorderBuilder.setInputSurface(recorderSurface);
     }
 
     mediaRecorder =
         mediaRecorderBuilder
             .setEnableAudio(enableAudio)
-            .setMediaOrientation(
-                lockedOrientation == null
-                    ? getDeviceOrientationManager().getVideoOrientation()
-                    : getDeviceOrientationManager().getVideoOrientation(lockedOrientation))
+            .setMediaOrientation(getRecordingOrientation())
             .build();
   }
 
-  @SuppressLint("MissingPermission")
+  @TargetApi(VERSION_CODES.M)
+  private void prepareMediaCodecRecorder(
+      String outputFilePath, @NonNull Map<String, Object> videoEncoderOptions) throws IOException {
+    Log.i(TAG, "prepareMediaCodecRecorder");
+
+    Object bitrate = videoEncoderOptions.get("bitrate");
+    Object keyFrameInterval = videoEncoderOptions.get("keyFrameIntervalSeconds");
+    MediaCodecRecorder recorder =
+        new MediaCodecRecorder(
+                cameraFeatures.getResolution().getResolutionProfile(), outputFilePath)
+            .setBitrate(bitrate instanceof Number ? ((Number) bitrate).intValue() : 0)
+            .setBitrateMode((String) videoEncoderOptions.get("bitrateMode"))
+            .setPreferHevc(Boolean.TRUE.equals(videoEncoderOptions.get("hevc")))
+            .setInputSurface(recorderSurface)
+            .setMediaOrientation(getRecordingOrientation());
+    if (keyFrameInterval instanceof Number) {
+      recorder.setKeyFrameIntervalSeconds(((Number) keyFrameInterval).floatValue());
+    }
+    recorder.prepare();
+    mediaCodecRecorder = recorder;
+  }
+
+  private int getRecordingOrientation() {
+    final PlatformChannel.DeviceOrientation lockedOrientation =
+        ((SensorOrientationFeature) cameraFeatures.getSensorOrientation())
+            .getLockedCaptureOrientation();
+    return lockedOrientation == null
+        ? getDeviceOrientationManager().getVideoOrientation()
+        : getDeviceOrientationManager().getVideoOrientation(lockedOrientation);
+  }
+
   public void open(String imageFormatGroup) throws CameraAccessException {
+    open(imageFormatGroup, DEFAULT_MAX_IMAGES, DEFAULT_MAX_IMAGES);
+  }
+
+  /**
+   * Opens the camera.
+   *
+   * @param imageFormatGroup the format of the image stream, falls back to YUV420 when unsupported.
+   * @param pictureMaxImages the number of still images the picture reader can hold at once.
+   * @param imageStreamMaxImages the number of frames the image stream reader can hold at once.
+   */
+  @SuppressLint("MissingPermission")
+  public void open(String imageFormatGroup, int pictureMaxImages, int imageStreamMaxImages)
+      throws CameraAccessException {
     final ResolutionFeature resolutionFeature = cameraFeatures.getResolution();
 
     if (!resolutionFeature.checkIsSupported()) {
@@ -295,7 +457,7 @@ class Camera
             resolutionFeature.getCaptureSize().getWidth(),
             resolutionFeature.getCaptureSize().getHeight(),
             ImageFormat.JPEG,
-            1);
+            Math.max(1, pictureMaxImages));
 
     // For image streaming, use the provided image format or fall back to YUV420.
     Integer imageFormat = supportedImageFormats.get(imageFormatGroup);
@@ -308,7 +470,11 @@ class Camera
             resolutionFeature.getPreviewSize().getWidth(),
             resolutionFeature.getPreviewSize().getHeight(),
             imageFormat,
-            1);
+            Math.max(1, imageStreamMaxImages));
+
+    if (sharedCaptureSessionEnabled && recorderSurface == null) {
+      createRecorderSurface();
+    }
 
     // Open the camera.
     CameraManager cameraManager = CameraUtils.getCameraManager(activity);
@@ -317,6 +483,7 @@ class Camera
         new CameraDevice.StateCallback() {
           @Override
           public void onOpened(@NonNull CameraDevice device) {
+            markInitializationPhase(CameraInitializationTrace.Phase.CAMERA_OPENED);
             cameraDevice = new DefaultCameraDeviceWrapper(device);
             try {
               startPreview();
@@ -327,6 +494,7 @@ class Camera
                   cameraFeatures.getAutoFocus().getValue(),
                   cameraFeatures.getExposurePoint().checkIsSupported(),
                   cameraFeatures.getFocusPoint().checkIsSupported());
+              markInitializationPhase(CameraInitializationTrace.Phase.INITIALIZED_EVENT_SENT);
             } catch (CameraAccessException e) {
               dartMessenger.sendCameraErrorEvent(e.getMessage());
               close();
@@ -390,12 +558,19 @@ class Camera
   private void createCaptureSession(
       int templateType, Runnable onSuccessCallback, Surface... surfaces)
       throws CameraAccessException {
+    if (captureSessionShared && captureSession != null) {
+      // All outputs are already configured, only the targets of the repeating request change.
+      Log.i(TAG, "Switching targets of the shared capture session");
+      createRequestBuilder(templateType, sharedFlutterSurface, surfaces);
+      updatePreviewBuilderSettings();
+      refreshPreviewCaptureSession(
+          onSuccessCallback, (code, message) -> dartMessenger.sendCameraErrorEvent(message));
+      return;
+    }
+
     // Close any existing capture session.
     closeCaptureSession();
 
-    // Create a new capture builder.
-    previewRequestBuilder = cameraDevice.createCaptureRequest(templateType);
-
     // Build Flutter surface to render to.
     ResolutionFeature resolutionFeature = cameraFeatures.getResolution();
     SurfaceTexture surfaceTexture = flutterTexture.surfaceTexture();
@@ -403,22 +578,18 @@ class Camera
         resolutionFeature.getPreviewSize().getWidth(),
         resolutionFeature.getPreviewSize().getHeight());
     Surface flutterSurface = new Surface(surfaceTexture);
-    previewRequestBuilder.addTarget(flutterSurface);
+
+    // Create a new capture builder.
+    createRequestBuilder(templateType, flutterSurface, surfaces);
 
     List<Surface> remainingSurfaces = Arrays.asList(surfaces);
-    if (templateType != CameraDevice.TEMPLATE_PREVIEW) {
-      // If it is not preview mode, add all surfaces as targets.
-      for (Surface surface : remainingSurfaces) {
-        previewRequestBuilder.addTarget(surface);
-      }
+    final boolean sharedSession = sharedCaptureSessionEnabled && recorderSurface != null;
+    if (sharedSession) {
+      // Configure every output up front, the requested ones are only used as targets.
+      remainingSurfaces = getSharedSessionSurfaces();
+      sharedFlutterSurface = flutterSurface;
     }
 
-    // Update camera regions.
-    Size cameraBoundaries =
-        CameraRegionUtils.getCameraBoundaries(cameraProperties, previewRequestBuilder);
-    cameraFeatures.getExposurePoint().setCameraBoundaries(cameraBoundaries);
-    cameraFeatures.getFocusPoint().setCameraBoundaries(cameraBoundaries);
-
     // Prepare the callback.
     CameraCaptureSession.StateCallback callback =
         new CameraCaptureSession.StateCallback() {
@@ -433,9 +604,11 @@ class Camera
               return;
             }
             captureSession = session;
+            captureSessionShared = sharedSession;
+            markInitializationPhase(CameraInitializationTrace.Phase.SESSION_CONFIGURED);
 
             Log.i(TAG, "Updating builder settings");
-            updateBuilderSettings(previewRequestBuilder);
+            updatePreviewBuilderSettings();
 
             refreshPreviewCaptureSession(
                 onSuccessCallback, (code, message) -> dartMessenger.sendCameraErrorEvent(message));
@@ -444,6 +617,18 @@ class Camera
           @Override
           public void onConfigureFailed(@NonNull CameraCaptureSession cameraCaptureSession) {
             Log.i(TAG, "CameraCaptureSession onConfigureFailed");
+            if (sharedSession && cameraDevice != null) {
+              // The device can't stream to all outputs at once, use a session per mode instead.
+              Log.w(TAG, "Shared capture session not supported, falling back to separate sessions");
+              releaseRecorderSurface();
+              sharedCaptureSessionEnabled = false;
+              try {
+                createCaptureSession(templateType, onSuccessCallback, surfaces);
+              } catch (CameraAccessException | IllegalStateException e) {
+                dartMessenger.sendCameraErrorEvent(e.getMessage());
+              }
+              return;
+            }
             dartMessenger.sendCameraErrorEvent("Failed to configure camera session.");
           }
 
@@ -472,6 +657,76 @@ class Camera
     }
   }
 
+  private void createRequestBuilder(int templateType, Surface flutterSurface, Surface... surfaces)
+      throws CameraAccessException {
+    previewRequestBuilder = cameraDevice.createCaptureRequest(templateType);
+    previewRequestBuilder.addTarget(flutterSurface);
+
+    if (templateType != CameraDevice.TEMPLATE_PREVIEW) {
+      // If it is not preview mode, add all surfaces as targets.
+      for (Surface surface : surfaces) {
+        previewRequestBuilder.addTarget(surface);
+      }
+    }
+
+    // Update camera regions.
+    Size cameraBoundaries =
+        CameraRegionUtils.getCameraBoundaries(cameraProperties, previewRequestBuilder);
+    cameraFeatures.getExposurePoint().setCameraBoundaries(cameraBoundaries);
+    cameraFeatures.getFocusPoint().setCameraBoundaries(cameraBoundaries);
+  }
+
+  private List<Surface> getSharedSessionSurfaces() {
+    List<Surface> outputs = new ArrayList<>();
+    outputs.add(pictureImageReader.getSurface());
+    outputs.add(imageStreamReader.getSurface());
+    outputs.add(recorderSurface);
+    return outputs;
+  }
+
+  /**
+   * Creates the persistent recorder surface of the shared capture session.
+   *
+   * <p>The surface only gets its size and format once a recorder has been prepared with it, so a
+   * throwaway recorder is prepared against a temporary file first.
+   */
+  @TargetApi(VERSION_CODES.M)
+  private void createRecorderSurface() {
+    Surface surface = MediaCodec.createPersistentInputSurface();
+    File warmUpFile = null;
+    MediaRecorder warmUpRecorder = null;
+    try {
+      warmUpFile = File.createTempFile("REC", ".mp4", applicationContext.getCacheDir());
+      warmUpRecorder =
+          new MediaRecorderBuilder(
+                  cameraFeatures.getResolution().getResolutionProfile(),
+                  warmUpFile.getAbsolutePath())
+              .setInputSurface(surface)
+              .build();
+      recorderSurface = surface;
+    } catch (IOException | RuntimeException e) {
+      Log.w(TAG, "Could not create recorder surface, using separate sessions instead", e);
+      surface.release();
+      sharedCaptureSessionEnabled = false;
+    } finally {
+      if (warmUpRecorder != null) {
+        warmUpRecorder.release();
+      }
+      if (warmUpFile != null) {
+        //noinspection ResultOfMethodCallIgnored
+        warmUpFile.delete();
+      }
+    }
+  }
+
+  private void releaseRecorderSurface() {
+    if (recorderSurface != null) {
+      recorderSurface.release();
+      recorderSurface = null;
+    }
+    sharedFlutterSurface = null;
+  }
+
   @TargetApi(VERSION_CODES.P)
   private void createCaptureSessionWithSessionConfig(
       List<OutputConfiguration> outputConfigs, CameraCaptureSession.StateCallback callback)
@@ -509,6 +764,7 @@ class Camera
       if (!pausedPreview) {
         captureSession.setRepeatingRequest(
             previewRequestBuilder.build(), cameraCaptureCallback, backgroundHandler);
+        repeatingRequestsIssued.incrementAndGet();
       }
 
       if (onSuccessCallback != null) {
@@ -523,13 +779,25 @@ class Camera
   }
 
   public void takePicture(@NonNull final Result result) {
+    takePicture(result, false);
+  }
+
+  /**
+   * Takes a picture, running the autofocus and precapture sequences first when needed.
+   *
+   * @param result Flutter result.
+   * @param syncToDisk whether the file is flushed to the storage device before the result
+   *     completes.
+   */
+  public void takePicture(@NonNull final Result result, boolean syncToDisk) {
     // Only take one picture at a time.
-    if (cameraCaptureCallback.getCameraState() != CameraState.STATE_PREVIEW) {
+    if (cameraCaptureCallback.getCameraState() != CameraState.STATE_PREVIEW || isBurstActive()) {
       result.error("captureAlreadyActive", "Picture is currently already being captured", null);
       return;
     }
 
     flutterResult = result;
+    syncCaptureToDisk = syncToDisk;
 
     // Create temporary file.
     final File outputDir = applicationContext.getCacheDir();
@@ -553,6 +821,105 @@ class Camera
     }
   }
 
+  /**
+   * Captures a burst of still images using the current preview settings.
+   *
+   * <p>The requests are submitted at once through {@link CameraCaptureSession#captureBurst}, so
+   * the precapture and autofocus sequences of {@link #takePicture(Result)} are skipped. The shots
+   * are written to disk by a pool of {@link ImageSaver}s, and the result completes with the file
+   * paths, the per shot latency and the throughput of the burst. The number of shots held in
+   * memory at once is bounded by the depth of the picture {@link ImageReader}.
+   *
+   * @param result Flutter result.
+   * @param shotCount the number of pictures to take.
+   * @param syncToDisk whether every file is flushed to the storage device before the result
+   *     completes.
+   */
+  public void takePictureBurst(
+      @NonNull final Result result, int shotCount, boolean syncToDisk) {
+    if (cameraCaptureCallback.getCameraState() != CameraState.STATE_PREVIEW || isBurstActive()) {
+      result.error("captureAlreadyActive", "Picture is currently already being captured", null);
+      return;
+    }
+    if (shotCount < 1) {
+      result.error("invalidBurstCount", "A burst needs to capture at least one picture.", null);
+      return;
+    }
+    if (cameraDevice == null || captureSession == null) {
+      result.error("cameraAccess", "The camera is not open.", null);
+      return;
+    }
+
+    final File outputDir = applicationContext.getCacheDir();
+    final List<File> files = new ArrayList<>(shotCount);
+    try {
+      for (int i = 0; i < shotCount; i++) {
+        files.add(File.createTempFile("CAP", ".jpg", outputDir));
+      }
+    } catch (IOException | SecurityException e) {
+      result.error("cannotCreateFile", e.getMessage(), null);
+      return;
+    }
+
+    final List<CaptureRequest> requests = new ArrayList<>(shotCount);
+    try {
+      CaptureRequest.Builder stillBuilder =
+          cameraDevice.createCaptureRequest(CameraDevice.TEMPLATE_STILL_CAPTURE);
+      stillBuilder.addTarget(pictureImageReader.getSurface());
+      stillBuilder.set(
+          CaptureRequest.SCALER_CROP_REGION,
+          previewRequestBuilder.get(CaptureRequest.SCALER_CROP_REGION));
+      updateBuilderSettings(stillBuilder);
+      final PlatformChannel.DeviceOrientation lockedOrientation =
+          ((SensorOrientationFeature) cameraFeatures.getSensorOrientation())
+              .getLockedCaptureOrientation();
+      stillBuilder.set(
+          CaptureRequest.JPEG_ORIENTATION,
+          lockedOrientation == null
+              ? getDeviceOrientationManager().getPhotoOrientation()
+              : getDeviceOrientationManager().getPhotoOrientation(lockedOrientation));
+      // All shots share the same settings, so the request only has to be built once.
+      CaptureRequest request = stillBuilder.build();
+      for (int i = 0; i < shotCount; i++) {
+        requests.add(request);
+      }
+    } catch (CameraAccessException e) {
+      result.error("cameraAccess", e.getMessage(), null);
+      return;
+    }
+
+    if (burstSaverExecutor == null) {
+      burstSaverExecutor = Executors.newFixedThreadPool(BURST_SAVER_THREAD_COUNT);
+    }
+    final BurstCapture burst =
+        new BurstCapture(
+            files, syncToDisk, burstSaverExecutor, backgroundHandler, dartMessenger, result);
+    burstCapture = burst;
+    pictureImageReader.setOnImageAvailableListener(burst, backgroundHandler);
+
+    try {
+      captureSession.captureBurst(
+          requests,
+          new CameraCaptureSession.CaptureCallback() {
+            @Override
+            public void onCaptureFailed(
+                @NonNull CameraCaptureSession session,
+                @NonNull CaptureRequest request,
+                @NonNull CaptureFailure failure) {
+              burst.onCaptureFailed(failure.getReason());
+            }
+          },
+          backgroundHandler);
+    } catch (CameraAccessException | IllegalStateException e) {
+      burstCapture = null;
+      result.error("cameraAccess", e.getMessage(), null);
+    }
+  }
+
+  private boolean isBurstActive() {
+    return burstCapture != null && !burstCapture.isDone();
+  }
+
   /**
    * Run the precapture sequence for capturing a still image. This method should be called when a
    * response is received in {@link #cameraCaptureCallback} from lockFocus().
@@ -652,33 +1019,120 @@ class Camera
     return activity.getWindowManager().getDefaultDisplay();
   }
 
-  /** Starts a background thread and its {@link Handler}. */
+  /**
+   * Starts the background threads and their {@link Handler}s.
+   *
+   * <p>Capture control, image stream copies and file writes each get their own thread so a slow
+   * task on one of them can't stall the others.
+   */
   public void startBackgroundThread() {
     if (backgroundHandlerThread != null) {
       return;
     }
 
-    backgroundHandlerThread = HandlerThreadFactory.create("CameraBackground");
+    backgroundHandlerThread = startHandlerThread("CameraBackground");
+    backgroundHandler =
+        HandlerFactory.create(backgroundHandlerThread.getLooper(), backgroundLatencyStats);
+    imageStreamHandlerThread = startHandlerThread("CameraImageStream");
+    imageStreamHandler =
+        HandlerFactory.create(imageStreamHandlerThread.getLooper(), imageStreamLatencyStats);
+    imageSaverHandlerThread = startHandlerThread("CameraImageSaver");
+    imageSaverHandler =
+        HandlerFactory.create(imageSaverHandlerThread.getLooper(), imageSaverLatencyStats);
+  }
+
+  private static HandlerThread startHandlerThread(String name) {
+    HandlerThread handlerThread = HandlerThreadFactory.create(name);
     try {
-      backgroundHandlerThread.start();
+      handlerThread.start();
     } catch (IllegalThreadStateException e) {
       // Ignore exception in case the thread has already started.
     }
-    backgroundHandler = HandlerFactory.create(backgroundHandlerThread.getLooper());
+    return handlerThread;
   }
 
-  /** Stops the background thread and its {@link Handler}. */
+  /** Stops the background threads and their {@link Handler}s. */
   public void stopBackgroundThread() {
-    if (backgroundHandlerThread != null) {
-      backgroundHandlerThread.quitSafely();
-      try {
-        backgroundHandlerThread.join();
-      } catch (InterruptedException e) {
-        dartMessenger.error(flutterResult, "cameraAccess", e.getMessage(), null);
-      }
-    }
+    // Pending file writes are finished before the thread quits.
+    stopHandlerThread(imageSaverHandlerThread);
+    stopHandlerThread(imageStreamHandlerThread);
+    stopHandlerThread(backgroundHandlerThread);
     backgroundHandlerThread = null;
     backgroundHandler = null;
+    imageStreamHandlerThread = null;
+    imageStreamHandler = null;
+    imageSaverHandlerThread = null;
+    imageSaverHandler = null;
+  }
+
+  private void stopHandlerThread(@Nullable HandlerThread handlerThread) {
+    if (handlerThread == null) {
+      return;
+    }
+    handlerThread.quitSafely();
+    try {
+      handlerThread.join();
+    } catch (InterruptedException e) {
+      dartMessenger.error(flutterResult, "cameraAccess", e.getMessage(), null);
+    }
+  }
+
+  /**
+   * Returns how events of this camera are queued and delivered to Dart.
+   *
+   * @return a map with the queue depth, coalesced events and delivery latency.
+   */
+  public Map<String, Object> getEventDispatchStats() {
+    return dartMessenger.getDispatchStats();
+  }
+
+  /**
+   * Returns the statistics of the current recording, or of the last one when not recording.
+   *
+   * @return the encoder, encoded and dropped frames and encoded fps of a recording started with
+   *     video encoder options, or null when there was none.
+   */
+  @Nullable
+  public Map<String, Object> getVideoEncoderStats() {
+    MediaCodecRecorder recorder =
+        mediaCodecRecorder != null ? mediaCodecRecorder : lastMediaCodecRecorder;
+    return recorder != null ? recorder.getStats() : null;
+  }
+
+  /**
+   * Returns how often the repeating request was reissued and how its builder was updated.
+   *
+   * @return a map with the {@code reissued} requests, {@code fullUpdates} and {@code
+   *     partialUpdates} of the builder, and the settings {@code skippedUnchanged} because they
+   *     were set to their current value.
+   */
+  public Map<String, Object> getRepeatingRequestStats() {
+    Map<String, Object> stats = new HashMap<>();
+    stats.put("reissued", repeatingRequestsIssued.get());
+    stats.put("fullUpdates", fullBuilderUpdates.get());
+    stats.put("partialUpdates", partialBuilderUpdates.get());
+    stats.put("skippedUnchanged", unchangedSettingsSkipped.get());
+    return stats;
+  }
+
+  private void releaseMediaCodecRecorder() {
+    if (mediaCodecRecorder != null) {
+      mediaCodecRecorder.release();
+      mediaCodecRecorder = null;
+    }
+  }
+
+  /**
+   * Returns the queue and run latencies of the background threads.
+   *
+   * @return a map from thread role to its {@link LatencyStats} summary.
+   */
+  public Map<String, Object> getThreadLatencyStats() {
+    Map<String, Object> stats = new HashMap<>();
+    stats.put("capture", backgroundLatencyStats.toMap());
+    stats.put("imageStream", imageStreamLatencyStats.toMap());
+    stats.put("imageSaver", imageSaverLatencyStats.toMap());
+    return stats;
   }
 
   /** Start capturing a picture, doing autofocus first. */
@@ -737,6 +1191,22 @@ class Camera
   }
 
   public void startVideoRecording(@NonNull Result result) {
+    startVideoRecording(result, null);
+  }
+
+  /**
+   * Starts recording video to a temporary file.
+   *
+   * <p>When video encoder options are given and audio is disabled, the video is encoded with a
+   * {@link MediaCodecRecorder} on Android M and up, otherwise with a {@link MediaRecorder}.
+   *
+   * @param result the result completed once recording has started.
+   * @param videoEncoderOptions the {@code bitrate}, {@code bitrateMode}, {@code
+   *     keyFrameIntervalSeconds} and {@code hevc} options of the encoder, or null for the default
+   *     recorder.
+   */
+  public void startVideoRecording(
+      @NonNull Result result, @Nullable Map<String, Object> videoEncoderOptions) {
     final File outputDir = applicationContext.getCacheDir();
     try {
       captureFile = File.createTempFile("REC", ".mp4", outputDir);
@@ -745,8 +1215,15 @@ class Camera
       return;
     }
     try {
-      prepareMediaRecorder(captureFile.getAbsolutePath());
-    } catch (IOException e) {
+      if (videoEncoderOptions != null && !enableAudio && VERSION.SDK_INT >= VERSION_CODES.M) {
+        prepareMediaCodecRecorder(captureFile.getAbsolutePath(), videoEncoderOptions);
+      } else {
+        if (videoEncoderOptions != null) {
+          Log.w(TAG, "Video encoder options require Android M and disabled audio, ignoring them");
+        }
+        prepareMediaRecorder(captureFile.getAbsolutePath());
+      }
+    } catch (IOException | IllegalStateException e) {
       recordingVideo = false;
       captureFile = null;
       result.error("videoRecordingFailed", e.getMessage(), null);
@@ -757,10 +1234,20 @@ class Camera
         cameraFeatureFactory.createAutoFocusFeature(cameraProperties, true));
     recordingVideo = true;
     try {
-      createCaptureSession(
-          CameraDevice.TEMPLATE_RECORD, () -> mediaRecorder.start(), mediaRecorder.getSurface());
+      if (mediaCodecRecorder != null) {
+        final MediaCodecRecorder recorder = mediaCodecRecorder;
+        createCaptureSession(
+            CameraDevice.TEMPLATE_RECORD, recorder::start, recorder.getSurface());
+      } else {
+        // A recorder using a persistent input surface can't hand out its surface.
+        Surface recordingSurface =
+            recorderSurface != null ? recorderSurface : mediaRecorder.getSurface();
+        createCaptureSession(
+            CameraDevice.TEMPLATE_RECORD, () -> mediaRecorder.start(), recordingSurface);
+      }
       result.success(null);
     } catch (CameraAccessException e) {
+      releaseMediaCodecRecorder();
       recordingVideo = false;
       captureFile = null;
       result.error("videoRecordingFailed", e.getMessage(), null);
@@ -778,19 +1265,49 @@ class Camera
     recordingVideo = false;
     try {
       captureSession.abortCaptures();
-      mediaRecorder.stop();
+      if (mediaCodecRecorder == null) {
+        mediaRecorder.stop();
+      }
     } catch (CameraAccessException | IllegalStateException e) {
       // Ignore exceptions and try to continue (changes are camera session already aborted capture).
     }
-    mediaRecorder.reset();
+    final MediaCodecRecorder recorder = mediaCodecRecorder;
+    if (recorder == null) {
+      mediaRecorder.reset();
+    }
+    final String outputFilePath = captureFile.getAbsolutePath();
+    String previewError = null;
     try {
       startPreview();
+      captureFile = null;
     } catch (CameraAccessException | IllegalStateException e) {
-      result.error("videoRecordingFailed", e.getMessage(), null);
+      previewError = e.getMessage();
+    }
+    if (recorder == null) {
+      if (previewError != null) {
+        result.error("videoRecordingFailed", previewError, null);
+      } else {
+        result.success(outputFilePath);
+      }
       return;
     }
-    result.success(captureFile.getAbsolutePath());
-    captureFile = null;
+
+    // The encoder drains on its own thread, the result is sent once the file is finished.
+    mediaCodecRecorder = null;
+    lastMediaCodecRecorder = recorder;
+    final String failedPreviewMessage = previewError;
+    recorder.stop(
+        encoderError -> {
+          if (encoderError != null) {
+            // The output file may be incomplete, so it isn't returned.
+            Log.w(TAG, "Video encoder did not finish cleanly: " + encoderError);
+            dartMessenger.error(result, "videoRecordingFailed", encoderError, null);
+          } else if (failedPreviewMessage != null) {
+            dartMessenger.error(result, "videoRecordingFailed", failedPreviewMessage, null);
+          } else {
+            dartMessenger.finish(result, outputFilePath);
+          }
+        });
   }
 
   public void pauseVideoRecording(@NonNull final Result result) {
@@ -800,7 +1317,9 @@ class Camera
     }
 
     try {
-      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+      if (mediaCodecRecorder != null) {
+        mediaCodecRecorder.pause();
+      } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
         mediaRecorder.pause();
       } else {
         result.error("videoRecordingFailed", "pauseVideoRecording requires Android API +24.", null);
@@ -821,7 +1340,9 @@ class Camera
     }
 
     try {
-      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+      if (mediaCodecRecorder != null) {
+        mediaCodecRecorder.resume();
+      } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
         mediaRecorder.resume();
       } else {
         result.error(
@@ -846,7 +1367,10 @@ class Camera
     // Save the new flash mode setting.
     final FlashFeature flashFeature = cameraFeatures.getFlash();
     flashFeature.setValue(newMode);
-    flashFeature.updateBuilder(previewRequestBuilder);
+    if (!applyChangedFeature(flashFeature)) {
+      result.success(null);
+      return;
+    }
 
     refreshPreviewCaptureSession(
         () -> result.success(null),
@@ -862,7 +1386,10 @@ class Camera
   public void setExposureMode(@NonNull final Result result, @NonNull ExposureMode newMode) {
     final ExposureLockFeature exposureLockFeature = cameraFeatures.getExposureLock();
     exposureLockFeature.setValue(newMode);
-    exposureLockFeature.updateBuilder(previewRequestBuilder);
+    if (!applyChangedFeature(exposureLockFeature)) {
+      result.success(null);
+      return;
+    }
 
     refreshPreviewCaptureSession(
         () -> result.success(null),
@@ -879,7 +1406,10 @@ class Camera
   public void setExposurePoint(@NonNull final Result result, @Nullable Point point) {
     final ExposurePointFeature exposurePointFeature = cameraFeatures.getExposurePoint();
     exposurePointFeature.setValue(point);
-    exposurePointFeature.updateBuilder(previewRequestBuilder);
+    if (!applyChangedFeature(exposurePointFeature)) {
+      result.success(null);
+      return;
+    }
 
     refreshPreviewCaptureSession(
         () -> result.success(null),
@@ -911,7 +1441,7 @@ class Camera
   public void setFocusMode(final Result result, @NonNull FocusMode newMode) {
     final AutoFocusFeature autoFocusFeature = cameraFeatures.getAutoFocus();
     autoFocusFeature.setValue(newMode);
-    autoFocusFeature.updateBuilder(previewRequestBuilder);
+    applyChangedFeature(autoFocusFeature);
 
     /*
      * For focus mode an extra step of actually locking/unlocking the
@@ -934,6 +1464,7 @@ class Camera
           try {
             captureSession.setRepeatingRequest(
                 previewRequestBuilder.build(), null, backgroundHandler);
+            repeatingRequestsIssued.incrementAndGet();
           } catch (CameraAccessException e) {
             if (result != null) {
               result.error(
@@ -963,12 +1494,16 @@ class Camera
   public void setFocusPoint(@NonNull final Result result, @Nullable Point point) {
     final FocusPointFeature focusPointFeature = cameraFeatures.getFocusPoint();
     focusPointFeature.setValue(point);
-    focusPointFeature.updateBuilder(previewRequestBuilder);
-
-    refreshPreviewCaptureSession(
-        () -> result.success(null),
-        (code, message) -> result.error("setFocusPointFailed", "Could not set focus point.", null));
+    if (applyChangedFeature(focusPointFeature)) {
+      refreshPreviewCaptureSession(
+          () -> result.success(null),
+          (code, message) ->
+              result.error("setFocusPointFailed", "Could not set focus point.", null));
+    } else {
+      result.success(null);
+    }
 
+    // Focus is triggered again even when the point didn't change.
     this.setFocusMode(null, cameraFeatures.getAutoFocus().getValue());
   }
 
@@ -982,7 +1517,10 @@ class Camera
   public void setExposureOffset(@NonNull final Result result, double offset) {
     final ExposureOffsetFeature exposureOffsetFeature = cameraFeatures.getExposureOffset();
     exposureOffsetFeature.setValue(offset);
-    exposureOffsetFeature.updateBuilder(previewRequestBuilder);
+    if (!applyChangedFeature(exposureOffsetFeature)) {
+      result.success(exposureOffsetFeature.getValue());
+      return;
+    }
 
     refreshPreviewCaptureSession(
         () -> result.success(exposureOffsetFeature.getValue()),
@@ -1035,7 +1573,11 @@ class Camera
     }
 
     zoomLevel.setValue(zoom);
-    zoomLevel.updateBuilder(previewRequestBuilder);
+    if (!applyChangedFeature(zoomLevel)) {
+      // Pinch gestures keep sending the same level at the bounds of the zoom range.
+      result.success(null);
+      return;
+    }
 
     refreshPreviewCaptureSession(
         () -> result.success(null),
@@ -1076,8 +1618,13 @@ class Camera
     createCaptureSession(CameraDevice.TEMPLATE_PREVIEW, pictureImageReader.getSurface());
   }
 
-  public void startPreviewWithImageStream(EventChannel imageStreamChannel)
+  public void startPreviewWithImageStream(
+      EventChannel imageStreamChannel,
+      @NonNull ImageStreamBackpressure backpressure,
+      @NonNull ImageStreamTransform transform)
       throws CameraAccessException {
+    imageStreamBackpressure = backpressure;
+    imageStreamTransform = transform;
     createCaptureSession(CameraDevice.TEMPLATE_RECORD, imageStreamReader.getSurface());
     Log.i(TAG, "startPreviewWithImageStream");
 
@@ -1090,7 +1637,16 @@ class Camera
 
           @Override
           public void onCancel(Object o) {
-            imageStreamReader.setOnImageAvailableListener(null, backgroundHandler);
+            imageStreamReader.setOnImageAvailableListener(null, imageStreamHandler);
+            Log.d(
+                TAG,
+                "Image stream buffer pool hits: "
+                    + imageStreamBufferPool.getHitCount()
+                    + ", misses: "
+                    + imageStreamBufferPool.getMissCount()
+                    + ", dropped frames: "
+                    + imageStreamBackpressure.getDroppedFrames());
+            imageStreamBufferPool.clear();
           }
         });
   }
@@ -1103,63 +1659,72 @@ class Camera
   public void onImageAvailable(ImageReader reader) {
     Log.i(TAG, "onImageAvailable");
 
-    backgroundHandler.post(
+    // The next picture may be started before this one is saved, so keep hold of its result.
+    final Result result = flutterResult;
+    imageSaverHandler.post(
         new ImageSaver(
             // Use acquireNextImage since image reader is only for one image.
             reader.acquireNextImage(),
             captureFile,
+            syncCaptureToDisk,
             new ImageSaver.Callback() {
               @Override
-              public void onComplete(String absolutePath) {
-                dartMessenger.finish(flutterResult, absolutePath);
+              public void onComplete(String absolutePath, long bytesWritten, long writeDurationNs) {
+                Log.d(
+                    TAG,
+                    "Saved " + bytesWritten + " bytes in " + writeDurationNs / 1000 + "us");
+                dartMessenger.finish(result, absolutePath);
               }
 
               @Override
               public void onError(String errorCode, String errorMessage) {
-                dartMessenger.error(flutterResult, errorCode, errorMessage, null);
+                dartMessenger.error(result, errorCode, errorMessage, null);
               }
             }));
     cameraCaptureCallback.setCameraState(CameraState.STATE_PREVIEW);
   }
 
   private void setImageStreamImageAvailableListener(final EventChannel.EventSink imageStreamSink) {
+    final Handler handler = new Handler(Looper.getMainLooper());
+    final ImageStreamBackpressure backpressure = imageStreamBackpressure;
+    final ImageStreamTransform transform = imageStreamTransform;
     imageStreamReader.setOnImageAvailableListener(
         reader -> {
+          // Use acquireNextImage so every queued frame goes through the backpressure policy.
           Image img = reader.acquireNextImage();
-          // Use acquireNextImage since image reader is only for one image.
           if (img == null) return;
 
-          List<Map<String, Object>> planes = new ArrayList<>();
-          for (Image.Plane plane : img.getPlanes()) {
-            ByteBuffer buffer = plane.getBuffer();
-
-            byte[] bytes = new byte[buffer.remaining()];
-            buffer.get(bytes, 0, bytes.length);
-
-            Map<String, Object> planeBuffer = new HashMap<>();
-            planeBuffer.put("bytesPerRow", plane.getRowStride());
-            planeBuffer.put("bytesPerPixel", plane.getPixelStride());
-            planeBuffer.put("bytes", bytes);
-
-            planes.add(planeBuffer);
+          // Skip the copy entirely for frames the backpressure policy would drop.
+          if (!backpressure.shouldCopyFrame()) {
+            img.close();
+            return;
           }
 
-          Map<String, Object> imageBuffer = new HashMap<>();
-          imageBuffer.put("width", img.getWidth());
-          imageBuffer.put("height", img.getHeight());
-          imageBuffer.put("format", img.getFormat());
-          imageBuffer.put("planes", planes);
-          imageBuffer.put("lensAperture", this.captureProps.getLastLensAperture());
-          imageBuffer.put("sensorExposureTime", this.captureProps.getLastSensorExposureTime());
-          Integer sensorSensitivity = this.captureProps.getLastSensorSensitivity();
-          imageBuffer.put(
-              "sensorSensitivity", sensorSensitivity == null ? null : (double) sensorSensitivity);
-
-          final Handler handler = new Handler(Looper.getMainLooper());
-          handler.post(() -> imageStreamSink.success(imageBuffer));
+          // The frame and its plane buffers are recycled once the sink has encoded them.
+          ImageStreamFrame frame = imageStreamBufferPool.obtainFrame();
+          frame.copyFrom(img, this.captureProps, transform);
+          frame.setSink(imageStreamSink);
           img.close();
+          backpressure.onFramePosted(frame);
+          handler.post(frame);
         },
-        backgroundHandler);
+        imageStreamHandler);
+  }
+
+  /** Returns the pool used to recycle image stream buffers. */
+  ImageStreamBufferPool getImageStreamBufferPool() {
+    return imageStreamBufferPool;
+  }
+
+  /** Returns the statistics of the current or last image stream. */
+  public Map<String, Object> getImageStreamStats() {
+    Map<String, Object> stats = new HashMap<>();
+    stats.put("backpressureMode", imageStreamBackpressure.getMode().toString());
+    stats.put("framesInFlight", imageStreamBackpressure.getFramesInFlight());
+    stats.put("droppedFrames", imageStreamBackpressure.getDroppedFrames());
+    stats.put("bufferPoolHits", imageStreamBufferPool.getHitCount());
+    stats.put("bufferPoolMisses", imageStreamBufferPool.getMissCount());
+    return stats;
   }
 
   private void closeCaptureSession() {
@@ -1169,6 +1734,7 @@ class Camera
       captureSession.close();
       captureSession = null;
     }
+    captureSessionShared = false;
   }
 
   public void close() {
@@ -1192,6 +1758,18 @@ class Camera
       mediaRecorder.release();
       mediaRecorder = null;
     }
+    releaseMediaCodecRecorder();
+    releaseRecorderSurface();
+    if (burstCapture != null) {
+      // The pending burst can't receive its remaining shots anymore.
+      burstCapture.cancel();
+      burstCapture = null;
+    }
+    if (burstSaverExecutor != null) {
+      // Shots that are already being written are allowed to finish.
+      burstSaverExecutor.shutdown();
+      burstSaverExecutor = null;
+    }
 
     stopBackgroundThread();
   }
@@ -1224,17 +1802,37 @@ class Camera
   /** Factory class that assists in creating a {@link Handler} instance. */
   static class HandlerFactory {
     /**
-     * Creates a new instance of the {@link Handler} class.
+     * Creates a new instance of the {@link Handler} class that records the latency of every message
+     * it dispatches.
      *
      * <p>This method is visible for testing purposes only and should never be used outside this *
      * class.
      *
      * @param looper to give to the Handler.
+     * @param latencyStats to record the queue delay and run time of each message into.
      * @return new instance of the {@link Handler} class.
      */
     @VisibleForTesting
-    public static Handler create(Looper looper) {
-      return new Handler(looper);
+    public static Handler create(Looper looper, LatencyStats latencyStats) {
+      return new MeasuredHandler(looper, latencyStats);
+    }
+  }
+
+  /** A {@link Handler} that records how long each message waited and how long it ran. */
+  private static class MeasuredHandler extends Handler {
+    private final LatencyStats latencyStats;
+
+    MeasuredHandler(Looper looper, LatencyStats latencyStats) {
+      super(looper);
+      this.latencyStats = latencyStats;
+    }
+
+    @Override
+    public void dispatchMessage(@NonNull Message msg) {
+      long queueDelayMs = Math.max(0, SystemClock.uptimeMillis() - msg.getWhen());
+      long startNs = System.nanoTime();
+      super.dispatchMessage(msg);
+      latencyStats.record(queueDelayMs, System.nanoTime() - startNs);
     }
   }
 }
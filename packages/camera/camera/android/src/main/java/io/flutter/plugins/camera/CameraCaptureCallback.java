@@ -11,6 +11,7 @@ import android.hardware.camera2.CaptureResult;
 import android.hardware.camera2.TotalCaptureResult;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
 import io.flutter.plugins.camera.types.CaptureTimeoutsWrapper;
 
@@ -24,6 +25,7 @@ class CameraCaptureCallback extends CaptureCallback {
   private CameraState cameraState;
   private final CaptureTimeoutsWrapper captureTimeouts;
   private final CameraCaptureProperties captureProps;
+  @Nullable private CameraInitializationTrace initializationTrace;
 
   private CameraCaptureCallback(
       @NonNull CameraCaptureStateListener cameraStateListener,
@@ -68,6 +70,15 @@ class CameraCaptureCallback extends CaptureCallback {
     cameraState = state;
   }
 
+  /**
+   * Sets the trace that is informed when the first capture completes.
+   *
+   * @param initializationTrace the trace of the camera initialization, or null to stop tracing.
+   */
+  public void setInitializationTrace(@Nullable CameraInitializationTrace initializationTrace) {
+    this.initializationTrace = initializationTrace;
+  }
+
   private void process(CaptureResult result) {
     Integer aeState = result.get(CaptureResult.CONTROL_AE_STATE);
     Integer afState = result.get(CaptureResult.CONTROL_AF_STATE);
@@ -166,6 +177,12 @@ class CameraCaptureCallback extends CaptureCallback {
       @NonNull CameraCaptureSession session,
       @NonNull CaptureRequest request,
       @NonNull TotalCaptureResult result) {
+    CameraInitializationTrace trace = initializationTrace;
+    if (trace != null) {
+      // Only the first frame is traced, later ones skip the trace.
+      trace.mark(CameraInitializationTrace.Phase.FIRST_PREVIEW_FRAME);
+      initializationTrace = null;
+    }
     process(result);
   }
 
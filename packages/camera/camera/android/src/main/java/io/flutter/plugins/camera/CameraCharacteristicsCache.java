@@ -0,0 +1,156 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.hardware.camera2.CameraAccessException;
+import android.hardware.camera2.CameraCharacteristics;
+import android.hardware.camera2.CameraManager;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Process wide cache of the camera ids and {@link CameraCharacteristics} reported by the {@link
+ * CameraManager}.
+ *
+ * <p>Querying the camera service is a binder call that takes tens of milliseconds on some devices,
+ * so every camera is only queried once per process. The characteristics of a camera id never
+ * change, only the set of ids does when external cameras are attached or detached. The id list is
+ * therefore refreshed whenever the {@link CameraManager.AvailabilityCallback} reports a change, and
+ * cameras that are no longer listed are evicted.
+ */
+class CameraCharacteristicsCache {
+  private static CameraCharacteristicsCache instance;
+
+  private final CameraManager cameraManager;
+  private final Map<String, CameraPropertiesImpl> cameraProperties = new HashMap<>();
+  private String[] cameraIds;
+
+  private final CameraManager.AvailabilityCallback availabilityCallback =
+      new CameraManager.AvailabilityCallback() {
+        @Override
+        public void onCameraAvailable(@NonNull String cameraId) {
+          invalidateCameraIds();
+        }
+
+        @Override
+        public void onCameraUnavailable(@NonNull String cameraId) {
+          // Also reported when a camera is opened, which can't be told apart from a disconnect.
+          invalidateCameraIds();
+        }
+      };
+
+  /**
+   * Returns the cache for the given camera manager, replacing the cache of any other manager.
+   *
+   * @param cameraManager the manager to query. Pass the manager of the application context so the
+   *     cache outlives activity recreation.
+   */
+  @NonNull
+  static synchronized CameraCharacteristicsCache getInstance(
+      @NonNull CameraManager cameraManager) {
+    if (instance == null || instance.cameraManager != cameraManager) {
+      if (instance != null) {
+        instance.release();
+      }
+      instance = new CameraCharacteristicsCache(cameraManager);
+    }
+    return instance;
+  }
+
+  /** Drops the process wide cache. */
+  @VisibleForTesting
+  static synchronized void clearInstance() {
+    if (instance != null) {
+      instance.release();
+      instance = null;
+    }
+  }
+
+  @VisibleForTesting
+  CameraCharacteristicsCache(@NonNull CameraManager cameraManager) {
+    this.cameraManager = cameraManager;
+    cameraManager.registerAvailabilityCallback(
+        availabilityCallback, new Handler(Looper.getMainLooper()));
+  }
+
+  /**
+   * Returns the ids of the cameras currently known to the camera service.
+   *
+   * @throws CameraAccessException when the camera service could not be queried.
+   */
+  @NonNull
+  synchronized String[] getCameraIds() throws CameraAccessException {
+    if (cameraIds == null) {
+      cameraIds = cameraManager.getCameraIdList();
+      evictUnlistedCameras();
+    }
+    return cameraIds.clone();
+  }
+
+  /**
+   * Returns the properties of the given camera, querying the camera service only on first use.
+   *
+   * <p>The returned instance is shared by every session of the camera and memoizes its values.
+   *
+   * @param cameraId the id of the camera.
+   * @throws CameraAccessException when the camera service could not be queried.
+   */
+  @NonNull
+  synchronized CameraPropertiesImpl getCameraProperties(@NonNull String cameraId)
+      throws CameraAccessException {
+    CameraPropertiesImpl properties = cameraProperties.get(cameraId);
+    if (properties == null) {
+      properties =
+          new CameraPropertiesImpl(cameraId, cameraManager.getCameraCharacteristics(cameraId));
+      cameraProperties.put(cameraId, properties);
+    }
+    return properties;
+  }
+
+  /**
+   * Returns the characteristics of the given camera, querying the camera service only on first
+   * use.
+   *
+   * @param cameraId the id of the camera.
+   * @throws CameraAccessException when the camera service could not be queried.
+   */
+  @NonNull
+  CameraCharacteristics getCharacteristics(@NonNull String cameraId)
+      throws CameraAccessException {
+    return getCameraProperties(cameraId).getCameraCharacteristics();
+  }
+
+  /** Forces the camera id list to be queried again on the next call to {@link #getCameraIds()}. */
+  @VisibleForTesting
+  synchronized void invalidateCameraIds() {
+    cameraIds = null;
+  }
+
+  private void evictUnlistedCameras() {
+    Iterator<String> iterator = cameraProperties.keySet().iterator();
+    while (iterator.hasNext()) {
+      String cameraId = iterator.next();
+      boolean listed = false;
+      for (String id : cameraIds) {
+        if (id.equals(cameraId)) {
+          listed = true;
+          break;
+        }
+      }
+      if (!listed) {
+        iterator.remove();
+      }
+    }
+  }
+
+  private void release() {
+    cameraManager.unregisterAvailabilityCallback(availabilityCallback);
+  }
+}
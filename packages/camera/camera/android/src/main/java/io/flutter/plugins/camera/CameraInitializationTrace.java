@@ -0,0 +1,112 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Records when each phase of opening a camera was reached and reports them to Dart once the
+ * camera is up.
+ *
+ * <p>Timestamps are taken from {@link SystemClock#elapsedRealtimeNanos()}, which is monotonic and
+ * keeps counting in deep sleep. They are reported as the time elapsed since {@code create}, so
+ * traces of different sessions can be compared. Only the first occurrence of every phase is kept,
+ * later preview restarts don't move it.
+ */
+class CameraInitializationTrace {
+  /**
+   * The phases of opening a camera, in the order they are usually reached.
+   *
+   * <p>The initialized event is sent as soon as the session configuration was requested, so it
+   * usually precedes the configured session and the first frame.
+   */
+  enum Phase {
+    /** The {@code create} call was received and camera permissions were granted. */
+    CREATE("create"),
+    /** The camera device reported it was opened. */
+    CAMERA_OPENED("cameraOpened"),
+    /** The initialized event was sent to Dart. */
+    INITIALIZED_EVENT_SENT("initializedEventSent"),
+    /** The preview capture session was configured. */
+    SESSION_CONFIGURED("sessionConfigured"),
+    /** The first preview frame was captured. */
+    FIRST_PREVIEW_FRAME("firstPreviewFrame");
+
+    private final String key;
+
+    Phase(String key) {
+      this.key = key;
+    }
+  }
+
+  private static final Phase[] PHASES = Phase.values();
+
+  private final DartMessenger dartMessenger;
+  private final long[] timestampsNs = new long[PHASES.length];
+  private final boolean[] reached = new boolean[PHASES.length];
+  private int reachedCount;
+
+  /**
+   * Creates a new trace.
+   *
+   * @param dartMessenger the messenger the trace is sent through once every phase was reached.
+   */
+  CameraInitializationTrace(@NonNull DartMessenger dartMessenger) {
+    this.dartMessenger = dartMessenger;
+  }
+
+  /**
+   * Records that the given phase was reached now, unless it was reached before.
+   *
+   * @param phase the phase that was reached.
+   */
+  void mark(@NonNull Phase phase) {
+    mark(phase, SystemClock.elapsedRealtimeNanos());
+  }
+
+  /**
+   * Records that the given phase was reached at the given time, unless it was reached before.
+   *
+   * @param phase the phase that was reached.
+   * @param timestampNs the {@link SystemClock#elapsedRealtimeNanos()} the phase was reached at.
+   */
+  void mark(@NonNull Phase phase, long timestampNs) {
+    Map<String, Object> trace;
+    synchronized (this) {
+      int index = phase.ordinal();
+      if (reached[index]) {
+        return;
+      }
+      reached[index] = true;
+      timestampsNs[index] = timestampNs;
+      reachedCount++;
+      if (reachedCount < PHASES.length) {
+        return;
+      }
+      trace = toMap();
+    }
+    dartMessenger.sendInitializationTraceEvent(trace);
+  }
+
+  /** Returns true once every phase has been reached and the trace was sent. */
+  synchronized boolean isComplete() {
+    return reachedCount == PHASES.length;
+  }
+
+  private Map<String, Object> toMap() {
+    long createNs = timestampsNs[Phase.CREATE.ordinal()];
+    Map<String, Object> trace = new HashMap<>();
+    for (Phase phase : PHASES) {
+      if (phase != Phase.CREATE) {
+        // Microseconds since create.
+        trace.put(phase.key, (timestampsNs[phase.ordinal()] - createNs) / 1000);
+      }
+    }
+    return trace;
+  }
+}
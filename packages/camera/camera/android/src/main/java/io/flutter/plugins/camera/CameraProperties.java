@@ -13,6 +13,7 @@ import android.util.Range;
 import android.util.Rational;
 import android.util.Size;
 import androidx.annotation.RequiresApi;
+import java.util.Arrays;
 
 /** An interface allowing access to the different characteristics of the device's camera. */
 public interface CameraProperties {
@@ -240,15 +241,61 @@ public interface CameraProperties {
 /**
  * Implementation of the @see CameraProperties interface using the @see
  * android.hardware.camera2.CameraCharacteristics class to access the different characteristics.
+ *
+ * <p>Every value is read from the characteristics once and then memoized, since each read crosses
+ * into the camera metadata. Instances are shared across sessions by {@link
+ * CameraCharacteristicsCache}.
  */
 class CameraPropertiesImpl implements CameraProperties {
+  private static final Object UNSET = new Object();
+
+  private static final int FPS_RANGES = 0;
+  private static final int EXPOSURE_COMPENSATION_RANGE = 1;
+  private static final int EXPOSURE_COMPENSATION_STEP = 2;
+  private static final int AUTO_FOCUS_MODES = 3;
+  private static final int MAX_REGIONS_AUTO_EXPOSURE = 4;
+  private static final int MAX_REGIONS_AUTO_FOCUS = 5;
+  private static final int DISTORTION_CORRECTION_MODES = 6;
+  private static final int FLASH_INFO_AVAILABLE = 7;
+  private static final int LENS_FACING = 8;
+  private static final int MINIMUM_FOCUS_DISTANCE = 9;
+  private static final int MAX_DIGITAL_ZOOM = 10;
+  private static final int ACTIVE_ARRAY_SIZE = 11;
+  private static final int PIXEL_ARRAY_SIZE = 12;
+  private static final int PRE_CORRECTION_ACTIVE_ARRAY_SIZE = 13;
+  private static final int SENSOR_ORIENTATION = 14;
+  private static final int HARDWARE_LEVEL = 15;
+  private static final int NOISE_REDUCTION_MODES = 16;
+  private static final int VALUE_COUNT = 17;
+
   private final CameraCharacteristics cameraCharacteristics;
   private final String cameraName;
+  private final Object[] values = new Object[VALUE_COUNT];
 
   public CameraPropertiesImpl(String cameraName, CameraManager cameraManager)
       throws CameraAccessException {
+    this(cameraName, cameraManager.getCameraCharacteristics(cameraName));
+  }
+
+  CameraPropertiesImpl(String cameraName, CameraCharacteristics cameraCharacteristics) {
     this.cameraName = cameraName;
-    this.cameraCharacteristics = cameraManager.getCameraCharacteristics(cameraName);
+    this.cameraCharacteristics = cameraCharacteristics;
+    Arrays.fill(values, UNSET);
+  }
+
+  /** Returns the characteristics the values are read from. */
+  CameraCharacteristics getCameraCharacteristics() {
+    return cameraCharacteristics;
+  }
+
+  @SuppressWarnings("unchecked")
+  private synchronized <T> T get(int index, CameraCharacteristics.Key<T> key) {
+    Object value = values[index];
+    if (value == UNSET) {
+      value = cameraCharacteristics.get(key);
+      values[index] = value;
+    }
+    return (T) value;
   }
 
   @Override
@@ -258,93 +305,96 @@ class CameraPropertiesImpl implements CameraProperties {
 
   @Override
   public Range<Integer>[] getControlAutoExposureAvailableTargetFpsRanges() {
-    return cameraCharacteristics.get(CameraCharacteristics.CONTROL_AE_AVAILABLE_TARGET_FPS_RANGES);
+    return get(FPS_RANGES, CameraCharacteristics.CONTROL_AE_AVAILABLE_TARGET_FPS_RANGES);
   }
 
   @Override
   public Range<Integer> getControlAutoExposureCompensationRange() {
-    return cameraCharacteristics.get(CameraCharacteristics.CONTROL_AE_COMPENSATION_RANGE);
+    return get(EXPOSURE_COMPENSATION_RANGE, CameraCharacteristics.CONTROL_AE_COMPENSATION_RANGE);
   }
 
   @Override
   public double getControlAutoExposureCompensationStep() {
     Rational rational =
-        cameraCharacteristics.get(CameraCharacteristics.CONTROL_AE_COMPENSATION_STEP);
+        get(EXPOSURE_COMPENSATION_STEP, CameraCharacteristics.CONTROL_AE_COMPENSATION_STEP);
 
     return rational == null ? 0.0 : rational.doubleValue();
   }
 
   @Override
   public int[] getControlAutoFocusAvailableModes() {
-    return cameraCharacteristics.get(CameraCharacteristics.CONTROL_AF_AVAILABLE_MODES);
+    return get(AUTO_FOCUS_MODES, CameraCharacteristics.CONTROL_AF_AVAILABLE_MODES);
   }
 
   @Override
   public Integer getControlMaxRegionsAutoExposure() {
-    return cameraCharacteristics.get(CameraCharacteristics.CONTROL_MAX_REGIONS_AE);
+    return get(MAX_REGIONS_AUTO_EXPOSURE, CameraCharacteristics.CONTROL_MAX_REGIONS_AE);
   }
 
   @Override
   public Integer getControlMaxRegionsAutoFocus() {
-    return cameraCharacteristics.get(CameraCharacteristics.CONTROL_MAX_REGIONS_AF);
+    return get(MAX_REGIONS_AUTO_FOCUS, CameraCharacteristics.CONTROL_MAX_REGIONS_AF);
   }
 
   @RequiresApi(api = VERSION_CODES.P)
   @Override
   public int[] getDistortionCorrectionAvailableModes() {
-    return cameraCharacteristics.get(CameraCharacteristics.DISTORTION_CORRECTION_AVAILABLE_MODES);
+    return get(
+        DISTORTION_CORRECTION_MODES, CameraCharacteristics.DISTORTION_CORRECTION_AVAILABLE_MODES);
   }
 
   @Override
   public Boolean getFlashInfoAvailable() {
-    return cameraCharacteristics.get(CameraCharacteristics.FLASH_INFO_AVAILABLE);
+    return get(FLASH_INFO_AVAILABLE, CameraCharacteristics.FLASH_INFO_AVAILABLE);
   }
 
   @Override
   public int getLensFacing() {
-    return cameraCharacteristics.get(CameraCharacteristics.LENS_FACING);
+    return get(LENS_FACING, CameraCharacteristics.LENS_FACING);
   }
 
   @Override
   public Float getLensInfoMinimumFocusDistance() {
-    return cameraCharacteristics.get(CameraCharacteristics.LENS_INFO_MINIMUM_FOCUS_DISTANCE);
+    return get(MINIMUM_FOCUS_DISTANCE, CameraCharacteristics.LENS_INFO_MINIMUM_FOCUS_DISTANCE);
   }
 
   @Override
   public Float getScalerAvailableMaxDigitalZoom() {
-    return cameraCharacteristics.get(CameraCharacteristics.SCALER_AVAILABLE_MAX_DIGITAL_ZOOM);
+    return get(MAX_DIGITAL_ZOOM, CameraCharacteristics.SCALER_AVAILABLE_MAX_DIGITAL_ZOOM);
   }
 
   @Override
   public Rect getSensorInfoActiveArraySize() {
-    return cameraCharacteristics.get(CameraCharacteristics.SENSOR_INFO_ACTIVE_ARRAY_SIZE);
+    return get(ACTIVE_ARRAY_SIZE, CameraCharacteristics.SENSOR_INFO_ACTIVE_ARRAY_SIZE);
   }
 
   @Override
   public Size getSensorInfoPixelArraySize() {
-    return cameraCharacteristics.get(CameraCharacteristics.SENSOR_INFO_PIXEL_ARRAY_SIZE);
+    return get(PIXEL_ARRAY_SIZE, CameraCharacteristics.SENSOR_INFO_PIXEL_ARRAY_SIZE);
   }
 
   @RequiresApi(api = VERSION_CODES.M)
   @Override
   public Rect getSensorInfoPreCorrectionActiveArraySize() {
-    return cameraCharacteristics.get(
+    return get(
+        PRE_CORRECTION_ACTIVE_ARRAY_SIZE,
         CameraCharacteristics.SENSOR_INFO_PRE_CORRECTION_ACTIVE_ARRAY_SIZE);
   }
 
   @Override
   public int getSensorOrientation() {
-    return cameraCharacteristics.get(CameraCharacteristics.SENSOR_ORIENTATION);
+    return get(SENSOR_ORIENTATION, CameraCharacteristics.SENSOR_ORIENTATION);
   }
 
   @Override
   public int getHardwareLevel() {
-    return cameraCharacteristics.get(CameraCharacteristics.INFO_SUPPORTED_HARDWARE_LEVEL);
+    return get(HARDWARE_LEVEL, CameraCharacteristics.INFO_SUPPORTED_HARDWARE_LEVEL);
   }
 
   @Override
   public int[] getAvailableNoiseReductionModes() {
-    return cameraCharacteristics.get(
+    return get(
+        NOISE_REDUCTION_MODES,
         CameraCharacteristics.NOISE_REDUCTION_AVAILABLE_NOISE_REDUCTION_MODES);
   }
 }
@@ -7,7 +7,6 @@ package io.flutter.plugins.camera;
 import android.app.Activity;
 import android.content.Context;
 import android.hardware.camera2.CameraAccessException;
-import android.hardware.camera2.CameraCharacteristics;
 import android.hardware.camera2.CameraManager;
 import android.hardware.camera2.CameraMetadata;
 import io.flutter.embedding.engine.systemchannels.PlatformChannel;
@@ -24,10 +23,17 @@ public final class CameraUtils {
   /**
    * Gets the {@link CameraManager} singleton.
    *
+   * <p>The manager of the application context is preferred, so the {@link
+   * CameraCharacteristicsCache} bound to it survives activity recreation.
+   *
    * @param context The context to get the {@link CameraManager} singleton from.
    * @return The {@link CameraManager} singleton.
    */
   static CameraManager getCameraManager(Context context) {
+    Context applicationContext = context.getApplicationContext();
+    if (applicationContext != null) {
+      context = applicationContext;
+    }
     return (CameraManager) context.getSystemService(Context.CAMERA_SERVICE);
   }
 
@@ -87,14 +93,18 @@ public final class CameraUtils {
   /**
    * Gets all the available cameras for the device.
    *
+   * <p>The camera service is only queried for cameras that are not yet in the {@link
+   * CameraCharacteristicsCache}.
+   *
    * @param activity The current Android activity.
    * @return A map of all the available cameras, with their name as their key.
    * @throws CameraAccessException when the camera could not be accessed.
    */
   public static List<Map<String, Object>> getAvailableCameras(Activity activity)
       throws CameraAccessException {
-    CameraManager cameraManager = (CameraManager) activity.getSystemService(Context.CAMERA_SERVICE);
-    String[] cameraNames = cameraManager.getCameraIdList();
+    CameraCharacteristicsCache cache =
+        CameraCharacteristicsCache.getInstance(getCameraManager(activity));
+    String[] cameraNames = cache.getCameraIds();
     List<Map<String, Object>> cameras = new ArrayList<>();
     for (String cameraName : cameraNames) {
       int cameraId;
@@ -108,12 +118,12 @@ public final class CameraUtils {
       }
 
       HashMap<String, Object> details = new HashMap<>();
-      CameraCharacteristics characteristics = cameraManager.getCameraCharacteristics(cameraName);
+      CameraProperties properties = cache.getCameraProperties(cameraName);
       details.put("name", cameraName);
-      int sensorOrientation = characteristics.get(CameraCharacteristics.SENSOR_ORIENTATION);
+      int sensorOrientation = properties.getSensorOrientation();
       details.put("sensorOrientation", sensorOrientation);
 
-      int lensFacing = characteristics.get(CameraCharacteristics.LENS_FACING);
+      int lensFacing = properties.getLensFacing();
       switch (lensFacing) {
         case CameraMetadata.LENS_FACING_FRONT:
           details.put("lensFacing", "front");
@@ -5,31 +5,78 @@
 package io.flutter.plugins.camera;
 
 import android.os.Handler;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import io.flutter.embedding.engine.systemchannels.PlatformChannel;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugins.camera.features.autofocus.FocusMode;
 import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
+import io.flutter.plugins.camera.types.LatencyStats;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
-/** Utility class that facilitates communication to the Flutter client */
+/**
+ * Utility class that facilitates communication to the Flutter client.
+ *
+ * <p>Events are queued and delivered in order by a single message posted to the main thread, so a
+ * burst of events only costs one looper message. Until that message runs, a new event of a type
+ * that only reports the latest state replaces the queued one instead of being queued again.
+ * Consecutive events of the same channel are sent to Dart as one {@code batch} call, which the
+ * platform interface unpacks into the original events.
+ */
 public class DartMessenger {
   @NonNull private final Handler handler;
   @Nullable private MethodChannel cameraChannel;
   @Nullable private MethodChannel deviceChannel;
 
+  /** An event waiting to be delivered to Dart. */
+  private static class PendingEvent {
+    final MethodChannel channel;
+    final String method;
+    final boolean coalescing;
+    Map<String, Object> args;
+
+    PendingEvent(
+        MethodChannel channel, String method, boolean coalescing, Map<String, Object> args) {
+      this.channel = channel;
+      this.method = method;
+      this.coalescing = coalescing;
+      this.args = args;
+    }
+  }
+
+  // Guarded by pendingEvents.
+  private final List<PendingEvent> pendingEvents = new ArrayList<>();
+  private boolean flushScheduled;
+  private long firstPendingUptimeMs;
+  private int maxQueueDepth;
+  private long eventsQueued;
+  private long eventsCoalesced;
+
+  // Only accessed on the main thread.
+  private final List<PendingEvent> flushingEvents = new ArrayList<>();
+  private final Runnable flushRunnable = this::flush;
+  private final LatencyStats dispatchLatencyStats = new LatencyStats();
+
+  /** The method of a call that carries several events of the same channel. */
+  @VisibleForTesting static final String BATCH_METHOD = "batch";
+
   /** Specifies the different device related message types. */
   enum DeviceEventType {
     /** Indicates the device's orientation has changed. */
-    ORIENTATION_CHANGED("orientation_changed");
+    ORIENTATION_CHANGED("orientation_changed", true);
     private final String method;
+    private final boolean coalescing;
 
-    DeviceEventType(String method) {
+    DeviceEventType(String method, boolean coalescing) {
       this.method = method;
+      this.coalescing = coalescing;
     }
   }
 
@@ -40,7 +87,9 @@ public class DartMessenger {
     /** Indicates that the camera is closing. */
     CLOSING("camera_closing"),
     /** Indicates that the camera is initialized. */
-    INITIALIZED("initialized");
+    INITIALIZED("initialized"),
+    /** Reports when each phase of the camera initialization was reached. */
+    INITIALIZATION_TRACE("initialization_trace");
 
     private final String method;
 
@@ -76,13 +125,9 @@ public class DartMessenger {
    */
   public void sendDeviceOrientationChangeEvent(PlatformChannel.DeviceOrientation orientation) {
     assert (orientation != null);
-    this.send(
-        DeviceEventType.ORIENTATION_CHANGED,
-        new HashMap<String, Object>() {
-          {
-            put("orientation", CameraUtils.serializeDeviceOrientation(orientation));
-          }
-        });
+    Map<String, Object> args = new HashMap<>();
+    args.put("orientation", CameraUtils.serializeDeviceOrientation(orientation));
+    this.send(DeviceEventType.ORIENTATION_CHANGED, args);
   }
 
   /**
@@ -108,18 +153,24 @@ public class DartMessenger {
     assert (focusMode != null);
     assert (exposurePointSupported != null);
     assert (focusPointSupported != null);
-    this.send(
-        CameraEventType.INITIALIZED,
-        new HashMap<String, Object>() {
-          {
-            put("previewWidth", previewWidth.doubleValue());
-            put("previewHeight", previewHeight.doubleValue());
-            put("exposureMode", exposureMode.toString());
-            put("focusMode", focusMode.toString());
-            put("exposurePointSupported", exposurePointSupported);
-            put("focusPointSupported", focusPointSupported);
-          }
-        });
+    Map<String, Object> args = new HashMap<>();
+    args.put("previewWidth", previewWidth.doubleValue());
+    args.put("previewHeight", previewHeight.doubleValue());
+    args.put("exposureMode", exposureMode.toString());
+    args.put("focusMode", focusMode.toString());
+    args.put("exposurePointSupported", exposurePointSupported);
+    args.put("focusPointSupported", focusPointSupported);
+    this.send(CameraEventType.INITIALIZED, args);
+  }
+
+  /**
+   * Sends a message to the Flutter client with the timings of the camera initialization.
+   *
+   * @param trace the microseconds from {@code create} until each initialization phase.
+   */
+  void sendInitializationTraceEvent(Map<String, Object> trace) {
+    assert (trace != null);
+    this.send(CameraEventType.INITIALIZATION_TRACE, trace);
   }
 
   /** Sends a message to the Flutter client informing that the camera is closing. */
@@ -134,13 +185,28 @@ public class DartMessenger {
    * @param description contains details regarding the error that occurred.
    */
   void sendCameraErrorEvent(@Nullable String description) {
-    this.send(
-        CameraEventType.ERROR,
-        new HashMap<String, Object>() {
-          {
-            if (!TextUtils.isEmpty(description)) put("description", description);
-          }
-        });
+    Map<String, Object> args = new HashMap<>();
+    if (!TextUtils.isEmpty(description)) args.put("description", description);
+    this.send(CameraEventType.ERROR, args);
+  }
+
+  /**
+   * Returns how events are queued and delivered, to be sent over a platform channel.
+   *
+   * @return a map with the queue depth, the number of queued and coalesced events and the latency
+   *     of the deliveries.
+   */
+  Map<String, Object> getDispatchStats() {
+    Map<String, Object> stats = new HashMap<>();
+    synchronized (pendingEvents) {
+      stats.put("queueDepth", pendingEvents.size());
+      stats.put("maxQueueDepth", maxQueueDepth);
+      stats.put("eventsQueued", eventsQueued);
+      stats.put("eventsCoalesced", eventsCoalesced);
+    }
+    stats.put("batches", dispatchLatencyStats.getCount());
+    stats.put("dispatchLatency", dispatchLatencyStats.toMap());
+    return stats;
   }
 
   private void send(CameraEventType eventType) {
@@ -148,17 +214,7 @@ public class DartMessenger {
   }
 
   private void send(CameraEventType eventType, Map<String, Object> args) {
-    if (cameraChannel == null) {
-      return;
-    }
-
-    handler.post(
-        new Runnable() {
-          @Override
-          public void run() {
-            cameraChannel.invokeMethod(eventType.method, args);
-          }
-        });
+    enqueue(cameraChannel, eventType.method, false, args);
   }
 
   private void send(DeviceEventType eventType) {
@@ -166,17 +222,83 @@ public class DartMessenger {
   }
 
   private void send(DeviceEventType eventType, Map<String, Object> args) {
-    if (deviceChannel == null) {
+    enqueue(deviceChannel, eventType.method, eventType.coalescing, args);
+  }
+
+  private void enqueue(
+      @Nullable MethodChannel channel,
+      String method,
+      boolean coalescing,
+      Map<String, Object> args) {
+    if (channel == null) {
       return;
     }
 
-    handler.post(
-        new Runnable() {
-          @Override
-          public void run() {
-            deviceChannel.invokeMethod(eventType.method, args);
+    synchronized (pendingEvents) {
+      eventsQueued++;
+      if (coalescing) {
+        for (int i = 0; i < pendingEvents.size(); i++) {
+          PendingEvent pending = pendingEvents.get(i);
+          if (pending.coalescing && pending.channel == channel && pending.method.equals(method)) {
+            // Only the latest state matters, keep the position of the queued event.
+            pending.args = args;
+            eventsCoalesced++;
+            return;
           }
-        });
+        }
+      }
+      pendingEvents.add(new PendingEvent(channel, method, coalescing, args));
+      maxQueueDepth = Math.max(maxQueueDepth, pendingEvents.size());
+      if (!flushScheduled) {
+        flushScheduled = true;
+        firstPendingUptimeMs = SystemClock.uptimeMillis();
+        handler.post(flushRunnable);
+      }
+    }
+  }
+
+  private void flush() {
+    long queuedSinceMs;
+    synchronized (pendingEvents) {
+      flushingEvents.addAll(pendingEvents);
+      pendingEvents.clear();
+      flushScheduled = false;
+      queuedSinceMs = firstPendingUptimeMs;
+    }
+
+    long startNs = System.nanoTime();
+    int start = 0;
+    while (start < flushingEvents.size()) {
+      MethodChannel channel = flushingEvents.get(start).channel;
+      int end = start + 1;
+      while (end < flushingEvents.size() && flushingEvents.get(end).channel == channel) {
+        end++;
+      }
+      if (end - start == 1) {
+        PendingEvent event = flushingEvents.get(start);
+        channel.invokeMethod(event.method, event.args);
+      } else {
+        channel.invokeMethod(BATCH_METHOD, toBatchArguments(flushingEvents.subList(start, end)));
+      }
+      start = end;
+    }
+    flushingEvents.clear();
+    dispatchLatencyStats.record(
+        SystemClock.uptimeMillis() - queuedSinceMs, System.nanoTime() - startNs);
+  }
+
+  private static Map<String, Object> toBatchArguments(List<PendingEvent> events) {
+    List<Object> batch = new ArrayList<>(events.size());
+    for (int i = 0; i < events.size(); i++) {
+      PendingEvent event = events.get(i);
+      Map<String, Object> call = new HashMap<>();
+      call.put("method", event.method);
+      call.put("arguments", event.args);
+      batch.add(call);
+    }
+    Map<String, Object> args = new HashMap<>();
+    args.put("events", batch);
+    return args;
   }
 
   /**
@@ -12,6 +12,7 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 /** Saves a JPEG {@link Image} into the specified {@link File}. */
 public class ImageSaver implements Runnable {
@@ -25,6 +26,9 @@ public class ImageSaver implements Runnable {
   /** Used to report the status of the save action. */
   private final Callback callback;
 
+  /** Whether the file is flushed to the storage device before completion is reported. */
+  private final boolean syncToDisk;
+
   /**
    * Creates an instance of the ImageSaver runnable
    *
@@ -33,22 +37,45 @@ public class ImageSaver implements Runnable {
    * @param callback - The callback that is run on completion, or when an error is encountered.
    */
   ImageSaver(@NonNull Image image, @NonNull File file, @NonNull Callback callback) {
+    this(image, file, false, callback);
+  }
+
+  /**
+   * Creates an instance of the ImageSaver runnable
+   *
+   * @param image - The image to save
+   * @param file - The file to save the image to
+   * @param syncToDisk - Whether to flush the file to the storage device before reporting success.
+   * @param callback - The callback that is run on completion, or when an error is encountered.
+   */
+  ImageSaver(
+      @NonNull Image image, @NonNull File file, boolean syncToDisk, @NonNull Callback callback) {
     this.image = image;
     this.file = file;
+    this.syncToDisk = syncToDisk;
     this.callback = callback;
   }
 
   @Override
   public void run() {
     ByteBuffer buffer = image.getPlanes()[0].getBuffer();
-    byte[] bytes = new byte[buffer.remaining()];
-    buffer.get(bytes);
     FileOutputStream output = null;
     try {
+      long startNs = System.nanoTime();
       output = FileOutputStreamFactory.create(file);
-      output.write(bytes);
+      FileChannel channel = output.getChannel();
+
+      // Write the plane straight from its direct buffer, copying it to the heap first would
+      // double the peak memory of large captures.
+      long bytesWritten = 0;
+      while (buffer.hasRemaining()) {
+        bytesWritten += channel.write(buffer);
+      }
+      if (syncToDisk) {
+        channel.force(false);
+      }
 
-      callback.onComplete(file.getAbsolutePath());
+      callback.onComplete(file.getAbsolutePath(), bytesWritten, System.nanoTime() - startNs);
 
     } catch (IOException e) {
       callback.onError("IOError", "Failed saving image");
@@ -73,8 +100,10 @@ public class ImageSaver implements Runnable {
      * Called when the image file has been saved successfully.
      *
      * @param absolutePath - The absolute path of the file that was saved.
+     * @param bytesWritten - The size of the saved file in bytes.
+     * @param writeDurationNs - The time it took to write the file, in nanoseconds.
      */
-    void onComplete(String absolutePath);
+    void onComplete(String absolutePath, long bytesWritten, long writeDurationNs);
 
     /**
      * Called when an error is encountered while saving the image file.
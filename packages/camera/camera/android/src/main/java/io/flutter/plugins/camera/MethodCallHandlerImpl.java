@@ -8,6 +8,7 @@ import android.app.Activity;
 import android.hardware.camera2.CameraAccessException;
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import io.flutter.embedding.engine.systemchannels.PlatformChannel;
@@ -23,6 +24,10 @@ import io.flutter.plugins.camera.features.autofocus.FocusMode;
 import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
 import io.flutter.plugins.camera.features.flash.FlashMode;
 import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
+import io.flutter.plugins.camera.features.sensororientation.DeviceOrientationManager;
+import io.flutter.plugins.camera.media.ImageStreamBackpressure;
+import io.flutter.plugins.camera.media.ImageStreamBackpressureMode;
+import io.flutter.plugins.camera.media.ImageStreamTransform;
 import io.flutter.view.TextureRegistry;
 import java.util.HashMap;
 import java.util.Map;
@@ -36,6 +41,8 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
   private final MethodChannel methodChannel;
   private final EventChannel imageStreamChannel;
   private @Nullable Camera camera;
+  private int pictureMaxImages = Camera.DEFAULT_MAX_IMAGES;
+  private int imageStreamMaxImages = Camera.DEFAULT_MAX_IMAGES;
 
   MethodCallHandlerImpl(
       Activity activity,
@@ -91,7 +98,8 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
         {
           if (camera != null) {
             try {
-              camera.open(call.argument("imageFormatGroup"));
+              camera.open(
+                  call.argument("imageFormatGroup"), pictureMaxImages, imageStreamMaxImages);
               result.success(null);
             } catch (Exception e) {
               handleException(e, result);
@@ -106,7 +114,15 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
         }
       case "takePicture":
         {
-          camera.takePicture(result);
+          camera.takePicture(result, Boolean.TRUE.equals(call.argument("syncToDisk")));
+          break;
+        }
+      case "takePictureBurst":
+        {
+          camera.takePictureBurst(
+              result,
+              getIntArgument(call, "count", 1),
+              Boolean.TRUE.equals(call.argument("syncToDisk")));
           break;
         }
       case "prepareForVideoRecording":
@@ -117,7 +133,7 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
         }
       case "startVideoRecording":
         {
-          camera.startVideoRecording(result);
+          camera.startVideoRecording(result, call.argument("videoEncoder"));
           break;
         }
       case "stopVideoRecording":
@@ -250,14 +266,72 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
         }
       case "startImageStream":
         {
+          String modeStr = call.argument("backpressureMode");
+          ImageStreamBackpressureMode mode =
+              modeStr == null
+                  ? ImageStreamBackpressureMode.all
+                  : ImageStreamBackpressureMode.getValueForString(modeStr);
+          if (mode == null) {
+            result.error("startImageStreamFailed", "Unknown backpressure mode " + modeStr, null);
+            return;
+          }
+          ImageStreamBackpressure backpressure;
+          ImageStreamTransform transform;
+          try {
+            backpressure =
+                new ImageStreamBackpressure(
+                    mode,
+                    getIntArgument(
+                        call,
+                        "maxFramesInFlight",
+                        ImageStreamBackpressure.DEFAULT_MAX_FRAMES_IN_FLIGHT),
+                    getIntArgument(call, "frameInterval", 1));
+            transform =
+                new ImageStreamTransform(
+                    getIntArgument(call, "cropLeft", 0),
+                    getIntArgument(call, "cropTop", 0),
+                    getIntArgument(call, "cropWidth", 0),
+                    getIntArgument(call, "cropHeight", 0),
+                    getIntArgument(call, "subsampleFactor", 1),
+                    Boolean.TRUE.equals(call.argument("lumaOnly")),
+                    Boolean.TRUE.equals(call.argument("compactStrides")));
+          } catch (IllegalArgumentException e) {
+            result.error("startImageStreamFailed", e.getMessage(), null);
+            return;
+          }
           try {
-            camera.startPreviewWithImageStream(imageStreamChannel);
+            camera.startPreviewWithImageStream(imageStreamChannel, backpressure, transform);
             result.success(null);
           } catch (Exception e) {
             handleException(e, result);
           }
           break;
         }
+      case "getImageStreamStats":
+        {
+          result.success(camera.getImageStreamStats());
+          break;
+        }
+      case "getThreadLatencyStats":
+        {
+          result.success(camera.getThreadLatencyStats());
+          break;
+        }
+      case "getEventDispatchStats":
+        {
+          result.success(camera.getEventDispatchStats());
+          break;
+        }
+      case "getVideoEncoderStats":
+        {
+          result.success(camera.getVideoEncoderStats());
+          break;
+        }
+      case "getRepeatingRequestStats":
+        {
+          result.success(camera.getRepeatingRequestStats());
+          break;
+        }
       case "stopImageStream":
         {
           try {
@@ -369,9 +443,29 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
   }
 
   private void instantiateCamera(MethodCall call, Result result) throws CameraAccessException {
+    long createNs = SystemClock.elapsedRealtimeNanos();
     String cameraName = call.argument("cameraName");
     String preset = call.argument("resolutionPreset");
     boolean enableAudio = call.argument("enableAudio");
+    Integer orientationSamplingPeriodUs = call.argument("orientationSamplingPeriodUs");
+    int orientationHysteresisDegrees =
+        getIntArgument(
+            call,
+            "orientationHysteresisDegrees",
+            DeviceOrientationManager.DEFAULT_HYSTERESIS_DEGREES);
+    // Checked before anything is created, so an invalid argument doesn't leave a camera behind.
+    if (orientationSamplingPeriodUs != null && orientationSamplingPeriodUs < 0) {
+      result.error(
+          "IllegalArgumentException", "orientationSamplingPeriodUs must not be negative.", null);
+      return;
+    }
+    if (orientationHysteresisDegrees < 0 || orientationHysteresisDegrees >= 45) {
+      result.error(
+          "IllegalArgumentException",
+          "orientationHysteresisDegrees must be between 0 and 44.",
+          null);
+      return;
+    }
 
     TextureRegistry.SurfaceTextureEntry flutterSurfaceTexture =
         textureRegistry.createSurfaceTexture();
@@ -379,8 +473,13 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
         new DartMessenger(
             messenger, flutterSurfaceTexture.id(), new Handler(Looper.getMainLooper()));
     CameraProperties cameraProperties =
-        new CameraPropertiesImpl(cameraName, CameraUtils.getCameraManager(activity));
+        CameraCharacteristicsCache.getInstance(CameraUtils.getCameraManager(activity))
+            .getCameraProperties(cameraName);
     ResolutionPreset resolutionPreset = ResolutionPreset.valueOf(preset);
+    // The reader depths are only used once the camera is initialized.
+    pictureMaxImages = getIntArgument(call, "pictureMaxImages", Camera.DEFAULT_MAX_IMAGES);
+    imageStreamMaxImages =
+        getIntArgument(call, "imageStreamMaxImages", Camera.DEFAULT_MAX_IMAGES);
 
     camera =
         new Camera(
@@ -391,12 +490,29 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
             cameraProperties,
             resolutionPreset,
             enableAudio);
+    camera.setSharedCaptureSessionEnabled(
+        Boolean.TRUE.equals(call.argument("sharedCaptureSession")));
+    if (Boolean.TRUE.equals(call.argument("traceInitialization"))) {
+      CameraInitializationTrace trace = new CameraInitializationTrace(dartMessenger);
+      trace.mark(CameraInitializationTrace.Phase.CREATE, createNs);
+      camera.setInitializationTrace(trace);
+    }
+    if (orientationSamplingPeriodUs != null) {
+      camera
+          .getDeviceOrientationManager()
+          .startSensorTracking(orientationSamplingPeriodUs, orientationHysteresisDegrees);
+    }
 
     Map<String, Object> reply = new HashMap<>();
     reply.put("cameraId", flutterSurfaceTexture.id());
     result.success(reply);
   }
 
+  private static int getIntArgument(MethodCall call, String key, int defaultValue) {
+    Integer value = call.argument(key);
+    return value == null ? defaultValue : value;
+  }
+
   // We move catching CameraAccessException out of onMethodCall because it causes a crash
   // on plugin registration for sdks incompatible with Camera2 (< 21). We want this plugin to
   // to be able to compile with <21 sdks for apps that want the camera and support earlier version.
@@ -5,6 +5,7 @@
 package io.flutter.plugins.camera.features;
 
 import android.app.Activity;
+import android.hardware.camera2.CaptureRequest;
 import io.flutter.plugins.camera.CameraProperties;
 import io.flutter.plugins.camera.DartMessenger;
 import io.flutter.plugins.camera.features.autofocus.AutoFocusFeature;
@@ -21,7 +22,10 @@ import io.flutter.plugins.camera.features.sensororientation.SensorOrientationFea
 import io.flutter.plugins.camera.features.zoomlevel.ZoomLevelFeature;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * These are all of our available features in the camera. Used in the Camera to access all features
@@ -76,6 +80,11 @@ public class CameraFeatures {
 
   private Map<String, CameraFeature> featureMap = new HashMap<>();
 
+  /** The values last applied to the repeating request, by feature. */
+  private final Map<CameraFeature<?>, Object> appliedValues = new HashMap<>();
+  /** Features whose value changed since they were last applied to the repeating request. */
+  private final Set<CameraFeature<?>> changedFeatures = new LinkedHashSet<>();
+
   /**
    * Gets a collection of all features that have been set.
    *
@@ -85,6 +94,68 @@ public class CameraFeatures {
     return this.featureMap.values();
   }
 
+  /**
+   * Updates a request builder with the settings of every feature.
+   *
+   * @param requestBuilder the builder of a single capture request.
+   */
+  public void updateBuilder(CaptureRequest.Builder requestBuilder) {
+    for (CameraFeature feature : featureMap.values()) {
+      feature.updateBuilder(requestBuilder);
+    }
+  }
+
+  /**
+   * Updates a newly created builder of the repeating request with the settings of every feature,
+   * and remembers the applied values so later updates only have to apply the changed features.
+   *
+   * @param requestBuilder the builder of the repeating request.
+   */
+  public synchronized void updateRepeatingBuilder(CaptureRequest.Builder requestBuilder) {
+    appliedValues.clear();
+    for (CameraFeature<?> feature : featureMap.values()) {
+      feature.updateBuilder(requestBuilder);
+      appliedValues.put(feature, feature.getValue());
+    }
+    changedFeatures.clear();
+  }
+
+  /**
+   * Marks a feature as changed after its value was set, unless the value equals the one last
+   * applied to the repeating request.
+   *
+   * @param feature the feature whose value was set.
+   * @return true when the feature has to be applied to the repeating request.
+   */
+  public synchronized boolean markChanged(CameraFeature<?> feature) {
+    if (appliedValues.containsKey(feature)
+        && Objects.equals(appliedValues.get(feature), feature.getValue())) {
+      // A value that was set back before it was applied doesn't have to be applied either.
+      changedFeatures.remove(feature);
+      return false;
+    }
+    changedFeatures.add(feature);
+    return true;
+  }
+
+  /**
+   * Updates the builder of the repeating request with the features marked as changed since the
+   * last update.
+   *
+   * @param requestBuilder the builder of the repeating request.
+   * @return the number of features that were applied.
+   */
+  public synchronized int updateRepeatingBuilderWithChangedFeatures(
+      CaptureRequest.Builder requestBuilder) {
+    int applied = changedFeatures.size();
+    for (CameraFeature<?> feature : changedFeatures) {
+      feature.updateBuilder(requestBuilder);
+      appliedValues.put(feature, feature.getValue());
+    }
+    changedFeatures.clear();
+    return applied;
+  }
+
   /**
    * Gets the auto focus feature if it has been set.
    *
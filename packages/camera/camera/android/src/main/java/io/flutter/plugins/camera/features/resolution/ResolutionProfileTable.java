@@ -0,0 +1,208 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.features.resolution;
+
+import android.annotation.TargetApi;
+import android.media.CamcorderProfile;
+import android.media.EncoderProfiles;
+import android.os.Build;
+import android.util.Size;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable table mapping every {@link ResolutionPreset} of a camera to its recording profile,
+ * capture size and preview size.
+ *
+ * <p>Resolving a preset walks a cascade of {@link CamcorderProfile#hasProfile(int, int)} probes
+ * from the requested quality downwards, and the preview size walks it again. The table probes
+ * every quality level of a camera once, resolves all presets from the result and is then shared
+ * for the lifetime of the process, so creating a camera only costs a map lookup.
+ */
+public class ResolutionProfileTable {
+  /** Quality levels in descending order, indexed by {@link #getStartIndex(ResolutionPreset)}. */
+  @SuppressWarnings("deprecation")
+  private static final int[] QUALITIES = {
+    CamcorderProfile.QUALITY_HIGH,
+    CamcorderProfile.QUALITY_2160P,
+    CamcorderProfile.QUALITY_1080P,
+    CamcorderProfile.QUALITY_720P,
+    CamcorderProfile.QUALITY_480P,
+    CamcorderProfile.QUALITY_QVGA,
+    CamcorderProfile.QUALITY_LOW,
+  };
+
+  private static final Map<Integer, ResolutionProfileTable> tables = new ConcurrentHashMap<>();
+
+  /** The resolved configuration of a single {@link ResolutionPreset}. */
+  public static class Entry {
+    @Nullable private final EncoderProfiles recordingProfile;
+    @Nullable private final CamcorderProfile recordingProfileLegacy;
+    @NonNull private final Size captureSize;
+    @NonNull private final Size previewSize;
+
+    Entry(
+        @Nullable EncoderProfiles recordingProfile,
+        @Nullable CamcorderProfile recordingProfileLegacy,
+        @NonNull Size captureSize,
+        @NonNull Size previewSize) {
+      this.recordingProfile = recordingProfile;
+      this.recordingProfileLegacy = recordingProfileLegacy;
+      this.captureSize = captureSize;
+      this.previewSize = previewSize;
+    }
+
+    /** Gets the recording profile on SDK 31 and up, null on older devices. */
+    @Nullable
+    public EncoderProfiles getRecordingProfile() {
+      return recordingProfile;
+    }
+
+    /** Gets the recording profile below SDK 31, null on newer devices. */
+    @Nullable
+    public CamcorderProfile getRecordingProfileLegacy() {
+      return recordingProfileLegacy;
+    }
+
+    /** Gets the size of the recorded video. */
+    @NonNull
+    public Size getCaptureSize() {
+      return captureSize;
+    }
+
+    /** Gets the size of the preview, which never exceeds that of {@link ResolutionPreset#high}. */
+    @NonNull
+    public Size getPreviewSize() {
+      return previewSize;
+    }
+  }
+
+  private final Entry[] entries = new Entry[ResolutionPreset.values().length];
+
+  /**
+   * Gets the table of the given camera, building it on first use.
+   *
+   * @param cameraId the numeric identifier of the camera, which must be at least 0.
+   */
+  @NonNull
+  public static ResolutionProfileTable forCamera(int cameraId) {
+    if (cameraId < 0) {
+      throw new AssertionError(
+          "ResolutionProfileTable can only be used with valid (>=0) camera identifiers.");
+    }
+    ResolutionProfileTable table = tables.get(cameraId);
+    if (table == null) {
+      // Building twice on a race is harmless, both tables hold the same profiles.
+      table = new ResolutionProfileTable(cameraId);
+      tables.put(cameraId, table);
+    }
+    return table;
+  }
+
+  /** Drops all tables built so far. */
+  @VisibleForTesting
+  public static void clearCache() {
+    tables.clear();
+  }
+
+  @VisibleForTesting
+  ResolutionProfileTable(int cameraId) {
+    // Probe every quality level once, the presets then only pick from the available ones.
+    Object[] profiles = new Object[QUALITIES.length];
+    Size[] sizes = new Size[QUALITIES.length];
+    for (int i = 0; i < QUALITIES.length; i++) {
+      if (!CamcorderProfile.hasProfile(cameraId, QUALITIES[i])) {
+        continue;
+      }
+      if (Build.VERSION.SDK_INT >= 31) {
+        EncoderProfiles profile = getEncoderProfiles(cameraId, QUALITIES[i]);
+        if (profile != null && !profile.getVideoProfiles().isEmpty()) {
+          EncoderProfiles.VideoProfile videoProfile = profile.getVideoProfiles().get(0);
+          profiles[i] = profile;
+          sizes[i] = new Size(videoProfile.getWidth(), videoProfile.getHeight());
+        }
+      } else {
+        @SuppressWarnings("deprecation")
+        CamcorderProfile profile = CamcorderProfile.get(cameraId, QUALITIES[i]);
+        if (profile != null) {
+          profiles[i] = profile;
+          sizes[i] = new Size(profile.videoFrameWidth, profile.videoFrameHeight);
+        }
+      }
+    }
+
+    int previewIndex = findAvailable(profiles, getStartIndex(ResolutionPreset.high));
+    for (ResolutionPreset preset : ResolutionPreset.values()) {
+      int index = findAvailable(profiles, getStartIndex(preset));
+      if (index < 0) {
+        continue;
+      }
+      // Presets above high are previewed at the size of high.
+      int presetPreviewIndex =
+          preset.ordinal() > ResolutionPreset.high.ordinal() ? previewIndex : index;
+      entries[preset.ordinal()] =
+          new Entry(
+              profiles[index] instanceof EncoderProfiles ? (EncoderProfiles) profiles[index] : null,
+              profiles[index] instanceof CamcorderProfile
+                  ? (CamcorderProfile) profiles[index]
+                  : null,
+              sizes[index],
+              sizes[presetPreviewIndex]);
+    }
+  }
+
+  /**
+   * Gets the resolved configuration of the given preset.
+   *
+   * @param preset the preset to look up.
+   * @throws IllegalArgumentException when the camera has no profile for the preset.
+   */
+  @NonNull
+  public Entry get(@NonNull ResolutionPreset preset) {
+    Entry entry = entries[preset.ordinal()];
+    if (entry == null) {
+      throw new IllegalArgumentException(
+          "No capture session available for current capture session.");
+    }
+    return entry;
+  }
+
+  private static int getStartIndex(ResolutionPreset preset) {
+    switch (preset) {
+      case max:
+        return 0;
+      case ultraHigh:
+        return 1;
+      case veryHigh:
+        return 2;
+      case high:
+        return 3;
+      case medium:
+        return 4;
+      case low:
+        return 5;
+      default:
+        return QUALITIES.length - 1;
+    }
+  }
+
+  private static int findAvailable(Object[] profiles, int startIndex) {
+    for (int i = startIndex; i < profiles.length; i++) {
+      if (profiles[i] != null) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @TargetApi(Build.VERSION_CODES.S)
+  private static EncoderProfiles getEncoderProfiles(int cameraId, int quality) {
+    return CamcorderProfile.getAll(Integer.toString(cameraId), quality);
+  }
+}
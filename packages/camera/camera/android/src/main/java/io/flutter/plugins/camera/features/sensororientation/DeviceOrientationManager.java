@@ -10,6 +10,10 @@ import android.content.Context;
 import android.content.Intent;
 import android.content.IntentFilter;
 import android.content.res.Configuration;
+import android.hardware.Sensor;
+import android.hardware.SensorEvent;
+import android.hardware.SensorEventListener;
+import android.hardware.SensorManager;
 import android.view.Display;
 import android.view.Surface;
 import android.view.WindowManager;
@@ -27,6 +31,18 @@ public class DeviceOrientationManager {
   private static final IntentFilter orientationIntentFilter =
       new IntentFilter(Intent.ACTION_CONFIGURATION_CHANGED);
 
+  private static final PlatformChannel.DeviceOrientation[] QUADRANT_ORIENTATIONS = {
+    PlatformChannel.DeviceOrientation.PORTRAIT_UP,
+    PlatformChannel.DeviceOrientation.LANDSCAPE_LEFT,
+    PlatformChannel.DeviceOrientation.PORTRAIT_DOWN,
+    PlatformChannel.DeviceOrientation.LANDSCAPE_RIGHT,
+  };
+
+  /** The default number of degrees the device has to rotate past a quadrant boundary. */
+  public static final int DEFAULT_HYSTERESIS_DEGREES = 15;
+
+  private static final int UNKNOWN_QUADRANT = -1;
+
   private final Activity activity;
   private final DartMessenger messenger;
   private final boolean isFrontFacing;
@@ -34,6 +50,22 @@ public class DeviceOrientationManager {
   private PlatformChannel.DeviceOrientation lastOrientation;
   private BroadcastReceiver broadcastReceiver;
 
+  private SensorManager sensorManager;
+  private int hysteresisDegrees = DEFAULT_HYSTERESIS_DEGREES;
+  private int sensorQuadrant = UNKNOWN_QUADRANT;
+  private PlatformChannel.DeviceOrientation lastSensorOrientation;
+
+  private final SensorEventListener sensorEventListener =
+      new SensorEventListener() {
+        @Override
+        public void onSensorChanged(SensorEvent event) {
+          handleSensorSample(event.values[0], event.values[1], event.values[2]);
+        }
+
+        @Override
+        public void onAccuracyChanged(Sensor sensor, int accuracy) {}
+      };
+
   /** Factory method to create a device orientation manager. */
   public static DeviceOrientationManager create(
       @NonNull Activity activity,
@@ -81,8 +113,51 @@ public class DeviceOrientationManager {
     broadcastReceiver.onReceive(activity, null);
   }
 
+  /**
+   * Starts tracking the physical orientation of the device with the accelerometer.
+   *
+   * <p>While tracking, orientation updates are sent to the client only when the device is rotated
+   * into another quadrant, and the photo and video orientation follow the device even when the UI
+   * orientation is locked. The UI orientation is still tracked for {@link #getLastUIOrientation()}.
+   * To keep the device from flipping back and forth near 45 degrees, it has to be rotated {@code
+   * hysteresisDegrees} past a quadrant boundary before the new quadrant is reported.
+   *
+   * <p>Samples are handled without allocating, so a high sampling rate doesn't put pressure on
+   * the garbage collector of the main thread.
+   *
+   * @param samplingPeriodUs the desired delay between two samples in microseconds, or one of the
+   *     {@link SensorManager} {@code SENSOR_DELAY_*} constants.
+   * @param hysteresisDegrees the number of degrees past a quadrant boundary, between 0 and 44.
+   * @return false when the device has no accelerometer, in which case orientation keeps being
+   *     derived from the UI.
+   */
+  public boolean startSensorTracking(int samplingPeriodUs, int hysteresisDegrees) {
+    if (hysteresisDegrees < 0 || hysteresisDegrees >= 45) {
+      throw new IllegalArgumentException("hysteresisDegrees must be between 0 and 44.");
+    }
+    if (sensorManager != null) {
+      return true;
+    }
+    SensorManager manager = (SensorManager) activity.getSystemService(Context.SENSOR_SERVICE);
+    Sensor accelerometer =
+        manager == null ? null : manager.getDefaultSensor(Sensor.TYPE_ACCELEROMETER);
+    if (accelerometer == null
+        || !manager.registerListener(sensorEventListener, accelerometer, samplingPeriodUs)) {
+      return false;
+    }
+    this.sensorManager = manager;
+    this.hysteresisDegrees = hysteresisDegrees;
+    return true;
+  }
+
+  /** Returns true while the orientation is tracked with the accelerometer. */
+  public boolean isSensorTracking() {
+    return sensorManager != null;
+  }
+
   /** Stops listening for orientation updates. */
   public void stop() {
+    stopSensorTracking();
     if (broadcastReceiver == null) {
       return;
     }
@@ -90,16 +165,27 @@ public class DeviceOrientationManager {
     broadcastReceiver = null;
   }
 
+  private void stopSensorTracking() {
+    if (sensorManager == null) {
+      return;
+    }
+    sensorManager.unregisterListener(sensorEventListener);
+    sensorManager = null;
+    sensorQuadrant = UNKNOWN_QUADRANT;
+    lastSensorOrientation = null;
+  }
+
   /**
    * Returns the device's photo orientation in degrees based on the sensor orientation and the last
-   * known UI orientation.
+   * known device orientation, which is the UI orientation unless {@link #startSensorTracking(int,
+   * int)} was called.
    *
    * <p>Returns one of 0, 90, 180 or 270.
    *
    * @return The device's photo orientation in degrees.
    */
   public int getPhotoOrientation() {
-    return this.getPhotoOrientation(this.lastOrientation);
+    return this.getPhotoOrientation(getLastOrientation());
   }
 
   /**
@@ -143,14 +229,15 @@ public class DeviceOrientationManager {
 
   /**
    * Returns the device's video orientation in degrees based on the sensor orientation and the last
-   * known UI orientation.
+   * known device orientation, which is the UI orientation unless {@link #startSensorTracking(int,
+   * int)} was called.
    *
    * <p>Returns one of 0, 90, 180 or 270.
    *
    * @return The device's video orientation in degrees.
    */
   public int getVideoOrientation() {
-    return this.getVideoOrientation(this.lastOrientation);
+    return this.getVideoOrientation(getLastOrientation());
   }
 
   /**
@@ -198,6 +285,11 @@ public class DeviceOrientationManager {
     return this.lastOrientation;
   }
 
+  private PlatformChannel.DeviceOrientation getLastOrientation() {
+    PlatformChannel.DeviceOrientation sensorOrientation = this.lastSensorOrientation;
+    return sensorOrientation != null ? sensorOrientation : this.lastOrientation;
+  }
+
   /**
    * Handles orientation changes based on change events triggered by the OrientationIntentFilter.
    *
@@ -207,10 +299,83 @@ public class DeviceOrientationManager {
   @VisibleForTesting
   void handleUIOrientationChange() {
     PlatformChannel.DeviceOrientation orientation = getUIOrientation();
-    handleOrientationChange(orientation, lastOrientation, messenger);
+    if (sensorManager == null) {
+      handleOrientationChange(orientation, lastOrientation, messenger);
+    }
     lastOrientation = orientation;
   }
 
+  /**
+   * Handles a single accelerometer sample, reporting the orientation only when the device was
+   * rotated into another quadrant.
+   *
+   * <p>This method is visible for testing purposes only and should never be used outside this
+   * class.
+   *
+   * @param x Acceleration along the x axis of the device.
+   * @param y Acceleration along the y axis of the device.
+   * @param z Acceleration along the z axis of the device.
+   */
+  @VisibleForTesting
+  void handleSensorSample(float x, float y, float z) {
+    int angle = calculateSensorAngle(x, y, z);
+    if (angle < 0) {
+      return;
+    }
+    int quadrant = calculateQuadrant(angle, sensorQuadrant, hysteresisDegrees);
+    if (quadrant == sensorQuadrant) {
+      return;
+    }
+    sensorQuadrant = quadrant;
+    PlatformChannel.DeviceOrientation orientation = calculateSensorOrientation(quadrant * 90);
+    handleOrientationChange(orientation, lastSensorOrientation, messenger);
+    lastSensorOrientation = orientation;
+  }
+
+  /**
+   * Calculates the clockwise rotation of the device from its natural orientation in degrees, the
+   * same way {@link android.view.OrientationEventListener} does.
+   *
+   * <p>This method is visible for testing purposes only and should never be used outside this
+   * class.
+   *
+   * @return The angle between 0 and 359, or -1 when the device lies too flat to tell.
+   */
+  @VisibleForTesting
+  static int calculateSensorAngle(float x, float y, float z) {
+    float magnitude = x * x + y * y;
+    // Don't trust the angle if the magnitude is small compared to the z component.
+    if (magnitude * 4 < z * z) {
+      return -1;
+    }
+    int angle = 90 - Math.round((float) Math.toDegrees(Math.atan2(y, -x)));
+    return ((angle % 360) + 360) % 360;
+  }
+
+  /**
+   * Calculates the quadrant of the supplied angle, staying in the current quadrant until the angle
+   * is more than {@code hysteresisDegrees} past its boundary.
+   *
+   * <p>This method is visible for testing purposes only and should never be used outside this
+   * class.
+   *
+   * @param angle Orientation angle between 0 and 359.
+   * @param currentQuadrant The current quadrant between 0 and 3, or -1 when it is unknown.
+   * @param hysteresisDegrees The number of degrees past a quadrant boundary.
+   * @return The quadrant between 0 and 3, where 0 is centered around 0 degrees.
+   */
+  @VisibleForTesting
+  static int calculateQuadrant(int angle, int currentQuadrant, int hysteresisDegrees) {
+    if (currentQuadrant != UNKNOWN_QUADRANT) {
+      int distance = Math.abs(angle - currentQuadrant * 90);
+      distance = Math.min(distance, 360 - distance);
+      if (distance <= 45 + hysteresisDegrees) {
+        return currentQuadrant;
+      }
+    }
+    return ((angle + 45) / 90) % 4;
+  }
+
   /**
    * Handles orientation changes coming from either the device's sensors or the
    * OrientationIntentFilter.
@@ -282,13 +447,7 @@ public class DeviceOrientationManager {
     }
     // Determine the orientation
     angle = angle % 360;
-    return new PlatformChannel.DeviceOrientation[] {
-          PlatformChannel.DeviceOrientation.PORTRAIT_UP,
-          PlatformChannel.DeviceOrientation.LANDSCAPE_LEFT,
-          PlatformChannel.DeviceOrientation.PORTRAIT_DOWN,
-          PlatformChannel.DeviceOrientation.LANDSCAPE_RIGHT,
-        }
-        [angle / 90];
+    return QUADRANT_ORIENTATIONS[angle / 90];
   }
 
   /**
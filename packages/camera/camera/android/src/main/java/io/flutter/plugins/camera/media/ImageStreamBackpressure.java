@@ -0,0 +1,132 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which image stream frames are sent to Dart and keeps track of the frames that are
+ * in flight between the camera thread and the {@link io.flutter.plugin.common.EventChannel}.
+ *
+ * <p>{@link #shouldCopyFrame()} and {@link #onFramePosted(ImageStreamFrame)} must be called from
+ * the thread producing the frames, while frame completion is reported on the main thread.
+ */
+public class ImageStreamBackpressure implements ImageStreamFrame.CompletionListener {
+  /** The default number of frames that may wait for delivery in {@code boundedQueue} mode. */
+  public static final int DEFAULT_MAX_FRAMES_IN_FLIGHT = 2;
+
+  private final ImageStreamBackpressureMode mode;
+  private final int maxFramesInFlight;
+  private final int frameInterval;
+
+  private final AtomicInteger framesInFlight = new AtomicInteger();
+  private final AtomicLong droppedFrames = new AtomicLong();
+
+  // Only accessed from the thread producing the frames.
+  private long frameCount;
+  @Nullable private ImageStreamFrame pendingFrame;
+
+  /**
+   * Creates a new backpressure policy.
+   *
+   * @param mode the strategy used to select the delivered frames.
+   * @param maxFramesInFlight the number of undelivered frames allowed in {@code boundedQueue} mode.
+   * @param frameInterval the interval between delivered frames in {@code everyNthFrame} mode.
+   */
+  public ImageStreamBackpressure(
+      @NonNull ImageStreamBackpressureMode mode, int maxFramesInFlight, int frameInterval) {
+    if (maxFramesInFlight < 1) {
+      throw new IllegalArgumentException("maxFramesInFlight must be at least 1.");
+    }
+    if (frameInterval < 1) {
+      throw new IllegalArgumentException("frameInterval must be at least 1.");
+    }
+    this.mode = mode;
+    this.maxFramesInFlight = maxFramesInFlight;
+    this.frameInterval = frameInterval;
+  }
+
+  /** Creates a policy that delivers every frame. */
+  @NonNull
+  public static ImageStreamBackpressure deliverAll() {
+    return new ImageStreamBackpressure(
+        ImageStreamBackpressureMode.all, DEFAULT_MAX_FRAMES_IN_FLIGHT, 1);
+  }
+
+  /**
+   * Decides whether the next frame produced by the camera should be copied at all.
+   *
+   * <p>Frames rejected here are counted as dropped and should be closed without being copied.
+   *
+   * @return true when the frame should be copied and posted.
+   */
+  public boolean shouldCopyFrame() {
+    long index = frameCount++;
+    switch (mode) {
+      case boundedQueue:
+        if (framesInFlight.get() >= maxFramesInFlight) {
+          droppedFrames.incrementAndGet();
+          return false;
+        }
+        return true;
+      case everyNthFrame:
+        if (index % frameInterval != 0) {
+          droppedFrames.incrementAndGet();
+          return false;
+        }
+        return true;
+      case all:
+      case latestOnly:
+      default:
+        return true;
+    }
+  }
+
+  /**
+   * Registers a frame that is about to be posted to the main thread.
+   *
+   * <p>In {@code latestOnly} mode this cancels the previously posted frame if it hasn't been
+   * delivered yet.
+   *
+   * @param frame the frame that is about to be posted.
+   */
+  public void onFramePosted(@NonNull ImageStreamFrame frame) {
+    if (mode == ImageStreamBackpressureMode.latestOnly
+        && pendingFrame != null
+        && pendingFrame != frame
+        && pendingFrame.cancel()) {
+      droppedFrames.incrementAndGet();
+    }
+    pendingFrame = frame;
+    framesInFlight.incrementAndGet();
+    frame.setDroppedFrames(droppedFrames.get());
+    frame.setCompletionListener(this);
+    frame.markPending();
+  }
+
+  @Override
+  public void onFrameCompleted(@NonNull ImageStreamFrame frame, boolean delivered) {
+    framesInFlight.decrementAndGet();
+  }
+
+  /** Returns the strategy used to select the delivered frames. */
+  @NonNull
+  public ImageStreamBackpressureMode getMode() {
+    return mode;
+  }
+
+  /** Returns the number of frames posted to the main thread that haven't been handled yet. */
+  public int getFramesInFlight() {
+    return framesInFlight.get();
+  }
+
+  /** Returns the number of frames that were dropped since the stream started. */
+  public long getDroppedFrames() {
+    return droppedFrames.get();
+  }
+}
@@ -0,0 +1,44 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+/** Describes which image stream frames are delivered when Dart can't keep up with the camera. */
+public enum ImageStreamBackpressureMode {
+  /** Delivers every frame produced by the camera. */
+  all("all"),
+  /** Only keeps the most recent undelivered frame, replacing any older pending frame. */
+  latestOnly("latestOnly"),
+  /** Drops new frames while a fixed number of frames is waiting to be delivered. */
+  boundedQueue("boundedQueue"),
+  /** Only delivers every n-th frame produced by the camera. */
+  everyNthFrame("everyNthFrame");
+
+  private final String strValue;
+
+  ImageStreamBackpressureMode(String strValue) {
+    this.strValue = strValue;
+  }
+
+  /**
+   * Tries to convert the supplied string into an {@see ImageStreamBackpressureMode} enum value.
+   *
+   * <p>When the supplied string doesn't match a valid {@see ImageStreamBackpressureMode} enum
+   * value, null is returned.
+   *
+   * @param modeStr String value to convert into an {@see ImageStreamBackpressureMode} enum value.
+   * @return Matching {@see ImageStreamBackpressureMode} enum value, or null if no match is found.
+   */
+  public static ImageStreamBackpressureMode getValueForString(String modeStr) {
+    for (ImageStreamBackpressureMode value : values()) {
+      if (value.strValue.equals(modeStr)) return value;
+    }
+    return null;
+  }
+
+  @Override
+  public String toString() {
+    return strValue;
+  }
+}
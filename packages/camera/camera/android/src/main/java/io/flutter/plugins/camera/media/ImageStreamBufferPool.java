@@ -0,0 +1,148 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recycles the byte arrays and frame envelopes used to copy image stream frames.
+ *
+ * <p>Plane buffers are grouped in buckets keyed by their exact size, so once the stream has
+ * reached a steady state every plane copy is served from the pool and no new arrays are allocated.
+ * All methods are thread safe since buffers are acquired on the camera thread and released on the
+ * main thread once the frame has been sent to Dart.
+ */
+public class ImageStreamBufferPool {
+  /** The default number of idle buffers kept per plane size. */
+  public static final int DEFAULT_MAX_BUFFERS_PER_SIZE = 4;
+
+  private static class Bucket {
+    final int size;
+    final ArrayDeque<byte[]> buffers;
+
+    Bucket(int size, int capacity) {
+      this.size = size;
+      this.buffers = new ArrayDeque<>(capacity);
+    }
+  }
+
+  private final int maxBuffersPerSize;
+  private final List<Bucket> buckets = new ArrayList<>();
+  private final ArrayDeque<ImageStreamFrame> frames = new ArrayDeque<>();
+
+  private long hitCount;
+  private long missCount;
+
+  /** Creates a pool that keeps up to {@link #DEFAULT_MAX_BUFFERS_PER_SIZE} buffers per size. */
+  public ImageStreamBufferPool() {
+    this(DEFAULT_MAX_BUFFERS_PER_SIZE);
+  }
+
+  /**
+   * Creates a pool that keeps up to the given number of idle buffers per size.
+   *
+   * @param maxBuffersPerSize the number of idle buffers retained for every plane size.
+   */
+  public ImageStreamBufferPool(int maxBuffersPerSize) {
+    if (maxBuffersPerSize < 1) {
+      throw new IllegalArgumentException("maxBuffersPerSize must be at least 1.");
+    }
+    this.maxBuffersPerSize = maxBuffersPerSize;
+  }
+
+  /**
+   * Returns a buffer of exactly the requested size, reusing a released one when available.
+   *
+   * @param size the size of the requested buffer in bytes.
+   * @return a buffer of {@code size} bytes. Its content is undefined.
+   */
+  @NonNull
+  public synchronized byte[] acquire(int size) {
+    Bucket bucket = findBucket(size);
+    if (bucket != null && !bucket.buffers.isEmpty()) {
+      hitCount++;
+      return bucket.buffers.pop();
+    }
+    missCount++;
+    return new byte[size];
+  }
+
+  /**
+   * Returns a buffer to the pool so it can be handed out again by {@link #acquire(int)}.
+   *
+   * <p>Buffers that exceed the per size limit are dropped and left to the garbage collector.
+   *
+   * @param buffer the buffer to recycle. It must no longer be referenced by the caller.
+   */
+  public synchronized void release(@NonNull byte[] buffer) {
+    Bucket bucket = findBucket(buffer.length);
+    if (bucket == null) {
+      bucket = new Bucket(buffer.length, maxBuffersPerSize);
+      buckets.add(bucket);
+    }
+    if (bucket.buffers.size() < maxBuffersPerSize) {
+      bucket.buffers.push(buffer);
+    }
+  }
+
+  /**
+   * Returns a frame envelope, reusing a recycled one when available.
+   *
+   * @return an empty {@link ImageStreamFrame} owned by this pool.
+   */
+  @NonNull
+  public synchronized ImageStreamFrame obtainFrame() {
+    ImageStreamFrame frame = frames.poll();
+    return frame != null ? frame : new ImageStreamFrame(this);
+  }
+
+  /**
+   * Releases the plane buffers held by the frame and makes the frame available for reuse.
+   *
+   * @param frame the frame to recycle. It must no longer be referenced by the caller.
+   */
+  public synchronized void recycle(@NonNull ImageStreamFrame frame) {
+    frame.releaseBuffers();
+    if (frames.size() < maxBuffersPerSize) {
+      frames.push(frame);
+    }
+  }
+
+  /** Drops all idle buffers and frames held by the pool. The counters are left untouched. */
+  public synchronized void clear() {
+    buckets.clear();
+    frames.clear();
+  }
+
+  /** Returns the number of {@link #acquire(int)} calls that were served from the pool. */
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  /** Returns the number of {@link #acquire(int)} calls that had to allocate a new buffer. */
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /** Resets the hit and miss counters. */
+  public synchronized void resetCounters() {
+    hitCount = 0;
+    missCount = 0;
+  }
+
+  private Bucket findBucket(int size) {
+    // Streams only use a handful of plane sizes, a linear scan avoids boxing the key.
+    for (int i = 0; i < buckets.size(); i++) {
+      Bucket bucket = buckets.get(i);
+      if (bucket.size == size) {
+        return bucket;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,282 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import android.media.Image;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugins.camera.types.CameraCaptureProperties;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A reusable envelope for a single image stream frame.
+ *
+ * <p>The frame owns the map that is sent to Dart and the plane buffers referenced by it. Boxed
+ * values are only replaced when they change, so refilling a recycled frame with a frame of the
+ * same shape does not allocate. Posting the frame to the main thread delivers it to the sink and
+ * then recycles it into the {@link ImageStreamBufferPool} it was obtained from.
+ */
+public class ImageStreamFrame implements Runnable {
+  /** Notified on the main thread once a posted frame has been delivered or discarded. */
+  public interface CompletionListener {
+    /**
+     * Called when a frame has been handled on the main thread, right before it is recycled.
+     *
+     * @param frame the frame that was handled.
+     * @param delivered false when the frame was cancelled before it could be delivered.
+     */
+    void onFrameCompleted(@NonNull ImageStreamFrame frame, boolean delivered);
+  }
+
+  private static final int STATE_IDLE = 0;
+  private static final int STATE_PENDING = 1;
+  private static final int STATE_DELIVERED = 2;
+  private static final int STATE_CANCELLED = 3;
+
+  private final ImageStreamBufferPool pool;
+  private final AtomicInteger state = new AtomicInteger(STATE_IDLE);
+  private final Map<String, Object> imageBuffer = new HashMap<>();
+  private final List<Map<String, Object>> planes = new ArrayList<>();
+  private final List<byte[]> planeBytes = new ArrayList<>();
+
+  private int width = -1;
+  private int height = -1;
+  private int format = -1;
+  private int[] rowStrides = new int[0];
+  private int[] pixelStrides = new int[0];
+  private Integer sensorSensitivity;
+  private long droppedFrames = -1;
+
+  @Nullable private EventChannel.EventSink sink;
+  @Nullable private CompletionListener completionListener;
+
+  ImageStreamFrame(@NonNull ImageStreamBufferPool pool) {
+    this.pool = pool;
+    imageBuffer.put("planes", planes);
+  }
+
+  /**
+   * Copies the planes and metadata of the supplied image into this frame.
+   *
+   * @param image the image to copy. The caller remains responsible for closing it.
+   * @param captureProperties the last known capture properties to attach to the frame.
+   */
+  public void copyFrom(@NonNull Image image, @NonNull CameraCaptureProperties captureProperties) {
+    copyFrom(image, captureProperties, ImageStreamTransform.identity());
+  }
+
+  /**
+   * Copies the planes and metadata of the supplied image into this frame, reducing it first.
+   *
+   * @param image the image to copy. The caller remains responsible for closing it.
+   * @param captureProperties the last known capture properties to attach to the frame.
+   * @param transform the crop, subsampling and plane selection applied during the copy.
+   */
+  public void copyFrom(
+      @NonNull Image image,
+      @NonNull CameraCaptureProperties captureProperties,
+      @NonNull ImageStreamTransform transform) {
+    if (transform.appliesTo(image.getFormat())) {
+      transform.copy(image, this, pool);
+    } else {
+      Image.Plane[] imagePlanes = image.getPlanes();
+      setPlaneCount(imagePlanes.length);
+      for (int i = 0; i < imagePlanes.length; i++) {
+        Image.Plane plane = imagePlanes[i];
+        ByteBuffer buffer = plane.getBuffer();
+        byte[] bytes = pool.acquire(buffer.remaining());
+        buffer.get(bytes, 0, bytes.length);
+        setPlane(i, bytes, plane.getRowStride(), plane.getPixelStride());
+      }
+      setImageInfo(image.getWidth(), image.getHeight(), image.getFormat());
+    }
+    setCaptureProperties(captureProperties);
+  }
+
+  /**
+   * Sets the number of planes in this frame, reusing the existing plane maps.
+   *
+   * @param count the number of planes.
+   */
+  public void setPlaneCount(int count) {
+    if (count == planes.size()) {
+      return;
+    }
+    releaseBuffers();
+    while (planes.size() > count) {
+      planes.remove(planes.size() - 1);
+      planeBytes.remove(planeBytes.size() - 1);
+    }
+    while (planes.size() < count) {
+      planes.add(new HashMap<>());
+      planeBytes.add(null);
+    }
+    rowStrides = new int[count];
+    pixelStrides = new int[count];
+    for (int i = 0; i < count; i++) {
+      rowStrides[i] = -1;
+      pixelStrides[i] = -1;
+    }
+  }
+
+  /**
+   * Sets the content of a plane. The buffer is handed back to the pool when the frame is recycled.
+   *
+   * @param index the index of the plane.
+   * @param bytes the plane data, acquired from the pool of this frame.
+   * @param rowStride the number of bytes per row.
+   * @param pixelStride the number of bytes per pixel.
+   */
+  public void setPlane(int index, @NonNull byte[] bytes, int rowStride, int pixelStride) {
+    Map<String, Object> plane = planes.get(index);
+    byte[] previous = planeBytes.get(index);
+    if (previous != null && previous != bytes) {
+      pool.release(previous);
+    }
+    planeBytes.set(index, bytes);
+    plane.put("bytes", bytes);
+    if (rowStrides[index] != rowStride) {
+      rowStrides[index] = rowStride;
+      plane.put("bytesPerRow", rowStride);
+    }
+    if (pixelStrides[index] != pixelStride) {
+      pixelStrides[index] = pixelStride;
+      plane.put("bytesPerPixel", pixelStride);
+    }
+  }
+
+  /**
+   * Sets the dimensions and format of the frame.
+   *
+   * @param width the width of the frame in pixels.
+   * @param height the height of the frame in pixels.
+   * @param format the {@link android.graphics.ImageFormat} of the frame.
+   */
+  public void setImageInfo(int width, int height, int format) {
+    if (this.width != width) {
+      this.width = width;
+      imageBuffer.put("width", width);
+    }
+    if (this.height != height) {
+      this.height = height;
+      imageBuffer.put("height", height);
+    }
+    if (this.format != format) {
+      this.format = format;
+      imageBuffer.put("format", format);
+    }
+  }
+
+  /**
+   * Attaches the last known capture properties to the frame.
+   *
+   * @param captureProperties the capture properties to attach.
+   */
+  public void setCaptureProperties(@NonNull CameraCaptureProperties captureProperties) {
+    imageBuffer.put("lensAperture", captureProperties.getLastLensAperture());
+    imageBuffer.put("sensorExposureTime", captureProperties.getLastSensorExposureTime());
+    Integer sensitivity = captureProperties.getLastSensorSensitivity();
+    if (sensitivity == null) {
+      sensorSensitivity = null;
+      imageBuffer.put("sensorSensitivity", null);
+    } else if (!sensitivity.equals(sensorSensitivity)) {
+      sensorSensitivity = sensitivity;
+      imageBuffer.put("sensorSensitivity", (double) sensitivity);
+    }
+  }
+
+  /**
+   * Sets the sink that receives this frame when it is run.
+   *
+   * @param sink the sink to deliver the frame to.
+   */
+  public void setSink(@Nullable EventChannel.EventSink sink) {
+    this.sink = sink;
+  }
+
+  /**
+   * Sets the number of frames dropped by the stream so far, which is reported to Dart.
+   *
+   * @param droppedFrames the number of dropped frames.
+   */
+  public void setDroppedFrames(long droppedFrames) {
+    if (this.droppedFrames != droppedFrames) {
+      this.droppedFrames = droppedFrames;
+      imageBuffer.put("droppedFrames", droppedFrames);
+    }
+  }
+
+  /**
+   * Sets the listener that is notified once the frame has been handled on the main thread.
+   *
+   * @param completionListener the listener to notify.
+   */
+  public void setCompletionListener(@Nullable CompletionListener completionListener) {
+    this.completionListener = completionListener;
+  }
+
+  /** Marks the frame as posted, after which it can be cancelled until it is delivered. */
+  void markPending() {
+    state.set(STATE_PENDING);
+  }
+
+  /**
+   * Prevents a posted frame from being delivered.
+   *
+   * @return true when the frame was still pending and will now be discarded.
+   */
+  boolean cancel() {
+    return state.compareAndSet(STATE_PENDING, STATE_CANCELLED);
+  }
+
+  /** Returns the map that is sent to Dart for this frame. */
+  @NonNull
+  public Map<String, Object> getImageBuffer() {
+    return imageBuffer;
+  }
+
+  /**
+   * Delivers the frame to its sink and recycles it. This must be run on the main thread.
+   *
+   * <p>The sink encodes the frame synchronously, so the buffers can safely be reused as soon as
+   * {@link EventChannel.EventSink#success(Object)} returns.
+   */
+  @Override
+  public void run() {
+    EventChannel.EventSink target = sink;
+    CompletionListener listener = completionListener;
+    sink = null;
+    completionListener = null;
+
+    boolean delivered =
+        state.get() == STATE_IDLE || state.compareAndSet(STATE_PENDING, STATE_DELIVERED);
+    if (delivered && target != null) {
+      target.success(imageBuffer);
+    }
+    if (listener != null) {
+      listener.onFrameCompleted(this, delivered);
+    }
+    state.set(STATE_IDLE);
+    pool.recycle(this);
+  }
+
+  void releaseBuffers() {
+    for (int i = 0; i < planeBytes.size(); i++) {
+      byte[] bytes = planeBytes.get(i);
+      if (bytes != null) {
+        pool.release(bytes);
+        planeBytes.set(i, null);
+        // Keep the entry so refilling the map does not allocate a new node.
+        planes.get(i).put("bytes", null);
+      }
+    }
+  }
+}
@@ -0,0 +1,169 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import android.graphics.ImageFormat;
+import android.media.Image;
+import androidx.annotation.NonNull;
+import java.nio.ByteBuffer;
+
+/**
+ * Describes how image stream frames are reduced before they are copied and sent to Dart.
+ *
+ * <p>A transform can crop the frame to a region of interest, keep only the luma plane, subsample
+ * every plane by an integer factor and strip row padding and interleaving. Transforms only apply
+ * to {@link ImageFormat#YUV_420_888} frames, other formats are always copied unchanged. The output
+ * of any non-identity transform is stride compacted: every plane has a pixel stride of 1 and a row
+ * stride equal to its width.
+ */
+public class ImageStreamTransform {
+  private static final ImageStreamTransform IDENTITY =
+      new ImageStreamTransform(0, 0, 0, 0, 1, false, false);
+
+  private final int cropLeft;
+  private final int cropTop;
+  private final int cropWidth;
+  private final int cropHeight;
+  private final int subsampleFactor;
+  private final boolean lumaOnly;
+  private final boolean compactStrides;
+
+  /**
+   * Creates a new transform.
+   *
+   * @param cropLeft the left edge of the region of interest in pixels.
+   * @param cropTop the top edge of the region of interest in pixels.
+   * @param cropWidth the width of the region of interest, or 0 to extend it to the right edge.
+   * @param cropHeight the height of the region of interest, or 0 to extend it to the bottom edge.
+   * @param subsampleFactor only every n-th pixel of every n-th row is kept.
+   * @param lumaOnly whether the chroma planes are dropped.
+   * @param compactStrides whether row padding and pixel interleaving are removed.
+   */
+  public ImageStreamTransform(
+      int cropLeft,
+      int cropTop,
+      int cropWidth,
+      int cropHeight,
+      int subsampleFactor,
+      boolean lumaOnly,
+      boolean compactStrides) {
+    if (cropLeft < 0 || cropTop < 0 || cropWidth < 0 || cropHeight < 0) {
+      throw new IllegalArgumentException("The crop rectangle must not be negative.");
+    }
+    if (subsampleFactor < 1) {
+      throw new IllegalArgumentException("subsampleFactor must be at least 1.");
+    }
+    this.cropLeft = cropLeft;
+    this.cropTop = cropTop;
+    this.cropWidth = cropWidth;
+    this.cropHeight = cropHeight;
+    this.subsampleFactor = subsampleFactor;
+    this.lumaOnly = lumaOnly;
+    this.compactStrides = compactStrides;
+  }
+
+  /** Returns a transform that copies frames unchanged. */
+  @NonNull
+  public static ImageStreamTransform identity() {
+    return IDENTITY;
+  }
+
+  /** Returns true when frames are copied unchanged. */
+  public boolean isIdentity() {
+    return cropLeft == 0
+        && cropTop == 0
+        && cropWidth == 0
+        && cropHeight == 0
+        && subsampleFactor == 1
+        && !lumaOnly
+        && !compactStrides;
+  }
+
+  /**
+   * Returns true when the transform can be applied to frames of the given format.
+   *
+   * @param imageFormat the {@link ImageFormat} of the frames.
+   */
+  public boolean appliesTo(int imageFormat) {
+    return !isIdentity() && imageFormat == ImageFormat.YUV_420_888;
+  }
+
+  /**
+   * Copies the transformed planes of the image into the frame, using buffers from the pool.
+   *
+   * @param image the YUV_420_888 image to copy.
+   * @param frame the frame that receives the planes and dimensions.
+   * @param pool the pool the plane buffers are acquired from.
+   */
+  void copy(
+      @NonNull Image image, @NonNull ImageStreamFrame frame, @NonNull ImageStreamBufferPool pool) {
+    int imageWidth = image.getWidth();
+    int imageHeight = image.getHeight();
+
+    // Align the region to even coordinates so it maps exactly onto the 2x2 subsampled chroma.
+    int left = Math.min(cropLeft & ~1, imageWidth);
+    int top = Math.min(cropTop & ~1, imageHeight);
+    int width = cropWidth == 0 ? imageWidth - left : Math.min(cropWidth, imageWidth - left);
+    int height = cropHeight == 0 ? imageHeight - top : Math.min(cropHeight, imageHeight - top);
+    width &= ~1;
+    height &= ~1;
+
+    Image.Plane[] planes = image.getPlanes();
+    int planeCount = lumaOnly ? 1 : planes.length;
+    frame.setPlaneCount(planeCount);
+    for (int i = 0; i < planeCount; i++) {
+      // Chroma planes of YUV_420_888 have half the resolution of the luma plane.
+      int divisor = i == 0 ? 1 : 2;
+      Image.Plane plane = planes[i];
+      int outWidth = ceilDiv(width / divisor, subsampleFactor);
+      int outHeight = ceilDiv(height / divisor, subsampleFactor);
+      byte[] bytes = pool.acquire(outWidth * outHeight);
+      copyPlane(
+          plane.getBuffer(),
+          plane.getRowStride(),
+          plane.getPixelStride(),
+          left / divisor,
+          top / divisor,
+          outWidth,
+          outHeight,
+          bytes);
+      frame.setPlane(i, bytes, outWidth, 1);
+    }
+    frame.setImageInfo(
+        ceilDiv(width, subsampleFactor), ceilDiv(height, subsampleFactor), image.getFormat());
+  }
+
+  private void copyPlane(
+      ByteBuffer source,
+      int rowStride,
+      int pixelStride,
+      int left,
+      int top,
+      int outWidth,
+      int outHeight,
+      byte[] destination) {
+    int step = subsampleFactor;
+    for (int row = 0; row < outHeight; row++) {
+      int sourceRow = (top + row * step) * rowStride;
+      int destinationRow = row * outWidth;
+      if (pixelStride == 1 && step == 1) {
+        // Contiguous pixels can be copied a row at a time.
+        source.position(sourceRow + left);
+        source.get(destination, destinationRow, outWidth);
+      } else {
+        int sourceStep = pixelStride * step;
+        int sourceIndex = sourceRow + left * pixelStride;
+        for (int column = 0; column < outWidth; column++) {
+          destination[destinationRow + column] = source.get(sourceIndex);
+          sourceIndex += sourceStep;
+        }
+      }
+    }
+  }
+
+  private static int ceilDiv(int value, int divisor) {
+    return (value + divisor - 1) / divisor;
+  }
+}
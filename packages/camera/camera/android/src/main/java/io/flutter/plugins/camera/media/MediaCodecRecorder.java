@@ -0,0 +1,558 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import android.annotation.TargetApi;
+import android.media.CamcorderProfile;
+import android.media.EncoderProfiles;
+import android.media.MediaCodec;
+import android.media.MediaCodecInfo;
+import android.media.MediaCodecList;
+import android.media.MediaFormat;
+import android.media.MediaMuxer;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.util.Log;
+import android.view.Surface;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugins.camera.features.resolution.ResolutionProfileTable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Records the frames rendered to a surface of the capture session with a {@link MediaCodec}
+ * encoder and a {@link MediaMuxer}.
+ *
+ * <p>Unlike {@link android.media.MediaRecorder} this lets the caller choose the codec, the bitrate
+ * and its mode and the key frame interval, and it prefers hardware encoders. Every encoded frame is
+ * counted as it leaves the encoder, so the effective frame rate and the number of frames dropped
+ * below the target frame rate can be reported. Only video is recorded.
+ */
+@TargetApi(Build.VERSION_CODES.M)
+public class MediaCodecRecorder {
+  private static final String TAG = "MediaCodecRecorder";
+  private static final long STOP_TIMEOUT_MS = 3000;
+
+  /** Creates the encoder and muxer, so tests can replace them. */
+  static class MediaCodecFactory {
+    @Nullable
+    String findEncoder(@NonNull String mimeType) {
+      return MediaCodecRecorder.findEncoder(mimeType);
+    }
+
+    MediaCodec createEncoder(@Nullable String name, @NonNull String mimeType) throws IOException {
+      return name != null
+          ? MediaCodec.createByCodecName(name)
+          : MediaCodec.createEncoderByType(mimeType);
+    }
+
+    MediaFormat createVideoFormat(@NonNull String mimeType, int width, int height) {
+      return MediaFormat.createVideoFormat(mimeType, width, height);
+    }
+
+    MediaMuxer createMuxer(@NonNull String outputFilePath) throws IOException {
+      return new MediaMuxer(outputFilePath, MediaMuxer.OutputFormat.MUXER_OUTPUT_MPEG_4);
+    }
+
+    HandlerThread createEncoderThread() {
+      return new HandlerThread("CameraVideoEncoder");
+    }
+
+    Handler createHandler(@NonNull HandlerThread thread) {
+      return new Handler(thread.getLooper());
+    }
+  }
+
+  /** Receives the outcome of {@link #stop(OnStoppedListener)}. */
+  public interface OnStoppedListener {
+    /**
+     * Called on the encoder thread once the output file is finished and all resources are released.
+     *
+     * @param error why the output file may be incomplete, or null when it was finished cleanly.
+     */
+    void onStopped(@Nullable String error);
+  }
+
+  private final MediaCodecFactory factory;
+  private final String outputFilePath;
+  private final int width;
+  private final int height;
+  private final int frameRate;
+  private final int profileBitrate;
+
+  private int bitrate;
+  @Nullable private String bitrateMode;
+  private float keyFrameIntervalSeconds = 1;
+  private boolean preferHevc;
+  private int mediaOrientation;
+  @Nullable private Surface inputSurface;
+
+  private HandlerThread encoderThread;
+  private Handler encoderHandler;
+  private MediaCodec encoder;
+  private MediaMuxer muxer;
+  private Surface surface;
+  private String mimeType;
+  private String encoderName;
+  private int configuredBitrate;
+
+  // Guarded by this, written on the encoder thread.
+  private int trackIndex = -1;
+  private long encodedFrames;
+  private long keyFrames;
+  private long droppedFrames;
+  private long bytesEncoded;
+  private long firstPresentationTimeUs = -1;
+  private long lastPresentationTimeUs = -1;
+  private long lastSourceTimeUs = -1;
+  private boolean resumed;
+  private long pausedDurationUs;
+  @Nullable private String error;
+  @Nullable private OnStoppedListener stoppedListener;
+
+  /**
+   * Creates a recorder for the profile resolved by the {@link ResolutionProfileTable}.
+   *
+   * @param resolutionProfile the profile the size, frame rate and default bitrate are taken from.
+   * @param outputFilePath the path of the MPEG-4 file to write.
+   */
+  public MediaCodecRecorder(
+      @NonNull ResolutionProfileTable.Entry resolutionProfile, @NonNull String outputFilePath) {
+    this(resolutionProfile, outputFilePath, new MediaCodecFactory());
+  }
+
+  @SuppressWarnings("deprecation")
+  @VisibleForTesting
+  MediaCodecRecorder(
+      @NonNull ResolutionProfileTable.Entry resolutionProfile,
+      @NonNull String outputFilePath,
+      @NonNull MediaCodecFactory factory) {
+    this.factory = factory;
+    this.outputFilePath = outputFilePath;
+    EncoderProfiles encoderProfiles = resolutionProfile.getRecordingProfile();
+    CamcorderProfile camcorderProfile = resolutionProfile.getRecordingProfileLegacy();
+    if (Build.VERSION.SDK_INT >= 31 && encoderProfiles != null) {
+      EncoderProfiles.VideoProfile videoProfile = encoderProfiles.getVideoProfiles().get(0);
+      this.width = videoProfile.getWidth();
+      this.height = videoProfile.getHeight();
+      this.frameRate = videoProfile.getFrameRate();
+      this.profileBitrate = videoProfile.getBitrate();
+    } else if (camcorderProfile != null) {
+      this.width = camcorderProfile.videoFrameWidth;
+      this.height = camcorderProfile.videoFrameHeight;
+      this.frameRate = camcorderProfile.videoFrameRate;
+      this.profileBitrate = camcorderProfile.videoBitRate;
+    } else {
+      this.width = resolutionProfile.getCaptureSize().getWidth();
+      this.height = resolutionProfile.getCaptureSize().getHeight();
+      this.frameRate = 30;
+      this.profileBitrate = 0;
+    }
+  }
+
+  /**
+   * Sets the target bitrate in bits per second, 0 keeps the bitrate of the recording profile.
+   */
+  public MediaCodecRecorder setBitrate(int bitrate) {
+    this.bitrate = bitrate;
+    return this;
+  }
+
+  /**
+   * Sets the bitrate mode, one of {@code "cbr"}, {@code "vbr"} or {@code "cq"}. Modes the encoder
+   * doesn't support are ignored.
+   */
+  public MediaCodecRecorder setBitrateMode(@Nullable String bitrateMode) {
+    this.bitrateMode = bitrateMode;
+    return this;
+  }
+
+  /** Sets the interval between two key frames in seconds, which defaults to 1. */
+  public MediaCodecRecorder setKeyFrameIntervalSeconds(float keyFrameIntervalSeconds) {
+    this.keyFrameIntervalSeconds = keyFrameIntervalSeconds;
+    return this;
+  }
+
+  /** Records HEVC instead of AVC when the device has an HEVC encoder. */
+  public MediaCodecRecorder setPreferHevc(boolean preferHevc) {
+    this.preferHevc = preferHevc;
+    return this;
+  }
+
+  public MediaCodecRecorder setMediaOrientation(int orientation) {
+    this.mediaOrientation = orientation;
+    return this;
+  }
+
+  /**
+   * Makes the encoder read its frames from a persistent input surface instead of creating its own.
+   *
+   * @param inputSurface a surface created by {@link MediaCodec#createPersistentInputSurface()}.
+   */
+  public MediaCodecRecorder setInputSurface(@Nullable Surface inputSurface) {
+    this.inputSurface = inputSurface;
+    return this;
+  }
+
+  /**
+   * Configures the encoder and the muxer.
+   *
+   * @throws IOException when no encoder could be created or the output file could not be opened.
+   */
+  public void prepare() throws IOException {
+    String codecName = null;
+    if (preferHevc) {
+      codecName = factory.findEncoder(MediaFormat.MIMETYPE_VIDEO_HEVC);
+      mimeType = codecName != null ? MediaFormat.MIMETYPE_VIDEO_HEVC : null;
+    }
+    if (mimeType == null) {
+      mimeType = MediaFormat.MIMETYPE_VIDEO_AVC;
+      codecName = factory.findEncoder(mimeType);
+    }
+    configuredBitrate = bitrate > 0 ? bitrate : profileBitrate;
+
+    encoder = factory.createEncoder(codecName, mimeType);
+    encoderName = codecName != null ? codecName : encoder.getName();
+    try {
+      MediaFormat format = factory.createVideoFormat(mimeType, width, height);
+      format.setInteger(
+          MediaFormat.KEY_COLOR_FORMAT, MediaCodecInfo.CodecCapabilities.COLOR_FormatSurface);
+      format.setInteger(MediaFormat.KEY_BIT_RATE, configuredBitrate);
+      format.setInteger(MediaFormat.KEY_FRAME_RATE, frameRate);
+      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N_MR1) {
+        format.setFloat(MediaFormat.KEY_I_FRAME_INTERVAL, keyFrameIntervalSeconds);
+      } else {
+        format.setInteger(
+            MediaFormat.KEY_I_FRAME_INTERVAL, Math.max(1, Math.round(keyFrameIntervalSeconds)));
+      }
+      Integer mode = getSupportedBitrateMode();
+      if (mode != null) {
+        format.setInteger(MediaFormat.KEY_BITRATE_MODE, mode);
+      }
+
+      encoderThread = factory.createEncoderThread();
+      encoderThread.start();
+      encoderHandler = factory.createHandler(encoderThread);
+      encoder.setCallback(callback, encoderHandler);
+      encoder.configure(format, null, null, MediaCodec.CONFIGURE_FLAG_ENCODE);
+      if (inputSurface != null) {
+        encoder.setInputSurface(inputSurface);
+        surface = inputSurface;
+      } else {
+        surface = encoder.createInputSurface();
+      }
+
+      muxer = factory.createMuxer(outputFilePath);
+      muxer.setOrientationHint(mediaOrientation);
+    } catch (IOException | RuntimeException e) {
+      release();
+      throw e;
+    }
+  }
+
+  /** Gets the surface the capture session has to render the frames to. */
+  public Surface getSurface() {
+    return surface;
+  }
+
+  /** Starts encoding the frames rendered to {@link #getSurface()}. */
+  public void start() {
+    encoder.start();
+  }
+
+  /** Stops passing frames to the encoder, the paused time is cut from the recording. */
+  public void pause() {
+    Bundle parameters = new Bundle();
+    parameters.putInt(MediaCodec.PARAMETER_KEY_SUSPEND, 1);
+    encoder.setParameters(parameters);
+  }
+
+  /** Resumes passing frames to the encoder after {@link #pause()}. */
+  public void resume() {
+    synchronized (this) {
+      // The pause is measured on the frame timestamps, which may not use the clocks of this process.
+      resumed = true;
+    }
+    Bundle parameters = new Bundle();
+    parameters.putInt(MediaCodec.PARAMETER_KEY_SUSPEND, 0);
+    encoder.setParameters(parameters);
+  }
+
+  /**
+   * Drains the encoder, finishes the output file and releases all resources.
+   *
+   * <p>The encoder is drained on its own thread, this method doesn't wait for it. The listener is
+   * told about a failed encoder or one that didn't drain in time, in which case the output file may
+   * be incomplete.
+   */
+  public void stop(@NonNull OnStoppedListener listener) {
+    boolean failed;
+    synchronized (this) {
+      stoppedListener = listener;
+      failed = error != null;
+    }
+    if (!failed) {
+      try {
+        encoder.signalEndOfInputStream();
+        encoderHandler.postDelayed(stopTimeout, STOP_TIMEOUT_MS);
+        return;
+      } catch (IllegalStateException e) {
+        setError(e.getMessage());
+      }
+    }
+    finishStop();
+  }
+
+  /** Releases the encoder and the muxer without finishing the output file. */
+  public void release() {
+    if (encoder != null) {
+      try {
+        encoder.stop();
+      } catch (IllegalStateException e) {
+        // The encoder was never started or has failed.
+      }
+      encoder.release();
+      encoder = null;
+    }
+    synchronized (this) {
+      if (muxer != null) {
+        if (trackIndex >= 0) {
+          try {
+            muxer.stop();
+          } catch (IllegalStateException e) {
+            // Nothing was written, there is no file to finish.
+          }
+        }
+        muxer.release();
+        muxer = null;
+      }
+    }
+    if (surface != null && surface != inputSurface) {
+      surface.release();
+    }
+    surface = null;
+    if (encoderThread != null) {
+      encoderThread.quitSafely();
+      encoderThread = null;
+    }
+  }
+
+  /**
+   * Returns the statistics of the recording so far.
+   *
+   * <p>{@code droppedFrames} counts the frames missing from the target frame rate of the profile,
+   * judged by the gaps between the timestamps of consecutive encoded frames.
+   */
+  @NonNull
+  public synchronized Map<String, Object> getStats() {
+    double durationS = (lastPresentationTimeUs - firstPresentationTimeUs) / 1e6;
+    Map<String, Object> stats = new HashMap<>();
+    stats.put("encoder", encoderName);
+    stats.put("mimeType", mimeType);
+    stats.put("bitrate", configuredBitrate);
+    stats.put("targetFps", frameRate);
+    stats.put("encodedFrames", encodedFrames);
+    stats.put("keyFrames", keyFrames);
+    stats.put("droppedFrames", droppedFrames);
+    stats.put("bytesEncoded", bytesEncoded);
+    stats.put("encodedFps", durationS > 0 ? (encodedFrames - 1) / durationS : 0.0);
+    return stats;
+  }
+
+  private Integer getSupportedBitrateMode() {
+    if (bitrateMode == null) {
+      return null;
+    }
+    int mode;
+    switch (bitrateMode) {
+      case "cbr":
+        mode = MediaCodecInfo.EncoderCapabilities.BITRATE_MODE_CBR;
+        break;
+      case "vbr":
+        mode = MediaCodecInfo.EncoderCapabilities.BITRATE_MODE_VBR;
+        break;
+      case "cq":
+        mode = MediaCodecInfo.EncoderCapabilities.BITRATE_MODE_CQ;
+        break;
+      default:
+        Log.w(TAG, "Unknown bitrate mode " + bitrateMode);
+        return null;
+    }
+    MediaCodecInfo info = encoder.getCodecInfo();
+    if (info != null
+        && !info.getCapabilitiesForType(mimeType).getEncoderCapabilities().isBitrateModeSupported(
+            mode)) {
+      Log.w(TAG, encoderName + " does not support bitrate mode " + bitrateMode);
+      return null;
+    }
+    return mode;
+  }
+
+  private synchronized void setError(String message) {
+    if (error == null) {
+      error = message;
+    }
+  }
+
+  private final Runnable stopTimeout =
+      () -> {
+        setError("The video encoder did not finish in time.");
+        finishStop();
+      };
+
+  private void finishStop() {
+    OnStoppedListener listener;
+    synchronized (this) {
+      listener = stoppedListener;
+      stoppedListener = null;
+    }
+    if (listener == null) {
+      // Not stopping, or already stopped.
+      return;
+    }
+    encoderHandler.removeCallbacks(stopTimeout);
+    release();
+
+    Log.i(TAG, "Recording finished: " + getStats());
+    String stopError;
+    synchronized (this) {
+      stopError = error;
+    }
+    listener.onStopped(stopError);
+  }
+
+  @VisibleForTesting
+  final MediaCodec.Callback callback =
+      new MediaCodec.Callback() {
+        @Override
+        public void onInputBufferAvailable(@NonNull MediaCodec codec, int index) {
+          // Frames are passed in through the input surface.
+        }
+
+        @Override
+        public void onOutputBufferAvailable(
+            @NonNull MediaCodec codec, int index, @NonNull MediaCodec.BufferInfo info) {
+          synchronized (MediaCodecRecorder.this) {
+            if (muxer != null
+                && trackIndex >= 0
+                && info.size > 0
+                && (info.flags & MediaCodec.BUFFER_FLAG_CODEC_CONFIG) == 0) {
+              // The codec config was passed to the muxer with the output format.
+              cutPausedDuration(info);
+              ByteBuffer buffer = codec.getOutputBuffer(index);
+              if (buffer != null) {
+                muxer.writeSampleData(trackIndex, buffer, info);
+                onFrameEncoded(info);
+              }
+            }
+          }
+          codec.releaseOutputBuffer(index, false);
+          if ((info.flags & MediaCodec.BUFFER_FLAG_END_OF_STREAM) != 0) {
+            // Release the encoder after the callback has returned.
+            encoderHandler.post(MediaCodecRecorder.this::finishStop);
+          }
+        }
+
+        @Override
+        public void onError(@NonNull MediaCodec codec, @NonNull MediaCodec.CodecException e) {
+          Log.e(TAG, "Video encoder failed", e);
+          setError(e.getMessage());
+          encoderHandler.post(MediaCodecRecorder.this::finishStop);
+        }
+
+        @Override
+        public void onOutputFormatChanged(@NonNull MediaCodec codec, @NonNull MediaFormat format) {
+          synchronized (MediaCodecRecorder.this) {
+            if (muxer == null || trackIndex >= 0) {
+              return;
+            }
+            trackIndex = muxer.addTrack(format);
+            muxer.start();
+          }
+        }
+      };
+
+  // Called with the lock held.
+  private void cutPausedDuration(MediaCodec.BufferInfo info) {
+    long sourceTimeUs = info.presentationTimeUs;
+    if (resumed && lastSourceTimeUs >= 0 && frameRate > 0) {
+      long frameIntervalUs = 1000000L / frameRate;
+      long gapUs = sourceTimeUs - lastSourceTimeUs;
+      // Frames encoded before the pause may still be drained after resume, the first frame after
+      // the pause is the one that follows a gap.
+      if (gapUs * 2 > frameIntervalUs * 3) {
+        pausedDurationUs += gapUs - frameIntervalUs;
+        resumed = false;
+      }
+    }
+    lastSourceTimeUs = sourceTimeUs;
+    info.presentationTimeUs = sourceTimeUs - pausedDurationUs;
+  }
+
+  // Called with the lock held.
+  private void onFrameEncoded(MediaCodec.BufferInfo info) {
+    encodedFrames++;
+    bytesEncoded += info.size;
+    if ((info.flags & MediaCodec.BUFFER_FLAG_KEY_FRAME) != 0) {
+      keyFrames++;
+    }
+    if (firstPresentationTimeUs < 0) {
+      firstPresentationTimeUs = info.presentationTimeUs;
+    } else if (frameRate > 0) {
+      long frameIntervalUs = 1000000L / frameRate;
+      long gapUs = info.presentationTimeUs - lastPresentationTimeUs;
+      if (gapUs * 2 > frameIntervalUs * 3) {
+        droppedFrames += Math.round((double) gapUs / frameIntervalUs) - 1;
+      }
+    }
+    lastPresentationTimeUs = info.presentationTimeUs;
+  }
+
+  /**
+   * Finds an encoder for the given type, preferring hardware encoders over software ones.
+   *
+   * @return the name of the encoder, or null when the device has none.
+   */
+  @Nullable
+  static String findEncoder(@NonNull String mimeType) {
+    String softwareEncoder = null;
+    for (MediaCodecInfo info : new MediaCodecList(MediaCodecList.REGULAR_CODECS).getCodecInfos()) {
+      if (!info.isEncoder() || !supportsType(info, mimeType)) {
+        continue;
+      }
+      if (isHardwareAccelerated(info)) {
+        return info.getName();
+      }
+      if (softwareEncoder == null) {
+        softwareEncoder = info.getName();
+      }
+    }
+    return softwareEncoder;
+  }
+
+  private static boolean supportsType(MediaCodecInfo info, String mimeType) {
+    for (String type : info.getSupportedTypes()) {
+      if (type.equalsIgnoreCase(mimeType)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isHardwareAccelerated(MediaCodecInfo info) {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+      return info.isHardwareAccelerated();
+    }
+    String name = info.getName().toLowerCase(Locale.ROOT);
+    return !name.startsWith("omx.google.") && !name.startsWith("c2.android.");
+  }
+}
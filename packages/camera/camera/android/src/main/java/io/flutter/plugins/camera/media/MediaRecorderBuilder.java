@@ -8,7 +8,9 @@ import android.media.CamcorderProfile;
 import android.media.EncoderProfiles;
 import android.media.MediaRecorder;
 import android.os.Build;
+import android.view.Surface;
 import androidx.annotation.NonNull;
+import io.flutter.plugins.camera.features.resolution.ResolutionProfileTable;
 import java.io.IOException;
 
 public class MediaRecorderBuilder {
@@ -26,6 +28,7 @@ public class MediaRecorderBuilder {
 
   private boolean enableAudio;
   private int mediaOrientation;
+  private Surface inputSurface;
 
   public MediaRecorderBuilder(
       @NonNull CamcorderProfile camcorderProfile, @NonNull String outputFilePath) {
@@ -37,6 +40,25 @@ public class MediaRecorderBuilder {
     this(encoderProfiles, outputFilePath, new MediaRecorderFactory());
   }
 
+  /**
+   * Creates a builder for the profile resolved by the {@link ResolutionProfileTable}, which holds
+   * an {@link EncoderProfiles} on SDK 31 and up and a {@link CamcorderProfile} below.
+   */
+  public MediaRecorderBuilder(
+      @NonNull ResolutionProfileTable.Entry resolutionProfile, @NonNull String outputFilePath) {
+    this(resolutionProfile, outputFilePath, new MediaRecorderFactory());
+  }
+
+  MediaRecorderBuilder(
+      @NonNull ResolutionProfileTable.Entry resolutionProfile,
+      @NonNull String outputFilePath,
+      MediaRecorderFactory helper) {
+    this.outputFilePath = outputFilePath;
+    this.encoderProfiles = resolutionProfile.getRecordingProfile();
+    this.camcorderProfile = resolutionProfile.getRecordingProfileLegacy();
+    this.recorderFactory = helper;
+  }
+
   MediaRecorderBuilder(
       @NonNull CamcorderProfile camcorderProfile,
       @NonNull String outputFilePath,
@@ -67,6 +89,17 @@ public class MediaRecorderBuilder {
     return this;
   }
 
+  /**
+   * Makes the recorder read its frames from a persistent input surface instead of creating its own.
+   *
+   * @param inputSurface a surface created by {@link
+   *     android.media.MediaCodec#createPersistentInputSurface()}.
+   */
+  public MediaRecorderBuilder setInputSurface(Surface inputSurface) {
+    this.inputSurface = inputSurface;
+    return this;
+  }
+
   public MediaRecorder build() throws IOException, NullPointerException, IndexOutOfBoundsException {
     MediaRecorder mediaRecorder = recorderFactory.makeMediaRecorder();
 
@@ -106,6 +139,9 @@ public class MediaRecorderBuilder {
 
     mediaRecorder.setOutputFile(outputFilePath);
     mediaRecorder.setOrientationHint(this.mediaOrientation);
+    if (inputSurface != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+      mediaRecorder.setInputSurface(inputSurface);
+    }
 
     mediaRecorder.prepare();
 
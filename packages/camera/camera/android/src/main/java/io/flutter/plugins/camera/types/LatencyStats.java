@@ -0,0 +1,77 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.types;
+
+import androidx.annotation.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Accumulates how long tasks waited in a queue and how long they took to run.
+ *
+ * <p>Instances are thread safe, samples are typically recorded on a background thread while the
+ * summary is read from the main thread.
+ */
+public class LatencyStats {
+  private long count;
+  private long totalQueueDelayMs;
+  private long maxQueueDelayMs;
+  private long totalRunTimeNs;
+  private long maxRunTimeNs;
+
+  /**
+   * Records a single task.
+   *
+   * @param queueDelayMs the time in milliseconds the task waited before it started running.
+   * @param runTimeNs the time in nanoseconds the task took to run.
+   */
+  public synchronized void record(long queueDelayMs, long runTimeNs) {
+    count++;
+    totalQueueDelayMs += queueDelayMs;
+    maxQueueDelayMs = Math.max(maxQueueDelayMs, queueDelayMs);
+    totalRunTimeNs += runTimeNs;
+    maxRunTimeNs = Math.max(maxRunTimeNs, runTimeNs);
+  }
+
+  /** Returns the number of recorded tasks. */
+  public synchronized long getCount() {
+    return count;
+  }
+
+  /** Returns the longest time in milliseconds a task waited before it started running. */
+  public synchronized long getMaxQueueDelayMs() {
+    return maxQueueDelayMs;
+  }
+
+  /** Returns the longest time in nanoseconds a task took to run. */
+  public synchronized long getMaxRunTimeNs() {
+    return maxRunTimeNs;
+  }
+
+  /** Clears all recorded samples. */
+  public synchronized void reset() {
+    count = 0;
+    totalQueueDelayMs = 0;
+    maxQueueDelayMs = 0;
+    totalRunTimeNs = 0;
+    maxRunTimeNs = 0;
+  }
+
+  /**
+   * Returns a summary of the recorded samples that can be sent over a platform channel.
+   *
+   * @return a map with the sample count and the average and maximum delays.
+   */
+  @NonNull
+  public synchronized Map<String, Object> toMap() {
+    Map<String, Object> map = new HashMap<>();
+    map.put("count", count);
+    map.put("averageQueueDelayMs", count == 0 ? 0.0 : (double) totalQueueDelayMs / count);
+    map.put("maxQueueDelayMs", maxQueueDelayMs);
+    map.put("averageRunTimeUs", count == 0 ? 0.0 : totalRunTimeNs / 1000.0 / count);
+    map.put("maxRunTimeUs", maxRunTimeNs / 1000);
+    return map;
+  }
+}
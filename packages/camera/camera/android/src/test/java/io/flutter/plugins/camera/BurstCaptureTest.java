@@ -0,0 +1,153 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.media.Image;
+import android.media.ImageReader;
+import android.os.Handler;
+import io.flutter.plugin.common.MethodChannel;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+
+public class BurstCaptureTest {
+  private MockedStatic<ImageSaver.FileOutputStreamFactory> mockFileOutputStreamFactory;
+  private DartMessenger mockDartMessenger;
+  private MethodChannel.Result mockResult;
+  private ImageReader mockReader;
+  private List<File> files;
+
+  @Before
+  public void before() throws IOException {
+    FileChannel mockFileChannel = mock(FileChannel.class);
+    when(mockFileChannel.write(any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              ByteBuffer source = invocation.getArgument(0);
+              int count = source.remaining();
+              source.position(source.limit());
+              return count;
+            });
+    FileOutputStream mockFileOutputStream = mock(FileOutputStream.class);
+    when(mockFileOutputStream.getChannel()).thenReturn(mockFileChannel);
+    mockFileOutputStreamFactory = mockStatic(ImageSaver.FileOutputStreamFactory.class);
+    mockFileOutputStreamFactory
+        .when(() -> ImageSaver.FileOutputStreamFactory.create(any()))
+        .thenReturn(mockFileOutputStream);
+    mockDartMessenger = mock(DartMessenger.class);
+    mockResult = mock(MethodChannel.Result.class);
+    mockReader = mock(ImageReader.class);
+    when(mockReader.getMaxImages()).thenReturn(4);
+    files = Arrays.asList(mockFile("first"), mockFile("second"));
+  }
+
+  @After
+  public void after() {
+    mockFileOutputStreamFactory.close();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void onImageAvailable_shouldFinishWithAllPathsOnceEveryShotIsSaved() {
+    Image firstImage = mockImage();
+    Image secondImage = mockImage();
+    when(mockReader.acquireNextImage()).thenReturn(firstImage, secondImage, null);
+    BurstCapture burst =
+        new BurstCapture(
+            files, false, Runnable::run, mock(Handler.class), mockDartMessenger, mockResult);
+
+    burst.onImageAvailable(mockReader);
+
+    ArgumentCaptor<Object> replyCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(mockDartMessenger, times(1)).finish(eq(mockResult), replyCaptor.capture());
+    Map<String, Object> reply = (Map<String, Object>) replyCaptor.getValue();
+    assertEquals(Arrays.asList("first", "second"), reply.get("paths"));
+    assertEquals(2, ((List<Double>) reply.get("shotLatenciesMs")).size());
+    assertEquals(2, ((List<Double>) reply.get("writeLatenciesMs")).size());
+    assertEquals(2L, reply.get("bytesWritten"));
+    verify(firstImage, times(1)).close();
+    verify(secondImage, times(1)).close();
+    assertTrue(burst.isDone());
+  }
+
+  @Test
+  public void onImageAvailable_shouldNotAcquireMoreImagesThanTheReaderHolds() {
+    when(mockReader.getMaxImages()).thenReturn(1);
+    when(mockReader.acquireNextImage()).thenReturn(mockImage());
+    BurstCapture burst =
+        new BurstCapture(
+            files, false, runnable -> {}, mock(Handler.class), mockDartMessenger, mockResult);
+
+    burst.onImageAvailable(mockReader);
+
+    verify(mockReader, times(1)).acquireNextImage();
+    assertFalse(burst.isDone());
+  }
+
+  @Test
+  public void onCaptureFailed_shouldReportErrorAndDiscardLateImages() {
+    Image lateImage = mockImage();
+    when(mockReader.acquireNextImage()).thenReturn(lateImage, (Image) null);
+    BurstCapture burst =
+        new BurstCapture(
+            files, false, Runnable::run, mock(Handler.class), mockDartMessenger, mockResult);
+
+    burst.onCaptureFailed(0);
+    burst.onImageAvailable(mockReader);
+
+    verify(mockDartMessenger, times(1)).error(eq(mockResult), eq("captureFailed"), any(), any());
+    verify(mockDartMessenger, never()).finish(any(), any());
+    verify(lateImage, times(1)).close();
+  }
+
+  @Test
+  public void cancel_shouldReportErrorOnce() {
+    BurstCapture burst =
+        new BurstCapture(
+            files, false, runnable -> {}, mock(Handler.class), mockDartMessenger, mockResult);
+
+    burst.cancel();
+    burst.cancel();
+
+    verify(mockDartMessenger, times(1)).error(eq(mockResult), eq("cameraAccess"), any(), any());
+    assertTrue(burst.isDone());
+  }
+
+  private static File mockFile(String path) {
+    File mockFile = mock(File.class);
+    when(mockFile.getAbsolutePath()).thenReturn(path);
+    return mockFile;
+  }
+
+  private static Image mockImage() {
+    Image mockImage = mock(Image.class);
+    Image.Plane mockPlane = mock(Image.Plane.class);
+    when(mockPlane.getBuffer()).thenReturn(ByteBuffer.wrap(new byte[] {0x42}));
+    when(mockImage.getPlanes()).thenReturn(new Image.Plane[] {mockPlane});
+    return mockImage;
+  }
+}
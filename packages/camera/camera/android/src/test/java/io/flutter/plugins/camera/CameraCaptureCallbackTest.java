@@ -69,4 +69,18 @@ public class CameraCaptureCallbackTest {
     verify(mockCaptureProps, times(1)).setLastSensorExposureTime(2L);
     verify(mockCaptureProps, times(1)).setLastSensorSensitivity(3);
   }
+
+  @Test
+  public void onCaptureCompleted_marksTheFirstPreviewFrameOnce() {
+    CameraCaptureSession mockSession = mock(CameraCaptureSession.class);
+    CaptureRequest mockRequest = mock(CaptureRequest.class);
+    TotalCaptureResult mockResult = mock(TotalCaptureResult.class);
+    CameraInitializationTrace mockTrace = mock(CameraInitializationTrace.class);
+    cameraCaptureCallback.setInitializationTrace(mockTrace);
+
+    cameraCaptureCallback.onCaptureCompleted(mockSession, mockRequest, mockResult);
+    cameraCaptureCallback.onCaptureCompleted(mockSession, mockRequest, mockResult);
+
+    verify(mockTrace, times(1)).mark(CameraInitializationTrace.Phase.FIRST_PREVIEW_FRAME);
+  }
 }
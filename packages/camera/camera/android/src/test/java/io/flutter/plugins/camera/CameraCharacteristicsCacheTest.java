@@ -0,0 +1,99 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.hardware.camera2.CameraAccessException;
+import android.hardware.camera2.CameraCharacteristics;
+import android.hardware.camera2.CameraManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class CameraCharacteristicsCacheTest {
+  private CameraManager mockCameraManager;
+  private CameraCharacteristicsCache cache;
+  private CameraManager.AvailabilityCallback availabilityCallback;
+
+  @Before
+  public void before() throws CameraAccessException {
+    mockCameraManager = mock(CameraManager.class);
+    when(mockCameraManager.getCameraIdList()).thenReturn(new String[] {"0", "1"});
+    when(mockCameraManager.getCameraCharacteristics(any()))
+        .thenAnswer(invocation -> mock(CameraCharacteristics.class));
+    cache = CameraCharacteristicsCache.getInstance(mockCameraManager);
+
+    ArgumentCaptor<CameraManager.AvailabilityCallback> callbackCaptor =
+        ArgumentCaptor.forClass(CameraManager.AvailabilityCallback.class);
+    verify(mockCameraManager).registerAvailabilityCallback(callbackCaptor.capture(), any());
+    availabilityCallback = callbackCaptor.getValue();
+  }
+
+  @After
+  public void after() {
+    CameraCharacteristicsCache.clearInstance();
+  }
+
+  @Test
+  public void getInstance_shouldReturnSameCacheForSameManager() {
+    assertSame(cache, CameraCharacteristicsCache.getInstance(mockCameraManager));
+  }
+
+  @Test
+  public void getInstance_shouldReplaceCacheWhenManagerChanges() {
+    CameraCharacteristicsCache otherCache =
+        CameraCharacteristicsCache.getInstance(mock(CameraManager.class));
+
+    assertNotSame(cache, otherCache);
+    verify(mockCameraManager, times(1)).unregisterAvailabilityCallback(availabilityCallback);
+  }
+
+  @Test
+  public void getCameraProperties_shouldQueryCameraServiceOnce() throws CameraAccessException {
+    CameraPropertiesImpl first = cache.getCameraProperties("0");
+    CameraPropertiesImpl second = cache.getCameraProperties("0");
+
+    assertSame(first, second);
+    assertSame(first.getCameraCharacteristics(), cache.getCharacteristics("0"));
+    verify(mockCameraManager, times(1)).getCameraCharacteristics("0");
+  }
+
+  @Test
+  public void getCameraIds_shouldBeCachedUntilAvailabilityChanges() throws CameraAccessException {
+    assertArrayEquals(new String[] {"0", "1"}, cache.getCameraIds());
+    cache.getCameraIds();
+    verify(mockCameraManager, times(1)).getCameraIdList();
+
+    availabilityCallback.onCameraAvailable("2");
+    cache.getCameraIds();
+
+    verify(mockCameraManager, times(2)).getCameraIdList();
+  }
+
+  @Test
+  public void getCameraIds_shouldEvictCamerasThatAreNoLongerListed()
+      throws CameraAccessException {
+    cache.getCameraIds();
+    CameraPropertiesImpl listed = cache.getCameraProperties("0");
+    CameraPropertiesImpl detached = cache.getCameraProperties("1");
+
+    when(mockCameraManager.getCameraIdList()).thenReturn(new String[] {"0"});
+    availabilityCallback.onCameraUnavailable("1");
+    cache.getCameraIds();
+
+    assertSame(listed, cache.getCameraProperties("0"));
+    assertNotSame(detached, cache.getCameraProperties("1"));
+    verify(mockCameraManager, times(2)).getCameraCharacteristics("1");
+  }
+}
@@ -0,0 +1,90 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.flutter.plugins.camera.CameraInitializationTrace.Phase;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class CameraInitializationTraceTest {
+  private DartMessenger mockDartMessenger;
+  private CameraInitializationTrace trace;
+
+  @Before
+  public void before() {
+    mockDartMessenger = mock(DartMessenger.class);
+    trace = new CameraInitializationTrace(mockDartMessenger);
+  }
+
+  @Test
+  public void mark_shouldNotSendTraceBeforeEveryPhaseIsReached() {
+    trace.mark(Phase.CREATE, 0);
+    trace.mark(Phase.CAMERA_OPENED, 1);
+    trace.mark(Phase.INITIALIZED_EVENT_SENT, 2);
+    trace.mark(Phase.SESSION_CONFIGURED, 3);
+
+    assertFalse(trace.isComplete());
+    verify(mockDartMessenger, never()).sendInitializationTraceEvent(any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void mark_shouldSendMicrosecondsSinceCreate() {
+    trace.mark(Phase.CREATE, 1_000_000_000L);
+    trace.mark(Phase.CAMERA_OPENED, 1_050_000_000L);
+    trace.mark(Phase.INITIALIZED_EVENT_SENT, 1_060_000_000L);
+    trace.mark(Phase.SESSION_CONFIGURED, 1_120_000_000L);
+    trace.mark(Phase.FIRST_PREVIEW_FRAME, 1_200_000_000L);
+
+    ArgumentCaptor<Map<String, Object>> traceCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(mockDartMessenger, times(1)).sendInitializationTraceEvent(traceCaptor.capture());
+    Map<String, Object> elapsed = traceCaptor.getValue();
+    assertEquals(4, elapsed.size());
+    assertEquals(50_000L, elapsed.get("cameraOpened"));
+    assertEquals(60_000L, elapsed.get("initializedEventSent"));
+    assertEquals(120_000L, elapsed.get("sessionConfigured"));
+    assertEquals(200_000L, elapsed.get("firstPreviewFrame"));
+    assertTrue(trace.isComplete());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void mark_shouldOnlyKeepTheFirstOccurrenceOfAPhase() {
+    trace.mark(Phase.CREATE, 0);
+    trace.mark(Phase.CAMERA_OPENED, 0);
+    trace.mark(Phase.INITIALIZED_EVENT_SENT, 0);
+    trace.mark(Phase.SESSION_CONFIGURED, 0);
+    trace.mark(Phase.FIRST_PREVIEW_FRAME, 5_000_000L);
+    trace.mark(Phase.FIRST_PREVIEW_FRAME, 9_000_000L);
+
+    ArgumentCaptor<Map<String, Object>> traceCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(mockDartMessenger, times(1)).sendInitializationTraceEvent(traceCaptor.capture());
+    assertEquals(5_000L, traceCaptor.getValue().get("firstPreviewFrame"));
+  }
+
+  @Test
+  public void phases_shouldBeInTheOrderTheyAreReached() {
+    assertEquals(
+        Arrays.asList(
+            Phase.CREATE,
+            Phase.CAMERA_OPENED,
+            Phase.INITIALIZED_EVENT_SENT,
+            Phase.SESSION_CONFIGURED,
+            Phase.FIRST_PREVIEW_FRAME),
+        Arrays.asList(Phase.values()));
+  }
+}
@@ -62,6 +62,17 @@ public class CameraPropertiesImplTest {
     assertArrayEquals(actualRanges, mockRanges);
   }
 
+  @Test
+  public void getSensorOrientation_shouldOnlyReadCharacteristicsOnce() {
+    when(mockCharacteristics.get(CameraCharacteristics.SENSOR_ORIENTATION)).thenReturn(90);
+
+    cameraProperties.getSensorOrientation();
+    int actualOrientation = cameraProperties.getSensorOrientation();
+
+    verify(mockCharacteristics, times(1)).get(CameraCharacteristics.SENSOR_ORIENTATION);
+    assertEquals(90, actualOrientation);
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   public void getControlAutoExposureCompensationRangeTest() {
@@ -7,8 +7,10 @@ package io.flutter.plugins.camera;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -52,10 +54,13 @@ import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
 import io.flutter.plugins.camera.features.sensororientation.DeviceOrientationManager;
 import io.flutter.plugins.camera.features.sensororientation.SensorOrientationFeature;
 import io.flutter.plugins.camera.features.zoomlevel.ZoomLevelFeature;
+import io.flutter.plugins.camera.media.MediaCodecRecorder;
 import io.flutter.plugins.camera.utils.TestUtils;
 import io.flutter.view.TextureRegistry;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -119,7 +124,9 @@ public class CameraTest {
     final boolean enableAudio = false;
 
     when(mockCameraProperties.getCameraName()).thenReturn(cameraName);
-    mockHandlerFactory.when(() -> Camera.HandlerFactory.create(any())).thenReturn(mockHandler);
+    mockHandlerFactory
+        .when(() -> Camera.HandlerFactory.create(any(), any()))
+        .thenReturn(mockHandler);
     mockHandlerThreadFactory
         .when(() -> Camera.HandlerThreadFactory.create(any()))
         .thenReturn(mockHandlerThread);
@@ -493,6 +500,30 @@ public class CameraTest {
     verify(mockZoomLevelFeature, times(1)).updateBuilder(any());
   }
 
+  @Test
+  public void setZoomLevel_shouldNotReissueRepeatingRequestWhenLevelIsUnchanged()
+      throws CameraAccessException {
+    ZoomLevelFeature mockZoomLevelFeature =
+        mockCameraFeatureFactory.createZoomLevelFeature(mockCameraProperties);
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    float zoomLevel = 1.0f;
+
+    when(mockZoomLevelFeature.getValue()).thenReturn(zoomLevel);
+    when(mockZoomLevelFeature.getMinimumZoomLevel()).thenReturn(0f);
+    when(mockZoomLevelFeature.getMaximumZoomLevel()).thenReturn(2f);
+
+    camera.setZoomLevel(mockResult, zoomLevel);
+    camera.setZoomLevel(mockResult, zoomLevel);
+
+    verify(mockZoomLevelFeature, times(1)).updateBuilder(any());
+    verify(mockCaptureSession, times(1)).setRepeatingRequest(any(), any(), any());
+    verify(mockResult, times(2)).success(null);
+    Map<String, Object> stats = camera.getRepeatingRequestStats();
+    assertEquals(1L, stats.get("reissued"));
+    assertEquals(1L, stats.get("partialUpdates"));
+    assertEquals(1L, stats.get("skippedUnchanged"));
+  }
+
   @Test
   public void setZoomLevel_shouldCallErrorOnResultOnCameraAccessException()
       throws CameraAccessException {
@@ -539,6 +570,68 @@ public class CameraTest {
     verify(mockResult, never()).error(any(), any(), any());
   }
 
+  @Test
+  public void pauseVideoRecording_shouldPauseMediaCodecRecorderBelowAPIN() {
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    MediaCodecRecorder mockMediaCodecRecorder = mock(MediaCodecRecorder.class);
+    TestUtils.setPrivateField(camera, "mediaCodecRecorder", mockMediaCodecRecorder);
+    TestUtils.setPrivateField(camera, "recordingVideo", true);
+    TestUtils.setFinalStatic(Build.VERSION.class, "SDK_INT", 23);
+
+    camera.pauseVideoRecording(mockResult);
+
+    verify(mockMediaCodecRecorder, times(1)).pause();
+    verify(mockResult, times(1)).success(null);
+    verify(mockResult, never()).error(any(), any(), any());
+  }
+
+  @Test
+  public void stopVideoRecording_shouldSendVideoRecordingFailedErrorWhenEncoderFailed() {
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    MediaCodecRecorder mockMediaCodecRecorder = mock(MediaCodecRecorder.class);
+    // An encoder that failed before stop reports its error as soon as it is stopped.
+    doAnswer(
+            invocation -> {
+              MediaCodecRecorder.OnStoppedListener listener = invocation.getArgument(0);
+              listener.onStopped("encoder failed");
+              return null;
+            })
+        .when(mockMediaCodecRecorder)
+        .stop(any());
+    TestUtils.setPrivateField(camera, "mediaCodecRecorder", mockMediaCodecRecorder);
+    TestUtils.setPrivateField(camera, "recordingVideo", true);
+    TestUtils.setPrivateField(camera, "captureFile", new File("REC.mp4"));
+
+    camera.stopVideoRecording(mockResult);
+
+    verify(mockDartMessenger, times(1))
+        .error(mockResult, "videoRecordingFailed", "encoder failed", null);
+    verify(mockDartMessenger, never()).finish(any(), any());
+  }
+
+  @Test
+  public void stopVideoRecording_shouldReturnTheFileWhenEncoderFinishedCleanly() {
+    MethodChannel.Result mockResult = mock(MethodChannel.Result.class);
+    MediaCodecRecorder mockMediaCodecRecorder = mock(MediaCodecRecorder.class);
+    doAnswer(
+            invocation -> {
+              MediaCodecRecorder.OnStoppedListener listener = invocation.getArgument(0);
+              listener.onStopped(null);
+              return null;
+            })
+        .when(mockMediaCodecRecorder)
+        .stop(any());
+    TestUtils.setPrivateField(camera, "mediaCodecRecorder", mockMediaCodecRecorder);
+    TestUtils.setPrivateField(camera, "recordingVideo", true);
+    File captureFile = new File("REC.mp4");
+    TestUtils.setPrivateField(camera, "captureFile", captureFile);
+
+    camera.stopVideoRecording(mockResult);
+
+    verify(mockDartMessenger, times(1)).finish(mockResult, captureFile.getAbsolutePath());
+    verify(mockDartMessenger, never()).error(any(), any(), any(), any());
+  }
+
   @Test
   public void pauseVideoRecording_shouldSendVideoRecordingFailedErrorWhenVersionCodeSmallerThenN() {
     TestUtils.setPrivateField(camera, "recordingVideo", true);
@@ -818,11 +911,16 @@ public class CameraTest {
   }
 
   @Test
-  public void startBackgroundThread_shouldStartNewThread() {
+  public void startBackgroundThread_shouldStartNewThreads() {
     camera.startBackgroundThread();
 
-    verify(mockHandlerThread, times(1)).start();
+    verify(mockHandlerThread, times(3)).start();
+    mockHandlerThreadFactory.verify(() -> Camera.HandlerThreadFactory.create("CameraBackground"));
+    mockHandlerThreadFactory.verify(() -> Camera.HandlerThreadFactory.create("CameraImageStream"));
+    mockHandlerThreadFactory.verify(() -> Camera.HandlerThreadFactory.create("CameraImageSaver"));
     assertEquals(mockHandler, TestUtils.getPrivateField(camera, "backgroundHandler"));
+    assertEquals(mockHandler, TestUtils.getPrivateField(camera, "imageStreamHandler"));
+    assertEquals(mockHandler, TestUtils.getPrivateField(camera, "imageSaverHandler"));
   }
 
   @Test
@@ -830,7 +928,27 @@ public class CameraTest {
     camera.startBackgroundThread();
     camera.startBackgroundThread();
 
-    verify(mockHandlerThread, times(1)).start();
+    verify(mockHandlerThread, times(3)).start();
+  }
+
+  @Test
+  public void stopBackgroundThread_shouldQuitAllThreads() throws InterruptedException {
+    camera.stopBackgroundThread();
+
+    verify(mockHandlerThread, times(3)).quitSafely();
+    verify(mockHandlerThread, times(3)).join();
+    assertNull(TestUtils.getPrivateField(camera, "backgroundHandler"));
+    assertNull(TestUtils.getPrivateField(camera, "imageStreamHandler"));
+    assertNull(TestUtils.getPrivateField(camera, "imageSaverHandler"));
+  }
+
+  @Test
+  public void getThreadLatencyStats_shouldReportAllThreads() {
+    Map<String, Object> stats = camera.getThreadLatencyStats();
+
+    assertNotNull(stats.get("capture"));
+    assertNotNull(stats.get("imageStream"));
+    assertNotNull(stats.get("imageSaver"));
   }
 
   @Test
@@ -856,6 +974,56 @@ public class CameraTest {
     verify(mockCaptureSession, never()).abortCaptures();
   }
 
+  @Test
+  public void startPreview_shouldOnlySwitchTargetsOfSharedCaptureSession()
+      throws CameraAccessException {
+    CaptureRequest.Builder mockRequestBuilder = mock(CaptureRequest.Builder.class);
+    ArrayList<CaptureRequest.Builder> mockRequestBuilders = new ArrayList<>();
+    mockRequestBuilders.add(mockRequestBuilder);
+    ImageReader mockPictureImageReader = mock(ImageReader.class);
+    when(mockPictureImageReader.getSurface()).thenReturn(mock(Surface.class));
+    Surface mockFlutterSurface = mock(Surface.class);
+    TestUtils.setPrivateField(
+        camera, "cameraDevice", new FakeCameraDeviceWrapper(mockRequestBuilders));
+    TestUtils.setPrivateField(camera, "pictureImageReader", mockPictureImageReader);
+    TestUtils.setPrivateField(camera, "captureSessionShared", true);
+    TestUtils.setPrivateField(camera, "sharedFlutterSurface", mockFlutterSurface);
+
+    try (MockedStatic<CameraRegionUtils> mockCameraRegionUtils =
+        mockStatic(CameraRegionUtils.class)) {
+      camera.startPreview();
+    }
+
+    verify(mockRequestBuilder, times(1)).addTarget(mockFlutterSurface);
+    verify(mockCaptureSession, times(1)).setRepeatingRequest(any(), any(), any());
+    verify(mockCaptureSession, never()).close();
+    assertEquals(mockRequestBuilder, TestUtils.getPrivateField(camera, "previewRequestBuilder"));
+  }
+
+  @Test
+  public void close_shouldReleaseRecorderSurface() {
+    Surface mockRecorderSurface = mock(Surface.class);
+    TestUtils.setPrivateField(camera, "recorderSurface", mockRecorderSurface);
+    TestUtils.setPrivateField(camera, "captureSessionShared", true);
+
+    camera.close();
+
+    verify(mockRecorderSurface, times(1)).release();
+    assertNull(TestUtils.getPrivateField(camera, "recorderSurface"));
+    assertEquals(false, TestUtils.getPrivateField(camera, "captureSessionShared"));
+  }
+
+  @Test
+  public void close_shouldFailThePendingBurst() {
+    BurstCapture mockBurstCapture = mock(BurstCapture.class);
+    TestUtils.setPrivateField(camera, "burstCapture", mockBurstCapture);
+
+    camera.close();
+
+    verify(mockBurstCapture, times(1)).cancel();
+    assertNull(TestUtils.getPrivateField(camera, "burstCapture"));
+  }
+
   private static class TestCameraFeatureFactory implements CameraFeatureFactory {
     private final AutoFocusFeature mockAutoFocusFeature;
     private final ExposureLockFeature mockExposureLockFeature;
@@ -9,6 +9,8 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import android.os.Handler;
 import androidx.annotation.NonNull;
@@ -20,9 +22,12 @@ import io.flutter.plugins.camera.features.autofocus.FocusMode;
 import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
@@ -90,6 +95,20 @@ public class DartMessengerTest {
     assertEquals("focusPointSupported", call.argument("focusPointSupported"), true);
   }
 
+  @Test
+  public void sendInitializationTraceEvent_includesTrace() {
+    doAnswer(createPostHandlerAnswer()).when(mockHandler).post(any(Runnable.class));
+    Map<String, Object> trace = new HashMap<>();
+    trace.put("cameraOpened", 50_000L);
+    dartMessenger.sendInitializationTraceEvent(trace);
+
+    List<ByteBuffer> sentMessages = fakeBinaryMessenger.getMessages();
+    assertEquals(1, sentMessages.size());
+    MethodCall call = decodeSentMessage(sentMessages.get(0));
+    assertEquals("initialization_trace", call.method);
+    assertEquals(50_000L, (long) call.argument("cameraOpened"));
+  }
+
   @Test
   public void sendCameraClosingEvent() {
     doAnswer(createPostHandlerAnswer()).when(mockHandler).post(any(Runnable.class));
@@ -114,6 +133,80 @@ public class DartMessengerTest {
     assertEquals(call.argument("orientation"), "portraitUp");
   }
 
+  @Test
+  public void sendDeviceOrientationChangedEvent_coalescesQueuedEvents() {
+    dartMessenger.sendDeviceOrientationChangeEvent(PlatformChannel.DeviceOrientation.PORTRAIT_UP);
+    dartMessenger.sendCameraClosingEvent();
+    dartMessenger.sendDeviceOrientationChangeEvent(
+        PlatformChannel.DeviceOrientation.LANDSCAPE_LEFT);
+
+    ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler, times(1)).post(flushCaptor.capture());
+    flushCaptor.getValue().run();
+
+    List<ByteBuffer> sentMessages = fakeBinaryMessenger.getMessages();
+    assertEquals(2, sentMessages.size());
+    MethodCall orientationCall = decodeSentMessage(sentMessages.get(0));
+    assertEquals("orientation_changed", orientationCall.method);
+    assertEquals("landscapeLeft", orientationCall.argument("orientation"));
+    assertEquals("camera_closing", decodeSentMessage(sentMessages.get(1)).method);
+  }
+
+  @Test
+  public void flush_batchesConsecutiveEventsOfTheSameChannel() {
+    dartMessenger.sendCameraErrorEvent("first");
+    dartMessenger.sendCameraErrorEvent("second");
+    dartMessenger.sendCameraClosingEvent();
+    dartMessenger.sendDeviceOrientationChangeEvent(PlatformChannel.DeviceOrientation.PORTRAIT_UP);
+
+    ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler, times(1)).post(flushCaptor.capture());
+    flushCaptor.getValue().run();
+
+    List<ByteBuffer> sentMessages = fakeBinaryMessenger.getMessages();
+    assertEquals(2, sentMessages.size());
+    MethodCall batchCall = decodeSentMessage(sentMessages.get(0));
+    assertEquals(DartMessenger.BATCH_METHOD, batchCall.method);
+    List<Map<String, Object>> events = batchCall.argument("events");
+    assertEquals(3, events.size());
+    assertEquals("error", events.get(0).get("method"));
+    assertEquals("first", ((Map<?, ?>) events.get(0).get("arguments")).get("description"));
+    assertEquals("error", events.get(1).get("method"));
+    assertEquals("second", ((Map<?, ?>) events.get(1).get("arguments")).get("description"));
+    assertEquals("camera_closing", events.get(2).get("method"));
+    MethodCall orientationCall = decodeSentMessage(sentMessages.get(1));
+    assertEquals("orientation_changed", orientationCall.method);
+    assertEquals("portraitUp", orientationCall.argument("orientation"));
+  }
+
+  @Test
+  public void sendCameraErrorEvent_doesNotCoalesceErrors() {
+    doAnswer(createPostHandlerAnswer()).when(mockHandler).post(any(Runnable.class));
+    dartMessenger.sendCameraErrorEvent("first");
+    dartMessenger.sendCameraErrorEvent("second");
+
+    List<ByteBuffer> sentMessages = fakeBinaryMessenger.getMessages();
+    assertEquals(2, sentMessages.size());
+    assertEquals("first", decodeSentMessage(sentMessages.get(0)).argument("description"));
+    assertEquals("second", decodeSentMessage(sentMessages.get(1)).argument("description"));
+  }
+
+  @Test
+  public void getDispatchStats_reportsQueueDepthAndCoalescedEvents() {
+    dartMessenger.sendDeviceOrientationChangeEvent(PlatformChannel.DeviceOrientation.PORTRAIT_UP);
+    dartMessenger.sendDeviceOrientationChangeEvent(
+        PlatformChannel.DeviceOrientation.PORTRAIT_DOWN);
+    dartMessenger.sendCameraClosingEvent();
+
+    Map<String, Object> stats = dartMessenger.getDispatchStats();
+
+    assertEquals(2, stats.get("queueDepth"));
+    assertEquals(2, stats.get("maxQueueDepth"));
+    assertEquals(3L, stats.get("eventsQueued"));
+    assertEquals(1L, stats.get("eventsCoalesced"));
+    assertEquals(0L, stats.get("batches"));
+  }
+
   private static Answer<Boolean> createPostHandlerAnswer() {
     return new Answer<Boolean>() {
       @Override
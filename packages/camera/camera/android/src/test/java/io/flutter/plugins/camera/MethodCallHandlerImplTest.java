@@ -5,8 +5,12 @@
 package io.flutter.plugins.camera;
 
 import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -18,6 +22,8 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugins.camera.utils.TestUtils;
 import io.flutter.view.TextureRegistry;
+import java.util.HashMap;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -26,16 +32,20 @@ public class MethodCallHandlerImplTest {
   MethodChannel.MethodCallHandler handler;
   MethodChannel.Result mockResult;
   Camera mockCamera;
+  CameraPermissions mockCameraPermissions;
+  TextureRegistry mockTextureRegistry;
 
   @Before
   public void setUp() {
+    mockCameraPermissions = mock(CameraPermissions.class);
+    mockTextureRegistry = mock(TextureRegistry.class);
     handler =
         new MethodCallHandlerImpl(
             mock(Activity.class),
             mock(BinaryMessenger.class),
-            mock(CameraPermissions.class),
+            mockCameraPermissions,
             mock(CameraPermissions.PermissionsRegistry.class),
-            mock(TextureRegistry.class));
+            mockTextureRegistry);
     mockResult = mock(MethodChannel.Result.class);
     mockCamera = mock(Camera.class);
     TestUtils.setPrivateField(handler, "camera", mockCamera);
@@ -74,4 +84,54 @@ public class MethodCallHandlerImplTest {
     verify(mockCamera, times(1)).resumePreview();
     verify(mockResult, times(1)).success(null);
   }
+
+  @Test
+  public void onMethodCall_create_shouldRejectHysteresisBeforeCreatingTheCamera() {
+    grantPermissions();
+    Map<String, Object> arguments = createArguments();
+    arguments.put("orientationSamplingPeriodUs", 20_000);
+    arguments.put("orientationHysteresisDegrees", 45);
+
+    handler.onMethodCall(new MethodCall("create", arguments), mockResult);
+
+    verify(mockResult, times(1))
+        .error(
+            "IllegalArgumentException",
+            "orientationHysteresisDegrees must be between 0 and 44.",
+            null);
+    verify(mockTextureRegistry, never()).createSurfaceTexture();
+  }
+
+  @Test
+  public void onMethodCall_create_shouldRejectNegativeSamplingPeriodBeforeCreatingTheCamera() {
+    grantPermissions();
+    Map<String, Object> arguments = createArguments();
+    arguments.put("orientationSamplingPeriodUs", -1);
+
+    handler.onMethodCall(new MethodCall("create", arguments), mockResult);
+
+    verify(mockResult, times(1))
+        .error(
+            "IllegalArgumentException", "orientationSamplingPeriodUs must not be negative.", null);
+    verify(mockTextureRegistry, never()).createSurfaceTexture();
+  }
+
+  private void grantPermissions() {
+    doAnswer(
+            invocation -> {
+              CameraPermissions.ResultCallback callback = invocation.getArgument(3);
+              callback.onResult(null, null);
+              return null;
+            })
+        .when(mockCameraPermissions)
+        .requestPermissions(any(), any(), anyBoolean(), any());
+  }
+
+  private static Map<String, Object> createArguments() {
+    Map<String, Object> arguments = new HashMap<>();
+    arguments.put("cameraName", "0");
+    arguments.put("resolutionPreset", "high");
+    arguments.put("enableAudio", false);
+    return arguments;
+  }
 }
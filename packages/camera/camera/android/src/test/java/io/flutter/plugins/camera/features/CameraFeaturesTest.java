@@ -0,0 +1,89 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.features;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.hardware.camera2.CaptureRequest;
+import io.flutter.plugins.camera.features.flash.FlashFeature;
+import io.flutter.plugins.camera.features.flash.FlashMode;
+import io.flutter.plugins.camera.features.zoomlevel.ZoomLevelFeature;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CameraFeaturesTest {
+  private CameraFeatures cameraFeatures;
+  private FlashFeature mockFlashFeature;
+  private ZoomLevelFeature mockZoomLevelFeature;
+  private CaptureRequest.Builder mockBuilder;
+
+  @Before
+  public void before() {
+    cameraFeatures = new CameraFeatures();
+    mockFlashFeature = mock(FlashFeature.class);
+    mockZoomLevelFeature = mock(ZoomLevelFeature.class);
+    mockBuilder = mock(CaptureRequest.Builder.class);
+    when(mockFlashFeature.getValue()).thenReturn(FlashMode.auto);
+    when(mockZoomLevelFeature.getValue()).thenReturn(1.0f);
+    cameraFeatures.setFlash(mockFlashFeature);
+    cameraFeatures.setZoomLevel(mockZoomLevelFeature);
+  }
+
+  @Test
+  public void updateRepeatingBuilder_shouldApplyEveryFeature() {
+    cameraFeatures.updateRepeatingBuilder(mockBuilder);
+
+    verify(mockFlashFeature, times(1)).updateBuilder(mockBuilder);
+    verify(mockZoomLevelFeature, times(1)).updateBuilder(mockBuilder);
+  }
+
+  @Test
+  public void updateRepeatingBuilderWithChangedFeatures_shouldOnlyApplyChangedFeatures() {
+    cameraFeatures.updateRepeatingBuilder(mockBuilder);
+    when(mockZoomLevelFeature.getValue()).thenReturn(2.0f);
+
+    assertTrue(cameraFeatures.markChanged(mockZoomLevelFeature));
+    assertEquals(1, cameraFeatures.updateRepeatingBuilderWithChangedFeatures(mockBuilder));
+
+    verify(mockZoomLevelFeature, times(2)).updateBuilder(mockBuilder);
+    verify(mockFlashFeature, times(1)).updateBuilder(mockBuilder);
+    assertEquals(0, cameraFeatures.updateRepeatingBuilderWithChangedFeatures(mockBuilder));
+  }
+
+  @Test
+  public void markChanged_shouldSkipValuesThatWereAlreadyApplied() {
+    cameraFeatures.updateRepeatingBuilder(mockBuilder);
+
+    assertFalse(cameraFeatures.markChanged(mockFlashFeature));
+    assertEquals(0, cameraFeatures.updateRepeatingBuilderWithChangedFeatures(mockBuilder));
+  }
+
+  @Test
+  public void markChanged_shouldDropChangesThatWereSetBack() {
+    cameraFeatures.updateRepeatingBuilder(mockBuilder);
+    when(mockFlashFeature.getValue()).thenReturn(FlashMode.torch);
+    assertTrue(cameraFeatures.markChanged(mockFlashFeature));
+    when(mockFlashFeature.getValue()).thenReturn(FlashMode.auto);
+
+    assertFalse(cameraFeatures.markChanged(mockFlashFeature));
+    assertEquals(0, cameraFeatures.updateRepeatingBuilderWithChangedFeatures(mockBuilder));
+  }
+
+  @Test
+  public void updateBuilder_shouldNotAffectRepeatingBuilderTracking() {
+    CaptureRequest.Builder mockStillBuilder = mock(CaptureRequest.Builder.class);
+    cameraFeatures.updateBuilder(mockStillBuilder);
+
+    assertTrue(cameraFeatures.markChanged(mockFlashFeature));
+    verify(mockFlashFeature, never()).updateBuilder(mockBuilder);
+  }
+}
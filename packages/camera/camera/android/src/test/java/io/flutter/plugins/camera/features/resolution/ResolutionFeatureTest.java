@@ -12,6 +12,7 @@ import static org.mockito.Mockito.when;
 
 import android.media.CamcorderProfile;
 import android.media.EncoderProfiles;
+import android.util.Size;
 import io.flutter.plugins.camera.CameraProperties;
 import java.util.List;
 import org.junit.After;
@@ -25,8 +26,34 @@ import org.robolectric.annotation.Config;
 @RunWith(RobolectricTestRunner.class)
 public class ResolutionFeatureTest {
   private static final String cameraName = "1";
+
+  @SuppressWarnings("deprecation")
+  private static final int[] QUALITIES = {
+    CamcorderProfile.QUALITY_HIGH,
+    CamcorderProfile.QUALITY_2160P,
+    CamcorderProfile.QUALITY_1080P,
+    CamcorderProfile.QUALITY_720P,
+    CamcorderProfile.QUALITY_480P,
+    CamcorderProfile.QUALITY_QVGA,
+    CamcorderProfile.QUALITY_LOW
+  };
+
+  private static final Size SIZE_720P = new Size(1280, 720);
+  private static final Size SIZE_480P = new Size(720, 480);
+  private static final Size SIZE_QVGA = new Size(320, 240);
+
+  /** The sizes of {@link #QUALITIES}, which are all distinct. */
+  private static final Size[] SIZES = {
+    new Size(4032, 3024),
+    new Size(3840, 2160),
+    new Size(1920, 1080),
+    SIZE_720P,
+    SIZE_480P,
+    SIZE_QVGA,
+    new Size(176, 144)
+  };
+
   private CamcorderProfile mockProfileLowLegacy;
-  private EncoderProfiles mockProfileLow;
   private MockedStatic<CamcorderProfile> mockedStaticProfile;
 
   @Before
@@ -81,41 +108,9 @@ public class ResolutionFeatureTest {
         .thenReturn(mockProfileLowLegacy);
   }
 
-  public void before() {
-    mockProfileLow = mock(EncoderProfiles.class);
-    EncoderProfiles mockProfile = mock(EncoderProfiles.class);
-    EncoderProfiles.VideoProfile mockVideoProfile = mock(EncoderProfiles.VideoProfile.class);
-    List<EncoderProfiles.VideoProfile> mockVideoProfilesList = List.of(mockVideoProfile);
-
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_HIGH))
-        .thenReturn(mockProfile);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_2160P))
-        .thenReturn(mockProfile);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_1080P))
-        .thenReturn(mockProfile);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_720P))
-        .thenReturn(mockProfile);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_480P))
-        .thenReturn(mockProfile);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_QVGA))
-        .thenReturn(mockProfile);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_LOW))
-        .thenReturn(mockProfileLow);
-
-    when(mockProfile.getVideoProfiles()).thenReturn(mockVideoProfilesList);
-    when(mockVideoProfile.getHeight()).thenReturn(100);
-    when(mockVideoProfile.getWidth()).thenReturn(100);
-  }
-
   @After
   public void after() {
+    ResolutionProfileTable.clearCache();
     mockedStaticProfile.reset();
     mockedStaticProfile.close();
   }
@@ -161,172 +156,168 @@ public class ResolutionFeatureTest {
   @Config(maxSdk = 30)
   @SuppressWarnings("deprecation")
   @Test
-  public void getBestAvailableCamcorderProfileForResolutionPreset_shouldFallThroughLegacy() {
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.hasProfile(1, CamcorderProfile.QUALITY_HIGH))
-        .thenReturn(false);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.hasProfile(1, CamcorderProfile.QUALITY_2160P))
-        .thenReturn(false);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.hasProfile(1, CamcorderProfile.QUALITY_1080P))
-        .thenReturn(false);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.hasProfile(1, CamcorderProfile.QUALITY_720P))
-        .thenReturn(false);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.hasProfile(1, CamcorderProfile.QUALITY_480P))
-        .thenReturn(false);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.hasProfile(1, CamcorderProfile.QUALITY_QVGA))
-        .thenReturn(false);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.hasProfile(1, CamcorderProfile.QUALITY_LOW))
-        .thenReturn(true);
+  public void getRecordingProfileLegacy_shouldFallThroughToTheLowestQuality() {
+    mockOnlyLowestQuality();
+
+    ResolutionFeature resolutionFeature =
+        new ResolutionFeature(mock(CameraProperties.class), ResolutionPreset.max, cameraName);
 
-    assertEquals(
-        mockProfileLowLegacy,
-        ResolutionFeature.getBestAvailableCamcorderProfileForResolutionPresetLegacy(
-            1, ResolutionPreset.max));
+    assertEquals(mockProfileLowLegacy, resolutionFeature.getRecordingProfileLegacy());
   }
 
   @Config(minSdk = 31)
   @Test
-  public void getBestAvailableCamcorderProfileForResolutionPreset_shouldFallThrough() {
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.hasProfile(1, CamcorderProfile.QUALITY_HIGH))
-        .thenReturn(false);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.hasProfile(1, CamcorderProfile.QUALITY_2160P))
-        .thenReturn(false);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.hasProfile(1, CamcorderProfile.QUALITY_1080P))
-        .thenReturn(false);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.hasProfile(1, CamcorderProfile.QUALITY_720P))
-        .thenReturn(false);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.hasProfile(1, CamcorderProfile.QUALITY_480P))
-        .thenReturn(false);
-    mockedStaticProfile
-        .when(() -> CamcorderProfile.hasProfile(1, CamcorderProfile.QUALITY_QVGA))
-        .thenReturn(false);
+  public void getRecordingProfile_shouldFallThroughToTheLowestQuality() {
+    mockOnlyLowestQuality();
+    EncoderProfiles mockProfileLow = mock(EncoderProfiles.class);
+    EncoderProfiles.VideoProfile mockVideoProfile = mock(EncoderProfiles.VideoProfile.class);
+    when(mockProfileLow.getVideoProfiles()).thenReturn(List.of(mockVideoProfile));
     mockedStaticProfile
-        .when(() -> CamcorderProfile.hasProfile(1, CamcorderProfile.QUALITY_LOW))
-        .thenReturn(true);
+        .when(() -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_LOW))
+        .thenReturn(mockProfileLow);
+
+    ResolutionFeature resolutionFeature =
+        new ResolutionFeature(mock(CameraProperties.class), ResolutionPreset.max, cameraName);
 
-    assertEquals(
-        mockProfileLow,
-        ResolutionFeature.getBestAvailableCamcorderProfileForResolutionPreset(
-            1, ResolutionPreset.max));
+    assertEquals(mockProfileLow, resolutionFeature.getRecordingProfile());
   }
 
   @Config(maxSdk = 30)
-  @SuppressWarnings("deprecation")
   @Test
-  public void computeBestPreviewSize_shouldUse720PWhenResolutionPresetMaxLegacy() {
-    ResolutionFeature.computeBestPreviewSize(1, ResolutionPreset.max);
+  public void getPreviewSize_shouldUse720PWhenResolutionPresetMaxLegacy() {
+    mockLegacyProfileSizes();
 
-    mockedStaticProfile.verify(() -> CamcorderProfile.get(1, CamcorderProfile.QUALITY_720P));
+    assertEquals(SIZE_720P, getPreviewSize(ResolutionPreset.max));
   }
 
   @Config(minSdk = 31)
   @Test
-  public void computeBestPreviewSize_shouldUse720PWhenResolutionPresetMax() {
-    before();
-    ResolutionFeature.computeBestPreviewSize(1, ResolutionPreset.max);
+  public void getPreviewSize_shouldUse720PWhenResolutionPresetMax() {
+    mockEncoderProfileSizes();
 
-    mockedStaticProfile.verify(() -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_720P));
+    assertEquals(SIZE_720P, getPreviewSize(ResolutionPreset.max));
   }
 
   @Config(maxSdk = 30)
-  @SuppressWarnings("deprecation")
   @Test
-  public void computeBestPreviewSize_shouldUse720PWhenResolutionPresetUltraHighLegacy() {
-    ResolutionFeature.computeBestPreviewSize(1, ResolutionPreset.ultraHigh);
+  public void getPreviewSize_shouldUse720PWhenResolutionPresetUltraHighLegacy() {
+    mockLegacyProfileSizes();
 
-    mockedStaticProfile.verify(() -> CamcorderProfile.get(1, CamcorderProfile.QUALITY_720P));
+    assertEquals(SIZE_720P, getPreviewSize(ResolutionPreset.ultraHigh));
   }
 
   @Config(minSdk = 31)
   @Test
-  public void computeBestPreviewSize_shouldUse720PWhenResolutionPresetUltraHigh() {
-    before();
-    ResolutionFeature.computeBestPreviewSize(1, ResolutionPreset.ultraHigh);
+  public void getPreviewSize_shouldUse720PWhenResolutionPresetUltraHigh() {
+    mockEncoderProfileSizes();
 
-    mockedStaticProfile.verify(() -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_720P));
+    assertEquals(SIZE_720P, getPreviewSize(ResolutionPreset.ultraHigh));
   }
 
   @Config(maxSdk = 30)
-  @SuppressWarnings("deprecation")
   @Test
-  public void computeBestPreviewSize_shouldUse720PWhenResolutionPresetVeryHighLegacy() {
-    ResolutionFeature.computeBestPreviewSize(1, ResolutionPreset.veryHigh);
+  public void getPreviewSize_shouldUse720PWhenResolutionPresetVeryHighLegacy() {
+    mockLegacyProfileSizes();
 
-    mockedStaticProfile.verify(() -> CamcorderProfile.get(1, CamcorderProfile.QUALITY_720P));
+    assertEquals(SIZE_720P, getPreviewSize(ResolutionPreset.veryHigh));
   }
 
   @Config(minSdk = 31)
-  @SuppressWarnings("deprecation")
   @Test
-  public void computeBestPreviewSize_shouldUse720PWhenResolutionPresetVeryHigh() {
-    before();
-    ResolutionFeature.computeBestPreviewSize(1, ResolutionPreset.veryHigh);
+  public void getPreviewSize_shouldUse720PWhenResolutionPresetVeryHigh() {
+    mockEncoderProfileSizes();
 
-    mockedStaticProfile.verify(() -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_720P));
+    assertEquals(SIZE_720P, getPreviewSize(ResolutionPreset.veryHigh));
   }
 
   @Config(maxSdk = 30)
-  @SuppressWarnings("deprecation")
   @Test
-  public void computeBestPreviewSize_shouldUse720PWhenResolutionPresetHighLegacy() {
-    ResolutionFeature.computeBestPreviewSize(1, ResolutionPreset.high);
+  public void getPreviewSize_shouldUse720PWhenResolutionPresetHighLegacy() {
+    mockLegacyProfileSizes();
 
-    mockedStaticProfile.verify(() -> CamcorderProfile.get(1, CamcorderProfile.QUALITY_720P));
+    assertEquals(SIZE_720P, getPreviewSize(ResolutionPreset.high));
   }
 
   @Config(minSdk = 31)
   @Test
-  public void computeBestPreviewSize_shouldUse720PWhenResolutionPresetHigh() {
-    before();
-    ResolutionFeature.computeBestPreviewSize(1, ResolutionPreset.high);
+  public void getPreviewSize_shouldUse720PWhenResolutionPresetHigh() {
+    mockEncoderProfileSizes();
 
-    mockedStaticProfile.verify(() -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_720P));
+    assertEquals(SIZE_720P, getPreviewSize(ResolutionPreset.high));
   }
 
   @Config(maxSdk = 30)
-  @SuppressWarnings("deprecation")
   @Test
-  public void computeBestPreviewSize_shouldUse480PWhenResolutionPresetMediumLegacy() {
-    ResolutionFeature.computeBestPreviewSize(1, ResolutionPreset.medium);
+  public void getPreviewSize_shouldUse480PWhenResolutionPresetMediumLegacy() {
+    mockLegacyProfileSizes();
 
-    mockedStaticProfile.verify(() -> CamcorderProfile.get(1, CamcorderProfile.QUALITY_480P));
+    assertEquals(SIZE_480P, getPreviewSize(ResolutionPreset.medium));
   }
 
   @Config(minSdk = 31)
   @Test
-  public void computeBestPreviewSize_shouldUse480PWhenResolutionPresetMedium() {
-    before();
-    ResolutionFeature.computeBestPreviewSize(1, ResolutionPreset.medium);
+  public void getPreviewSize_shouldUse480PWhenResolutionPresetMedium() {
+    mockEncoderProfileSizes();
 
-    mockedStaticProfile.verify(() -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_480P));
+    assertEquals(SIZE_480P, getPreviewSize(ResolutionPreset.medium));
   }
 
   @Config(maxSdk = 30)
-  @SuppressWarnings("deprecation")
   @Test
-  public void computeBestPreviewSize_shouldUseQVGAWhenResolutionPresetLowLegacy() {
-    ResolutionFeature.computeBestPreviewSize(1, ResolutionPreset.low);
+  public void getPreviewSize_shouldUseQVGAWhenResolutionPresetLowLegacy() {
+    mockLegacyProfileSizes();
 
-    mockedStaticProfile.verify(() -> CamcorderProfile.get(1, CamcorderProfile.QUALITY_QVGA));
+    assertEquals(SIZE_QVGA, getPreviewSize(ResolutionPreset.low));
   }
 
   @Config(minSdk = 31)
   @Test
-  public void computeBestPreviewSize_shouldUseQVGAWhenResolutionPresetLow() {
-    before();
-    ResolutionFeature.computeBestPreviewSize(1, ResolutionPreset.low);
+  public void getPreviewSize_shouldUseQVGAWhenResolutionPresetLow() {
+    mockEncoderProfileSizes();
+
+    assertEquals(SIZE_QVGA, getPreviewSize(ResolutionPreset.low));
+  }
 
-    mockedStaticProfile.verify(() -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_QVGA));
+  private static Size getPreviewSize(ResolutionPreset preset) {
+    return new ResolutionFeature(mock(CameraProperties.class), preset, cameraName)
+        .getPreviewSize();
+  }
+
+  @SuppressWarnings("deprecation")
+  private void mockLegacyProfileSizes() {
+    for (int i = 0; i < QUALITIES.length; i++) {
+      CamcorderProfile profile = mock(CamcorderProfile.class);
+      profile.videoFrameWidth = SIZES[i].getWidth();
+      profile.videoFrameHeight = SIZES[i].getHeight();
+      int quality = QUALITIES[i];
+      mockedStaticProfile.when(() -> CamcorderProfile.get(1, quality)).thenReturn(profile);
+    }
+  }
+
+  private void mockEncoderProfileSizes() {
+    for (int i = 0; i < QUALITIES.length; i++) {
+      EncoderProfiles profile = mock(EncoderProfiles.class);
+      EncoderProfiles.VideoProfile videoProfile = mock(EncoderProfiles.VideoProfile.class);
+      when(profile.getVideoProfiles()).thenReturn(List.of(videoProfile));
+      when(videoProfile.getWidth()).thenReturn(SIZES[i].getWidth());
+      when(videoProfile.getHeight()).thenReturn(SIZES[i].getHeight());
+      int quality = QUALITIES[i];
+      mockedStaticProfile.when(() -> CamcorderProfile.getAll("1", quality)).thenReturn(profile);
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private void mockOnlyLowestQuality() {
+    int[] qualities = {
+      CamcorderProfile.QUALITY_HIGH,
+      CamcorderProfile.QUALITY_2160P,
+      CamcorderProfile.QUALITY_1080P,
+      CamcorderProfile.QUALITY_720P,
+      CamcorderProfile.QUALITY_480P,
+      CamcorderProfile.QUALITY_QVGA
+    };
+    for (int quality : qualities) {
+      mockedStaticProfile.when(() -> CamcorderProfile.hasProfile(1, quality)).thenReturn(false);
+    }
   }
 }
@@ -0,0 +1,100 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.features.resolution;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+
+import android.media.CamcorderProfile;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+/**
+ * Measures the work done at camera creation to resolve the {@link ResolutionPreset}s through the
+ * {@link ResolutionProfileTable}.
+ *
+ * <p>Only the lowest quality is available, which is the worst case: resolving any preset walks
+ * every quality level. The profile probes are counted rather than timed, since a mocked probe is
+ * far cheaper than the binder call it stands for.
+ */
+@SuppressWarnings("deprecation")
+public class ResolutionProfileTableBenchmarkTest {
+  private static final int CREATES = 1000;
+  private static final int QUALITY_LEVELS = 7;
+
+  private final AtomicInteger probes = new AtomicInteger();
+  private final AtomicInteger profileReads = new AtomicInteger();
+  private MockedStatic<CamcorderProfile> mockedStaticProfile;
+
+  @Before
+  public void before() {
+    CamcorderProfile profile = mock(CamcorderProfile.class);
+    mockedStaticProfile = mockStatic(CamcorderProfile.class);
+    mockedStaticProfile
+        .when(() -> CamcorderProfile.hasProfile(anyInt(), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              probes.incrementAndGet();
+              return (int) invocation.getArgument(1) == CamcorderProfile.QUALITY_LOW;
+            });
+    mockedStaticProfile
+        .when(() -> CamcorderProfile.get(anyInt(), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              profileReads.incrementAndGet();
+              return profile;
+            });
+    ResolutionProfileTable.clearCache();
+  }
+
+  @After
+  public void after() {
+    ResolutionProfileTable.clearCache();
+    mockedStaticProfile.close();
+  }
+
+  @Test
+  public void build_shouldProbeEachQualityOnceAndOnlyReadAvailableProfiles() {
+    ResolutionProfileTable.forCamera(1);
+
+    assertEquals(QUALITY_LEVELS, probes.get());
+    assertEquals(1, profileReads.get());
+  }
+
+  @Test
+  public void createTimeLookup_shouldNotProbeOnceTheTableIsBuilt() {
+    ResolutionProfileTable.forCamera(1);
+    probes.set(0);
+    profileReads.set(0);
+
+    for (int i = 0; i < CREATES; i++) {
+      for (ResolutionPreset preset : ResolutionPreset.values()) {
+        ResolutionProfileTable.forCamera(1).get(preset);
+      }
+    }
+
+    assertEquals(0, probes.get());
+    assertEquals(0, profileReads.get());
+  }
+
+  @Test
+  public void createTimeLookup_shouldBuildEachCameraTableOnce() {
+    for (int i = 0; i < CREATES; i++) {
+      for (int cameraId = 0; cameraId < 2; cameraId++) {
+        for (ResolutionPreset preset : ResolutionPreset.values()) {
+          ResolutionProfileTable.forCamera(cameraId).get(preset);
+        }
+      }
+    }
+
+    assertEquals(2 * QUALITY_LEVELS, probes.get());
+    assertEquals(2, profileReads.get());
+  }
+}
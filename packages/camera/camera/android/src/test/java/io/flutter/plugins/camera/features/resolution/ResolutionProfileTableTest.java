@@ -0,0 +1,103 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.features.resolution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+
+import android.media.CamcorderProfile;
+import android.util.Size;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.MockedStatic;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(maxSdk = 30)
+@SuppressWarnings("deprecation")
+public class ResolutionProfileTableTest {
+  private MockedStatic<CamcorderProfile> mockedStaticProfile;
+
+  @Before
+  public void before() {
+    mockedStaticProfile = mockStatic(CamcorderProfile.class);
+    mockProfile(CamcorderProfile.QUALITY_1080P, 1920, 1080);
+    mockProfile(CamcorderProfile.QUALITY_720P, 1280, 720);
+    mockProfile(CamcorderProfile.QUALITY_QVGA, 320, 240);
+    mockProfile(CamcorderProfile.QUALITY_LOW, 176, 144);
+  }
+
+  @After
+  public void after() {
+    ResolutionProfileTable.clearCache();
+    mockedStaticProfile.close();
+  }
+
+  @Test
+  public void ctor_shouldProbeEveryQualityOnce() {
+    new ResolutionProfileTable(1);
+
+    mockedStaticProfile.verify(() -> CamcorderProfile.hasProfile(anyInt(), anyInt()), times(7));
+    mockedStaticProfile.verify(() -> CamcorderProfile.get(anyInt(), anyInt()), times(4));
+  }
+
+  @Test
+  public void get_shouldFallThroughToTheNextAvailableQuality() {
+    ResolutionProfileTable table = new ResolutionProfileTable(1);
+
+    assertEquals(new Size(1920, 1080), table.get(ResolutionPreset.max).getCaptureSize());
+    assertEquals(new Size(1920, 1080), table.get(ResolutionPreset.veryHigh).getCaptureSize());
+    assertEquals(new Size(1280, 720), table.get(ResolutionPreset.high).getCaptureSize());
+    assertEquals(new Size(320, 240), table.get(ResolutionPreset.medium).getCaptureSize());
+    assertEquals(new Size(320, 240), table.get(ResolutionPreset.low).getCaptureSize());
+  }
+
+  @Test
+  public void get_shouldCapPreviewSizeAtHigh() {
+    ResolutionProfileTable table = new ResolutionProfileTable(1);
+
+    assertEquals(new Size(1280, 720), table.get(ResolutionPreset.max).getPreviewSize());
+    assertEquals(new Size(1280, 720), table.get(ResolutionPreset.high).getPreviewSize());
+    assertEquals(new Size(320, 240), table.get(ResolutionPreset.low).getPreviewSize());
+  }
+
+  @Test
+  public void get_shouldOnlyHoldLegacyProfileBelowSdk31() {
+    ResolutionProfileTable.Entry entry = new ResolutionProfileTable(1).get(ResolutionPreset.high);
+
+    assertSame(
+        CamcorderProfile.get(1, CamcorderProfile.QUALITY_720P), entry.getRecordingProfileLegacy());
+    assertNull(entry.getRecordingProfile());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void get_shouldThrowWhenNoProfileIsAvailable() {
+    new ResolutionProfileTable(2).get(ResolutionPreset.low);
+  }
+
+  @Test
+  public void forCamera_shouldReuseTheTableOfACamera() {
+    ResolutionProfileTable table = ResolutionProfileTable.forCamera(1);
+
+    assertSame(table, ResolutionProfileTable.forCamera(1));
+    mockedStaticProfile.verify(() -> CamcorderProfile.hasProfile(anyInt(), anyInt()), times(7));
+  }
+
+  private void mockProfile(int quality, int width, int height) {
+    CamcorderProfile profile = mock(CamcorderProfile.class);
+    profile.videoFrameWidth = width;
+    profile.videoFrameHeight = height;
+    mockedStaticProfile.when(() -> CamcorderProfile.hasProfile(1, quality)).thenReturn(true);
+    mockedStaticProfile.when(() -> CamcorderProfile.get(1, quality)).thenReturn(profile);
+  }
+}
@@ -5,7 +5,10 @@
 package io.flutter.plugins.camera.features.sensororientation;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -18,6 +21,9 @@ import android.app.Activity;
 import android.content.Context;
 import android.content.res.Configuration;
 import android.content.res.Resources;
+import android.hardware.Sensor;
+import android.hardware.SensorEventListener;
+import android.hardware.SensorManager;
 import android.provider.Settings;
 import android.view.Display;
 import android.view.Surface;
@@ -281,6 +287,94 @@ public class DeviceOrientationManagerTest {
     assertEquals(DeviceOrientation.LANDSCAPE_RIGHT, orientation);
   }
 
+  @Test
+  public void calculateSensorAngle() {
+    assertEquals(0, DeviceOrientationManager.calculateSensorAngle(0f, 9.8f, 0f));
+    assertEquals(90, DeviceOrientationManager.calculateSensorAngle(-9.8f, 0f, 0f));
+    assertEquals(180, DeviceOrientationManager.calculateSensorAngle(0f, -9.8f, 0f));
+    assertEquals(270, DeviceOrientationManager.calculateSensorAngle(9.8f, 0f, 0f));
+    // Lying flat on a table.
+    assertEquals(-1, DeviceOrientationManager.calculateSensorAngle(0.5f, 0.5f, 9.8f));
+  }
+
+  @Test
+  public void calculateQuadrant_shouldApplyHysteresisAroundBoundaries() {
+    assertEquals(1, DeviceOrientationManager.calculateQuadrant(50, -1, 15));
+    assertEquals(0, DeviceOrientationManager.calculateQuadrant(50, 0, 15));
+    assertEquals(0, DeviceOrientationManager.calculateQuadrant(60, 0, 15));
+    assertEquals(1, DeviceOrientationManager.calculateQuadrant(61, 0, 15));
+    assertEquals(0, DeviceOrientationManager.calculateQuadrant(300, 0, 15));
+    assertEquals(3, DeviceOrientationManager.calculateQuadrant(299, 0, 15));
+    assertEquals(2, DeviceOrientationManager.calculateQuadrant(120, 2, 15));
+  }
+
+  @Test
+  public void handleSensorSample_shouldOnlySendQuadrantChanges() {
+    setUpUIOrientationMocks(Configuration.ORIENTATION_PORTRAIT, Surface.ROTATION_0);
+    SensorManager mockSensorManager = setUpSensorMocks();
+    assertTrue(deviceOrientationManager.startSensorTracking(SensorManager.SENSOR_DELAY_UI, 15));
+
+    deviceOrientationManager.handleSensorSample(0f, 9.8f, 0f);
+    deviceOrientationManager.handleSensorSample(0.2f, 9.7f, 0.1f);
+    // About 50 degrees, still within the hysteresis of portrait.
+    deviceOrientationManager.handleSensorSample(-7.5f, 6.3f, 0f);
+    // Flat samples are ignored.
+    deviceOrientationManager.handleSensorSample(0f, 0f, 9.8f);
+    deviceOrientationManager.handleSensorSample(-9.8f, 0f, 0f);
+    deviceOrientationManager.handleSensorSample(-9.7f, 0.3f, 0f);
+
+    verify(mockDartMessenger, times(1))
+        .sendDeviceOrientationChangeEvent(DeviceOrientation.PORTRAIT_UP);
+    verify(mockDartMessenger, times(1))
+        .sendDeviceOrientationChangeEvent(DeviceOrientation.LANDSCAPE_LEFT);
+    verify(mockDartMessenger, times(2)).sendDeviceOrientationChangeEvent(any());
+    assertEquals(
+        deviceOrientationManager.getVideoOrientation(DeviceOrientation.LANDSCAPE_LEFT),
+        deviceOrientationManager.getVideoOrientation());
+
+    deviceOrientationManager.stop();
+    verify(mockSensorManager).unregisterListener(any(SensorEventListener.class));
+    assertFalse(deviceOrientationManager.isSensorTracking());
+  }
+
+  @Test
+  public void handleUIOrientationChange_shouldNotSendMessageWhileSensorTracking() {
+    setUpUIOrientationMocks(Configuration.ORIENTATION_LANDSCAPE, Surface.ROTATION_90);
+    setUpSensorMocks();
+    deviceOrientationManager.startSensorTracking(SensorManager.SENSOR_DELAY_NORMAL, 15);
+
+    deviceOrientationManager.handleUIOrientationChange();
+
+    verify(mockDartMessenger, never()).sendDeviceOrientationChangeEvent(any());
+    assertEquals(DeviceOrientation.LANDSCAPE_LEFT, deviceOrientationManager.getLastUIOrientation());
+  }
+
+  @Test
+  public void startSensorTracking_shouldReturnFalseWithoutAccelerometer() {
+    SensorManager mockSensorManager = mock(SensorManager.class);
+    when(mockActivity.getSystemService(Context.SENSOR_SERVICE)).thenReturn(mockSensorManager);
+
+    assertFalse(
+        deviceOrientationManager.startSensorTracking(SensorManager.SENSOR_DELAY_NORMAL, 15));
+    assertFalse(deviceOrientationManager.isSensorTracking());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void startSensorTracking_shouldRejectInvalidHysteresis() {
+    deviceOrientationManager.startSensorTracking(SensorManager.SENSOR_DELAY_NORMAL, 45);
+  }
+
+  private SensorManager setUpSensorMocks() {
+    SensorManager mockSensorManager = mock(SensorManager.class);
+    Sensor mockSensor = mock(Sensor.class);
+    when(mockActivity.getSystemService(Context.SENSOR_SERVICE)).thenReturn(mockSensorManager);
+    when(mockSensorManager.getDefaultSensor(Sensor.TYPE_ACCELEROMETER)).thenReturn(mockSensor);
+    when(mockSensorManager.registerListener(
+            any(SensorEventListener.class), eq(mockSensor), anyInt()))
+        .thenReturn(true);
+    return mockSensorManager;
+  }
+
   private void setUpUIOrientationMocks(int orientation, int rotation) {
     Resources mockResources = mock(Resources.class);
     Configuration mockConfiguration = mock(Configuration.class);
@@ -0,0 +1,105 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.flutter.plugin.common.EventChannel;
+import org.junit.Test;
+
+public class ImageStreamBackpressureTest {
+  private final ImageStreamBufferPool pool = new ImageStreamBufferPool();
+
+  @Test
+  public void all_shouldDeliverEveryFrame() {
+    ImageStreamBackpressure backpressure = ImageStreamBackpressure.deliverAll();
+
+    for (int i = 0; i < 5; i++) {
+      assertTrue(backpressure.shouldCopyFrame());
+      backpressure.onFramePosted(pool.obtainFrame());
+    }
+
+    assertEquals(5, backpressure.getFramesInFlight());
+    assertEquals(0, backpressure.getDroppedFrames());
+  }
+
+  @Test
+  public void boundedQueue_shouldDropFramesWhileQueueIsFull() {
+    ImageStreamBackpressure backpressure =
+        new ImageStreamBackpressure(ImageStreamBackpressureMode.boundedQueue, 2, 1);
+    ImageStreamFrame first = pool.obtainFrame();
+
+    assertTrue(backpressure.shouldCopyFrame());
+    backpressure.onFramePosted(first);
+    assertTrue(backpressure.shouldCopyFrame());
+    backpressure.onFramePosted(pool.obtainFrame());
+    assertFalse(backpressure.shouldCopyFrame());
+    first.run();
+
+    assertTrue(backpressure.shouldCopyFrame());
+    assertEquals(1, backpressure.getFramesInFlight());
+    assertEquals(1, backpressure.getDroppedFrames());
+  }
+
+  @Test
+  public void everyNthFrame_shouldOnlyCopyEveryNthFrame() {
+    ImageStreamBackpressure backpressure =
+        new ImageStreamBackpressure(ImageStreamBackpressureMode.everyNthFrame, 1, 3);
+
+    assertTrue(backpressure.shouldCopyFrame());
+    assertFalse(backpressure.shouldCopyFrame());
+    assertFalse(backpressure.shouldCopyFrame());
+    assertTrue(backpressure.shouldCopyFrame());
+    assertEquals(2, backpressure.getDroppedFrames());
+  }
+
+  @Test
+  public void latestOnly_shouldCancelUndeliveredFrame() {
+    ImageStreamBackpressure backpressure =
+        new ImageStreamBackpressure(ImageStreamBackpressureMode.latestOnly, 1, 1);
+    EventChannel.EventSink mockSink = mock(EventChannel.EventSink.class);
+    ImageStreamFrame first = pool.obtainFrame();
+    ImageStreamFrame second = pool.obtainFrame();
+    first.setSink(mockSink);
+    second.setSink(mockSink);
+
+    backpressure.onFramePosted(first);
+    backpressure.onFramePosted(second);
+    first.run();
+
+    verify(mockSink, never()).success(first.getImageBuffer());
+    assertEquals(1, backpressure.getDroppedFrames());
+    assertEquals(1L, second.getImageBuffer().get("droppedFrames"));
+
+    second.run();
+
+    verify(mockSink, times(1)).success(second.getImageBuffer());
+    assertEquals(0, backpressure.getFramesInFlight());
+  }
+
+  @Test
+  public void latestOnly_shouldNotCancelDeliveredFrame() {
+    ImageStreamBackpressure backpressure =
+        new ImageStreamBackpressure(ImageStreamBackpressureMode.latestOnly, 1, 1);
+    ImageStreamFrame first = pool.obtainFrame();
+
+    backpressure.onFramePosted(first);
+    first.run();
+    backpressure.onFramePosted(pool.obtainFrame());
+
+    assertEquals(0, backpressure.getDroppedFrames());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ctor_shouldRejectInvalidFrameInterval() {
+    new ImageStreamBackpressure(ImageStreamBackpressureMode.everyNthFrame, 1, 0);
+  }
+}
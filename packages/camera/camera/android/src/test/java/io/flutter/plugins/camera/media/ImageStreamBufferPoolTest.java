@@ -0,0 +1,91 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class ImageStreamBufferPoolTest {
+  @Test
+  public void acquire_shouldAllocateWhenPoolIsEmpty() {
+    ImageStreamBufferPool pool = new ImageStreamBufferPool();
+
+    byte[] buffer = pool.acquire(16);
+
+    assertEquals(16, buffer.length);
+    assertEquals(0, pool.getHitCount());
+    assertEquals(1, pool.getMissCount());
+  }
+
+  @Test
+  public void acquire_shouldReuseReleasedBufferOfSameSize() {
+    ImageStreamBufferPool pool = new ImageStreamBufferPool();
+    byte[] buffer = pool.acquire(16);
+
+    pool.release(buffer);
+
+    assertSame(buffer, pool.acquire(16));
+    assertEquals(1, pool.getHitCount());
+    assertEquals(1, pool.getMissCount());
+  }
+
+  @Test
+  public void acquire_shouldNotReuseBufferOfDifferentSize() {
+    ImageStreamBufferPool pool = new ImageStreamBufferPool();
+    byte[] buffer = pool.acquire(16);
+
+    pool.release(buffer);
+
+    assertEquals(8, pool.acquire(8).length);
+    assertEquals(0, pool.getHitCount());
+    assertEquals(2, pool.getMissCount());
+  }
+
+  @Test
+  public void release_shouldDropBuffersAboveLimit() {
+    ImageStreamBufferPool pool = new ImageStreamBufferPool(1);
+    byte[] first = pool.acquire(4);
+    byte[] second = pool.acquire(4);
+
+    pool.release(first);
+    pool.release(second);
+
+    assertSame(first, pool.acquire(4));
+    assertNotSame(second, pool.acquire(4));
+  }
+
+  @Test
+  public void clear_shouldDropIdleBuffers() {
+    ImageStreamBufferPool pool = new ImageStreamBufferPool();
+    byte[] buffer = pool.acquire(4);
+    pool.release(buffer);
+
+    pool.clear();
+
+    assertNotSame(buffer, pool.acquire(4));
+  }
+
+  @Test
+  public void recycle_shouldReleasePlaneBuffersAndReuseFrame() {
+    ImageStreamBufferPool pool = new ImageStreamBufferPool();
+    ImageStreamFrame frame = pool.obtainFrame();
+    byte[] buffer = pool.acquire(4);
+    frame.setPlaneCount(1);
+    frame.setPlane(0, buffer, 4, 1);
+
+    pool.recycle(frame);
+
+    assertSame(frame, pool.obtainFrame());
+    assertSame(buffer, pool.acquire(4));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ctor_shouldRejectNonPositiveLimit() {
+    new ImageStreamBufferPool(0);
+  }
+}
@@ -0,0 +1,108 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.graphics.ImageFormat;
+import android.media.Image;
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugins.camera.types.CameraCaptureProperties;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ImageStreamFrameTest {
+  private ImageStreamBufferPool pool;
+  private CameraCaptureProperties captureProperties;
+
+  @Before
+  public void before() {
+    pool = new ImageStreamBufferPool();
+    captureProperties = new CameraCaptureProperties();
+    captureProperties.setLastLensAperture(1.8f);
+    captureProperties.setLastSensorExposureTime(100L);
+    captureProperties.setLastSensorSensitivity(200);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void copyFrom_shouldCopyPlanesAndMetadata() {
+    ImageStreamFrame frame = pool.obtainFrame();
+
+    frame.copyFrom(mockImage(new byte[] {1, 2, 3}), captureProperties);
+
+    Map<String, Object> imageBuffer = frame.getImageBuffer();
+    assertEquals(4, imageBuffer.get("width"));
+    assertEquals(2, imageBuffer.get("height"));
+    assertEquals(ImageFormat.YUV_420_888, imageBuffer.get("format"));
+    assertEquals(1.8f, imageBuffer.get("lensAperture"));
+    assertEquals(100L, imageBuffer.get("sensorExposureTime"));
+    assertEquals(200.0, imageBuffer.get("sensorSensitivity"));
+    List<Map<String, Object>> planes = (List<Map<String, Object>>) imageBuffer.get("planes");
+    assertEquals(1, planes.size());
+    assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) planes.get(0).get("bytes"));
+    assertEquals(4, planes.get(0).get("bytesPerRow"));
+    assertEquals(1, planes.get(0).get("bytesPerPixel"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void run_shouldDeliverFrameAndRecycleBuffers() {
+    EventChannel.EventSink mockSink = mock(EventChannel.EventSink.class);
+    ImageStreamFrame frame = pool.obtainFrame();
+    frame.copyFrom(mockImage(new byte[] {1, 2, 3}), captureProperties);
+    List<Map<String, Object>> planes =
+        (List<Map<String, Object>>) frame.getImageBuffer().get("planes");
+    byte[] bytes = (byte[]) planes.get(0).get("bytes");
+    frame.setSink(mockSink);
+
+    frame.run();
+
+    verify(mockSink, times(1)).success(frame.getImageBuffer());
+    assertNull(planes.get(0).get("bytes"));
+    assertSame(frame, pool.obtainFrame());
+    assertSame(bytes, pool.acquire(3));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void copyFrom_shouldReusePooledBuffersInSteadyState() {
+    ImageStreamFrame frame = pool.obtainFrame();
+    frame.copyFrom(mockImage(new byte[] {1, 2, 3}), captureProperties);
+    frame.run();
+
+    ImageStreamFrame recycled = pool.obtainFrame();
+    recycled.copyFrom(mockImage(new byte[] {4, 5, 6}), captureProperties);
+
+    List<Map<String, Object>> planes =
+        (List<Map<String, Object>>) recycled.getImageBuffer().get("planes");
+    assertArrayEquals(new byte[] {4, 5, 6}, (byte[]) planes.get(0).get("bytes"));
+    assertEquals(1, pool.getHitCount());
+    assertEquals(1, pool.getMissCount());
+  }
+
+  private static Image mockImage(byte[] bytes) {
+    Image mockImage = mock(Image.class);
+    Image.Plane mockPlane = mock(Image.Plane.class);
+    when(mockPlane.getBuffer()).thenReturn(ByteBuffer.wrap(bytes));
+    when(mockPlane.getRowStride()).thenReturn(4);
+    when(mockPlane.getPixelStride()).thenReturn(1);
+    when(mockImage.getPlanes()).thenReturn(new Image.Plane[] {mockPlane});
+    when(mockImage.getWidth()).thenReturn(4);
+    when(mockImage.getHeight()).thenReturn(2);
+    when(mockImage.getFormat()).thenReturn(ImageFormat.YUV_420_888);
+    return mockImage;
+  }
+}
@@ -0,0 +1,131 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.graphics.ImageFormat;
+import android.media.Image;
+import io.flutter.plugins.camera.types.CameraCaptureProperties;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class ImageStreamTransformTest {
+  private final ImageStreamBufferPool pool = new ImageStreamBufferPool();
+
+  @Test
+  public void identity_shouldNotApplyToAnyFormat() {
+    ImageStreamTransform transform = ImageStreamTransform.identity();
+
+    assertTrue(transform.isIdentity());
+    assertFalse(transform.appliesTo(ImageFormat.YUV_420_888));
+  }
+
+  @Test
+  public void appliesTo_shouldOnlyApplyToYuvFrames() {
+    ImageStreamTransform transform = new ImageStreamTransform(0, 0, 0, 0, 2, false, false);
+
+    assertTrue(transform.appliesTo(ImageFormat.YUV_420_888));
+    assertFalse(transform.appliesTo(ImageFormat.JPEG));
+  }
+
+  @Test
+  public void copy_shouldCropLumaAndChromaPlanes() {
+    ImageStreamTransform transform = new ImageStreamTransform(2, 2, 2, 2, 1, false, false);
+    ImageStreamFrame frame = pool.obtainFrame();
+
+    frame.copyFrom(mockYuvImage(), new CameraCaptureProperties(), transform);
+
+    List<Map<String, Object>> planes = getPlanes(frame);
+    assertEquals(2, frame.getImageBuffer().get("width"));
+    assertEquals(2, frame.getImageBuffer().get("height"));
+    assertEquals(3, planes.size());
+    assertArrayEquals(new byte[] {10, 11, 14, 15}, (byte[]) planes.get(0).get("bytes"));
+    assertEquals(2, planes.get(0).get("bytesPerRow"));
+    // Chroma is stored interleaved with a pixel stride of 2 and compacted on copy.
+    assertArrayEquals(new byte[] {106}, (byte[]) planes.get(1).get("bytes"));
+    assertArrayEquals(new byte[] {107}, (byte[]) planes.get(2).get("bytes"));
+    assertEquals(1, planes.get(1).get("bytesPerPixel"));
+  }
+
+  @Test
+  public void copy_shouldSubsampleLumaOnly() {
+    ImageStreamTransform transform = new ImageStreamTransform(0, 0, 0, 0, 2, true, false);
+    ImageStreamFrame frame = pool.obtainFrame();
+
+    frame.copyFrom(mockYuvImage(), new CameraCaptureProperties(), transform);
+
+    List<Map<String, Object>> planes = getPlanes(frame);
+    assertEquals(2, frame.getImageBuffer().get("width"));
+    assertEquals(2, frame.getImageBuffer().get("height"));
+    assertEquals(1, planes.size());
+    assertArrayEquals(new byte[] {0, 2, 8, 10}, (byte[]) planes.get(0).get("bytes"));
+  }
+
+  @Test
+  public void copy_shouldRemoveRowPaddingWhenCompacting() {
+    ImageStreamTransform transform = new ImageStreamTransform(0, 0, 0, 0, 1, true, true);
+    ImageStreamFrame frame = pool.obtainFrame();
+
+    frame.copyFrom(mockYuvImage(), new CameraCaptureProperties(), transform);
+
+    List<Map<String, Object>> planes = getPlanes(frame);
+    assertArrayEquals(
+        new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15},
+        (byte[]) planes.get(0).get("bytes"));
+    assertEquals(4, planes.get(0).get("bytesPerRow"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ctor_shouldRejectInvalidSubsampleFactor() {
+    new ImageStreamTransform(0, 0, 0, 0, 0, false, false);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Map<String, Object>> getPlanes(ImageStreamFrame frame) {
+    return (List<Map<String, Object>>) frame.getImageBuffer().get("planes");
+  }
+
+  /**
+   * Creates a 4x4 YUV_420_888 image with a luma row stride of 8 and interleaved chroma planes.
+   *
+   * <p>Luma pixel (x, y) has the value {@code y * 4 + x}, chroma values start at 100.
+   */
+  private static Image mockYuvImage() {
+    byte[] luma = new byte[8 * 4];
+    for (int y = 0; y < 4; y++) {
+      for (int x = 0; x < 4; x++) {
+        luma[y * 8 + x] = (byte) (y * 4 + x);
+      }
+    }
+    // Interleaved UV data shared by both chroma planes: U at even and V at odd offsets.
+    byte[] chroma = new byte[] {100, 101, 102, 103, 104, 105, 106, 107};
+    Image.Plane yPlane = mockPlane(ByteBuffer.wrap(luma), 8, 1);
+    Image.Plane uPlane = mockPlane(ByteBuffer.wrap(chroma, 0, 7).slice(), 4, 2);
+    Image.Plane vPlane = mockPlane(ByteBuffer.wrap(chroma, 1, 7).slice(), 4, 2);
+
+    Image mockImage = mock(Image.class);
+    when(mockImage.getPlanes()).thenReturn(new Image.Plane[] {yPlane, uPlane, vPlane});
+    when(mockImage.getWidth()).thenReturn(4);
+    when(mockImage.getHeight()).thenReturn(4);
+    when(mockImage.getFormat()).thenReturn(ImageFormat.YUV_420_888);
+    return mockImage;
+  }
+
+  private static Image.Plane mockPlane(ByteBuffer buffer, int rowStride, int pixelStride) {
+    Image.Plane mockPlane = mock(Image.Plane.class);
+    when(mockPlane.getBuffer()).thenReturn(buffer);
+    when(mockPlane.getRowStride()).thenReturn(rowStride);
+    when(mockPlane.getPixelStride()).thenReturn(pixelStride);
+    return mockPlane;
+  }
+}
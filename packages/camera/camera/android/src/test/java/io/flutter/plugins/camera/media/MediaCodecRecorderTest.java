@@ -0,0 +1,253 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.media.CamcorderProfile;
+import android.media.MediaCodec;
+import android.media.MediaCodecInfo;
+import android.media.MediaFormat;
+import android.media.MediaMuxer;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.view.Surface;
+import io.flutter.plugins.camera.features.resolution.ResolutionProfileTable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class MediaCodecRecorderTest {
+  private MediaCodecRecorder.MediaCodecFactory mockFactory;
+  private MediaCodec mockEncoder;
+  private MediaFormat mockFormat;
+  private MediaMuxer mockMuxer;
+  private Surface mockSurface;
+  private Handler mockHandler;
+  private ResolutionProfileTable.Entry mockProfile;
+
+  @Before
+  @SuppressWarnings("deprecation")
+  public void before() throws IOException {
+    mockFactory = mock(MediaCodecRecorder.MediaCodecFactory.class);
+    mockEncoder = mock(MediaCodec.class);
+    mockFormat = mock(MediaFormat.class);
+    mockMuxer = mock(MediaMuxer.class);
+    mockSurface = mock(Surface.class);
+
+    CamcorderProfile camcorderProfile = mock(CamcorderProfile.class);
+    camcorderProfile.videoFrameWidth = 1280;
+    camcorderProfile.videoFrameHeight = 720;
+    camcorderProfile.videoFrameRate = 30;
+    camcorderProfile.videoBitRate = 10000000;
+    mockProfile = mock(ResolutionProfileTable.Entry.class);
+    when(mockProfile.getRecordingProfileLegacy()).thenReturn(camcorderProfile);
+
+    when(mockFactory.findEncoder(MediaFormat.MIMETYPE_VIDEO_AVC)).thenReturn("c2.avc.encoder");
+    when(mockFactory.createEncoder(any(), any())).thenReturn(mockEncoder);
+    when(mockFactory.createVideoFormat(any(), anyInt(), anyInt())).thenReturn(mockFormat);
+    when(mockFactory.createMuxer("out.mp4")).thenReturn(mockMuxer);
+    when(mockFactory.createEncoderThread()).thenReturn(mock(HandlerThread.class));
+    mockHandler = mock(Handler.class);
+    when(mockHandler.post(any()))
+        .thenAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return true;
+            });
+    when(mockFactory.createHandler(any())).thenReturn(mockHandler);
+    when(mockEncoder.createInputSurface()).thenReturn(mockSurface);
+    when(mockEncoder.getOutputBuffer(anyInt())).thenReturn(ByteBuffer.allocate(16));
+  }
+
+  @Test
+  public void prepare_shouldConfigureEncoderFromProfileAndOptions() throws IOException {
+    MediaCodecRecorder recorder =
+        new MediaCodecRecorder(mockProfile, "out.mp4", mockFactory)
+            .setBitrate(4000000)
+            .setBitrateMode("cbr")
+            .setMediaOrientation(90);
+
+    recorder.prepare();
+
+    verify(mockFactory).createVideoFormat(MediaFormat.MIMETYPE_VIDEO_AVC, 1280, 720);
+    verify(mockFactory).createEncoder("c2.avc.encoder", MediaFormat.MIMETYPE_VIDEO_AVC);
+    verify(mockFormat).setInteger(MediaFormat.KEY_BIT_RATE, 4000000);
+    verify(mockFormat).setInteger(MediaFormat.KEY_FRAME_RATE, 30);
+    verify(mockFormat)
+        .setInteger(
+            MediaFormat.KEY_BITRATE_MODE, MediaCodecInfo.EncoderCapabilities.BITRATE_MODE_CBR);
+    verify(mockEncoder).configure(mockFormat, null, null, MediaCodec.CONFIGURE_FLAG_ENCODE);
+    verify(mockMuxer).setOrientationHint(90);
+    assertEquals(mockSurface, recorder.getSurface());
+  }
+
+  @Test
+  public void prepare_shouldUseProfileBitrateAndFallBackToAvcWithoutHevcEncoder()
+      throws IOException {
+    MediaCodecRecorder recorder =
+        new MediaCodecRecorder(mockProfile, "out.mp4", mockFactory).setPreferHevc(true);
+
+    recorder.prepare();
+
+    verify(mockFactory).findEncoder(MediaFormat.MIMETYPE_VIDEO_HEVC);
+    verify(mockFactory).createEncoder("c2.avc.encoder", MediaFormat.MIMETYPE_VIDEO_AVC);
+    verify(mockFormat).setInteger(MediaFormat.KEY_BIT_RATE, 10000000);
+    verify(mockFormat, never()).setInteger(eq(MediaFormat.KEY_BITRATE_MODE), anyInt());
+  }
+
+  @Test
+  public void prepare_shouldUsePersistentInputSurface() throws IOException {
+    Surface persistentSurface = mock(Surface.class);
+    MediaCodecRecorder recorder =
+        new MediaCodecRecorder(mockProfile, "out.mp4", mockFactory)
+            .setInputSurface(persistentSurface);
+
+    recorder.prepare();
+    recorder.release();
+
+    verify(mockEncoder).setInputSurface(persistentSurface);
+    verify(mockEncoder, never()).createInputSurface();
+    verify(persistentSurface, never()).release();
+  }
+
+  @Test
+  public void callback_shouldCountEncodedAndDroppedFrames() throws IOException {
+    MediaCodecRecorder recorder = new MediaCodecRecorder(mockProfile, "out.mp4", mockFactory);
+    recorder.prepare();
+    when(mockMuxer.addTrack(any())).thenReturn(0);
+
+    recorder.callback.onOutputFormatChanged(mockEncoder, mock(MediaFormat.class));
+    recorder.callback.onOutputBufferAvailable(
+        mockEncoder, 0, bufferInfo(0, MediaCodec.BUFFER_FLAG_CODEC_CONFIG));
+    recorder.callback.onOutputBufferAvailable(
+        mockEncoder, 1, bufferInfo(0, MediaCodec.BUFFER_FLAG_KEY_FRAME));
+    recorder.callback.onOutputBufferAvailable(mockEncoder, 2, bufferInfo(33333, 0));
+    recorder.callback.onOutputBufferAvailable(mockEncoder, 3, bufferInfo(66666, 0));
+    // Two frames are missing before this one.
+    recorder.callback.onOutputBufferAvailable(mockEncoder, 4, bufferInfo(166666, 0));
+
+    Map<String, Object> stats = recorder.getStats();
+    verify(mockMuxer).start();
+    verify(mockMuxer, times(4)).writeSampleData(eq(0), any(), any());
+    verify(mockEncoder, times(5)).releaseOutputBuffer(anyInt(), eq(false));
+    assertEquals(4L, stats.get("encodedFrames"));
+    assertEquals(1L, stats.get("keyFrames"));
+    assertEquals(2L, stats.get("droppedFrames"));
+    assertEquals(18.0, (double) stats.get("encodedFps"), 0.01);
+    assertEquals("c2.avc.encoder", stats.get("encoder"));
+  }
+
+  @Test
+  public void callback_shouldCutThePausedDurationFromTheFrameTimestamps() throws IOException {
+    MediaCodecRecorder recorder = new MediaCodecRecorder(mockProfile, "out.mp4", mockFactory);
+    recorder.prepare();
+    when(mockMuxer.addTrack(any())).thenReturn(0);
+    recorder.callback.onOutputFormatChanged(mockEncoder, mock(MediaFormat.class));
+
+    MediaCodec.BufferInfo beforePause = bufferInfo(1000000, 0);
+    recorder.callback.onOutputBufferAvailable(mockEncoder, 0, beforePause);
+    recorder.pause();
+    recorder.resume();
+    // Drained after resume, but encoded before the pause.
+    MediaCodec.BufferInfo drained = bufferInfo(1033333, 0);
+    recorder.callback.onOutputBufferAvailable(mockEncoder, 1, drained);
+    MediaCodec.BufferInfo afterPause = bufferInfo(3033333, 0);
+    recorder.callback.onOutputBufferAvailable(mockEncoder, 2, afterPause);
+    MediaCodec.BufferInfo next = bufferInfo(3066666, 0);
+    recorder.callback.onOutputBufferAvailable(mockEncoder, 3, next);
+
+    assertEquals(1000000, beforePause.presentationTimeUs);
+    assertEquals(1033333, drained.presentationTimeUs);
+    assertEquals(1066666, afterPause.presentationTimeUs);
+    assertEquals(1099999, next.presentationTimeUs);
+    assertEquals(0L, recorder.getStats().get("droppedFrames"));
+  }
+
+  @Test
+  public void stop_shouldDrainEncoderAndFinishFileOnTheEncoderThread() throws IOException {
+    MediaCodecRecorder recorder = new MediaCodecRecorder(mockProfile, "out.mp4", mockFactory);
+    recorder.prepare();
+    recorder.callback.onOutputFormatChanged(mockEncoder, mock(MediaFormat.class));
+    MediaCodecRecorder.OnStoppedListener mockListener =
+        mock(MediaCodecRecorder.OnStoppedListener.class);
+
+    recorder.stop(mockListener);
+
+    verify(mockEncoder).signalEndOfInputStream();
+    verify(mockHandler).postDelayed(any(), anyLong());
+    verify(mockListener, never()).onStopped(any());
+    verify(mockEncoder, never()).release();
+
+    recorder.callback.onOutputBufferAvailable(
+        mockEncoder, 0, bufferInfo(0, MediaCodec.BUFFER_FLAG_END_OF_STREAM));
+
+    verify(mockListener, times(1)).onStopped(null);
+    verify(mockHandler).removeCallbacks(any());
+    verify(mockEncoder).stop();
+    verify(mockEncoder).release();
+    verify(mockMuxer).stop();
+    verify(mockMuxer).release();
+    verify(mockSurface).release();
+  }
+
+  @Test
+  public void stop_shouldReportTheErrorWhenEncoderFailed() throws IOException {
+    MediaCodecRecorder recorder = new MediaCodecRecorder(mockProfile, "out.mp4", mockFactory);
+    recorder.prepare();
+    MediaCodec.CodecException mockException = mock(MediaCodec.CodecException.class);
+    when(mockException.getMessage()).thenReturn("encoder failed");
+    recorder.callback.onError(mockEncoder, mockException);
+    MediaCodecRecorder.OnStoppedListener mockListener =
+        mock(MediaCodecRecorder.OnStoppedListener.class);
+
+    recorder.stop(mockListener);
+
+    verify(mockEncoder, never()).signalEndOfInputStream();
+    verify(mockListener, times(1)).onStopped("encoder failed");
+    verify(mockEncoder).release();
+    verify(mockMuxer).release();
+  }
+
+  @Test
+  public void stop_shouldReportTheErrorWhenEncoderDidNotDrainInTime() throws IOException {
+    MediaCodecRecorder recorder = new MediaCodecRecorder(mockProfile, "out.mp4", mockFactory);
+    recorder.prepare();
+    MediaCodecRecorder.OnStoppedListener mockListener =
+        mock(MediaCodecRecorder.OnStoppedListener.class);
+    recorder.stop(mockListener);
+    ArgumentCaptor<Runnable> timeoutCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler).postDelayed(timeoutCaptor.capture(), anyLong());
+
+    timeoutCaptor.getValue().run();
+    // A late end of stream doesn't report again.
+    recorder.callback.onOutputBufferAvailable(
+        mockEncoder, 0, bufferInfo(0, MediaCodec.BUFFER_FLAG_END_OF_STREAM));
+
+    verify(mockListener, times(1)).onStopped("The video encoder did not finish in time.");
+    verify(mockEncoder, times(1)).release();
+  }
+
+  private static MediaCodec.BufferInfo bufferInfo(long presentationTimeUs, int flags) {
+    MediaCodec.BufferInfo info = new MediaCodec.BufferInfo();
+    info.presentationTimeUs = presentationTimeUs;
+    info.flags = flags;
+    info.size = (flags & MediaCodec.BUFFER_FLAG_END_OF_STREAM) != 0 ? 0 : 16;
+    return info;
+  }
+}
@@ -0,0 +1,60 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.types;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+import org.junit.Test;
+
+public class LatencyStatsTest {
+  @Test
+  public void record_shouldTrackCountAndMaximums() {
+    LatencyStats stats = new LatencyStats();
+
+    stats.record(4, 2000);
+    stats.record(2, 6000);
+
+    assertEquals(2, stats.getCount());
+    assertEquals(4, stats.getMaxQueueDelayMs());
+    assertEquals(6000, stats.getMaxRunTimeNs());
+  }
+
+  @Test
+  public void toMap_shouldReportAverages() {
+    LatencyStats stats = new LatencyStats();
+    stats.record(4, 2000);
+    stats.record(2, 6000);
+
+    Map<String, Object> map = stats.toMap();
+
+    assertEquals(2L, map.get("count"));
+    assertEquals(3.0, map.get("averageQueueDelayMs"));
+    assertEquals(4L, map.get("maxQueueDelayMs"));
+    assertEquals(4.0, map.get("averageRunTimeUs"));
+    assertEquals(6L, map.get("maxRunTimeUs"));
+  }
+
+  @Test
+  public void toMap_shouldReportZeroAveragesWithoutSamples() {
+    Map<String, Object> map = new LatencyStats().toMap();
+
+    assertEquals(0L, map.get("count"));
+    assertEquals(0.0, map.get("averageQueueDelayMs"));
+    assertEquals(0.0, map.get("averageRunTimeUs"));
+  }
+
+  @Test
+  public void reset_shouldClearSamples() {
+    LatencyStats stats = new LatencyStats();
+    stats.record(4, 2000);
+
+    stats.reset();
+
+    assertEquals(0, stats.getCount());
+    assertEquals(0, stats.getMaxQueueDelayMs());
+    assertEquals(0, stats.getMaxRunTimeNs());
+  }
+}
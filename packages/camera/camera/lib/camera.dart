@@ -6,14 +6,21 @@ export 'package:camera_platform_interface/camera_platform_interface.dart'
     show
         CameraDescription,
         CameraException,
+        CameraInitializationTraceEvent,
         CameraLensDirection,
+        CreateCameraOptions,
         FlashMode,
         ExposureMode,
         FocusMode,
         ResolutionPreset,
+        TakePictureOptions,
+        VideoBitrateMode,
+        VideoEncoderOptions,
         XFile,
         ImageFormatGroup;
 
 export 'src/camera_controller.dart';
 export 'src/camera_image.dart';
 export 'src/camera_preview.dart';
+export 'src/image_stream_options.dart';
+export 'src/picture_burst.dart';
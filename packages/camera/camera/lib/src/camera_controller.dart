@@ -230,6 +230,7 @@ class CameraController extends ValueNotifier<CameraValue> {
     this.resolutionPreset, {
     this.enableAudio = true,
     this.imageFormatGroup,
+    this.options = const CreateCameraOptions(),
   }) : super(const CameraValue.uninitialized());
 
   /// The properties of the camera device controlled by this controller.
@@ -251,6 +252,11 @@ class CameraController extends ValueNotifier<CameraValue> {
   /// When null the imageFormat will fallback to the platforms default.
   final ImageFormatGroup? imageFormatGroup;
 
+  /// The platform specific options the camera is created with.
+  ///
+  /// Platforms ignore the options they don't support.
+  final CreateCameraOptions options;
+
   /// The id of a camera that hasn't been initialized.
   @visibleForTesting
   static const int kUninitializedCameraId = -1;
@@ -261,6 +267,9 @@ class CameraController extends ValueNotifier<CameraValue> {
   FutureOr<bool>? _initCalled;
   StreamSubscription<DeviceOrientationChangedEvent>?
       _deviceOrientationSubscription;
+  StreamSubscription<CameraInitializationTraceEvent>?
+      _initializationTraceSubscription;
+  CameraInitializationTraceEvent? _initializationTrace;
 
   /// Checks whether [CameraController.dispose] has completed successfully.
   ///
@@ -272,6 +281,15 @@ class CameraController extends ValueNotifier<CameraValue> {
   /// The camera identifier with which the controller is associated.
   int get cameraId => _cameraId;
 
+  /// The time it took to open the camera, or null if it wasn't reported yet.
+  ///
+  /// The trace is only recorded when [CreateCameraOptions.traceInitialization]
+  /// is set in [options], and is reported once the camera has shown its first
+  /// preview frame. Only Android reports it, on other platforms this stays
+  /// null.
+  CameraInitializationTraceEvent? get initializationTrace =>
+      _initializationTrace;
+
   /// Initializes the camera on the device.
   ///
   /// Throws a [CameraException] if the initialization fails.
@@ -294,12 +312,19 @@ class CameraController extends ValueNotifier<CameraValue> {
         );
       });
 
-      _cameraId = await CameraPlatform.instance.createCamera(
+      _cameraId = await CameraPlatform.instance.createCameraWithOptions(
         description,
         resolutionPreset,
         enableAudio: enableAudio,
+        options: options,
       );
 
+      _initializationTraceSubscription = CameraPlatform.instance
+          .onCameraInitializationTrace(_cameraId)
+          .listen((CameraInitializationTraceEvent event) {
+        _initializationTrace = event;
+      });
+
       _unawaited(CameraPlatform.instance
           .onCameraInitialized(_cameraId)
           .first
@@ -383,8 +408,11 @@ class CameraController extends ValueNotifier<CameraValue> {
 
   /// Captures an image and returns the file where it was saved.
   ///
+  /// When [syncToDisk] is true, the file is flushed to the storage device
+  /// before the capture completes. This is only supported on Android.
+  ///
   /// Throws a [CameraException] if the capture fails.
-  Future<XFile> takePicture() async {
+  Future<XFile> takePicture({bool syncToDisk = false}) async {
     _throwIfNotInitialized('takePicture');
     if (value.isTakingPicture) {
       throw CameraException(
@@ -394,7 +422,10 @@ class CameraController extends ValueNotifier<CameraValue> {
     }
     try {
       value = value.copyWith(isTakingPicture: true);
-      final XFile file = await CameraPlatform.instance.takePicture(_cameraId);
+      final XFile file = await CameraPlatform.instance.takePictureWithOptions(
+        _cameraId,
+        options: TakePictureOptions(syncToDisk: syncToDisk),
+      );
       value = value.copyWith(isTakingPicture: false);
       return file;
     } on PlatformException catch (e) {
@@ -403,6 +434,45 @@ class CameraController extends ValueNotifier<CameraValue> {
     }
   }
 
+  /// Captures [count] pictures in a burst and returns the files where they
+  /// were saved.
+  ///
+  /// The shots are taken back to back with the current preview settings,
+  /// skipping the autofocus and precapture sequences of [takePicture]. When
+  /// [syncToDisk] is true, every file is flushed to the storage device before
+  /// the burst completes.
+  ///
+  /// Throws a [CameraException] if the capture fails.
+  ///
+  /// The `takePictureBurst` method is only available on Android.
+  Future<PictureBurst> takePictureBurst(
+    int count, {
+    bool syncToDisk = false,
+  }) async {
+    assert(defaultTargetPlatform == TargetPlatform.android);
+    assert(count >= 1);
+    _throwIfNotInitialized('takePictureBurst');
+    if (value.isTakingPicture) {
+      throw CameraException(
+        'Previous capture has not returned yet.',
+        'takePictureBurst was called before the previous capture returned.',
+      );
+    }
+    try {
+      value = value.copyWith(isTakingPicture: true);
+      final Map<dynamic, dynamic>? reply =
+          await _channel.invokeMapMethod<dynamic, dynamic>(
+        'takePictureBurst',
+        <String, dynamic>{'count': count, 'syncToDisk': syncToDisk},
+      );
+      value = value.copyWith(isTakingPicture: false);
+      return PictureBurst.fromPlatformData(reply!);
+    } on PlatformException catch (e) {
+      value = value.copyWith(isTakingPicture: false);
+      throw CameraException(e.code, e.message);
+    }
+  }
+
   /// Start streaming images from platform camera.
   ///
   /// Settings for capturing images on iOS and Android is set to always use the
@@ -419,8 +489,14 @@ class CameraController extends ValueNotifier<CameraValue> {
   /// The `startImageStream` method is only available on Android and iOS (other
   /// platforms won't be supported in current setup).
   ///
+  /// On Android, [options] select the frames that are delivered when
+  /// [onAvailable] can't keep up with the camera. The number of frames dropped
+  /// so far is reported by [CameraImage.droppedFrames].
   // TODO(bmparr): Add settings for resolution and fps.
-  Future<void> startImageStream(onLatestImageAvailable onAvailable) async {
+  Future<void> startImageStream(
+    onLatestImageAvailable onAvailable, {
+    ImageStreamOptions? options,
+  }) async {
     assert(defaultTargetPlatform == TargetPlatform.android ||
         defaultTargetPlatform == TargetPlatform.iOS);
     _throwIfNotInitialized('startImageStream');
@@ -438,7 +514,8 @@ class CameraController extends ValueNotifier<CameraValue> {
     }
 
     try {
-      await _channel.invokeMethod<void>('startImageStream');
+      await _channel.invokeMethod<void>(
+          'startImageStream', options?.toPlatformData());
       value = value.copyWith(isStreamingImages: true);
     } on PlatformException catch (e) {
       throw CameraException(e.code, e.message);
@@ -496,11 +573,26 @@ class CameraController extends ValueNotifier<CameraValue> {
     _imageStreamSubscription = null;
   }
 
+  /// Returns the statistics of the current or last image stream.
+  ///
+  /// The map holds the `backpressureMode` of the stream, the number of
+  /// `framesInFlight` and `droppedFrames`, and the `bufferPoolHits` and
+  /// `bufferPoolMisses` of the buffers the frames are copied into.
+  ///
+  /// The `getImageStreamStats` method is only available on Android.
+  Future<Map<String, Object?>> getImageStreamStats() {
+    return _getAndroidStats('getImageStreamStats');
+  }
+
   /// Start a video recording.
   ///
   /// The video is returned as a [XFile] after calling [stopVideoRecording].
   /// Throws a [CameraException] if the capture fails.
-  Future<void> startVideoRecording() async {
+  ///
+  /// On Android, a [videoEncoder] sets the bitrate, bitrate mode, key frame
+  /// interval and codec of the video. It is only used when audio is disabled
+  /// on Android 6.0 and later.
+  Future<void> startVideoRecording({VideoEncoderOptions? videoEncoder}) async {
     _throwIfNotInitialized('startVideoRecording');
     if (value.isRecordingVideo) {
       throw CameraException(
@@ -516,7 +608,8 @@ class CameraController extends ValueNotifier<CameraValue> {
     }
 
     try {
-      await CameraPlatform.instance.startVideoRecording(_cameraId);
+      await CameraPlatform.instance.startVideoRecordingWithOptions(_cameraId,
+          videoEncoder: videoEncoder);
       value = value.copyWith(
           isRecordingVideo: true,
           isRecordingPaused: false,
@@ -822,6 +915,7 @@ class CameraController extends ValueNotifier<CameraValue> {
       return;
     }
     _unawaited(_deviceOrientationSubscription?.cancel());
+    _unawaited(_initializationTraceSubscription?.cancel());
     _isDisposed = true;
     super.dispose();
     if (_initCalled != null) {
@@ -830,6 +924,65 @@ class CameraController extends ValueNotifier<CameraValue> {
     }
   }
 
+  /// Returns how long messages waited on and ran on the camera threads.
+  ///
+  /// The map holds the latencies of the `capture`, `imageStream` and
+  /// `imageSaver` threads. Each is a map with the `count` of messages, their
+  /// `averageQueueDelayMs` and `maxQueueDelayMs`, and their `averageRunTimeUs`
+  /// and `maxRunTimeUs`.
+  ///
+  /// The `getThreadLatencyStats` method is only available on Android.
+  Future<Map<String, Object?>> getThreadLatencyStats() {
+    return _getAndroidStats('getThreadLatencyStats');
+  }
+
+  /// Returns the statistics of the camera events sent to Dart.
+  ///
+  /// The map holds the current `queueDepth` and `maxQueueDepth` of the events
+  /// waiting to be sent, the number of `eventsQueued`, `eventsCoalesced` and
+  /// `batches`, and the `dispatchLatency` of the batches.
+  ///
+  /// The `getEventDispatchStats` method is only available on Android.
+  Future<Map<String, Object?>> getEventDispatchStats() {
+    return _getAndroidStats('getEventDispatchStats');
+  }
+
+  /// Returns the statistics of the video encoder of the current recording, or
+  /// of the last one when not recording.
+  ///
+  /// The map holds the `encoder`, `mimeType`, `bitrate` and `targetFps` of
+  /// the recording, and the number of `encodedFrames`, `keyFrames`,
+  /// `droppedFrames` and `bytesEncoded` and the `encodedFps` so far. It is
+  /// empty when no recording was started with video encoder options.
+  ///
+  /// The `getVideoEncoderStats` method is only available on Android.
+  Future<Map<String, Object?>> getVideoEncoderStats() {
+    return _getAndroidStats('getVideoEncoderStats');
+  }
+
+  /// Returns how often the repeating preview request was reissued.
+  ///
+  /// The map holds the number of `reissued` requests, the `fullUpdates` and
+  /// `partialUpdates` of the request builder, and the settings
+  /// `skippedUnchanged` because they were set to their current value.
+  ///
+  /// The `getRepeatingRequestStats` method is only available on Android.
+  Future<Map<String, Object?>> getRepeatingRequestStats() {
+    return _getAndroidStats('getRepeatingRequestStats');
+  }
+
+  Future<Map<String, Object?>> _getAndroidStats(String method) async {
+    assert(defaultTargetPlatform == TargetPlatform.android);
+    _throwIfNotInitialized(method);
+    try {
+      final Map<String, Object?>? stats =
+          await _channel.invokeMapMethod<String, Object?>(method);
+      return stats ?? <String, Object?>{};
+    } on PlatformException catch (e) {
+      throw CameraException(e.code, e.message);
+    }
+  }
+
   void _throwIfNotInitialized(String functionName) {
     if (!value.isInitialized) {
       throw CameraException(
@@ -103,6 +103,7 @@ class CameraImage {
         lensAperture = data['lensAperture'] as double?,
         sensorExposureTime = data['sensorExposureTime'] as int?,
         sensorSensitivity = data['sensorSensitivity'] as double?,
+        droppedFrames = data['droppedFrames'] as int?,
         planes = List<Plane>.unmodifiable((data['planes'] as List<dynamic>)
             .map<Plane>((dynamic planeData) =>
                 Plane._fromPlatformData(planeData as Map<dynamic, dynamic>)));
@@ -140,4 +141,13 @@ class CameraImage {
 
   /// The sensor sensitivity in standard ISO arithmetic units.
   final double? sensorSensitivity;
+
+  /// The number of frames the image stream dropped before this image was
+  /// delivered, counted since the stream was started.
+  ///
+  /// Frames are dropped according to the [ImageStreamOptions] passed to
+  /// [CameraController.startImageStream].
+  ///
+  /// Will be `null` on iOS.
+  final int? droppedFrames;
 }
@@ -0,0 +1,106 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:math';
+
+/// Selects the image stream frames that are delivered when the app can't keep
+/// up with the camera.
+enum ImageStreamBackpressureMode {
+  /// Delivers every frame produced by the camera.
+  all,
+
+  /// Only keeps the most recent undelivered frame, replacing any older pending
+  /// frame.
+  latestOnly,
+
+  /// Drops new frames while [ImageStreamOptions.maxFramesInFlight] frames are
+  /// waiting to be delivered.
+  boundedQueue,
+
+  /// Only delivers every [ImageStreamOptions.frameInterval]-th frame produced
+  /// by the camera.
+  everyNthFrame,
+}
+
+/// Options of [CameraController.startImageStream].
+///
+/// These options are only supported on Android and are ignored on iOS.
+class ImageStreamOptions {
+  /// Creates image stream options.
+  const ImageStreamOptions({
+    this.backpressureMode = ImageStreamBackpressureMode.all,
+    this.maxFramesInFlight = 2,
+    this.frameInterval = 1,
+    this.crop,
+    this.subsampleFactor = 1,
+    this.lumaOnly = false,
+    this.compactStrides = false,
+  })  : assert(maxFramesInFlight >= 1),
+        assert(frameInterval >= 1),
+        assert(subsampleFactor >= 1);
+
+  /// Selects the frames that are delivered when the app can't keep up.
+  final ImageStreamBackpressureMode backpressureMode;
+
+  /// The number of undelivered frames allowed in
+  /// [ImageStreamBackpressureMode.boundedQueue] mode.
+  final int maxFramesInFlight;
+
+  /// The interval between delivered frames in
+  /// [ImageStreamBackpressureMode.everyNthFrame] mode.
+  final int frameInterval;
+
+  /// The region of interest of the frames in pixels, or null to stream the
+  /// whole frame.
+  ///
+  /// Frames are cropped natively before they are copied, along with the other
+  /// reductions below. They only apply to frames in
+  /// [ImageFormatGroup.yuv420], and the planes of any reduced frame are
+  /// stride compacted.
+  final Rectangle<int>? crop;
+
+  /// Only every n-th pixel of every n-th row is kept.
+  final int subsampleFactor;
+
+  /// Whether only the luma plane is streamed.
+  final bool lumaOnly;
+
+  /// Whether the row padding and pixel interleaving of the planes are
+  /// removed.
+  final bool compactStrides;
+
+  /// Converts the options into the arguments of the `startImageStream` method
+  /// call.
+  Map<String, dynamic> toPlatformData() {
+    return <String, dynamic>{
+      'backpressureMode': _serializeBackpressureMode(backpressureMode),
+      'maxFramesInFlight': maxFramesInFlight,
+      'frameInterval': frameInterval,
+      if (crop != null) ...<String, dynamic>{
+        'cropLeft': crop!.left,
+        'cropTop': crop!.top,
+        'cropWidth': crop!.width,
+        'cropHeight': crop!.height,
+      },
+      'subsampleFactor': subsampleFactor,
+      'lumaOnly': lumaOnly,
+      'compactStrides': compactStrides,
+    };
+  }
+}
+
+String _serializeBackpressureMode(ImageStreamBackpressureMode mode) {
+  switch (mode) {
+    case ImageStreamBackpressureMode.all:
+      return 'all';
+    case ImageStreamBackpressureMode.latestOnly:
+      return 'latestOnly';
+    case ImageStreamBackpressureMode.boundedQueue:
+      return 'boundedQueue';
+    case ImageStreamBackpressureMode.everyNthFrame:
+      return 'everyNthFrame';
+    default:
+      throw ArgumentError('Unknown ImageStreamBackpressureMode value');
+  }
+}
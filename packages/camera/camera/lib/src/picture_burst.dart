@@ -0,0 +1,46 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+
+/// The pictures of a burst taken by [CameraController.takePictureBurst].
+class PictureBurst {
+  /// Creates a burst from the reply of the platform.
+  PictureBurst.fromPlatformData(Map<dynamic, dynamic> data)
+      : files = List<XFile>.unmodifiable((data['paths']! as List<dynamic>)
+            .map<XFile>((dynamic path) => XFile(path as String))),
+        shotLatencies = _toDurations(data['shotLatenciesMs']! as List<dynamic>),
+        writeLatencies =
+            _toDurations(data['writeLatenciesMs']! as List<dynamic>),
+        bytesWritten = data['bytesWritten']! as int,
+        duration = _toDuration(data['durationMs']! as double),
+        shotsPerSecond = data['shotsPerSecond']! as double;
+
+  /// The files the shots were saved to, in the order they were taken.
+  final List<XFile> files;
+
+  /// The time from the start of the burst until each shot was saved.
+  final List<Duration> shotLatencies;
+
+  /// The time it took to write each shot to its file.
+  final List<Duration> writeLatencies;
+
+  /// The number of bytes written for all shots.
+  final int bytesWritten;
+
+  /// The time from the start of the burst until the last shot was saved.
+  final Duration duration;
+
+  /// The number of shots saved per second over the whole burst.
+  final double shotsPerSecond;
+}
+
+List<Duration> _toDurations(List<dynamic> milliseconds) {
+  return List<Duration>.unmodifiable(milliseconds
+      .map<Duration>((dynamic value) => _toDuration(value as double)));
+}
+
+Duration _toDuration(double milliseconds) {
+  return Duration(microseconds: (milliseconds * 1000).round());
+}
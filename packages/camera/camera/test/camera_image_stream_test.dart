@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:math';
+
 import 'package:camera/camera.dart';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
 import 'package:flutter_test/flutter_test.dart';
@@ -110,6 +112,131 @@ void main() {
         <Matcher>[isMethodCall('listen', arguments: null)]);
   });
 
+  test('startImageStream() passes the image stream options', () async {
+    final MethodChannelMock cameraChannelMock = MethodChannelMock(
+        channelName: 'plugins.flutter.io/camera',
+        methods: <String, dynamic>{'startImageStream': <String, dynamic>{}});
+    MethodChannelMock(
+        channelName: 'plugins.flutter.io/camera/imageStream',
+        methods: <String, dynamic>{'listen': <String, dynamic>{}});
+
+    final CameraController cameraController = CameraController(
+        const CameraDescription(
+            name: 'cam',
+            lensDirection: CameraLensDirection.back,
+            sensorOrientation: 90),
+        ResolutionPreset.max);
+    await cameraController.initialize();
+
+    await cameraController.startImageStream(
+      (CameraImage image) => null,
+      options: const ImageStreamOptions(
+        backpressureMode: ImageStreamBackpressureMode.boundedQueue,
+        maxFramesInFlight: 3,
+      ),
+    );
+
+    expect(cameraChannelMock.log, <Matcher>[
+      isMethodCall('startImageStream', arguments: <String, dynamic>{
+        'backpressureMode': 'boundedQueue',
+        'maxFramesInFlight': 3,
+        'frameInterval': 1,
+        'subsampleFactor': 1,
+        'lumaOnly': false,
+        'compactStrides': false,
+      })
+    ]);
+  });
+
+  test('startImageStream() passes the crop and subsampling options', () async {
+    final MethodChannelMock cameraChannelMock = MethodChannelMock(
+        channelName: 'plugins.flutter.io/camera',
+        methods: <String, dynamic>{'startImageStream': <String, dynamic>{}});
+    MethodChannelMock(
+        channelName: 'plugins.flutter.io/camera/imageStream',
+        methods: <String, dynamic>{'listen': <String, dynamic>{}});
+
+    final CameraController cameraController = CameraController(
+        const CameraDescription(
+            name: 'cam',
+            lensDirection: CameraLensDirection.back,
+            sensorOrientation: 90),
+        ResolutionPreset.max);
+    await cameraController.initialize();
+
+    await cameraController.startImageStream(
+      (CameraImage image) => null,
+      options: const ImageStreamOptions(
+        crop: Rectangle<int>(16, 32, 320, 320),
+        subsampleFactor: 2,
+        lumaOnly: true,
+      ),
+    );
+
+    expect(cameraChannelMock.log, <Matcher>[
+      isMethodCall('startImageStream', arguments: <String, dynamic>{
+        'backpressureMode': 'all',
+        'maxFramesInFlight': 2,
+        'frameInterval': 1,
+        'cropLeft': 16,
+        'cropTop': 32,
+        'cropWidth': 320,
+        'cropHeight': 320,
+        'subsampleFactor': 2,
+        'lumaOnly': true,
+        'compactStrides': false,
+      })
+    ]);
+  });
+
+  test('getImageStreamStats() throws $CameraException when uninitialized', () {
+    final CameraController cameraController = CameraController(
+        const CameraDescription(
+            name: 'cam',
+            lensDirection: CameraLensDirection.back,
+            sensorOrientation: 90),
+        ResolutionPreset.max);
+
+    expect(
+      cameraController.getImageStreamStats,
+      throwsA(isA<CameraException>().having(
+        (CameraException error) => error.description,
+        'description',
+        'getImageStreamStats() was called on an uninitialized CameraController.',
+      )),
+    );
+  });
+
+  test('getImageStreamStats() returns the platform stats', () async {
+    final MethodChannelMock cameraChannelMock = MethodChannelMock(
+        channelName: 'plugins.flutter.io/camera',
+        methods: <String, dynamic>{
+          'getImageStreamStats': <String, dynamic>{
+            'backpressureMode': 'latestOnly',
+            'framesInFlight': 1,
+            'droppedFrames': 12,
+            'bufferPoolHits': 40,
+            'bufferPoolMisses': 3,
+          }
+        });
+
+    final CameraController cameraController = CameraController(
+        const CameraDescription(
+            name: 'cam',
+            lensDirection: CameraLensDirection.back,
+            sensorOrientation: 90),
+        ResolutionPreset.max);
+    await cameraController.initialize();
+
+    final Map<String, Object?> stats =
+        await cameraController.getImageStreamStats();
+
+    expect(cameraChannelMock.log,
+        <Matcher>[isMethodCall('getImageStreamStats', arguments: null)]);
+    expect(stats['backpressureMode'], 'latestOnly');
+    expect(stats['droppedFrames'], 12);
+  });
+
   test('stopImageStream() throws $CameraException when uninitialized', () {
     final CameraController cameraController = CameraController(
         const CameraDescription(
@@ -38,6 +38,26 @@ void main() {
       expect(cameraImage.planes.length, 1);
     });
 
+    test('$CameraImage reports the dropped frames on Android', () {
+      debugDefaultTargetPlatformOverride = TargetPlatform.android;
+
+      final CameraImage cameraImage =
+          CameraImage.fromPlatformData(<dynamic, dynamic>{
+        'format': 35,
+        'height': 1,
+        'width': 4,
+        'droppedFrames': 7,
+        'planes': <dynamic>[
+          <dynamic, dynamic>{
+            'bytes': Uint8List.fromList(<int>[1, 2, 3, 4]),
+            'bytesPerPixel': 1,
+            'bytesPerRow': 4,
+          }
+        ]
+      });
+      expect(cameraImage.droppedFrames, 7);
+    });
+
     test('$CameraImage has ImageFormatGroup.yuv420 for iOS', () {
       debugDefaultTargetPlatformOverride = TargetPlatform.iOS;
 
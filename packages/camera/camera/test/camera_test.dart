@@ -15,6 +15,8 @@ import 'package:flutter_test/flutter_test.dart';
 import 'package:mockito/mockito.dart';
 import 'package:plugin_platform_interface/plugin_platform_interface.dart';
 
+import 'utils/method_channel_mock.dart';
+
 List<CameraDescription> get mockAvailableCameras => <CameraDescription>[
       const CameraDescription(
           name: 'camBack',
@@ -47,6 +49,15 @@ CameraClosingEvent get mockOnCameraClosingEvent => const CameraClosingEvent(13);
 CameraErrorEvent get mockOnCameraErrorEvent =>
     const CameraErrorEvent(13, 'closing');
 
+CameraInitializationTraceEvent get mockOnCameraInitializationTraceEvent =>
+    const CameraInitializationTraceEvent(
+      13,
+      Duration(milliseconds: 50),
+      Duration(milliseconds: 60),
+      Duration(milliseconds: 120),
+      Duration(milliseconds: 200),
+    );
+
 XFile mockTakePicture = XFile('foo/bar.png');
 
 XFile mockVideoRecordingXFile = XFile('foo/bar.mpeg');
@@ -112,6 +123,55 @@ void main() {
       expect(cameraController.value.isInitialized, isTrue);
     });
 
+    test('initialize() creates the camera with its options', () async {
+      const CameraDescription description = CameraDescription(
+          name: 'cam',
+          lensDirection: CameraLensDirection.back,
+          sensorOrientation: 90);
+      final CameraController cameraController = CameraController(
+        description,
+        ResolutionPreset.max,
+        options: const CreateCameraOptions(
+          pictureMaxImages: 4,
+          imageStreamMaxImages: 3,
+          sharedCaptureSession: true,
+          orientationSamplingPeriod: Duration(milliseconds: 20),
+          orientationHysteresisDegrees: 10,
+        ),
+      );
+
+      await cameraController.initialize();
+
+      verify(CameraPlatform.instance.createCameraWithOptions(
+        description,
+        ResolutionPreset.max,
+        enableAudio: true,
+        options: const CreateCameraOptions(
+          pictureMaxImages: 4,
+          imageStreamMaxImages: 3,
+          sharedCaptureSession: true,
+          orientationSamplingPeriod: Duration(milliseconds: 20),
+          orientationHysteresisDegrees: 10,
+        ),
+      )).called(1);
+    });
+
+    test('initialize() reports the initialization trace', () async {
+      final CameraController cameraController = CameraController(
+          const CameraDescription(
+              name: 'cam',
+              lensDirection: CameraLensDirection.back,
+              sensorOrientation: 90),
+          ResolutionPreset.max);
+      expect(cameraController.initializationTrace, isNull);
+
+      await cameraController.initialize();
+      await Future<void>.delayed(Duration.zero);
+
+      expect(cameraController.initializationTrace,
+          mockOnCameraInitializationTraceEvent);
+    });
+
     test('can be disposed', () async {
       final CameraController cameraController = CameraController(
           const CameraDescription(
@@ -266,6 +326,42 @@ void main() {
       expect(xFile.path, mockTakePicture.path);
     });
 
+    test('takePicture() passes syncToDisk to the platform', () async {
+      final CameraController cameraController = CameraController(
+          const CameraDescription(
+              name: 'cam',
+              lensDirection: CameraLensDirection.back,
+              sensorOrientation: 90),
+          ResolutionPreset.max);
+      await cameraController.initialize();
+
+      await cameraController.takePicture(syncToDisk: true);
+
+      verify(CameraPlatform.instance.takePictureWithOptions(13,
+              options: const TakePictureOptions(syncToDisk: true)))
+          .called(1);
+    });
+
+    test('startVideoRecording() passes the video encoder to the platform',
+        () async {
+      final CameraController cameraController = CameraController(
+          const CameraDescription(
+              name: 'cam',
+              lensDirection: CameraLensDirection.back,
+              sensorOrientation: 90),
+          ResolutionPreset.max,
+          enableAudio: false);
+      await cameraController.initialize();
+
+      await cameraController.startVideoRecording(
+          videoEncoder: const VideoEncoderOptions(bitrate: 4000000));
+
+      verify(CameraPlatform.instance.startVideoRecordingWithOptions(13,
+              videoEncoder: const VideoEncoderOptions(bitrate: 4000000)))
+          .called(1);
+      expect(cameraController.value.isRecordingVideo, true);
+    });
+
     test('takePicture() throws $CameraException on $PlatformException',
         () async {
       final CameraController cameraController = CameraController(
@@ -1373,6 +1469,220 @@ void main() {
             'This is a test error message',
           )));
     });
+
+    test('takePictureBurst() returns the saved pictures', () async {
+      final MethodChannelMock cameraChannelMock = MethodChannelMock(
+          channelName: 'plugins.flutter.io/camera',
+          methods: <String, dynamic>{
+            'takePictureBurst': <String, dynamic>{
+              'paths': <String>['first.jpg', 'second.jpg'],
+              'shotLatenciesMs': <double>[40.0, 75.5],
+              'writeLatenciesMs': <double>[12.0, 11.0],
+              'bytesWritten': 2048,
+              'durationMs': 75.5,
+              'shotsPerSecond': 26.5,
+            }
+          });
+      final CameraController cameraController = CameraController(
+          const CameraDescription(
+              name: 'cam',
+              lensDirection: CameraLensDirection.back,
+              sensorOrientation: 90),
+          ResolutionPreset.max);
+      await cameraController.initialize();
+
+      final PictureBurst burst =
+          await cameraController.takePictureBurst(2, syncToDisk: true);
+
+      expect(cameraChannelMock.log, <Matcher>[
+        isMethodCall('takePictureBurst', arguments: <String, dynamic>{
+          'count': 2,
+          'syncToDisk': true,
+        })
+      ]);
+      expect(burst.files.map((XFile file) => file.path),
+          <String>['first.jpg', 'second.jpg']);
+      expect(burst.shotLatencies[1], const Duration(microseconds: 75500));
+      expect(burst.bytesWritten, 2048);
+      expect(cameraController.value.isTakingPicture, isFalse);
+    });
+
+    test('takePictureBurst() throws $CameraException when taking a picture',
+        () async {
+      final CameraController cameraController = CameraController(
+          const CameraDescription(
+              name: 'cam',
+              lensDirection: CameraLensDirection.back,
+              sensorOrientation: 90),
+          ResolutionPreset.max);
+      await cameraController.initialize();
+      cameraController.value =
+          cameraController.value.copyWith(isTakingPicture: true);
+
+      expect(
+          () => cameraController.takePictureBurst(3),
+          throwsA(isA<CameraException>().having(
+            (CameraException error) => error.description,
+            'Previous capture has not returned yet.',
+            'takePictureBurst was called before the previous capture returned.',
+          )));
+    });
+
+    test('takePictureBurst() throws $CameraException on $PlatformException',
+        () async {
+      MethodChannelMock(
+          channelName: 'plugins.flutter.io/camera',
+          methods: <String, dynamic>{
+            'takePictureBurst': PlatformException(
+              code: 'cameraAccess',
+              message: 'The camera was closed during the burst.',
+            )
+          });
+      final CameraController cameraController = CameraController(
+          const CameraDescription(
+              name: 'cam',
+              lensDirection: CameraLensDirection.back,
+              sensorOrientation: 90),
+          ResolutionPreset.max);
+      await cameraController.initialize();
+
+      await expectLater(
+          cameraController.takePictureBurst(3),
+          throwsA(isA<CameraException>().having(
+            (CameraException error) => error.description,
+            'cameraAccess',
+            'The camera was closed during the burst.',
+          )));
+      expect(cameraController.value.isTakingPicture, isFalse);
+    });
+
+    test('getThreadLatencyStats() returns the platform stats', () async {
+      final MethodChannelMock cameraChannelMock = MethodChannelMock(
+          channelName: 'plugins.flutter.io/camera',
+          methods: <String, dynamic>{
+            'getThreadLatencyStats': <String, dynamic>{
+              'capture': <String, dynamic>{'count': 10, 'maxQueueDelayMs': 4},
+              'imageStream': <String, dynamic>{'count': 0},
+              'imageSaver': <String, dynamic>{'count': 1},
+            }
+          });
+      final CameraController cameraController = CameraController(
+          const CameraDescription(
+              name: 'cam',
+              lensDirection: CameraLensDirection.back,
+              sensorOrientation: 90),
+          ResolutionPreset.max);
+      await cameraController.initialize();
+
+      final Map<String, Object?> stats =
+          await cameraController.getThreadLatencyStats();
+
+      expect(cameraChannelMock.log,
+          <Matcher>[isMethodCall('getThreadLatencyStats', arguments: null)]);
+      expect(stats.keys, <String>['capture', 'imageStream', 'imageSaver']);
+      expect((stats['capture']! as Map<dynamic, dynamic>)['count'], 10);
+    });
+
+    test('getEventDispatchStats() returns the platform stats', () async {
+      final MethodChannelMock cameraChannelMock = MethodChannelMock(
+          channelName: 'plugins.flutter.io/camera',
+          methods: <String, dynamic>{
+            'getEventDispatchStats': <String, dynamic>{
+              'queueDepth': 0,
+              'maxQueueDepth': 3,
+              'eventsQueued': 12,
+              'eventsCoalesced': 4,
+              'batches': 5,
+            }
+          });
+      final CameraController cameraController = CameraController(
+          const CameraDescription(
+              name: 'cam',
+              lensDirection: CameraLensDirection.back,
+              sensorOrientation: 90),
+          ResolutionPreset.max);
+      await cameraController.initialize();
+
+      final Map<String, Object?> stats =
+          await cameraController.getEventDispatchStats();
+
+      expect(cameraChannelMock.log,
+          <Matcher>[isMethodCall('getEventDispatchStats', arguments: null)]);
+      expect(stats['eventsCoalesced'], 4);
+      expect(stats['batches'], 5);
+    });
+
+    test('getVideoEncoderStats() returns the platform stats', () async {
+      final MethodChannelMock cameraChannelMock = MethodChannelMock(
+          channelName: 'plugins.flutter.io/camera',
+          methods: <String, dynamic>{
+            'getVideoEncoderStats': <String, dynamic>{
+              'encoder': 'c2.avc.encoder',
+              'encodedFrames': 300,
+              'droppedFrames': 2,
+              'encodedFps': 29.8,
+            }
+          });
+      final CameraController cameraController = CameraController(
+          const CameraDescription(
+              name: 'cam',
+              lensDirection: CameraLensDirection.back,
+              sensorOrientation: 90),
+          ResolutionPreset.max);
+      await cameraController.initialize();
+
+      final Map<String, Object?> stats =
+          await cameraController.getVideoEncoderStats();
+
+      expect(cameraChannelMock.log,
+          <Matcher>[isMethodCall('getVideoEncoderStats', arguments: null)]);
+      expect(stats['encoder'], 'c2.avc.encoder');
+      expect(stats['droppedFrames'], 2);
+    });
+
+    test('getVideoEncoderStats() returns an empty map without a recording',
+        () async {
+      MethodChannelMock(
+          channelName: 'plugins.flutter.io/camera',
+          methods: <String, dynamic>{'getVideoEncoderStats': null});
+      final CameraController cameraController = CameraController(
+          const CameraDescription(
+              name: 'cam',
+              lensDirection: CameraLensDirection.back,
+              sensorOrientation: 90),
+          ResolutionPreset.max);
+      await cameraController.initialize();
+
+      expect(await cameraController.getVideoEncoderStats(), isEmpty);
+    });
+
+    test('getRepeatingRequestStats() returns the platform stats', () async {
+      final MethodChannelMock cameraChannelMock = MethodChannelMock(
+          channelName: 'plugins.flutter.io/camera',
+          methods: <String, dynamic>{
+            'getRepeatingRequestStats': <String, dynamic>{
+              'reissued': 7,
+              'fullUpdates': 1,
+              'partialUpdates': 6,
+              'skippedUnchanged': 3,
+            }
+          });
+      final CameraController cameraController = CameraController(
+          const CameraDescription(
+              name: 'cam',
+              lensDirection: CameraLensDirection.back,
+              sensorOrientation: 90),
+          ResolutionPreset.max);
+      await cameraController.initialize();
+
+      final Map<String, Object?> stats =
+          await cameraController.getRepeatingRequestStats();
+
+      expect(cameraChannelMock.log,
+          <Matcher>[isMethodCall('getRepeatingRequestStats', arguments: null)]);
+      expect(stats['reissued'], 7);
+      expect(stats['skippedUnchanged'], 3);
+    });
   });
 }
 
@@ -1411,6 +1721,22 @@ class MockCameraPlatform extends Mock
           ? throw PlatformException(code: 'foo', message: 'bar')
           : Future<int>.value(mockInitializeCamera);
 
+  @override
+  Future<int> createCameraWithOptions(
+    CameraDescription description,
+    ResolutionPreset? resolutionPreset, {
+    bool enableAudio = false,
+    CreateCameraOptions options = const CreateCameraOptions(),
+  }) {
+    super.noSuchMethod(Invocation.method(
+      #createCameraWithOptions,
+      <Object?>[description, resolutionPreset],
+      <Symbol, dynamic>{#enableAudio: enableAudio, #options: options},
+    ));
+    return createCamera(description, resolutionPreset,
+        enableAudio: enableAudio);
+  }
+
   @override
   Stream<CameraInitializedEvent> onCameraInitialized(int cameraId) =>
       Stream<CameraInitializedEvent>.value(mockOnCameraInitializedEvent);
@@ -1423,11 +1749,30 @@ class MockCameraPlatform extends Mock
   Stream<CameraErrorEvent> onCameraError(int cameraId) =>
       Stream<CameraErrorEvent>.value(mockOnCameraErrorEvent);
 
+  @override
+  Stream<CameraInitializationTraceEvent> onCameraInitializationTrace(
+          int cameraId) =>
+      Stream<CameraInitializationTraceEvent>.value(
+          mockOnCameraInitializationTraceEvent);
+
   @override
   Stream<DeviceOrientationChangedEvent> onDeviceOrientationChanged() =>
       Stream<DeviceOrientationChangedEvent>.value(
           mockOnDeviceOrientationChangedEvent);
 
+  @override
+  Future<XFile> takePictureWithOptions(
+    int cameraId, {
+    TakePictureOptions options = const TakePictureOptions(),
+  }) {
+    super.noSuchMethod(Invocation.method(
+      #takePictureWithOptions,
+      <Object?>[cameraId],
+      <Symbol, dynamic>{#options: options},
+    ));
+    return takePicture(cameraId);
+  }
+
   @override
   Future<XFile> takePicture(int cameraId) => mockPlatformException
       ? throw PlatformException(code: 'foo', message: 'bar')
@@ -1442,6 +1787,23 @@ class MockCameraPlatform extends Mock
           {Duration? maxVideoDuration}) =>
       Future<XFile>.value(mockVideoRecordingXFile);
 
+  @override
+  Future<void> startVideoRecordingWithOptions(
+    int cameraId, {
+    Duration? maxVideoDuration,
+    VideoEncoderOptions? videoEncoder,
+  }) {
+    super.noSuchMethod(Invocation.method(
+      #startVideoRecordingWithOptions,
+      <Object?>[cameraId],
+      <Symbol, dynamic>{
+        #maxVideoDuration: maxVideoDuration,
+        #videoEncoder: videoEncoder,
+      },
+    ));
+    return startVideoRecording(cameraId, maxVideoDuration: maxVideoDuration);
+  }
+
   @override
   Future<void> lockCaptureOrientation(
           int? cameraId, DeviceOrientation? orientation) async =>
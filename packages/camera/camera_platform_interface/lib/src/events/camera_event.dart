@@ -287,3 +287,73 @@ class VideoRecordedEvent extends CameraEvent {
   int get hashCode =>
       super.hashCode ^ file.hashCode ^ maxVideoDuration.hashCode;
 }
+
+/// An event fired once the camera has shown its first preview frame, with the
+/// time it took to reach each phase of opening the camera.
+///
+/// All durations are measured from the moment the platform received the
+/// `create` call.
+class CameraInitializationTraceEvent extends CameraEvent {
+  /// Build a CameraInitializationTrace event triggered from the camera
+  /// represented by `cameraId`.
+  const CameraInitializationTraceEvent(
+    int cameraId,
+    this.cameraOpened,
+    this.initializedEventSent,
+    this.sessionConfigured,
+    this.firstPreviewFrame,
+  ) : super(cameraId);
+
+  /// Converts the supplied [Map] to an instance of the
+  /// [CameraInitializationTraceEvent] class.
+  CameraInitializationTraceEvent.fromJson(Map<String, dynamic> json)
+      : cameraOpened = Duration(microseconds: json['cameraOpened']! as int),
+        initializedEventSent =
+            Duration(microseconds: json['initializedEventSent']! as int),
+        sessionConfigured =
+            Duration(microseconds: json['sessionConfigured']! as int),
+        firstPreviewFrame =
+            Duration(microseconds: json['firstPreviewFrame']! as int),
+        super(json['cameraId']! as int);
+
+  /// The time until the camera device was opened.
+  final Duration cameraOpened;
+
+  /// The time until the [CameraInitializedEvent] was sent.
+  final Duration initializedEventSent;
+
+  /// The time until the preview session was configured.
+  final Duration sessionConfigured;
+
+  /// The time until the first preview frame was captured.
+  final Duration firstPreviewFrame;
+
+  /// Converts the [CameraInitializationTraceEvent] instance into a [Map]
+  /// instance that can be serialized to JSON.
+  Map<String, dynamic> toJson() => <String, Object>{
+        'cameraId': cameraId,
+        'cameraOpened': cameraOpened.inMicroseconds,
+        'initializedEventSent': initializedEventSent.inMicroseconds,
+        'sessionConfigured': sessionConfigured.inMicroseconds,
+        'firstPreviewFrame': firstPreviewFrame.inMicroseconds,
+      };
+
+  @override
+  bool operator ==(Object other) =>
+      identical(this, other) ||
+      super == other &&
+          other is CameraInitializationTraceEvent &&
+          runtimeType == other.runtimeType &&
+          cameraOpened == other.cameraOpened &&
+          initializedEventSent == other.initializedEventSent &&
+          sessionConfigured == other.sessionConfigured &&
+          firstPreviewFrame == other.firstPreviewFrame;
+
+  @override
+  int get hashCode =>
+      super.hashCode ^
+      cameraOpened.hashCode ^
+      initializedEventSent.hashCode ^
+      sessionConfigured.hashCode ^
+      firstPreviewFrame.hashCode;
+}
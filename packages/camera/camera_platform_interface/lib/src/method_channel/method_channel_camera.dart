@@ -84,6 +84,20 @@ class MethodChannelCamera extends CameraPlatform {
     CameraDescription cameraDescription,
     ResolutionPreset? resolutionPreset, {
     bool enableAudio = false,
+  }) {
+    return createCameraWithOptions(
+      cameraDescription,
+      resolutionPreset,
+      enableAudio: enableAudio,
+    );
+  }
+
+  @override
+  Future<int> createCameraWithOptions(
+    CameraDescription cameraDescription,
+    ResolutionPreset? resolutionPreset, {
+    bool enableAudio = false,
+    CreateCameraOptions options = const CreateCameraOptions(),
   }) async {
     try {
       final Map<String, dynamic>? reply = await _channel
@@ -93,6 +107,17 @@ class MethodChannelCamera extends CameraPlatform {
             ? _serializeResolutionPreset(resolutionPreset)
             : null,
         'enableAudio': enableAudio,
+        if (options.pictureMaxImages != null)
+          'pictureMaxImages': options.pictureMaxImages,
+        if (options.imageStreamMaxImages != null)
+          'imageStreamMaxImages': options.imageStreamMaxImages,
+        if (options.traceInitialization) 'traceInitialization': true,
+        if (options.sharedCaptureSession) 'sharedCaptureSession': true,
+        if (options.orientationSamplingPeriod != null)
+          'orientationSamplingPeriodUs':
+              options.orientationSamplingPeriod!.inMicroseconds,
+        if (options.orientationHysteresisDegrees != null)
+          'orientationHysteresisDegrees': options.orientationHysteresisDegrees,
       });
 
       return reply!['cameraId']! as int;
@@ -180,6 +205,12 @@ class MethodChannelCamera extends CameraPlatform {
     return _cameraEvents(cameraId).whereType<VideoRecordedEvent>();
   }
 
+  @override
+  Stream<CameraInitializationTraceEvent> onCameraInitializationTrace(
+      int cameraId) {
+    return _cameraEvents(cameraId).whereType<CameraInitializationTraceEvent>();
+  }
+
   @override
   Stream<DeviceOrientationChangedEvent> onDeviceOrientationChanged() {
     return deviceEventStreamController.stream
@@ -209,10 +240,21 @@ class MethodChannelCamera extends CameraPlatform {
   }
 
   @override
-  Future<XFile> takePicture(int cameraId) async {
+  Future<XFile> takePicture(int cameraId) {
+    return takePictureWithOptions(cameraId);
+  }
+
+  @override
+  Future<XFile> takePictureWithOptions(
+    int cameraId, {
+    TakePictureOptions options = const TakePictureOptions(),
+  }) async {
     final String? path = await _channel.invokeMethod<String>(
       'takePicture',
-      <String, dynamic>{'cameraId': cameraId},
+      <String, dynamic>{
+        'cameraId': cameraId,
+        if (options.syncToDisk) 'syncToDisk': true,
+      },
     );
 
     if (path == null) {
@@ -231,12 +273,24 @@ class MethodChannelCamera extends CameraPlatform {
 
   @override
   Future<void> startVideoRecording(int cameraId,
-      {Duration? maxVideoDuration}) async {
+      {Duration? maxVideoDuration}) {
+    return startVideoRecordingWithOptions(cameraId,
+        maxVideoDuration: maxVideoDuration);
+  }
+
+  @override
+  Future<void> startVideoRecordingWithOptions(
+    int cameraId, {
+    Duration? maxVideoDuration,
+    VideoEncoderOptions? videoEncoder,
+  }) async {
     await _channel.invokeMethod<void>(
       'startVideoRecording',
       <String, dynamic>{
         'cameraId': cameraId,
         'maxVideoDuration': maxVideoDuration?.inMilliseconds,
+        if (videoEncoder != null)
+          'videoEncoder': _serializeVideoEncoderOptions(videoEncoder),
       },
     );
   }
@@ -468,6 +522,32 @@ class MethodChannelCamera extends CameraPlatform {
     }
   }
 
+  Map<String, Object> _serializeVideoEncoderOptions(
+      VideoEncoderOptions options) {
+    return <String, Object>{
+      if (options.bitrate != null) 'bitrate': options.bitrate!,
+      if (options.bitrateMode != null)
+        'bitrateMode': _serializeVideoBitrateMode(options.bitrateMode!),
+      if (options.keyFrameInterval != null)
+        'keyFrameIntervalSeconds':
+            options.keyFrameInterval!.inMicroseconds / 1000000,
+      'hevc': options.hevc,
+    };
+  }
+
+  String _serializeVideoBitrateMode(VideoBitrateMode bitrateMode) {
+    switch (bitrateMode) {
+      case VideoBitrateMode.cbr:
+        return 'cbr';
+      case VideoBitrateMode.vbr:
+        return 'vbr';
+      case VideoBitrateMode.cq:
+        return 'cq';
+      default:
+        throw ArgumentError('Unknown VideoBitrateMode value');
+    }
+  }
+
   /// Converts messages received from the native platform into device events.
   ///
   /// This is only exposed for test purposes. It shouldn't be used by clients of
@@ -479,6 +559,11 @@ class MethodChannelCamera extends CameraPlatform {
             deserializeDeviceOrientation(
                 call.arguments['orientation']! as String)));
         break;
+      case 'batch':
+        for (final MethodCall event in _unpackBatch(call)) {
+          await handleDeviceMethodCall(event);
+        }
+        break;
       default:
         throw MissingPluginException();
     }
@@ -530,8 +615,31 @@ class MethodChannelCamera extends CameraPlatform {
           call.arguments['description']! as String,
         ));
         break;
+      case 'initialization_trace':
+        cameraEventStreamController.add(CameraInitializationTraceEvent(
+          cameraId,
+          Duration(microseconds: call.arguments['cameraOpened']! as int),
+          Duration(microseconds: call.arguments['initializedEventSent']! as int),
+          Duration(microseconds: call.arguments['sessionConfigured']! as int),
+          Duration(microseconds: call.arguments['firstPreviewFrame']! as int),
+        ));
+        break;
+      case 'batch':
+        for (final MethodCall event in _unpackBatch(call)) {
+          await handleCameraMethodCall(event, cameraId);
+        }
+        break;
       default:
         throw MissingPluginException();
     }
   }
+
+  /// Returns the events of a `batch` call, which the native platform uses to
+  /// deliver several events of a channel at once, in the order they were sent.
+  Iterable<MethodCall> _unpackBatch(MethodCall call) {
+    return (call.arguments['events']! as List<Object?>).map((Object? event) {
+      final Map<Object?, Object?> eventMap = event! as Map<Object?, Object?>;
+      return MethodCall(eventMap['method']! as String, eventMap['arguments']);
+    });
+  }
 }
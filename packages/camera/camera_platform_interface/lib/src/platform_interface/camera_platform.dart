@@ -59,6 +59,23 @@ abstract class CameraPlatform extends PlatformInterface {
     throw UnimplementedError('createCamera() is not implemented.');
   }
 
+  /// Creates an uninitialized camera instance with platform specific
+  /// [options] and returns the cameraId.
+  ///
+  /// The default implementation ignores [options] and calls [createCamera].
+  Future<int> createCameraWithOptions(
+    CameraDescription cameraDescription,
+    ResolutionPreset? resolutionPreset, {
+    bool enableAudio = false,
+    CreateCameraOptions options = const CreateCameraOptions(),
+  }) {
+    return createCamera(
+      cameraDescription,
+      resolutionPreset,
+      enableAudio: enableAudio,
+    );
+  }
+
   /// Initializes the camera on the device.
   ///
   /// [imageFormatGroup] is used to specify the image formatting used.
@@ -98,6 +115,15 @@ abstract class CameraPlatform extends PlatformInterface {
     throw UnimplementedError('onCameraTimeLimitReached() is not implemented.');
   }
 
+  /// The time it took to open the camera, reported once after its first
+  /// preview frame when [CreateCameraOptions.traceInitialization] is set.
+  ///
+  /// Only Android reports the trace, other platforms return an empty stream.
+  Stream<CameraInitializationTraceEvent> onCameraInitializationTrace(
+      int cameraId) {
+    return const Stream<CameraInitializationTraceEvent>.empty();
+  }
+
   /// The ui orientation changed.
   ///
   /// Implementations for this:
@@ -123,6 +149,17 @@ abstract class CameraPlatform extends PlatformInterface {
     throw UnimplementedError('takePicture() is not implemented.');
   }
 
+  /// Captures an image with platform specific [options] and returns the file
+  /// where it was saved.
+  ///
+  /// The default implementation ignores [options] and calls [takePicture].
+  Future<XFile> takePictureWithOptions(
+    int cameraId, {
+    TakePictureOptions options = const TakePictureOptions(),
+  }) {
+    return takePicture(cameraId);
+  }
+
   /// Prepare the capture session for video recording.
   Future<void> prepareForVideoRecording() {
     throw UnimplementedError('prepareForVideoRecording() is not implemented.');
@@ -139,6 +176,23 @@ abstract class CameraPlatform extends PlatformInterface {
     throw UnimplementedError('startVideoRecording() is not implemented.');
   }
 
+  /// Starts a video recording with the platform specific [videoEncoder]
+  /// options.
+  ///
+  /// On Android the video is encoded with [videoEncoder] when audio is
+  /// disabled and the device runs Android 6.0 or later, otherwise the options
+  /// are ignored.
+  ///
+  /// The default implementation ignores [videoEncoder] and calls
+  /// [startVideoRecording].
+  Future<void> startVideoRecordingWithOptions(
+    int cameraId, {
+    Duration? maxVideoDuration,
+    VideoEncoderOptions? videoEncoder,
+  }) {
+    return startVideoRecording(cameraId, maxVideoDuration: maxVideoDuration);
+  }
+
   /// Stops the video recording and returns the file where it was saved.
   Future<XFile> stopVideoRecording(int cameraId) {
     throw UnimplementedError('stopVideoRecording() is not implemented.');
@@ -0,0 +1,102 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart';
+
+/// Options of [CameraPlatform.createCameraWithOptions].
+///
+/// Platforms ignore the options they don't support, and a null option keeps
+/// the default of the platform.
+@immutable
+class CreateCameraOptions {
+  /// Creates camera options.
+  const CreateCameraOptions({
+    this.pictureMaxImages,
+    this.imageStreamMaxImages,
+    this.traceInitialization = false,
+    this.sharedCaptureSession = false,
+    this.orientationSamplingPeriod,
+    this.orientationHysteresisDegrees,
+  })  : assert(pictureMaxImages == null || pictureMaxImages > 0),
+        assert(imageStreamMaxImages == null || imageStreamMaxImages > 0),
+        assert(orientationSamplingPeriod == null ||
+            orientationSamplingPeriod >= Duration.zero),
+        assert(orientationHysteresisDegrees == null ||
+            (orientationHysteresisDegrees >= 0 &&
+                orientationHysteresisDegrees < 45));
+
+  /// The number of still pictures that can be waiting to be saved at the same
+  /// time.
+  ///
+  /// Only supported on Android.
+  final int? pictureMaxImages;
+
+  /// The number of image stream frames that can be held by the camera at the
+  /// same time.
+  ///
+  /// Only supported on Android.
+  final int? imageStreamMaxImages;
+
+  /// Whether the time it took to open the camera is reported through
+  /// [CameraPlatform.onCameraInitializationTrace].
+  ///
+  /// Only supported on Android.
+  final bool traceInitialization;
+
+  /// Whether the preview, pictures, image streaming and video recording share
+  /// a single capture session, so switching between them doesn't stall the
+  /// preview.
+  ///
+  /// Only supported on Android 6.0 and later.
+  final bool sharedCaptureSession;
+
+  /// The delay between two accelerometer samples used to track the device
+  /// orientation, or null to derive the device orientation from the UI.
+  ///
+  /// When set, only changes of quadrant are reported, and the picture and
+  /// video orientation follow the device even when the UI orientation is
+  /// locked.
+  ///
+  /// Only supported on Android.
+  final Duration? orientationSamplingPeriod;
+
+  /// The number of degrees the device has to be rotated past a quadrant
+  /// boundary before the new orientation is reported, between 0 and 44.
+  ///
+  /// Only used when [orientationSamplingPeriod] is set. Only supported on
+  /// Android.
+  final int? orientationHysteresisDegrees;
+
+  @override
+  bool operator ==(Object other) =>
+      identical(this, other) ||
+      other is CreateCameraOptions &&
+          runtimeType == other.runtimeType &&
+          pictureMaxImages == other.pictureMaxImages &&
+          imageStreamMaxImages == other.imageStreamMaxImages &&
+          traceInitialization == other.traceInitialization &&
+          sharedCaptureSession == other.sharedCaptureSession &&
+          orientationSamplingPeriod == other.orientationSamplingPeriod &&
+          orientationHysteresisDegrees == other.orientationHysteresisDegrees;
+
+  @override
+  int get hashCode =>
+      pictureMaxImages.hashCode ^
+      imageStreamMaxImages.hashCode ^
+      traceInitialization.hashCode ^
+      sharedCaptureSession.hashCode ^
+      orientationSamplingPeriod.hashCode ^
+      orientationHysteresisDegrees.hashCode;
+
+  @override
+  String toString() {
+    return '${objectRuntimeType(this, 'CreateCameraOptions')}('
+        'pictureMaxImages: $pictureMaxImages, '
+        'imageStreamMaxImages: $imageStreamMaxImages, '
+        'traceInitialization: $traceInitialization, '
+        'sharedCaptureSession: $sharedCaptureSession, '
+        'orientationSamplingPeriod: $orientationSamplingPeriod, '
+        'orientationHysteresisDegrees: $orientationHysteresisDegrees)';
+  }
+}
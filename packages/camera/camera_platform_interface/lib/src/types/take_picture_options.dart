@@ -0,0 +1,36 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart';
+
+/// Options of [CameraPlatform.takePictureWithOptions].
+///
+/// Platforms ignore the options they don't support.
+@immutable
+class TakePictureOptions {
+  /// Creates picture options.
+  const TakePictureOptions({this.syncToDisk = false});
+
+  /// Whether the picture is flushed to the storage device before the capture
+  /// completes.
+  ///
+  /// Only supported on Android.
+  final bool syncToDisk;
+
+  @override
+  bool operator ==(Object other) =>
+      identical(this, other) ||
+      other is TakePictureOptions &&
+          runtimeType == other.runtimeType &&
+          syncToDisk == other.syncToDisk;
+
+  @override
+  int get hashCode => syncToDisk.hashCode;
+
+  @override
+  String toString() {
+    return '${objectRuntimeType(this, 'TakePictureOptions')}('
+        'syncToDisk: $syncToDisk)';
+  }
+}
@@ -4,8 +4,12 @@
 
 export 'camera_description.dart';
 export 'camera_exception.dart';
+export 'create_camera_options.dart';
 export 'exposure_mode.dart';
 export 'flash_mode.dart';
 export 'focus_mode.dart';
 export 'image_format_group.dart';
 export 'resolution_preset.dart';
+export 'take_picture_options.dart';
+export 'video_bitrate_mode.dart';
+export 'video_encoder_options.dart';
@@ -0,0 +1,15 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+/// The possible bitrate modes of a video encoder.
+enum VideoBitrateMode {
+  /// Keeps the bitrate constant.
+  cbr,
+
+  /// Varies the bitrate with the complexity of the frames.
+  vbr,
+
+  /// Keeps the quality constant and ignores the bitrate.
+  cq,
+}
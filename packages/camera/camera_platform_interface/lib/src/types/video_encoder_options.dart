@@ -0,0 +1,64 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart';
+
+import 'video_bitrate_mode.dart';
+
+/// Options of the video encoder of
+/// [CameraPlatform.startVideoRecordingWithOptions].
+///
+/// Platforms ignore the options they don't support, and a null option keeps
+/// the default of the platform.
+@immutable
+class VideoEncoderOptions {
+  /// Creates video encoder options.
+  const VideoEncoderOptions({
+    this.bitrate,
+    this.bitrateMode,
+    this.keyFrameInterval,
+    this.hevc = false,
+  }) : assert(bitrate == null || bitrate > 0);
+
+  /// The bitrate of the video in bits per second.
+  final int? bitrate;
+
+  /// How the encoder spends the [bitrate].
+  ///
+  /// Ignored when the encoder doesn't support the mode.
+  final VideoBitrateMode? bitrateMode;
+
+  /// The time between two key frames.
+  final Duration? keyFrameInterval;
+
+  /// Whether the video is encoded with HEVC instead of AVC when the device
+  /// has an HEVC encoder.
+  final bool hevc;
+
+  @override
+  bool operator ==(Object other) =>
+      identical(this, other) ||
+      other is VideoEncoderOptions &&
+          runtimeType == other.runtimeType &&
+          bitrate == other.bitrate &&
+          bitrateMode == other.bitrateMode &&
+          keyFrameInterval == other.keyFrameInterval &&
+          hevc == other.hevc;
+
+  @override
+  int get hashCode =>
+      bitrate.hashCode ^
+      bitrateMode.hashCode ^
+      keyFrameInterval.hashCode ^
+      hevc.hashCode;
+
+  @override
+  String toString() {
+    return '${objectRuntimeType(this, 'VideoEncoderOptions')}('
+        'bitrate: $bitrate, '
+        'bitrateMode: $bitrateMode, '
+        'keyFrameInterval: $keyFrameInterval, '
+        'hevc: $hevc)';
+  }
+}
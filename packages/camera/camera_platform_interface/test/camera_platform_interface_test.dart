@@ -90,6 +90,16 @@ void main() {
       );
     });
 
+    test(
+        'Default implementation of onCameraInitializationTrace() should return an empty stream',
+        () async {
+      // Arrange
+      final ExtendsCameraPlatform cameraPlatform = ExtendsCameraPlatform();
+
+      // Act & Assert
+      expect(await cameraPlatform.onCameraInitializationTrace(1).isEmpty, true);
+    });
+
     test(
         'Default implementation of onDeviceOrientationChanged() should throw unimplemented error',
         () {
@@ -162,6 +172,29 @@ void main() {
       );
     });
 
+    test(
+        'Default implementation of createCameraWithOptions() should call createCamera()',
+        () async {
+      // Arrange
+      final CreateCameraPlatform cameraPlatform = CreateCameraPlatform();
+
+      // Act
+      final int cameraId = await cameraPlatform.createCameraWithOptions(
+        const CameraDescription(
+          name: 'back',
+          lensDirection: CameraLensDirection.back,
+          sensorOrientation: 0,
+        ),
+        ResolutionPreset.high,
+        enableAudio: true,
+        options: const CreateCameraOptions(pictureMaxImages: 4),
+      );
+
+      // Assert
+      expect(cameraId, 7);
+      expect(cameraPlatform.enableAudio, true);
+    });
+
     test(
         'Default implementation of initializeCamera() should throw unimplemented error',
         () {
@@ -370,6 +403,41 @@ void main() {
       );
     });
 
+    test(
+        'Default implementation of takePictureWithOptions() should call takePicture()',
+        () {
+      // Arrange
+      final ExtendsCameraPlatform cameraPlatform = ExtendsCameraPlatform();
+
+      // Act & Assert
+      expect(
+        () => cameraPlatform.takePictureWithOptions(1,
+            options: const TakePictureOptions(syncToDisk: true)),
+        throwsA(isA<UnimplementedError>().having(
+            (UnimplementedError e) => e.message,
+            'message',
+            'takePicture() is not implemented.')),
+      );
+    });
+
+    test(
+        'Default implementation of startVideoRecordingWithOptions() should call startVideoRecording()',
+        () async {
+      // Arrange
+      final StartVideoRecordingPlatform cameraPlatform =
+          StartVideoRecordingPlatform();
+
+      // Act
+      await cameraPlatform.startVideoRecordingWithOptions(
+        1,
+        maxVideoDuration: const Duration(seconds: 10),
+        videoEncoder: const VideoEncoderOptions(bitrate: 4000000),
+      );
+
+      // Assert
+      expect(cameraPlatform.maxVideoDuration, const Duration(seconds: 10));
+    });
+
     test(
         'Default implementation of getMaxZoomLevel() should throw unimplemented error',
         () {
@@ -443,3 +511,27 @@ class ImplementsCameraPlatform implements CameraPlatform {
 }
 
 class ExtendsCameraPlatform extends CameraPlatform {}
+
+class CreateCameraPlatform extends CameraPlatform {
+  bool? enableAudio;
+
+  @override
+  Future<int> createCamera(
+    CameraDescription cameraDescription,
+    ResolutionPreset? resolutionPreset, {
+    bool enableAudio = false,
+  }) async {
+    this.enableAudio = enableAudio;
+    return 7;
+  }
+}
+
+class StartVideoRecordingPlatform extends CameraPlatform {
+  Duration? maxVideoDuration;
+
+  @override
+  Future<void> startVideoRecording(int cameraId,
+      {Duration? maxVideoDuration}) async {
+    this.maxVideoDuration = maxVideoDuration;
+  }
+}
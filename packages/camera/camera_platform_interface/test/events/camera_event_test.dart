@@ -333,4 +333,101 @@ void main() {
       expect(event.hashCode, expectedHashCode);
     });
   });
+
+  group('CameraInitializationTraceEvent tests', () {
+    const Duration cameraOpened = Duration(milliseconds: 50);
+    const Duration initializedEventSent = Duration(milliseconds: 60);
+    const Duration sessionConfigured = Duration(milliseconds: 120);
+    const Duration firstPreviewFrame = Duration(milliseconds: 200);
+
+    test('Constructor should initialize all properties', () {
+      const CameraInitializationTraceEvent event =
+          CameraInitializationTraceEvent(1, cameraOpened, initializedEventSent,
+              sessionConfigured, firstPreviewFrame);
+
+      expect(event.cameraId, 1);
+      expect(event.cameraOpened, cameraOpened);
+      expect(event.initializedEventSent, initializedEventSent);
+      expect(event.sessionConfigured, sessionConfigured);
+      expect(event.firstPreviewFrame, firstPreviewFrame);
+    });
+
+    test('fromJson should initialize all properties', () {
+      final CameraInitializationTraceEvent event =
+          CameraInitializationTraceEvent.fromJson(const <String, dynamic>{
+        'cameraId': 1,
+        'cameraOpened': 50000,
+        'initializedEventSent': 60000,
+        'sessionConfigured': 120000,
+        'firstPreviewFrame': 200000,
+      });
+
+      expect(event.cameraId, 1);
+      expect(event.cameraOpened, cameraOpened);
+      expect(event.initializedEventSent, initializedEventSent);
+      expect(event.sessionConfigured, sessionConfigured);
+      expect(event.firstPreviewFrame, firstPreviewFrame);
+    });
+
+    test('toJson should return a map with all fields', () {
+      const CameraInitializationTraceEvent event =
+          CameraInitializationTraceEvent(1, cameraOpened, initializedEventSent,
+              sessionConfigured, firstPreviewFrame);
+
+      final Map<String, dynamic> jsonMap = event.toJson();
+
+      expect(jsonMap.length, 5);
+      expect(jsonMap['cameraId'], 1);
+      expect(jsonMap['cameraOpened'], 50000);
+      expect(jsonMap['initializedEventSent'], 60000);
+      expect(jsonMap['sessionConfigured'], 120000);
+      expect(jsonMap['firstPreviewFrame'], 200000);
+    });
+
+    test('equals should return true if objects are the same', () {
+      const CameraInitializationTraceEvent firstEvent =
+          CameraInitializationTraceEvent(1, cameraOpened, initializedEventSent,
+              sessionConfigured, firstPreviewFrame);
+      const CameraInitializationTraceEvent secondEvent =
+          CameraInitializationTraceEvent(1, cameraOpened, initializedEventSent,
+              sessionConfigured, firstPreviewFrame);
+
+      expect(firstEvent == secondEvent, true);
+    });
+
+    test('equals should return false if cameraId is different', () {
+      const CameraInitializationTraceEvent firstEvent =
+          CameraInitializationTraceEvent(1, cameraOpened, initializedEventSent,
+              sessionConfigured, firstPreviewFrame);
+      const CameraInitializationTraceEvent secondEvent =
+          CameraInitializationTraceEvent(2, cameraOpened, initializedEventSent,
+              sessionConfigured, firstPreviewFrame);
+
+      expect(firstEvent == secondEvent, false);
+    });
+
+    test('equals should return false if firstPreviewFrame is different', () {
+      const CameraInitializationTraceEvent firstEvent =
+          CameraInitializationTraceEvent(1, cameraOpened, initializedEventSent,
+              sessionConfigured, firstPreviewFrame);
+      const CameraInitializationTraceEvent secondEvent =
+          CameraInitializationTraceEvent(1, cameraOpened, initializedEventSent,
+              sessionConfigured, Duration(milliseconds: 300));
+
+      expect(firstEvent == secondEvent, false);
+    });
+
+    test('hashCode should match hashCode of all properties', () {
+      const CameraInitializationTraceEvent event =
+          CameraInitializationTraceEvent(1, cameraOpened, initializedEventSent,
+              sessionConfigured, firstPreviewFrame);
+      final int expectedHashCode = event.cameraId.hashCode ^
+          cameraOpened.hashCode ^
+          initializedEventSent.hashCode ^
+          sessionConfigured.hashCode ^
+          firstPreviewFrame.hashCode;
+
+      expect(event.hashCode, expectedHashCode);
+    });
+  });
 }
@@ -58,6 +58,52 @@ void main() {
         expect(cameraId, 1);
       });
 
+      test('Should send the options of createCameraWithOptions', () async {
+        // Arrange
+        final MethodChannelMock cameraMockChannel = MethodChannelMock(
+            channelName: 'plugins.flutter.io/camera',
+            methods: <String, dynamic>{
+              'create': <String, dynamic>{'cameraId': 1}
+            });
+        final MethodChannelCamera camera = MethodChannelCamera();
+
+        // Act
+        final int cameraId = await camera.createCameraWithOptions(
+          const CameraDescription(
+              name: 'Test',
+              lensDirection: CameraLensDirection.back,
+              sensorOrientation: 0),
+          ResolutionPreset.high,
+          options: const CreateCameraOptions(
+            pictureMaxImages: 4,
+            imageStreamMaxImages: 3,
+            traceInitialization: true,
+            sharedCaptureSession: true,
+            orientationSamplingPeriod: Duration(milliseconds: 20),
+            orientationHysteresisDegrees: 10,
+          ),
+        );
+
+        // Assert
+        expect(cameraMockChannel.log, <Matcher>[
+          isMethodCall(
+            'create',
+            arguments: <String, Object?>{
+              'cameraName': 'Test',
+              'resolutionPreset': 'high',
+              'enableAudio': false,
+              'pictureMaxImages': 4,
+              'imageStreamMaxImages': 3,
+              'traceInitialization': true,
+              'sharedCaptureSession': true,
+              'orientationSamplingPeriodUs': 20000,
+              'orientationHysteresisDegrees': 10,
+            },
+          ),
+        ]);
+        expect(cameraId, 1);
+      });
+
       test(
           'Should throw CameraException when create throws a PlatformException',
           () {
@@ -395,6 +441,32 @@ void main() {
         await streamQueue.cancel();
       });
 
+      test('Should receive initialization trace events', () async {
+        // Act
+        final Stream<CameraInitializationTraceEvent> traceStream =
+            camera.onCameraInitializationTrace(cameraId);
+        final StreamQueue<CameraInitializationTraceEvent> streamQueue =
+            StreamQueue<CameraInitializationTraceEvent>(traceStream);
+
+        // Emit test events
+        final CameraInitializationTraceEvent event =
+            CameraInitializationTraceEvent(
+          cameraId,
+          const Duration(milliseconds: 50),
+          const Duration(milliseconds: 60),
+          const Duration(milliseconds: 120),
+          const Duration(milliseconds: 200),
+        );
+        await camera.handleCameraMethodCall(
+            MethodCall('initialization_trace', event.toJson()), cameraId);
+
+        // Assert
+        expect(await streamQueue.next, event);
+
+        // Clean up
+        await streamQueue.cancel();
+      });
+
       test('Should receive device orientation change events', () async {
         // Act
         final Stream<DeviceOrientationChangedEvent> eventStream =
@@ -420,6 +492,85 @@ void main() {
         // Clean up
         await streamQueue.cancel();
       });
+
+      test('Should unpack batched camera events in order', () async {
+        // Act
+        final Stream<CameraErrorEvent> errorStream =
+            camera.onCameraError(cameraId);
+        final StreamQueue<CameraErrorEvent> errorQueue =
+            StreamQueue<CameraErrorEvent>(errorStream);
+        final Stream<CameraClosingEvent> closingStream =
+            camera.onCameraClosing(cameraId);
+        final StreamQueue<CameraClosingEvent> closingQueue =
+            StreamQueue<CameraClosingEvent>(closingStream);
+
+        // Emit test events
+        final CameraErrorEvent firstError = CameraErrorEvent(cameraId, 'first');
+        final CameraErrorEvent secondError =
+            CameraErrorEvent(cameraId, 'second');
+        final CameraClosingEvent closingEvent = CameraClosingEvent(cameraId);
+        await camera.handleCameraMethodCall(
+            MethodCall('batch', <String, Object?>{
+              'events': <Object?>[
+                <String, Object?>{
+                  'method': 'error',
+                  'arguments': firstError.toJson(),
+                },
+                <String, Object?>{
+                  'method': 'error',
+                  'arguments': secondError.toJson(),
+                },
+                <String, Object?>{
+                  'method': 'camera_closing',
+                  'arguments': closingEvent.toJson(),
+                },
+              ],
+            }),
+            cameraId);
+
+        // Assert
+        expect(await errorQueue.next, firstError);
+        expect(await errorQueue.next, secondError);
+        expect(await closingQueue.next, closingEvent);
+
+        // Clean up
+        await errorQueue.cancel();
+        await closingQueue.cancel();
+      });
+
+      test('Should unpack batched device events', () async {
+        // Act
+        final Stream<DeviceOrientationChangedEvent> eventStream =
+            camera.onDeviceOrientationChanged();
+        final StreamQueue<DeviceOrientationChangedEvent> streamQueue =
+            StreamQueue<DeviceOrientationChangedEvent>(eventStream);
+
+        // Emit test events
+        const DeviceOrientationChangedEvent portraitEvent =
+            DeviceOrientationChangedEvent(DeviceOrientation.portraitUp);
+        const DeviceOrientationChangedEvent landscapeEvent =
+            DeviceOrientationChangedEvent(DeviceOrientation.landscapeLeft);
+        await camera.handleDeviceMethodCall(
+            MethodCall('batch', <String, Object?>{
+          'events': <Object?>[
+            <String, Object?>{
+              'method': 'orientation_changed',
+              'arguments': portraitEvent.toJson(),
+            },
+            <String, Object?>{
+              'method': 'orientation_changed',
+              'arguments': landscapeEvent.toJson(),
+            },
+          ],
+        }));
+
+        // Assert
+        expect(await streamQueue.next, portraitEvent);
+        expect(await streamQueue.next, landscapeEvent);
+
+        // Clean up
+        await streamQueue.cancel();
+      });
     });
 
     group('Function Tests', () {
@@ -541,6 +692,26 @@ void main() {
         expect(file.path, '/test/path.jpg');
       });
 
+      test('Should take a picture with options', () async {
+        // Arrange
+        final MethodChannelMock channel = MethodChannelMock(
+            channelName: 'plugins.flutter.io/camera',
+            methods: <String, dynamic>{'takePicture': '/test/path.jpg'});
+
+        // Act
+        final XFile file = await camera.takePictureWithOptions(cameraId,
+            options: const TakePictureOptions(syncToDisk: true));
+
+        // Assert
+        expect(channel.log, <Matcher>[
+          isMethodCall('takePicture', arguments: <String, Object?>{
+            'cameraId': cameraId,
+            'syncToDisk': true,
+          }),
+        ]);
+        expect(file.path, '/test/path.jpg');
+      });
+
       test('Should prepare for video recording', () async {
         // Arrange
         final MethodChannelMock channel = MethodChannelMock(
@@ -599,6 +770,40 @@ void main() {
         ]);
       });
 
+      test('Should pass the video encoder options when starting recording',
+          () async {
+        // Arrange
+        final MethodChannelMock channel = MethodChannelMock(
+          channelName: 'plugins.flutter.io/camera',
+          methods: <String, dynamic>{'startVideoRecording': null},
+        );
+
+        // Act
+        await camera.startVideoRecordingWithOptions(
+          cameraId,
+          videoEncoder: const VideoEncoderOptions(
+            bitrate: 4000000,
+            bitrateMode: VideoBitrateMode.vbr,
+            keyFrameInterval: Duration(milliseconds: 500),
+            hevc: true,
+          ),
+        );
+
+        // Assert
+        expect(channel.log, <Matcher>[
+          isMethodCall('startVideoRecording', arguments: <String, Object?>{
+            'cameraId': cameraId,
+            'maxVideoDuration': null,
+            'videoEncoder': <String, Object>{
+              'bitrate': 4000000,
+              'bitrateMode': 'vbr',
+              'keyFrameIntervalSeconds': 0.5,
+              'hevc': true,
+            },
+          }),
+        ]);
+      });
+
       test('Should stop a video recording and return the file', () async {
         // Arrange
         final MethodChannelMock channel = MethodChannelMock(
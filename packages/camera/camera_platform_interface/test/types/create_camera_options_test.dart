@@ -0,0 +1,79 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+import 'package:flutter_test/flutter_test.dart';
+
+void main() {
+  test('Default options should keep the platform defaults', () {
+    const CreateCameraOptions options = CreateCameraOptions();
+
+    expect(options.pictureMaxImages, isNull);
+    expect(options.imageStreamMaxImages, isNull);
+    expect(options.traceInitialization, false);
+    expect(options.sharedCaptureSession, false);
+    expect(options.orientationSamplingPeriod, isNull);
+    expect(options.orientationHysteresisDegrees, isNull);
+  });
+
+  test('equals should compare all options', () {
+    const CreateCameraOptions options =
+        CreateCameraOptions(pictureMaxImages: 4, imageStreamMaxImages: 3);
+
+    expect(
+        options ==
+            const CreateCameraOptions(
+                pictureMaxImages: 4, imageStreamMaxImages: 3),
+        true);
+    expect(options == const CreateCameraOptions(pictureMaxImages: 4), false);
+    expect(
+        options ==
+            const CreateCameraOptions(
+                pictureMaxImages: 4,
+                imageStreamMaxImages: 3,
+                traceInitialization: true),
+        false);
+    expect(
+        options ==
+            const CreateCameraOptions(
+                pictureMaxImages: 4,
+                imageStreamMaxImages: 3,
+                sharedCaptureSession: true),
+        false);
+    expect(
+        options ==
+            const CreateCameraOptions(
+                pictureMaxImages: 4,
+                imageStreamMaxImages: 3,
+                orientationSamplingPeriod: Duration(milliseconds: 20)),
+        false);
+    expect(
+        options ==
+            const CreateCameraOptions(
+                pictureMaxImages: 4,
+                imageStreamMaxImages: 3,
+                orientationHysteresisDegrees: 10),
+        false);
+    expect(
+        options.hashCode,
+        const CreateCameraOptions(pictureMaxImages: 4, imageStreamMaxImages: 3)
+            .hashCode);
+  });
+
+  test('Should reject a hysteresis outside of a quadrant', () {
+    expect(() => CreateCameraOptions(orientationHysteresisDegrees: -1),
+        throwsAssertionError);
+    expect(() => CreateCameraOptions(orientationHysteresisDegrees: 45),
+        throwsAssertionError);
+  });
+
+  test('toString should list all options', () {
+    expect(
+        const CreateCameraOptions(pictureMaxImages: 4).toString(),
+        'CreateCameraOptions(pictureMaxImages: 4, '
+        'imageStreamMaxImages: null, traceInitialization: false, '
+        'sharedCaptureSession: false, orientationSamplingPeriod: null, '
+        'orientationHysteresisDegrees: null)');
+  });
+}
@@ -0,0 +1,23 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+import 'package:flutter_test/flutter_test.dart';
+
+void main() {
+  test('Pictures should not be synced to disk by default', () {
+    expect(const TakePictureOptions().syncToDisk, false);
+  });
+
+  test('equals should compare all options', () {
+    expect(
+        const TakePictureOptions(syncToDisk: true) ==
+            const TakePictureOptions(syncToDisk: true),
+        true);
+    expect(
+        const TakePictureOptions(syncToDisk: true) ==
+            const TakePictureOptions(),
+        false);
+  });
+}
@@ -0,0 +1,48 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+import 'package:flutter_test/flutter_test.dart';
+
+void main() {
+  test('Default options should keep the platform defaults', () {
+    const VideoEncoderOptions options = VideoEncoderOptions();
+
+    expect(options.bitrate, isNull);
+    expect(options.bitrateMode, isNull);
+    expect(options.keyFrameInterval, isNull);
+    expect(options.hevc, false);
+  });
+
+  test('equals should compare all options', () {
+    const VideoEncoderOptions options = VideoEncoderOptions(
+        bitrate: 4000000, bitrateMode: VideoBitrateMode.cbr);
+
+    expect(
+        options ==
+            const VideoEncoderOptions(
+                bitrate: 4000000, bitrateMode: VideoBitrateMode.cbr),
+        true);
+    expect(options == const VideoEncoderOptions(bitrate: 4000000), false);
+    expect(
+        options ==
+            const VideoEncoderOptions(
+                bitrate: 4000000,
+                bitrateMode: VideoBitrateMode.cbr,
+                hevc: true),
+        false);
+    expect(
+        options.hashCode,
+        const VideoEncoderOptions(
+                bitrate: 4000000, bitrateMode: VideoBitrateMode.cbr)
+            .hashCode);
+  });
+
+  test('toString should list all options', () {
+    expect(
+        const VideoEncoderOptions(bitrate: 4000000).toString(),
+        'VideoEncoderOptions(bitrate: 4000000, bitrateMode: null, '
+        'keyFrameInterval: null, hevc: false)');
+  });
+}
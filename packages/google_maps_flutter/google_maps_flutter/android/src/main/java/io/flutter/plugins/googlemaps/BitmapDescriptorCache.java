@@ -0,0 +1,107 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache of the {@link BitmapDescriptor}s decoded from {@code fromBytes} icons, keyed by a hash of
+ * the image bytes.
+ *
+ * <p>Markers that share an icon send the same bytes, so the icon is decoded once and its texture is
+ * shared by all the markers of all the maps. The cache is bounded by the size of the decoded
+ * bitmaps, and evicts the least recently used icons first.
+ */
+final class BitmapDescriptorCache {
+
+  static final long DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+
+  private static final BitmapDescriptorCache instance =
+      new BitmapDescriptorCache(DEFAULT_MAX_BYTES);
+
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final long maxBytes;
+  private long bytes;
+  private long hits;
+  private long decodes;
+
+  static BitmapDescriptorCache getInstance() {
+    return instance;
+  }
+
+  @VisibleForTesting
+  BitmapDescriptorCache(long maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  /** Returns the descriptor of an image, or null if it needs to be decoded. */
+  @Nullable
+  synchronized BitmapDescriptor get(byte[] imageBytes) {
+    Entry entry = entries.get(getKey(imageBytes));
+    if (entry == null) {
+      return null;
+    }
+    hits++;
+    return entry.descriptor;
+  }
+
+  /** Stores the descriptor decoded from an image, with the size of the decoded bitmap. */
+  synchronized void put(byte[] imageBytes, BitmapDescriptor descriptor, int bitmapBytes) {
+    decodes++;
+    Entry replaced = entries.put(getKey(imageBytes), new Entry(descriptor, bitmapBytes));
+    if (replaced != null) {
+      bytes -= replaced.bitmapBytes;
+    }
+    bytes += bitmapBytes;
+    Iterator<Entry> iterator = entries.values().iterator();
+    while (bytes > maxBytes && iterator.hasNext()) {
+      bytes -= iterator.next().bitmapBytes;
+      iterator.remove();
+    }
+  }
+
+  /** Returns the counters reported by {@code map#getBitmapDescriptorCacheStats}. */
+  synchronized Map<String, Object> getStats() {
+    Map<String, Object> stats = new HashMap<>();
+    stats.put("decodes", decodes);
+    stats.put("hits", hits);
+    stats.put("entries", entries.size());
+    stats.put("bytes", bytes);
+    return stats;
+  }
+
+  private static String getKey(byte[] imageBytes) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256.
+      throw new IllegalStateException(e);
+    }
+    StringBuilder key = new StringBuilder();
+    for (byte b : digest.digest(imageBytes)) {
+      key.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+    }
+    return key.toString();
+  }
+
+  private static final class Entry {
+    final BitmapDescriptor descriptor;
+    final int bitmapBytes;
+
+    Entry(BitmapDescriptor descriptor, int bitmapBytes) {
+      this.descriptor = descriptor;
+      this.bitmapBytes = bitmapBytes;
+    }
+  }
+}
@@ -0,0 +1,89 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.CameraPosition;
+import io.flutter.plugin.common.MethodChannel;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends {@code camera#onMove} events to Dart, at most one per interval.
+ *
+ * <p>The positions in between are coalesced into the latest one, which is sent by {@link #flush()}
+ * before {@code camera#onIdle}, so Dart always gets the final position of a movement. The event
+ * payload is reused, since the method channel encodes it before {@code invokeMethod} returns.
+ *
+ * <p>This class is not thread-safe. It is used from the main thread only.
+ */
+final class CameraMoveThrottle {
+
+  private final MethodChannel methodChannel;
+  private final Map<String, Object> arguments = new HashMap<>(2);
+  private final Map<String, Object> positionJson = new HashMap<>(4);
+  private long intervalMs;
+  @Nullable private CameraPosition pendingPosition;
+  private long lastSentTimeMs;
+  private boolean sentSinceIdle;
+  private long sentEvents;
+  private long suppressedEvents;
+
+  CameraMoveThrottle(MethodChannel methodChannel) {
+    this.methodChannel = methodChannel;
+  }
+
+  /** Sets the minimum time between two events. 0 sends an event for every camera move. */
+  void setIntervalMs(long intervalMs) {
+    this.intervalMs = Math.max(0, intervalMs);
+  }
+
+  void onCameraMove(CameraPosition position, long nowMs) {
+    boolean canSend = !sentSinceIdle || nowMs - lastSentTimeMs >= intervalMs;
+    if (pendingPosition != null) {
+      // The held back position is superseded by this one.
+      suppressedEvents++;
+      pendingPosition = null;
+    }
+    if (canSend) {
+      send(position, nowMs);
+    } else {
+      pendingPosition = position;
+    }
+  }
+
+  /** Sends the position that is still held back by the throttle, if any. */
+  void flush() {
+    if (pendingPosition != null) {
+      send(pendingPosition, lastSentTimeMs);
+      pendingPosition = null;
+    }
+    sentSinceIdle = false;
+  }
+
+  /** Forgets the position held back by the throttle, for example when tracking is turned off. */
+  void reset() {
+    if (pendingPosition != null) {
+      suppressedEvents++;
+      pendingPosition = null;
+    }
+    sentSinceIdle = false;
+  }
+
+  Map<String, Object> getStats() {
+    Map<String, Object> stats = new HashMap<>();
+    stats.put("sentCameraMoves", sentEvents);
+    stats.put("suppressedCameraMoves", suppressedEvents);
+    return stats;
+  }
+
+  private void send(CameraPosition position, long nowMs) {
+    arguments.put("position", Convert.cameraPositionToJson(position, positionJson));
+    methodChannel.invokeMethod("camera#onMove", arguments);
+    lastSentTimeMs = nowMs;
+    sentSinceIdle = true;
+    sentEvents++;
+  }
+}
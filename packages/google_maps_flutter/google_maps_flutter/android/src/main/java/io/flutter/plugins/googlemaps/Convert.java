@@ -72,8 +72,15 @@ class Convert {
   private static BitmapDescriptor getBitmapFromBytes(List<?> data) {
     if (data.size() == 2) {
       try {
-        Bitmap bitmap = toBitmap(data.get(1));
-        return BitmapDescriptorFactory.fromBitmap(bitmap);
+        byte[] imageBytes = (byte[]) data.get(1);
+        BitmapDescriptorCache cache = BitmapDescriptorCache.getInstance();
+        BitmapDescriptor descriptor = cache.get(imageBytes);
+        if (descriptor == null) {
+          Bitmap bitmap = toBitmap(imageBytes);
+          descriptor = BitmapDescriptorFactory.fromBitmap(bitmap);
+          cache.put(imageBytes, descriptor, bitmap.getByteCount());
+        }
+        return descriptor;
       } catch (Exception e) {
         throw new IllegalArgumentException("Unable to interpret bytes as a valid image.", e);
       }
@@ -151,7 +158,12 @@ class Convert {
     if (position == null) {
       return null;
     }
-    final Map<String, Object> data = new HashMap<>();
+    return cameraPositionToJson(position, new HashMap<String, Object>());
+  }
+
+  /** Writes the position into {@code data}, so that a map can be reused for frequent events. */
+  static Map<String, Object> cameraPositionToJson(
+      CameraPosition position, Map<String, Object> data) {
     data.put("bearing", position.bearing);
     data.put("target", latLngToJson(position.target));
     data.put("tilt", position.tilt);
@@ -344,6 +356,10 @@ class Convert {
     if (trackCameraPosition != null) {
       sink.setTrackCameraPosition(toBoolean(trackCameraPosition));
     }
+    final Object cameraMoveThrottleMs = data.get("cameraMoveThrottleMs");
+    if (cameraMoveThrottleMs != null) {
+      sink.setCameraMoveThrottleMs(((Number) cameraMoveThrottleMs).longValue());
+    }
     final Object zoomGesturesEnabled = data.get("zoomGesturesEnabled");
     if (zoomGesturesEnabled != null) {
       sink.setZoomGesturesEnabled(toBoolean(zoomGesturesEnabled));
@@ -11,6 +11,7 @@ import android.content.pm.PackageManager;
 import android.graphics.Bitmap;
 import android.graphics.Point;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.util.Log;
 import android.view.View;
 import androidx.annotation.NonNull;
@@ -77,6 +78,7 @@ final class GoogleMapController
   private final PolylinesController polylinesController;
   private final CirclesController circlesController;
   private final TileOverlaysController tileOverlaysController;
+  private final CameraMoveThrottle cameraMoveThrottle;
   private List<Object> initialMarkers;
   private List<Object> initialPolygons;
   private List<Object> initialPolylines;
@@ -101,7 +103,9 @@ final class GoogleMapController
     this.polygonsController = new PolygonsController(methodChannel, density);
     this.polylinesController = new PolylinesController(methodChannel, density);
     this.circlesController = new CirclesController(methodChannel, density);
-    this.tileOverlaysController = new TileOverlaysController(methodChannel);
+    this.tileOverlaysController =
+        new TileOverlaysController(methodChannel, TileCache.getInstance(context));
+    this.cameraMoveThrottle = new CameraMoveThrottle(methodChannel);
   }
 
   @Override
@@ -408,6 +412,16 @@ final class GoogleMapController
           result.success(null);
           break;
         }
+      case "map#getCameraMoveStats":
+        {
+          result.success(cameraMoveThrottle.getStats());
+          break;
+        }
+      case "map#getBitmapDescriptorCacheStats":
+        {
+          result.success(BitmapDescriptorCache.getInstance().getStats());
+          break;
+        }
       case "map#getTileOverlayInfo":
         {
           String tileOverlayId = call.argument("tileOverlayId");
@@ -448,16 +462,17 @@ final class GoogleMapController
 
   @Override
   public void onCameraMove() {
+    tileOverlaysController.updateVisibleTiles();
     if (!trackCameraPosition) {
       return;
     }
-    final Map<String, Object> arguments = new HashMap<>(2);
-    arguments.put("position", Convert.cameraPositionToJson(googleMap.getCameraPosition()));
-    methodChannel.invokeMethod("camera#onMove", arguments);
+    cameraMoveThrottle.onCameraMove(googleMap.getCameraPosition(), SystemClock.uptimeMillis());
   }
 
   @Override
   public void onCameraIdle() {
+    tileOverlaysController.updateVisibleTiles();
+    cameraMoveThrottle.flush();
     methodChannel.invokeMethod("camera#onIdle", Collections.singletonMap("map", id));
   }
 
@@ -634,6 +649,14 @@ final class GoogleMapController
   @Override
   public void setTrackCameraPosition(boolean trackCameraPosition) {
     this.trackCameraPosition = trackCameraPosition;
+    if (!trackCameraPosition) {
+      cameraMoveThrottle.reset();
+    }
+  }
+
+  @Override
+  public void setCameraMoveThrottleMs(long cameraMoveThrottleMs) {
+    cameraMoveThrottle.setIntervalMs(cameraMoveThrottleMs);
   }
 
   @Override
@@ -0,0 +1,500 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageManager;
+import android.os.Bundle;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.Tile;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * A memory and disk cache of tiles returned by the Dart tile providers.
+ *
+ * <p>Tiles are keyed by tile overlay id and x/y/zoom, so they are shared by all the maps of the
+ * process. Two maps that use the same overlay id with different tile providers serve each other's
+ * tiles until they expire or the overlay is cleared. Both levels are bounded in bytes and evict the
+ * least recently used tiles first. Tiles older than the time to live are treated as missing.
+ *
+ * <p>The disk level is only enabled when the app sets the {@value #ENABLE_DISK_CACHE_META_DATA}
+ * meta-data of its manifest to true, since its tiles outlive the providers that created them.
+ *
+ * <p>{@link #get} and {@link #put} are called from the tile threads of the Maps SDK, {@link #clear}
+ * from the platform thread. The indexes are guarded by a lock, but files are only read, written and
+ * deleted outside of it, so a slow disk doesn't block the tile threads that hit the memory level.
+ * Clearing only updates the indexes on the platform thread, and scans and deletes files on the disk
+ * executor.
+ */
+class TileCache {
+
+  private static final String TAG = "TileCache";
+  private static final String DIRECTORY_NAME = "google_maps_tiles";
+  private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+  /** The manifest meta-data that enables the disk level of the shared cache. */
+  static final String ENABLE_DISK_CACHE_META_DATA =
+      "io.flutter.plugins.googlemaps.EnableTileDiskCache";
+
+  static final long DEFAULT_MAX_MEMORY_BYTES = 8 * 1024 * 1024;
+  static final long DEFAULT_MAX_DISK_BYTES = 32 * 1024 * 1024;
+  static final long DEFAULT_TIME_TO_LIVE_MS = 60 * 60 * 1000;
+
+  /** The size of the width, height and data length written before the data of a tile file. */
+  private static final int TILE_HEADER_BYTES = 12;
+
+  private static TileCache instance;
+
+  private final Object lock = new Object();
+  private final Object loadLock = new Object();
+  private final LinkedHashMap<String, Entry> memoryEntries = new LinkedHashMap<>(16, 0.75f, true);
+  private final LinkedHashMap<File, DiskEntry> diskEntries = new LinkedHashMap<>(16, 0.75f, true);
+  @Nullable private final File directory;
+  private final long maxMemoryBytes;
+  private final long maxDiskBytes;
+  private final long timeToLiveMs;
+  private long memoryBytes;
+  private long diskBytes;
+  private long clears;
+  // The overlays cleared before the directory was scanned, whose files the scan deletes.
+  private final List<File> clearedOverlayDirectories = new ArrayList<>();
+  private volatile boolean diskEntriesLoaded;
+  private final Executor diskExecutor;
+
+  /**
+   * Returns the cache shared by all maps. Its disk level is stored in the app cache directory when
+   * it is enabled by the manifest.
+   */
+  static synchronized TileCache getInstance(Context context) {
+    if (instance == null) {
+      boolean diskCacheEnabled = isDiskCacheEnabled(context);
+      instance =
+          new TileCache(
+              diskCacheEnabled ? new File(context.getCacheDir(), DIRECTORY_NAME) : null,
+              DEFAULT_MAX_MEMORY_BYTES,
+              diskCacheEnabled ? DEFAULT_MAX_DISK_BYTES : 0,
+              DEFAULT_TIME_TO_LIVE_MS,
+              Executors.newSingleThreadExecutor());
+    }
+    return instance;
+  }
+
+  private static boolean isDiskCacheEnabled(Context context) {
+    try {
+      ApplicationInfo applicationInfo =
+          context
+              .getPackageManager()
+              .getApplicationInfo(context.getPackageName(), PackageManager.GET_META_DATA);
+      Bundle metaData = applicationInfo.metaData;
+      return metaData != null && metaData.getBoolean(ENABLE_DISK_CACHE_META_DATA, false);
+    } catch (PackageManager.NameNotFoundException e) {
+      Log.w(TAG, "Can't read the application meta-data, the tile disk cache is disabled", e);
+      return false;
+    }
+  }
+
+  /** Creates a cache that clears its files on the calling thread. */
+  @VisibleForTesting
+  TileCache(@Nullable File directory, long maxMemoryBytes, long maxDiskBytes, long timeToLiveMs) {
+    this(directory, maxMemoryBytes, maxDiskBytes, timeToLiveMs, Runnable::run);
+  }
+
+  /**
+   * Creates a cache. The disk level is disabled when {@code directory} is null or {@code
+   * maxDiskBytes} is 0.
+   *
+   * @param diskExecutor runs the file work of {@link #clear}.
+   */
+  @VisibleForTesting
+  TileCache(
+      @Nullable File directory,
+      long maxMemoryBytes,
+      long maxDiskBytes,
+      long timeToLiveMs,
+      Executor diskExecutor) {
+    this.directory = maxDiskBytes > 0 ? directory : null;
+    this.maxMemoryBytes = maxMemoryBytes;
+    this.maxDiskBytes = maxDiskBytes;
+    this.timeToLiveMs = timeToLiveMs;
+    this.diskExecutor = diskExecutor;
+  }
+
+  /** Returns the cached tile, or null if it is missing or expired. */
+  @Nullable
+  Tile get(String tileOverlayId, int x, int y, int zoom) {
+    String key = getKey(tileOverlayId, x, y, zoom);
+    long now = System.currentTimeMillis();
+    synchronized (lock) {
+      Entry entry = memoryEntries.get(key);
+      if (entry != null) {
+        if (now - entry.createdAt < timeToLiveMs) {
+          return entry.tile;
+        }
+        removeMemoryEntry(key);
+      }
+    }
+    File file = getFile(tileOverlayId, x, y, zoom);
+    if (file == null) {
+      return null;
+    }
+    loadDiskEntries();
+    DiskEntry diskEntry;
+    long clearCount;
+    synchronized (lock) {
+      diskEntry = diskEntries.get(file);
+      if (diskEntry == null) {
+        return null;
+      }
+      if (now - diskEntry.modifiedAt >= timeToLiveMs) {
+        removeDiskEntry(file);
+        diskEntry = null;
+      }
+      clearCount = clears;
+    }
+    if (diskEntry == null) {
+      deleteFile(file);
+      return null;
+    }
+    Tile tile = readTile(file);
+    synchronized (lock) {
+      if (tile == null) {
+        // Only drop the entry if the file wasn't replaced while it was read.
+        if (diskEntries.get(file) == diskEntry) {
+          removeDiskEntry(file);
+        }
+        return null;
+      }
+      // A tile read before its overlay was cleared must not be stored again.
+      if (clearCount == clears) {
+        putMemoryEntry(key, new Entry(tileOverlayId, tile, diskEntry.modifiedAt));
+      }
+    }
+    return tile;
+  }
+
+  /** Stores a tile. Tiles without data are not cached so that the provider is asked again. */
+  void put(String tileOverlayId, int x, int y, int zoom, @NonNull Tile tile) {
+    if (tile.data == null) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    long clearCount;
+    synchronized (lock) {
+      putMemoryEntry(getKey(tileOverlayId, x, y, zoom), new Entry(tileOverlayId, tile, now));
+      clearCount = clears;
+    }
+    File file = getFile(tileOverlayId, x, y, zoom);
+    if (file == null) {
+      return;
+    }
+    loadDiskEntries();
+    File temporaryFile = writeTemporaryFile(file, tile);
+    if (temporaryFile == null) {
+      return;
+    }
+    List<File> filesToDelete = new ArrayList<>();
+    synchronized (lock) {
+      // The rename is the commit point of the write, so it is done under the lock to not publish a
+      // tile of an overlay that was cleared while the tile was written.
+      if (clearCount != clears) {
+        filesToDelete.add(temporaryFile);
+      } else if (temporaryFile.renameTo(file)) {
+        removeDiskEntry(file);
+        long bytes = TILE_HEADER_BYTES + tile.data.length;
+        diskEntries.put(file, new DiskEntry(bytes, now));
+        diskBytes += bytes;
+        trimDisk(filesToDelete);
+      } else {
+        Log.w(TAG, "Can't move cached tile to " + file);
+        filesToDelete.add(temporaryFile);
+      }
+    }
+    deleteFiles(filesToDelete);
+  }
+
+  /**
+   * Removes all the tiles of an overlay, for example when its tile cache is cleared.
+   *
+   * <p>The tiles are no longer returned once this returns, but their files are deleted later on the
+   * disk executor.
+   */
+  void clear(String tileOverlayId) {
+    File overlayDirectory = getOverlayDirectory(tileOverlayId);
+    List<File> filesToDelete = new ArrayList<>();
+    synchronized (lock) {
+      clears++;
+      Iterator<Map.Entry<String, Entry>> memoryIterator = memoryEntries.entrySet().iterator();
+      while (memoryIterator.hasNext()) {
+        Map.Entry<String, Entry> entry = memoryIterator.next();
+        if (tileOverlayId.equals(entry.getValue().tileOverlayId)) {
+          memoryBytes -= entry.getValue().tile.data.length;
+          memoryIterator.remove();
+        }
+      }
+      if (overlayDirectory != null && diskEntriesLoaded) {
+        for (File file : new ArrayList<>(diskEntries.keySet())) {
+          if (overlayDirectory.equals(file.getParentFile())) {
+            removeDiskEntry(file);
+            filesToDelete.add(file);
+          }
+        }
+      } else if (overlayDirectory != null) {
+        clearedOverlayDirectories.add(overlayDirectory);
+      }
+    }
+    if (overlayDirectory != null) {
+      diskExecutor.execute(
+          () -> {
+            // Scanning the directory deletes the files of the overlay if it wasn't scanned yet.
+            loadDiskEntries();
+            List<File> staleFiles = new ArrayList<>();
+            synchronized (lock) {
+              // Keep the tiles that were cached again since the clear.
+              for (File file : filesToDelete) {
+                if (!diskEntries.containsKey(file)) {
+                  staleFiles.add(file);
+                }
+              }
+            }
+            deleteFiles(staleFiles);
+          });
+    }
+  }
+
+  @VisibleForTesting
+  long getMemoryBytes() {
+    synchronized (lock) {
+      return memoryBytes;
+    }
+  }
+
+  @VisibleForTesting
+  long getDiskBytes() {
+    loadDiskEntries();
+    synchronized (lock) {
+      return diskBytes;
+    }
+  }
+
+  private static String getKey(String tileOverlayId, int x, int y, int zoom) {
+    return tileOverlayId + '/' + zoom + '/' + x + '/' + y;
+  }
+
+  private void putMemoryEntry(String key, Entry entry) {
+    removeMemoryEntry(key);
+    memoryEntries.put(key, entry);
+    memoryBytes += entry.tile.data.length;
+    Iterator<Entry> iterator = memoryEntries.values().iterator();
+    while (memoryBytes > maxMemoryBytes && iterator.hasNext()) {
+      memoryBytes -= iterator.next().tile.data.length;
+      iterator.remove();
+    }
+  }
+
+  private void removeMemoryEntry(String key) {
+    Entry removed = memoryEntries.remove(key);
+    if (removed != null) {
+      memoryBytes -= removed.tile.data.length;
+    }
+  }
+
+  @Nullable
+  private File getOverlayDirectory(String tileOverlayId) {
+    if (directory == null) {
+      return null;
+    }
+    // Overlay ids are arbitrary strings, so they are hex encoded to make a valid file name.
+    StringBuilder name = new StringBuilder();
+    for (byte b : tileOverlayId.getBytes(Charset.forName("UTF-8"))) {
+      name.append(String.format("%02x", b));
+    }
+    return new File(directory, name.toString());
+  }
+
+  @Nullable
+  private File getFile(String tileOverlayId, int x, int y, int zoom) {
+    File overlayDirectory = getOverlayDirectory(tileOverlayId);
+    if (overlayDirectory == null) {
+      return null;
+    }
+    return new File(overlayDirectory, zoom + "_" + x + "_" + y);
+  }
+
+  /**
+   * Indexes the tiles written by previous runs, least recently modified first.
+   *
+   * <p>The directory is scanned once, outside of the lock of the indexes. Tile threads that need
+   * the disk level wait for the scan, the others keep using the memory level.
+   */
+  private void loadDiskEntries() {
+    if (diskEntriesLoaded) {
+      return;
+    }
+    synchronized (loadLock) {
+      if (diskEntriesLoaded) {
+        return;
+      }
+      List<File> files = new ArrayList<>();
+      List<File> filesToDelete = new ArrayList<>();
+      File[] overlayDirectories = directory != null ? directory.listFiles() : null;
+      if (overlayDirectories != null) {
+        for (File overlayDirectory : overlayDirectories) {
+          File[] tileFiles = overlayDirectory.listFiles();
+          if (tileFiles == null) {
+            continue;
+          }
+          for (File tileFile : tileFiles) {
+            // Temporary files are left behind by writes that were interrupted by the process dying.
+            if (tileFile.getName().endsWith(TEMPORARY_FILE_SUFFIX)) {
+              filesToDelete.add(tileFile);
+            } else {
+              files.add(tileFile);
+            }
+          }
+        }
+      }
+      Map<File, DiskEntry> entries = new HashMap<>();
+      for (File file : files) {
+        entries.put(file, new DiskEntry(file.length(), file.lastModified()));
+      }
+      Collections.sort(
+          files, (a, b) -> Long.compare(entries.get(a).modifiedAt, entries.get(b).modifiedAt));
+      synchronized (lock) {
+        for (File file : files) {
+          if (clearedOverlayDirectories.contains(file.getParentFile())) {
+            filesToDelete.add(file);
+            continue;
+          }
+          DiskEntry entry = entries.get(file);
+          diskEntries.put(file, entry);
+          diskBytes += entry.bytes;
+        }
+        clearedOverlayDirectories.clear();
+        trimDisk(filesToDelete);
+        // Set under the lock, so that a clear either finds the files in the index or is seen by
+        // the scan.
+        diskEntriesLoaded = true;
+      }
+      deleteFiles(filesToDelete);
+    }
+  }
+
+  /** Removes a file from the index. The caller deletes the file once the lock is released. */
+  private void removeDiskEntry(File file) {
+    DiskEntry removed = diskEntries.remove(file);
+    if (removed != null) {
+      diskBytes -= removed.bytes;
+    }
+  }
+
+  private void trimDisk(List<File> filesToDelete) {
+    Iterator<Map.Entry<File, DiskEntry>> iterator = diskEntries.entrySet().iterator();
+    while (diskBytes > maxDiskBytes && iterator.hasNext()) {
+      Map.Entry<File, DiskEntry> entry = iterator.next();
+      diskBytes -= entry.getValue().bytes;
+      iterator.remove();
+      filesToDelete.add(entry.getKey());
+    }
+  }
+
+  private static void deleteFiles(List<File> files) {
+    for (File file : files) {
+      deleteFile(file);
+    }
+  }
+
+  private static void deleteFile(File file) {
+    if (file.exists() && !file.delete()) {
+      Log.w(TAG, "Can't delete cached tile " + file);
+    }
+  }
+
+  /** Writes a tile next to its file, so that it can be moved over the file once it is complete. */
+  @Nullable
+  private static File writeTemporaryFile(File file, Tile tile) {
+    File parent = file.getParentFile();
+    if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+      Log.w(TAG, "Can't create tile cache directory " + parent);
+      return null;
+    }
+    File temporaryFile;
+    try {
+      temporaryFile = File.createTempFile(file.getName() + "_", TEMPORARY_FILE_SUFFIX, parent);
+    } catch (IOException e) {
+      Log.w(TAG, "Can't create cached tile " + file, e);
+      return null;
+    }
+    try (DataOutputStream output =
+        new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+      output.writeInt(tile.width);
+      output.writeInt(tile.height);
+      output.writeInt(tile.data.length);
+      output.write(tile.data);
+    } catch (IOException e) {
+      Log.w(TAG, "Can't write cached tile " + file, e);
+      deleteFile(temporaryFile);
+      return null;
+    }
+    return temporaryFile;
+  }
+
+  @Nullable
+  private static Tile readTile(File file) {
+    try (DataInputStream input =
+        new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      int width = input.readInt();
+      int height = input.readInt();
+      byte[] data = new byte[input.readInt()];
+      input.readFully(data);
+      return new Tile(width, height, data);
+    } catch (IOException e) {
+      Log.w(TAG, "Can't read cached tile " + file, e);
+      return null;
+    }
+  }
+
+  private static final class Entry {
+    final String tileOverlayId;
+    final Tile tile;
+    final long createdAt;
+
+    Entry(String tileOverlayId, Tile tile, long createdAt) {
+      this.tileOverlayId = tileOverlayId;
+      this.tile = tile;
+      this.createdAt = createdAt;
+    }
+  }
+
+  private static final class DiskEntry {
+    final long bytes;
+    final long modifiedAt;
+
+    DiskEntry(long bytes, long modifiedAt) {
+      this.bytes = bytes;
+      this.modifiedAt = modifiedAt;
+    }
+  }
+}
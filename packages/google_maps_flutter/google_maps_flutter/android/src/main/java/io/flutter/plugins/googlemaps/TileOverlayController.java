@@ -12,9 +12,11 @@ import java.util.Map;
 class TileOverlayController implements TileOverlaySink {
 
   private final TileOverlay tileOverlay;
+  private final TileProviderController tileProviderController;
 
-  TileOverlayController(TileOverlay tileOverlay) {
+  TileOverlayController(TileOverlay tileOverlay, TileProviderController tileProviderController) {
     this.tileOverlay = tileOverlay;
+    this.tileProviderController = tileProviderController;
   }
 
   void remove() {
@@ -22,9 +24,22 @@ class TileOverlayController implements TileOverlaySink {
   }
 
   void clearTileCache() {
+    clearNativeTileCache();
     tileOverlay.clearTileCache();
   }
 
+  /**
+   * Drops the tiles of the plugin's {@link TileCache}, but keeps the tiles the Maps SDK is showing
+   * so the overlay doesn't flicker.
+   */
+  void clearNativeTileCache() {
+    tileProviderController.clearTileCache();
+  }
+
+  void setVisibleTiles(VisibleTiles visibleTiles) {
+    tileProviderController.setVisibleTiles(visibleTiles);
+  }
+
   Map<String, Object> getTileOverlayInfo() {
     Map<String, Object> tileOverlayInfo = new HashMap<>();
     tileOverlayInfo.put("fadeIn", tileOverlay.getFadeIn());
@@ -32,6 +47,7 @@ class TileOverlayController implements TileOverlaySink {
     tileOverlayInfo.put("id", tileOverlay.getId());
     tileOverlayInfo.put("zIndex", tileOverlay.getZIndex());
     tileOverlayInfo.put("visible", tileOverlay.isVisible());
+    tileOverlayInfo.putAll(tileProviderController.getTileStats());
     return tileOverlayInfo;
   }
 
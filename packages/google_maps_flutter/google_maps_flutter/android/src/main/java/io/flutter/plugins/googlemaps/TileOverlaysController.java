@@ -4,6 +4,7 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.TileOverlay;
 import com.google.android.gms.maps.model.TileOverlayOptions;
@@ -15,12 +16,14 @@ import java.util.Map;
 class TileOverlaysController {
 
   private final Map<String, TileOverlayController> tileOverlayIdToController;
-  private final MethodChannel methodChannel;
+  private final TileRequestBatcher tileRequestBatcher;
+  @Nullable private final TileCache tileCache;
   private GoogleMap googleMap;
 
-  TileOverlaysController(MethodChannel methodChannel) {
+  TileOverlaysController(MethodChannel methodChannel, @Nullable TileCache tileCache) {
     this.tileOverlayIdToController = new HashMap<>();
-    this.methodChannel = methodChannel;
+    this.tileRequestBatcher = new TileRequestBatcher(methodChannel);
+    this.tileCache = tileCache;
   }
 
   void setGoogleMap(GoogleMap googleMap) {
@@ -78,6 +81,20 @@ class TileOverlaysController {
     return tileOverlayController.getTileOverlayInfo();
   }
 
+  /** Lets the tile providers drop requests for the tiles that the camera moved away from. */
+  void updateVisibleTiles() {
+    if (googleMap == null || tileOverlayIdToController.isEmpty()) {
+      return;
+    }
+    VisibleTiles visibleTiles =
+        new VisibleTiles(
+            googleMap.getProjection().getVisibleRegion().latLngBounds,
+            googleMap.getCameraPosition().zoom);
+    for (TileOverlayController tileOverlayController : tileOverlayIdToController.values()) {
+      tileOverlayController.setVisibleTiles(visibleTiles);
+    }
+  }
+
   private void addTileOverlay(Map<String, ?> tileOverlayOptions) {
     if (tileOverlayOptions == null) {
       return;
@@ -86,11 +103,12 @@ class TileOverlaysController {
     String tileOverlayId =
         Convert.interpretTileOverlayOptions(tileOverlayOptions, tileOverlayOptionsBuilder);
     TileProviderController tileProviderController =
-        new TileProviderController(methodChannel, tileOverlayId);
+        new TileProviderController(tileRequestBatcher, tileOverlayId, tileCache);
     tileOverlayOptionsBuilder.setTileProvider(tileProviderController);
     TileOverlayOptions options = tileOverlayOptionsBuilder.build();
     TileOverlay tileOverlay = googleMap.addTileOverlay(options);
-    TileOverlayController tileOverlayController = new TileOverlayController(tileOverlay);
+    TileOverlayController tileOverlayController =
+        new TileOverlayController(tileOverlay, tileProviderController);
     tileOverlayIdToController.put(tileOverlayId, tileOverlayController);
   }
 
@@ -102,12 +120,17 @@ class TileOverlaysController {
     TileOverlayController tileOverlayController = tileOverlayIdToController.get(tileOverlayId);
     if (tileOverlayController != null) {
       Convert.interpretTileOverlayOptions(tileOverlayOptions, tileOverlayController);
+      // The Dart side may have swapped the tile provider, so its cached tiles can be stale. The
+      // tiles shown by the Maps SDK are only refreshed when Dart asks for it.
+      tileOverlayController.clearNativeTileCache();
     }
   }
 
   private void removeTileOverlay(String tileOverlayId) {
     TileOverlayController tileOverlayController = tileOverlayIdToController.get(tileOverlayId);
     if (tileOverlayController != null) {
+      // Another overlay can reuse the id, possibly with another provider.
+      tileOverlayController.clearNativeTileCache();
       tileOverlayController.remove();
       tileOverlayIdToController.remove(tileOverlayId);
     }
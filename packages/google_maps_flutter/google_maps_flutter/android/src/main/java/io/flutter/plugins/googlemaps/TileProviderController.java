@@ -4,41 +4,166 @@
 
 package io.flutter.plugins.googlemaps;
 
-import android.os.Handler;
-import android.os.Looper;
 import android.util.Log;
-import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import com.google.android.gms.maps.model.Tile;
 import com.google.android.gms.maps.model.TileProvider;
-import io.flutter.plugin.common.MethodChannel;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 class TileProviderController implements TileProvider {
 
   private static final String TAG = "TileProviderController";
 
+  /** How long a tile thread waits for the tile from Dart, including the wait for a request slot. */
+  static final long DEFAULT_TILE_TIMEOUT_MS = 5000;
+
+  /**
+   * The maximum number of tiles of an overlay that are requested from Dart at the same time.
+   * Requests only take a slot when they are sent, so a full batch of an overlay fits.
+   */
+  static final int DEFAULT_MAX_CONCURRENT_REQUESTS = TileRequestBatcher.MAX_BATCH_SIZE;
+
   private final String tileOverlayId;
-  private final MethodChannel methodChannel;
-  private final Handler handler = new Handler(Looper.getMainLooper());
+  private final TileRequestBatcher tileRequestBatcher;
+  @Nullable private final TileCache tileCache;
+  private final long tileTimeoutMs;
+  private final Semaphore requestPermits;
+  private final Set<Worker> pendingWorkers =
+      Collections.newSetFromMap(new ConcurrentHashMap<Worker, Boolean>());
+  @Nullable private volatile VisibleTiles visibleTiles;
+  private final AtomicLong cacheHits = new AtomicLong();
+  private final AtomicLong cacheMisses = new AtomicLong();
+  private final AtomicLong tileFetches = new AtomicLong();
+  private final AtomicLong tileFetchTimeMs = new AtomicLong();
+  private final AtomicLong stalledTiles = new AtomicLong();
+  private final AtomicLong throttledTiles = new AtomicLong();
+  private final AtomicLong droppedTiles = new AtomicLong();
+  private final AtomicLong cacheClears = new AtomicLong();
 
-  TileProviderController(MethodChannel methodChannel, String tileOverlayId) {
+  TileProviderController(
+      TileRequestBatcher tileRequestBatcher, String tileOverlayId, @Nullable TileCache tileCache) {
+    this(
+        tileRequestBatcher,
+        tileOverlayId,
+        tileCache,
+        DEFAULT_TILE_TIMEOUT_MS,
+        DEFAULT_MAX_CONCURRENT_REQUESTS);
+  }
+
+  @VisibleForTesting
+  TileProviderController(
+      TileRequestBatcher tileRequestBatcher,
+      String tileOverlayId,
+      @Nullable TileCache tileCache,
+      long tileTimeoutMs,
+      int maxConcurrentRequests) {
     this.tileOverlayId = tileOverlayId;
-    this.methodChannel = methodChannel;
+    this.tileRequestBatcher = tileRequestBatcher;
+    this.tileCache = tileCache;
+    this.tileTimeoutMs = tileTimeoutMs;
+    this.requestPermits = new Semaphore(maxConcurrentRequests);
   }
 
+  /**
+   * Returns the tile, or null when it can't be fetched right now. The Maps SDK requests such tiles
+   * again later.
+   */
   @Override
   public Tile getTile(final int x, final int y, final int zoom) {
+    if (tileCache != null) {
+      Tile cachedTile = tileCache.get(tileOverlayId, x, y, zoom);
+      if (cachedTile != null) {
+        cacheHits.incrementAndGet();
+        return cachedTile;
+      }
+      cacheMisses.incrementAndGet();
+    }
+    if (!isVisible(x, y, zoom)) {
+      droppedTiles.incrementAndGet();
+      return null;
+    }
+    long startTime = System.nanoTime();
+    long clearCount = cacheClears.get();
     Worker worker = new Worker(x, y, zoom);
-    return worker.getTile();
+    Tile tile;
+    pendingWorkers.add(worker);
+    try {
+      // The camera can move between the visibility check and the registration of the worker.
+      if (!isVisible(x, y, zoom)) {
+        worker.cancel();
+      }
+      tile = worker.getTile();
+    } finally {
+      pendingWorkers.remove(worker);
+      worker.finish();
+    }
+    if (tile == null) {
+      return null;
+    }
+    tileFetches.incrementAndGet();
+    tileFetchTimeMs.addAndGet(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    // A tile requested before the cache was cleared may come from the previous provider.
+    if (tileCache != null && clearCount == cacheClears.get()) {
+      tileCache.put(tileOverlayId, x, y, zoom, tile);
+    }
+    return tile;
+  }
+
+  /** Cancels the pending requests of tiles that are no longer visible after a camera move. */
+  void setVisibleTiles(VisibleTiles visibleTiles) {
+    this.visibleTiles = visibleTiles;
+    for (Worker worker : pendingWorkers) {
+      if (!visibleTiles.contains(worker.x, worker.y, worker.zoom)) {
+        worker.cancel();
+      }
+    }
+  }
+
+  private boolean isVisible(int x, int y, int zoom) {
+    VisibleTiles visibleTiles = this.visibleTiles;
+    return visibleTiles == null || visibleTiles.contains(x, y, zoom);
+  }
+
+  /** Drops the cached tiles of this overlay so that they are requested from Dart again. */
+  void clearTileCache() {
+    cacheClears.incrementAndGet();
+    if (tileCache != null) {
+      tileCache.clear(tileOverlayId);
+    }
   }
 
-  private final class Worker implements MethodChannel.Result {
+  /** Returns the tile cache and fetch counters reported by {@code map#getTileOverlayInfo}. */
+  Map<String, Object> getTileStats() {
+    Map<String, Object> stats = new HashMap<>();
+    long fetches = tileFetches.get();
+    stats.put("tileCacheHits", cacheHits.get());
+    stats.put("tileCacheMisses", cacheMisses.get());
+    stats.put("tileFetches", fetches);
+    stats.put("averageTileFetchMs", fetches > 0 ? tileFetchTimeMs.get() / fetches : 0L);
+    stats.put("stalledTiles", stalledTiles.get());
+    stats.put("throttledTiles", throttledTiles.get());
+    stats.put("droppedTiles", droppedTiles.get());
+    return stats;
+  }
+
+  private final class Worker implements TileRequestBatcher.Callback {
 
     private final CountDownLatch countDownLatch = new CountDownLatch(1);
     private final int x;
     private final int y;
     private final int zoom;
+    private volatile boolean cancelled;
+    private volatile boolean finished;
+    private boolean started;
     private Map<String, ?> result;
 
     Worker(int x, int y, int zoom) {
@@ -47,17 +172,28 @@ class TileProviderController implements TileProvider {
       this.zoom = zoom;
     }
 
-    @NonNull
+    /** Returns the tile from Dart, or null if the request stalled or was cancelled. */
+    @Nullable
     Tile getTile() {
-      handler.post(
-          () ->
-              methodChannel.invokeMethod(
-                  "tileOverlay#getTile",
-                  Convert.tileOverlayArgumentsToJson(tileOverlayId, x, y, zoom),
-                  this));
+      tileRequestBatcher.getTile(
+          Convert.tileOverlayArgumentsToJson(tileOverlayId, x, y, zoom), this);
       try {
-        // Because `methodChannel.invokeMethod` is async, we use a `countDownLatch` make it synchronized.
-        countDownLatch.await();
+        // Because `tileRequestBatcher.getTile` is async, we use a `countDownLatch` make it
+        // synchronized.
+        if (!countDownLatch.await(tileTimeoutMs, TimeUnit.MILLISECONDS)) {
+          if (!finish()) {
+            // The request is still queued behind other requests of the overlay.
+            throttledTiles.incrementAndGet();
+            return null;
+          }
+          stalledTiles.incrementAndGet();
+          Log.w(
+              TAG,
+              String.format(
+                  "Tile request timed out after %d ms: x = %d, y= %d, zoom = %d",
+                  tileTimeoutMs, x, y, zoom));
+          return null;
+        }
       } catch (InterruptedException e) {
         Log.e(
             TAG,
@@ -65,6 +201,10 @@ class TileProviderController implements TileProvider {
             e);
         return TileProvider.NO_TILE;
       }
+      if (cancelled) {
+        droppedTiles.incrementAndGet();
+        return null;
+      }
       try {
         return Convert.interpretTile(result);
       } catch (Exception e) {
@@ -73,9 +213,41 @@ class TileProviderController implements TileProvider {
       }
     }
 
+    void cancel() {
+      cancelled = true;
+      countDownLatch.countDown();
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return cancelled || finished;
+    }
+
+    @Override
+    public synchronized boolean tryStart() {
+      if (finished || !requestPermits.tryAcquire()) {
+        return false;
+      }
+      started = true;
+      return true;
+    }
+
+    /** Frees the request slot of the tile. Returns whether the request was sent to Dart. */
+    synchronized boolean finish() {
+      if (!finished) {
+        finished = true;
+        if (started) {
+          requestPermits.release();
+          tileRequestBatcher.requestFinished();
+        }
+      }
+      return started;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void success(Object data) {
+      finish();
       result = (Map<String, ?>) data;
       countDownLatch.countDown();
     }
@@ -87,6 +259,7 @@ class TileProviderController implements TileProvider {
           String.format(
               "Can't get tile: errorCode = %s, errorMessage = %s, date = %s",
               errorCode, errorCode, data));
+      finish();
       result = null;
       countDownLatch.countDown();
     }
@@ -94,6 +267,7 @@ class TileProviderController implements TileProvider {
     @Override
     public void notImplemented() {
       Log.e(TAG, "Can't get tile: notImplemented");
+      finish();
       result = null;
       countDownLatch.countDown();
     }
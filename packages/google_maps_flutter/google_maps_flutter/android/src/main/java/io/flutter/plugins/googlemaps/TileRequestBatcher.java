@@ -0,0 +1,165 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gathers the tile requests of the tile threads into batches, so that a camera move that needs
+ * many tiles sends a few {@code tileOverlay#getTiles} calls to Dart instead of one {@code
+ * tileOverlay#getTile} call per tile.
+ *
+ * <p>Requests are queued from the tile threads and sent from the main thread. A request that can't
+ * be started yet stays queued and joins the next batch. If the Dart side doesn't implement {@code
+ * tileOverlay#getTiles}, the batcher falls back to single requests.
+ */
+class TileRequestBatcher {
+
+  private static final String TAG = "TileRequestBatcher";
+
+  /** How long the first request of a batch waits for other requests to join it. */
+  static final long DEFAULT_BATCH_WINDOW_MS = 5;
+
+  /** Batches are sent early when they reach this size. */
+  static final int MAX_BATCH_SIZE = 64;
+
+  /** A pending tile request, which can be cancelled before it is sent. */
+  interface Callback extends MethodChannel.Result {
+    boolean isCancelled();
+
+    /**
+     * Called on the main thread before the request is sent. Returns false to keep the request
+     * queued until {@link #requestFinished} is called.
+     */
+    boolean tryStart();
+  }
+
+  private final MethodChannel methodChannel;
+  private final Handler handler;
+  private final long batchWindowMs;
+  private final List<Request> pendingRequests = new ArrayList<>();
+  private boolean flushScheduled;
+  private volatile boolean batchesSupported = true;
+
+  TileRequestBatcher(MethodChannel methodChannel) {
+    this(methodChannel, new Handler(Looper.getMainLooper()), DEFAULT_BATCH_WINDOW_MS);
+  }
+
+  @VisibleForTesting
+  TileRequestBatcher(MethodChannel methodChannel, Handler handler, long batchWindowMs) {
+    this.methodChannel = methodChannel;
+    this.handler = handler;
+    this.batchWindowMs = batchWindowMs;
+  }
+
+  /** Queues a {@code tileOverlay#getTile} request. The callback is called on the main thread. */
+  void getTile(Map<String, Object> arguments, Callback callback) {
+    synchronized (pendingRequests) {
+      pendingRequests.add(new Request(arguments, callback));
+      if (pendingRequests.size() == MAX_BATCH_SIZE) {
+        handler.post(this::flush);
+      } else if (!flushScheduled) {
+        flushScheduled = true;
+        handler.postDelayed(this::flush, batchWindowMs);
+      }
+    }
+  }
+
+  /** Sends the queued requests that waited for a finished request. Can be called on any thread. */
+  void requestFinished() {
+    synchronized (pendingRequests) {
+      if (!pendingRequests.isEmpty() && !flushScheduled) {
+        flushScheduled = true;
+        handler.post(this::flush);
+      }
+    }
+  }
+
+  @VisibleForTesting
+  void flush() {
+    List<Request> batch = new ArrayList<>();
+    synchronized (pendingRequests) {
+      flushScheduled = false;
+      Iterator<Request> iterator = pendingRequests.iterator();
+      while (iterator.hasNext()) {
+        Request request = iterator.next();
+        if (request.callback.isCancelled()) {
+          iterator.remove();
+        } else if (request.callback.tryStart()) {
+          batch.add(request);
+          iterator.remove();
+        }
+      }
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+    if (batch.size() == 1 || !batchesSupported) {
+      sendSingleRequests(batch);
+      return;
+    }
+    List<Object> arguments = new ArrayList<>(batch.size());
+    for (Request request : batch) {
+      arguments.add(request.arguments);
+    }
+    methodChannel.invokeMethod(
+        "tileOverlay#getTiles",
+        arguments,
+        new MethodChannel.Result() {
+          @Override
+          public void success(Object data) {
+            List<?> tiles = (List<?>) data;
+            if (tiles == null || tiles.size() != batch.size()) {
+              Log.e(TAG, "tileOverlay#getTiles returned an unexpected number of tiles");
+              sendSingleRequests(batch);
+              return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+              batch.get(i).callback.success(tiles.get(i));
+            }
+          }
+
+          @Override
+          public void error(String errorCode, String errorMessage, Object errorDetails) {
+            // A single failing tile fails the whole batch, so ask for the tiles one by one to
+            // only fail the requests of the tiles that can't be provided.
+            Log.w(TAG, "Can't get tiles: errorCode = " + errorCode + ", retrying each tile");
+            sendSingleRequests(batch);
+          }
+
+          @Override
+          public void notImplemented() {
+            batchesSupported = false;
+            sendSingleRequests(batch);
+          }
+        });
+  }
+
+  private void sendSingleRequests(List<Request> requests) {
+    for (Request request : requests) {
+      if (!request.callback.isCancelled()) {
+        methodChannel.invokeMethod("tileOverlay#getTile", request.arguments, request.callback);
+      }
+    }
+  }
+
+  private static final class Request {
+    final Map<String, Object> arguments;
+    final Callback callback;
+
+    Request(Map<String, Object> arguments, Callback callback) {
+      this.arguments = arguments;
+      this.callback = callback;
+    }
+  }
+}
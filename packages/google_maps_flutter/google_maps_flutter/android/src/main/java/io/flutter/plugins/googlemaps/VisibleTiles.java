@@ -0,0 +1,66 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import com.google.android.gms.maps.model.LatLngBounds;
+
+/**
+ * The tiles that cover the visible region of a map, with a margin of one tile around it.
+ *
+ * <p>It is used to drop tile requests that the map no longer needs after the camera moved.
+ */
+final class VisibleTiles {
+
+  private final LatLngBounds bounds;
+  private final int zoom;
+
+  VisibleTiles(LatLngBounds bounds, float zoom) {
+    this.bounds = bounds;
+    this.zoom = Math.round(zoom);
+  }
+
+  /** Returns whether the tile is on screen, or shown while the map zooms to the camera zoom. */
+  boolean contains(int x, int y, int tileZoom) {
+    if (Math.abs(tileZoom - zoom) > 1) {
+      return false;
+    }
+    int tileCount = 1 << tileZoom;
+    int minY = toTileY(bounds.northeast.latitude, tileCount) - 1;
+    int maxY = toTileY(bounds.southwest.latitude, tileCount) + 1;
+    if (y < minY || y > maxY) {
+      return false;
+    }
+    int minX = toTileX(bounds.southwest.longitude, tileCount) - 1;
+    int maxX = toTileX(bounds.northeast.longitude, tileCount) + 1;
+    if (bounds.southwest.longitude > bounds.northeast.longitude) {
+      // The visible region crosses the antimeridian.
+      maxX += tileCount;
+    }
+    if (maxX - minX + 1 >= tileCount) {
+      return true;
+    }
+    // The range can step over the antimeridian, so the tile is also checked one world away.
+    return isBetween(x, minX, maxX)
+        || isBetween(x + tileCount, minX, maxX)
+        || isBetween(x - tileCount, minX, maxX);
+  }
+
+  private static boolean isBetween(int x, int min, int max) {
+    return x >= min && x <= max;
+  }
+
+  private static int toTileX(double longitude, int tileCount) {
+    int x = (int) Math.floor((longitude + 180) / 360 * tileCount);
+    return Math.min(x, tileCount - 1);
+  }
+
+  private static int toTileY(double latitude, int tileCount) {
+    double latitudeRadians = Math.toRadians(latitude);
+    double mercatorY =
+        Math.log(Math.tan(latitudeRadians) + 1 / Math.cos(latitudeRadians)) / Math.PI;
+    int y = (int) Math.floor((1 - mercatorY) / 2 * tileCount);
+    return Math.max(0, Math.min(y, tileCount - 1));
+  }
+}
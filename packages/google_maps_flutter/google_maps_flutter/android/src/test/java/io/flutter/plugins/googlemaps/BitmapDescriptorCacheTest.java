@@ -0,0 +1,55 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import com.google.android.gms.dynamic.IObjectWrapper;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import java.util.Map;
+import org.junit.Test;
+
+public class BitmapDescriptorCacheTest {
+
+  @Test
+  public void get_shouldReturnDescriptorOfIdenticalBytes() {
+    BitmapDescriptorCache cache = new BitmapDescriptorCache(1024);
+    BitmapDescriptor descriptor = descriptor();
+
+    cache.put(new byte[] {1, 2, 3}, descriptor, 100);
+
+    assertSame(descriptor, cache.get(new byte[] {1, 2, 3}));
+    assertNull(cache.get(new byte[] {1, 2, 4}));
+    Map<String, Object> stats = cache.getStats();
+    assertEquals(1L, stats.get("decodes"));
+    assertEquals(1L, stats.get("hits"));
+    assertEquals(1, stats.get("entries"));
+    assertEquals(100L, stats.get("bytes"));
+  }
+
+  @Test
+  public void put_shouldEvictLeastRecentlyUsedDescriptors() {
+    BitmapDescriptorCache cache = new BitmapDescriptorCache(250);
+    BitmapDescriptor first = descriptor();
+    BitmapDescriptor third = descriptor();
+
+    cache.put(new byte[] {1}, first, 100);
+    cache.put(new byte[] {2}, descriptor(), 100);
+    cache.get(new byte[] {1});
+    cache.put(new byte[] {3}, third, 100);
+
+    assertSame(first, cache.get(new byte[] {1}));
+    assertNull(cache.get(new byte[] {2}));
+    assertSame(third, cache.get(new byte[] {3}));
+    assertEquals(200L, cache.getStats().get("bytes"));
+  }
+
+  private static BitmapDescriptor descriptor() {
+    return new BitmapDescriptor(mock(IObjectWrapper.class));
+  }
+}
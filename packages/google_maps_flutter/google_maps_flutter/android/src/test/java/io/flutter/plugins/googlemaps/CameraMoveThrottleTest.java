@@ -0,0 +1,100 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.google.android.gms.maps.model.CameraPosition;
+import com.google.android.gms.maps.model.LatLng;
+import io.flutter.plugin.common.MethodChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CameraMoveThrottleTest {
+
+  private final List<Object> sentZooms = new ArrayList<>();
+  private CameraMoveThrottle throttle;
+
+  @Before
+  public void before() {
+    MethodChannel mockMethodChannel = mock(MethodChannel.class);
+    // The payload is reused, so record the zoom at the time of each call.
+    doAnswer(
+            invocation -> {
+              Map<?, ?> arguments = invocation.getArgument(1);
+              sentZooms.add(((Map<?, ?>) arguments.get("position")).get("zoom"));
+              return null;
+            })
+        .when(mockMethodChannel)
+        .invokeMethod(eq("camera#onMove"), any());
+    throttle = new CameraMoveThrottle(mockMethodChannel);
+  }
+
+  @Test
+  public void onCameraMove_shouldSendEveryPositionWithoutInterval() {
+    throttle.onCameraMove(position(1), 0);
+    throttle.onCameraMove(position(2), 1);
+    throttle.onCameraMove(position(3), 2);
+
+    assertEquals(3, sentZooms.size());
+    assertEquals(0L, throttle.getStats().get("suppressedCameraMoves"));
+  }
+
+  @Test
+  public void onCameraMove_shouldSendAtMostOnePositionPerInterval() {
+    throttle.setIntervalMs(100);
+
+    throttle.onCameraMove(position(1), 1000);
+    throttle.onCameraMove(position(2), 1016);
+    throttle.onCameraMove(position(3), 1033);
+    throttle.onCameraMove(position(4), 1100);
+    throttle.onCameraMove(position(5), 1116);
+
+    assertEquals(2, sentZooms.size());
+    assertEquals(1f, sentZooms.get(0));
+    assertEquals(4f, sentZooms.get(1));
+    assertEquals(2L, throttle.getStats().get("suppressedCameraMoves"));
+  }
+
+  @Test
+  public void flush_shouldSendTheFinalPosition() {
+    throttle.setIntervalMs(100);
+
+    throttle.onCameraMove(position(1), 1000);
+    throttle.onCameraMove(position(2), 1016);
+    throttle.flush();
+    throttle.flush();
+    throttle.onCameraMove(position(3), 1033);
+
+    assertEquals(3, sentZooms.size());
+    assertEquals(2f, sentZooms.get(1));
+    assertEquals(3f, sentZooms.get(2));
+    assertEquals(3L, throttle.getStats().get("sentCameraMoves"));
+  }
+
+  @Test
+  public void reset_shouldDropThePendingPosition() {
+    throttle.setIntervalMs(100);
+
+    throttle.onCameraMove(position(1), 1000);
+    throttle.onCameraMove(position(2), 1016);
+    throttle.reset();
+    throttle.flush();
+
+    assertEquals(1, sentZooms.size());
+    assertEquals(1L, throttle.getStats().get("suppressedCameraMoves"));
+  }
+
+  private static CameraPosition position(float zoom) {
+    return new CameraPosition(new LatLng(10, 15), zoom, 0, 0);
+  }
+}
@@ -0,0 +1,211 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.Tile;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TileCacheTest {
+
+  private static final long ONE_HOUR_MS = 60 * 60 * 1000;
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void get_shouldReturnStoredTile() {
+    TileCache tileCache = new TileCache(null, 1024, 0, ONE_HOUR_MS);
+
+    tileCache.put("overlay", 1, 2, 3, tile(100));
+
+    assertEquals(100, tileCache.get("overlay", 1, 2, 3).data.length);
+    assertNull(tileCache.get("overlay", 2, 1, 3));
+    assertNull(tileCache.get("other", 1, 2, 3));
+  }
+
+  @Test
+  public void put_shouldEvictLeastRecentlyUsedTiles() {
+    TileCache tileCache = new TileCache(null, 250, 0, ONE_HOUR_MS);
+
+    tileCache.put("overlay", 0, 0, 1, tile(100));
+    tileCache.put("overlay", 1, 0, 1, tile(100));
+    tileCache.get("overlay", 0, 0, 1);
+    tileCache.put("overlay", 2, 0, 1, tile(100));
+
+    assertEquals(200, tileCache.getMemoryBytes());
+    assertNotNull(tileCache.get("overlay", 0, 0, 1));
+    assertNull(tileCache.get("overlay", 1, 0, 1));
+    assertNotNull(tileCache.get("overlay", 2, 0, 1));
+  }
+
+  @Test
+  public void put_shouldIgnoreTilesWithoutData() {
+    TileCache tileCache = new TileCache(null, 1024, 0, ONE_HOUR_MS);
+
+    tileCache.put("overlay", 0, 0, 1, new Tile(256, 256, null));
+
+    assertNull(tileCache.get("overlay", 0, 0, 1));
+    assertEquals(0, tileCache.getMemoryBytes());
+  }
+
+  @Test
+  public void get_shouldDropExpiredTiles() throws IOException {
+    TileCache tileCache = new TileCache(temporaryFolder.newFolder(), 1024, 1024, 0);
+
+    tileCache.put("overlay", 0, 0, 1, tile(100));
+
+    assertNull(tileCache.get("overlay", 0, 0, 1));
+    assertEquals(0, tileCache.getMemoryBytes());
+    assertEquals(0, tileCache.getDiskBytes());
+  }
+
+  @Test
+  public void get_shouldReadTilesWrittenByAnotherCache() throws IOException {
+    File directory = temporaryFolder.newFolder();
+    Tile tile = tile(100);
+    new TileCache(directory, 1024, 1024, ONE_HOUR_MS).put("overlay/1", 4, 5, 6, tile);
+
+    TileCache tileCache = new TileCache(directory, 1024, 1024, ONE_HOUR_MS);
+    Tile cachedTile = tileCache.get("overlay/1", 4, 5, 6);
+
+    assertNotNull(cachedTile);
+    assertEquals(256, cachedTile.width);
+    assertEquals(256, cachedTile.height);
+    assertArrayEquals(tile.data, cachedTile.data);
+  }
+
+  @Test
+  public void clear_shouldOnlyRemoveTilesOfTheOverlay() throws IOException {
+    TileCache tileCache = new TileCache(temporaryFolder.newFolder(), 1024, 1024, ONE_HOUR_MS);
+    tileCache.put("overlay", 0, 0, 1, tile(100));
+    tileCache.put("overlay/other", 0, 0, 1, tile(100));
+
+    tileCache.clear("overlay");
+
+    assertNull(tileCache.get("overlay", 0, 0, 1));
+    assertNotNull(tileCache.get("overlay/other", 0, 0, 1));
+    assertEquals(100, tileCache.getMemoryBytes());
+  }
+
+  @Test
+  public void put_shouldOnlyLeaveTileFiles() throws IOException {
+    File directory = temporaryFolder.newFolder();
+    TileCache tileCache = new TileCache(directory, 1024, 1024, ONE_HOUR_MS);
+
+    tileCache.put("overlay", 0, 0, 1, tile(100));
+    tileCache.put("overlay", 0, 0, 1, tile(50));
+
+    File[] overlayDirectories = directory.listFiles();
+    assertEquals(1, overlayDirectories.length);
+    String[] tileFiles = overlayDirectories[0].list();
+    assertEquals(1, tileFiles.length);
+    assertEquals("1_0_0", tileFiles[0]);
+    assertEquals(62, tileCache.getDiskBytes());
+  }
+
+  @Test
+  public void getDiskBytes_shouldDeleteTemporaryFilesOfPreviousRuns() throws IOException {
+    File directory = temporaryFolder.newFolder();
+    new TileCache(directory, 1024, 1024, ONE_HOUR_MS).put("overlay", 0, 0, 1, tile(100));
+    File overlayDirectory = directory.listFiles()[0];
+    File temporaryFile = new File(overlayDirectory, "1_1_0_123.tmp");
+    assertTrue(temporaryFile.createNewFile());
+
+    TileCache tileCache = new TileCache(directory, 1024, 1024, ONE_HOUR_MS);
+
+    assertEquals(112, tileCache.getDiskBytes());
+    assertFalse(temporaryFile.exists());
+  }
+
+  @Test
+  public void clear_shouldDeleteTileFilesOfTheOverlay() throws IOException {
+    File directory = temporaryFolder.newFolder();
+    TileCache tileCache = new TileCache(directory, 1024, 1024, ONE_HOUR_MS);
+    tileCache.put("overlay", 0, 0, 1, tile(100));
+
+    tileCache.clear("overlay");
+
+    assertEquals(0, tileCache.getDiskBytes());
+    assertEquals(0, directory.listFiles()[0].list().length);
+    assertNull(new TileCache(directory, 1024, 1024, ONE_HOUR_MS).get("overlay", 0, 0, 1));
+  }
+
+  @Test
+  public void clear_shouldDeleteTileFilesOnTheDiskExecutor() throws IOException {
+    File directory = temporaryFolder.newFolder();
+    List<Runnable> diskTasks = new ArrayList<>();
+    TileCache tileCache = new TileCache(directory, 1024, 1024, ONE_HOUR_MS, diskTasks::add);
+    tileCache.put("overlay", 0, 0, 1, tile(100));
+    File tileFile = directory.listFiles()[0].listFiles()[0];
+
+    tileCache.clear("overlay");
+
+    assertNull(tileCache.get("overlay", 0, 0, 1));
+    assertEquals(0, tileCache.getDiskBytes());
+    assertTrue(tileFile.exists());
+    assertEquals(1, diskTasks.size());
+
+    diskTasks.get(0).run();
+
+    assertFalse(tileFile.exists());
+  }
+
+  @Test
+  public void clear_shouldNotScanTheDirectoryOnTheCallingThread() throws IOException {
+    File directory = temporaryFolder.newFolder();
+    new TileCache(directory, 1024, 1024, ONE_HOUR_MS).put("overlay", 0, 0, 1, tile(100));
+    new TileCache(directory, 1024, 1024, ONE_HOUR_MS).put("other", 0, 0, 1, tile(100));
+    List<Runnable> diskTasks = new ArrayList<>();
+    TileCache tileCache = new TileCache(directory, 1024, 1024, ONE_HOUR_MS, diskTasks::add);
+
+    tileCache.clear("overlay");
+
+    assertEquals(2, directory.listFiles().length);
+    assertEquals(1, diskTasks.size());
+    // A tile thread that scans the directory first doesn't see the cleared tiles either.
+    assertNull(tileCache.get("overlay", 0, 0, 1));
+    assertNotNull(tileCache.get("other", 0, 0, 1));
+    assertEquals(112, tileCache.getDiskBytes());
+
+    diskTasks.get(0).run();
+
+    assertNull(new TileCache(directory, 1024, 1024, ONE_HOUR_MS).get("overlay", 0, 0, 1));
+  }
+
+  @Test
+  public void clear_shouldKeepTilesCachedAgainBeforeTheFilesAreDeleted() throws IOException {
+    File directory = temporaryFolder.newFolder();
+    List<Runnable> diskTasks = new ArrayList<>();
+    TileCache tileCache = new TileCache(directory, 1024, 1024, ONE_HOUR_MS, diskTasks::add);
+    tileCache.put("overlay", 0, 0, 1, tile(100));
+
+    tileCache.clear("overlay");
+    tileCache.put("overlay", 0, 0, 1, tile(50));
+    diskTasks.get(0).run();
+
+    assertEquals(62, tileCache.getDiskBytes());
+    assertNotNull(new TileCache(directory, 1024, 1024, ONE_HOUR_MS).get("overlay", 0, 0, 1));
+  }
+
+  private static Tile tile(int size) {
+    byte[] data = new byte[size];
+    for (int i = 0; i < size; i++) {
+      data[i] = (byte) i;
+    }
+    return new Tile(256, 256, data);
+  }
+}
@@ -0,0 +1,41 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.google.android.gms.maps.model.TileOverlay;
+import org.junit.Test;
+
+public class TileOverlayControllerTest {
+
+  @Test
+  public void clearTileCache_shouldClearTheSdkAndNativeCaches() {
+    TileOverlay tileOverlay = mock(TileOverlay.class);
+    TileProviderController tileProviderController = mock(TileProviderController.class);
+    TileOverlayController controller =
+        new TileOverlayController(tileOverlay, tileProviderController);
+
+    controller.clearTileCache();
+
+    verify(tileProviderController).clearTileCache();
+    verify(tileOverlay).clearTileCache();
+  }
+
+  @Test
+  public void clearNativeTileCache_shouldKeepTheSdkCache() {
+    TileOverlay tileOverlay = mock(TileOverlay.class);
+    TileProviderController tileProviderController = mock(TileProviderController.class);
+    TileOverlayController controller =
+        new TileOverlayController(tileOverlay, tileProviderController);
+
+    controller.clearNativeTileCache();
+
+    verify(tileProviderController).clearTileCache();
+    verify(tileOverlay, never()).clearTileCache();
+  }
+}
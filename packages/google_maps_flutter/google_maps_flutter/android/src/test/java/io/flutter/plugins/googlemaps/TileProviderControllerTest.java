@@ -0,0 +1,137 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import com.google.android.gms.maps.model.Tile;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class TileProviderControllerTest {
+
+  private final TileRequestBatcher mockTileRequestBatcher = mock(TileRequestBatcher.class);
+
+  @Test
+  public void getTile_shouldReturnCachedTile() {
+    TileCache tileCache = new TileCache(null, 1024, 0, 60 * 1000);
+    Tile tile = new Tile(256, 256, new byte[16]);
+    tileCache.put("overlay", 1, 2, 3, tile);
+    TileProviderController controller =
+        new TileProviderController(mockTileRequestBatcher, "overlay", tileCache, 10, 1);
+
+    assertSame(tile, controller.getTile(1, 2, 3));
+    Map<String, Object> stats = controller.getTileStats();
+    assertEquals(1L, stats.get("tileCacheHits"));
+    assertEquals(0L, stats.get("tileFetches"));
+  }
+
+  @Test
+  public void getTile_shouldNotCacheTilesRequestedBeforeTheCacheWasCleared() {
+    TileCache tileCache = new TileCache(null, 1024, 0, 60 * 1000);
+    TileProviderController controller =
+        new TileProviderController(mockTileRequestBatcher, "overlay", tileCache, 1000, 1);
+    Map<String, Object> tileJson = new HashMap<>();
+    tileJson.put("width", 256);
+    tileJson.put("height", 256);
+    tileJson.put("data", new byte[16]);
+    doAnswer(
+            invocation -> {
+              controller.clearTileCache();
+              invocation.<TileRequestBatcher.Callback>getArgument(1).success(tileJson);
+              return null;
+            })
+        .when(mockTileRequestBatcher)
+        .getTile(any(), any());
+
+    assertEquals(16, controller.getTile(1, 2, 3).data.length);
+    assertNull(tileCache.get("overlay", 1, 2, 3));
+  }
+
+  @Test
+  public void getTile_shouldGiveUpWhenDartDoesNotAnswer() {
+    TileProviderController controller =
+        new TileProviderController(mockTileRequestBatcher, "overlay", null, 10, 1);
+    doAnswer(
+            invocation -> {
+              assertTrue(invocation.<TileRequestBatcher.Callback>getArgument(1).tryStart());
+              return null;
+            })
+        .when(mockTileRequestBatcher)
+        .getTile(any(), any());
+
+    assertNull(controller.getTile(1, 2, 3));
+    Map<String, Object> stats = controller.getTileStats();
+    assertEquals(1L, stats.get("stalledTiles"));
+    assertEquals(0L, stats.get("throttledTiles"));
+  }
+
+  @Test
+  public void getTile_shouldCountRequestsThatWereNeverSentAsThrottled() {
+    TileProviderController controller =
+        new TileProviderController(mockTileRequestBatcher, "overlay", null, 10, 1);
+
+    assertNull(controller.getTile(1, 2, 3));
+    Map<String, Object> stats = controller.getTileStats();
+    assertEquals(1L, stats.get("throttledTiles"));
+    assertEquals(0L, stats.get("stalledTiles"));
+  }
+
+  @Test
+  public void getTile_shouldFreeTheRequestSlotWhenDartAnswers() {
+    TileProviderController controller =
+        new TileProviderController(mockTileRequestBatcher, "overlay", null, 1000, 1);
+    Map<String, Object> tileJson = new HashMap<>();
+    tileJson.put("width", 256);
+    tileJson.put("height", 256);
+    tileJson.put("data", new byte[16]);
+    doAnswer(
+            invocation -> {
+              TileRequestBatcher.Callback callback = invocation.getArgument(1);
+              assertTrue(callback.tryStart());
+              callback.success(tileJson);
+              return null;
+            })
+        .when(mockTileRequestBatcher)
+        .getTile(any(), any());
+
+    assertEquals(16, controller.getTile(1, 2, 3).data.length);
+    assertEquals(16, controller.getTile(2, 2, 3).data.length);
+    assertEquals(2L, controller.getTileStats().get("tileFetches"));
+    verify(mockTileRequestBatcher, times(2)).requestFinished();
+  }
+
+  @Test
+  public void getTile_shouldDropTilesThatAreNotVisible() throws InterruptedException {
+    TileProviderController controller =
+        new TileProviderController(mockTileRequestBatcher, "overlay", null, 10000, 1);
+    VisibleTiles farAway =
+        new VisibleTiles(new LatLngBounds(new LatLng(40, 40), new LatLng(41, 41)), 10);
+    final Tile[] result = new Tile[] {new Tile(1, 1, null)};
+
+    Thread thread = new Thread(() -> result[0] = controller.getTile(512, 512, 10));
+    thread.start();
+    while (thread.isAlive()) {
+      controller.setVisibleTiles(farAway);
+      thread.join(10);
+    }
+
+    assertNull(result[0]);
+    Map<String, Object> stats = controller.getTileStats();
+    assertEquals(1L, stats.get("droppedTiles"));
+    assertEquals(0L, stats.get("stalledTiles"));
+  }
+}
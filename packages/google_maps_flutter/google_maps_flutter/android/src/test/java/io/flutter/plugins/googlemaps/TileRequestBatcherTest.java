@@ -0,0 +1,145 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.Handler;
+import io.flutter.plugin.common.MethodChannel;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class TileRequestBatcherTest {
+
+  private MethodChannel mockMethodChannel;
+  private Handler mockHandler;
+  private TileRequestBatcher batcher;
+
+  @Before
+  public void before() {
+    mockMethodChannel = mock(MethodChannel.class);
+    mockHandler = mock(Handler.class);
+    batcher = new TileRequestBatcher(mockMethodChannel, mockHandler, 5);
+  }
+
+  @Test
+  public void flush_shouldSendOneBatchAndFanOutTheTiles() {
+    Map<String, Object> first = Convert.tileOverlayArgumentsToJson("overlay", 0, 0, 1);
+    Map<String, Object> second = Convert.tileOverlayArgumentsToJson("overlay", 1, 0, 1);
+    TileRequestBatcher.Callback firstCallback = callback();
+    TileRequestBatcher.Callback secondCallback = callback();
+
+    batcher.getTile(first, firstCallback);
+    batcher.getTile(second, secondCallback);
+    batcher.flush();
+
+    verify(mockHandler, times(1)).postDelayed(any(Runnable.class), eq(5L));
+    MethodChannel.Result result = captureBatchResult(Arrays.<Object>asList(first, second));
+    result.success(Arrays.asList("firstTile", "secondTile"));
+    verify(firstCallback).success("firstTile");
+    verify(secondCallback).success("secondTile");
+  }
+
+  @Test
+  public void flush_shouldFallBackToSingleRequestsWhenBatchesAreNotImplemented() {
+    Map<String, Object> first = Convert.tileOverlayArgumentsToJson("overlay", 0, 0, 1);
+    Map<String, Object> second = Convert.tileOverlayArgumentsToJson("overlay", 1, 0, 1);
+    TileRequestBatcher.Callback firstCallback = callback();
+    TileRequestBatcher.Callback secondCallback = callback();
+
+    batcher.getTile(first, firstCallback);
+    batcher.getTile(second, secondCallback);
+    batcher.flush();
+    captureBatchResult(Arrays.<Object>asList(first, second)).notImplemented();
+
+    verify(mockMethodChannel).invokeMethod("tileOverlay#getTile", first, firstCallback);
+    verify(mockMethodChannel).invokeMethod("tileOverlay#getTile", second, secondCallback);
+
+    batcher.getTile(first, firstCallback);
+    batcher.getTile(second, secondCallback);
+    batcher.flush();
+
+    verify(mockMethodChannel, times(1))
+        .invokeMethod(eq("tileOverlay#getTiles"), any(), any(MethodChannel.Result.class));
+    verify(mockMethodChannel, times(2)).invokeMethod("tileOverlay#getTile", first, firstCallback);
+  }
+
+  @Test
+  public void flush_shouldSkipCancelledRequests() {
+    Map<String, Object> first = Convert.tileOverlayArgumentsToJson("overlay", 0, 0, 1);
+    Map<String, Object> second = Convert.tileOverlayArgumentsToJson("overlay", 1, 0, 1);
+    TileRequestBatcher.Callback cancelledCallback = callback();
+    TileRequestBatcher.Callback callback = callback();
+    when(cancelledCallback.isCancelled()).thenReturn(true);
+
+    batcher.getTile(first, cancelledCallback);
+    batcher.getTile(second, callback);
+    batcher.flush();
+
+    verify(mockMethodChannel).invokeMethod("tileOverlay#getTile", second, callback);
+    verify(mockMethodChannel, never())
+        .invokeMethod(eq("tileOverlay#getTile"), eq(first), any(MethodChannel.Result.class));
+    verify(mockHandler, never()).post(any(Runnable.class));
+    verify(mockHandler).postDelayed(any(Runnable.class), anyLong());
+  }
+
+  @Test
+  public void flush_shouldKeepRequestsThatCannotStartQueued() {
+    Map<String, Object> first = Convert.tileOverlayArgumentsToJson("overlay", 0, 0, 1);
+    Map<String, Object> second = Convert.tileOverlayArgumentsToJson("overlay", 1, 0, 1);
+    TileRequestBatcher.Callback waitingCallback = callback();
+    TileRequestBatcher.Callback callback = callback();
+    when(waitingCallback.tryStart()).thenReturn(false);
+
+    batcher.getTile(first, waitingCallback);
+    batcher.getTile(second, callback);
+    batcher.flush();
+
+    verify(mockMethodChannel).invokeMethod("tileOverlay#getTile", second, callback);
+    verify(mockMethodChannel, never())
+        .invokeMethod(eq("tileOverlay#getTile"), eq(first), any(MethodChannel.Result.class));
+
+    when(waitingCallback.tryStart()).thenReturn(true);
+    batcher.requestFinished();
+    verify(mockHandler).post(any(Runnable.class));
+    batcher.flush();
+
+    verify(mockMethodChannel).invokeMethod("tileOverlay#getTile", first, waitingCallback);
+  }
+
+  @Test
+  public void requestFinished_shouldNotFlushWithoutQueuedRequests() {
+    batcher.requestFinished();
+
+    verify(mockHandler, never()).post(any(Runnable.class));
+  }
+
+  private static TileRequestBatcher.Callback callback() {
+    TileRequestBatcher.Callback callback = mock(TileRequestBatcher.Callback.class);
+    when(callback.tryStart()).thenReturn(true);
+    return callback;
+  }
+
+  private MethodChannel.Result captureBatchResult(List<Object> expectedArguments) {
+    ArgumentCaptor<MethodChannel.Result> resultCaptor =
+        ArgumentCaptor.forClass(MethodChannel.Result.class);
+    verify(mockMethodChannel)
+        .invokeMethod(eq("tileOverlay#getTiles"), eq(expectedArguments), resultCaptor.capture());
+    assertEquals(1, resultCaptor.getAllValues().size());
+    return resultCaptor.getValue();
+  }
+}
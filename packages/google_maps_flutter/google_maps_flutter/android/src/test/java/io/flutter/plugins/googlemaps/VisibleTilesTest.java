@@ -0,0 +1,39 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import org.junit.Test;
+
+public class VisibleTilesTest {
+
+  @Test
+  public void contains_shouldMatchTilesAroundTheVisibleRegion() {
+    VisibleTiles visibleTiles =
+        new VisibleTiles(new LatLngBounds(new LatLng(-1, -1), new LatLng(1, 1)), 10);
+
+    assertTrue(visibleTiles.contains(512, 512, 10));
+    assertTrue(visibleTiles.contains(508, 515, 10));
+    assertFalse(visibleTiles.contains(600, 512, 10));
+    assertFalse(visibleTiles.contains(512, 400, 10));
+    assertTrue(visibleTiles.contains(256, 256, 9));
+    assertFalse(visibleTiles.contains(512, 512, 9));
+    assertFalse(visibleTiles.contains(2048, 2048, 12));
+  }
+
+  @Test
+  public void contains_shouldWrapAroundTheAntimeridian() {
+    VisibleTiles visibleTiles =
+        new VisibleTiles(new LatLngBounds(new LatLng(-1, 179), new LatLng(1, -179)), 10);
+
+    assertTrue(visibleTiles.contains(1023, 512, 10));
+    assertTrue(visibleTiles.contains(0, 512, 10));
+    assertFalse(visibleTiles.contains(512, 512, 10));
+  }
+}
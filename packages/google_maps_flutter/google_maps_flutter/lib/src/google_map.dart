@@ -116,6 +116,7 @@ class GoogleMap extends StatefulWidget {
     this.onCameraMoveStarted,
     this.tileOverlays = const <TileOverlay>{},
     this.onCameraMove,
+    this.cameraMoveThrottleInterval = Duration.zero,
     this.onCameraIdle,
     this.onTap,
     this.onLongPress,
@@ -211,6 +212,15 @@ class GoogleMap extends StatefulWidget {
   /// not perform expensive operations.
   final CameraPositionCallback? onCameraMove;
 
+  /// The minimum time between two [onCameraMove] calls.
+  ///
+  /// The camera positions in between are dropped, but the last position of a
+  /// movement is always reported before [onCameraIdle].
+  ///
+  /// Only supported on Android. Defaults to [Duration.zero], which reports
+  /// every camera position.
+  final Duration cameraMoveThrottleInterval;
+
   /// Called when camera movement has ended, there are no pending
   /// animations and the user has stopped interacting with the map.
   final VoidCallback? onCameraIdle;
@@ -536,6 +546,7 @@ class _GoogleMapOptions {
         scrollGesturesEnabled = map.scrollGesturesEnabled,
         tiltGesturesEnabled = map.tiltGesturesEnabled,
         trackCameraPosition = map.onCameraMove != null,
+        cameraMoveThrottleInterval = map.cameraMoveThrottleInterval,
         zoomControlsEnabled = map.zoomControlsEnabled,
         zoomGesturesEnabled = map.zoomGesturesEnabled,
         liteModeEnabled = map.liteModeEnabled,
@@ -565,6 +576,8 @@ class _GoogleMapOptions {
 
   final bool trackCameraPosition;
 
+  final Duration cameraMoveThrottleInterval;
+
   final bool zoomControlsEnabled;
 
   final bool zoomGesturesEnabled;
@@ -597,6 +610,7 @@ class _GoogleMapOptions {
       'zoomGesturesEnabled': zoomGesturesEnabled,
       'liteModeEnabled': liteModeEnabled,
       'trackCameraPosition': trackCameraPosition,
+      'cameraMoveThrottleMs': cameraMoveThrottleInterval.inMilliseconds,
       'myLocationEnabled': myLocationEnabled,
       'myLocationButtonEnabled': myLocationButtonEnabled,
       'padding': <double>[
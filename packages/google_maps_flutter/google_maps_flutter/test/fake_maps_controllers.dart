@@ -51,6 +51,8 @@ class FakePlatformGoogleMap {
 
   bool? trackCameraPosition;
 
+  int? cameraMoveThrottleMs;
+
   bool? myLocationEnabled;
 
   bool? trafficEnabled;
@@ -415,6 +417,9 @@ class FakePlatformGoogleMap {
     if (options.containsKey('trackCameraPosition')) {
       trackCameraPosition = options['trackCameraPosition'] as bool?;
     }
+    if (options.containsKey('cameraMoveThrottleMs')) {
+      cameraMoveThrottleMs = options['cameraMoveThrottleMs'] as int?;
+    }
     if (options.containsKey('zoomGesturesEnabled')) {
       zoomGesturesEnabled = options['zoomGesturesEnabled'] as bool?;
     }
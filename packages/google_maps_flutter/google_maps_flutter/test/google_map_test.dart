@@ -358,6 +358,35 @@ void main() {
     expect(platformGoogleMap.trackCameraPosition, true);
   });
 
+  testWidgets('Can update cameraMoveThrottleInterval',
+      (WidgetTester tester) async {
+    await tester.pumpWidget(
+      const Directionality(
+        textDirection: TextDirection.ltr,
+        child: GoogleMap(
+          initialCameraPosition: CameraPosition(target: LatLng(10.0, 15.0)),
+        ),
+      ),
+    );
+
+    final FakePlatformGoogleMap platformGoogleMap =
+        fakePlatformViewsController.lastCreatedView!;
+
+    expect(platformGoogleMap.cameraMoveThrottleMs, 0);
+
+    await tester.pumpWidget(
+      const Directionality(
+        textDirection: TextDirection.ltr,
+        child: GoogleMap(
+          initialCameraPosition: CameraPosition(target: LatLng(10.0, 15.0)),
+          cameraMoveThrottleInterval: Duration(milliseconds: 100),
+        ),
+      ),
+    );
+
+    expect(platformGoogleMap.cameraMoveThrottleMs, 100);
+  });
+
   testWidgets('Can update zoomGesturesEnabled', (WidgetTester tester) async {
     await tester.pumpWidget(
       const Directionality(
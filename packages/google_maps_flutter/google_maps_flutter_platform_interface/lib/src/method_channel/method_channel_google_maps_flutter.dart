@@ -242,26 +242,35 @@ class MethodChannelGoogleMapsFlutter extends GoogleMapsFlutterPlatform {
         ));
         break;
       case 'tileOverlay#getTile':
-        final Map<TileOverlayId, TileOverlay>? tileOverlaysForThisMap =
-            _tileOverlays[mapId];
-        final String tileOverlayId = call.arguments['tileOverlayId'];
-        final TileOverlay? tileOverlay =
-            tileOverlaysForThisMap?[TileOverlayId(tileOverlayId)];
-        TileProvider? tileProvider = tileOverlay?.tileProvider;
-        if (tileProvider == null) {
-          return TileProvider.noTile.toJson();
-        }
-        final Tile tile = await tileProvider.getTile(
-          call.arguments['x'],
-          call.arguments['y'],
-          call.arguments['zoom'],
-        );
-        return tile.toJson();
+        return _getTile(call.arguments, mapId);
+      case 'tileOverlay#getTiles':
+        // A batch of tile requests, answered with the tiles in the same order.
+        final List<dynamic> tileRequests = call.arguments;
+        return Future.wait(tileRequests
+            .map((dynamic tileRequest) => _getTile(tileRequest, mapId)));
       default:
         throw MissingPluginException();
     }
   }
 
+  Future<Object> _getTile(dynamic arguments, int mapId) async {
+    final Map<TileOverlayId, TileOverlay>? tileOverlaysForThisMap =
+        _tileOverlays[mapId];
+    final String tileOverlayId = arguments['tileOverlayId'];
+    final TileOverlay? tileOverlay =
+        tileOverlaysForThisMap?[TileOverlayId(tileOverlayId)];
+    TileProvider? tileProvider = tileOverlay?.tileProvider;
+    if (tileProvider == null) {
+      return TileProvider.noTile.toJson();
+    }
+    final Tile tile = await tileProvider.getTile(
+      arguments['x'],
+      arguments['y'],
+      arguments['zoom'],
+    );
+    return tile.toJson();
+  }
+
   @override
   Future<void> updateMapOptions(
     Map<String, dynamic> optionsUpdate, {
@@ -9,6 +9,7 @@ import 'package:google_maps_flutter_platform_interface/src/events/map_event.dart
 import 'package:google_maps_flutter_platform_interface/src/method_channel/method_channel_google_maps_flutter.dart';
 import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
 import 'dart:async';
+import 'dart:typed_data';
 
 import 'package:async/async.dart';
 
@@ -122,5 +123,59 @@ void main() {
       expect((await markerDragEndStream.next).value.value,
           equals("drag-end-marker"));
     });
+
+    test('tileOverlay#getTiles returns the tiles in request order', () async {
+      const int mapId = 2;
+      final MethodChannelGoogleMapsFlutter maps =
+          MethodChannelGoogleMapsFlutter();
+      configureMockMap(maps,
+          mapId: mapId, handler: (MethodCall methodCall) async => null);
+      await maps.updateTileOverlays(newTileOverlays: <TileOverlay>{
+        TileOverlay(
+          tileOverlayId: TileOverlayId('overlay'),
+          tileProvider: _CoordinateTileProvider(),
+        ),
+      }, mapId: mapId);
+
+      final ByteData byteData = const StandardMethodCodec().encodeMethodCall(
+          MethodCall('tileOverlay#getTiles', <dynamic>[
+        <dynamic, dynamic>{
+          'tileOverlayId': 'overlay',
+          'x': 1,
+          'y': 2,
+          'zoom': 3
+        },
+        <dynamic, dynamic>{
+          'tileOverlayId': 'unknown',
+          'x': 1,
+          'y': 2,
+          'zoom': 3
+        },
+        <dynamic, dynamic>{
+          'tileOverlayId': 'overlay',
+          'x': 4,
+          'y': 5,
+          'zoom': 6
+        },
+      ]));
+      ByteData? reply;
+      await TestDefaultBinaryMessengerBinding.instance!.defaultBinaryMessenger
+          .handlePlatformMessage("plugins.flutter.io/google_maps_$mapId",
+              byteData, (ByteData? data) => reply = data);
+
+      final List<dynamic> tiles =
+          const StandardMethodCodec().decodeEnvelope(reply!);
+      expect(tiles, hasLength(3));
+      expect(tiles[0]['data'], <int>[1, 2, 3]);
+      expect(tiles[1], TileProvider.noTile.toJson());
+      expect(tiles[2]['data'], <int>[4, 5, 6]);
+    });
   });
 }
+
+class _CoordinateTileProvider implements TileProvider {
+  @override
+  Future<Tile> getTile(int x, int y, int? zoom) async {
+    return Tile(1, 1, Uint8List.fromList(<int>[x, y, zoom!]));
+  }
+}
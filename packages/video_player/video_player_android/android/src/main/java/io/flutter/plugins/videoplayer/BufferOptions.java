@@ -0,0 +1,103 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.DefaultLoadControl;
+
+/**
+ * The buffer durations and size cap of the {@link DefaultLoadControl} of a player.
+ *
+ * <p>A load control is fixed when its player is built, so pooled players are only reused for
+ * equal options.
+ */
+final class BufferOptions {
+  static final BufferOptions DEFAULT =
+      new BufferOptions(
+          DefaultLoadControl.DEFAULT_MIN_BUFFER_MS,
+          DefaultLoadControl.DEFAULT_MAX_BUFFER_MS,
+          DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_MS,
+          DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_AFTER_REBUFFER_MS,
+          DefaultLoadControl.DEFAULT_BACK_BUFFER_DURATION_MS,
+          C.LENGTH_UNSET);
+
+  final int minBufferMs;
+  final int maxBufferMs;
+  final int bufferForPlaybackMs;
+  final int bufferForPlaybackAfterRebufferMs;
+  final int backBufferMs;
+  /** The maximum number of bytes to buffer, or {@link C#LENGTH_UNSET} to derive it from tracks. */
+  final int targetBufferBytes;
+
+  /**
+   * Creates options for {@link DefaultLoadControl}.
+   *
+   * @throws IllegalArgumentException if a duration is negative, or if {@code maxBufferMs} is
+   *     shorter than {@code minBufferMs}, or if a playback threshold exceeds {@code minBufferMs}.
+   */
+  BufferOptions(
+      int minBufferMs,
+      int maxBufferMs,
+      int bufferForPlaybackMs,
+      int bufferForPlaybackAfterRebufferMs,
+      int backBufferMs,
+      int targetBufferBytes) {
+    if (bufferForPlaybackMs < 0 || bufferForPlaybackAfterRebufferMs < 0 || backBufferMs < 0) {
+      throw new IllegalArgumentException("Buffer durations must not be negative.");
+    }
+    if (minBufferMs < bufferForPlaybackMs || minBufferMs < bufferForPlaybackAfterRebufferMs) {
+      throw new IllegalArgumentException(
+          "minBufferMs must not be shorter than the buffer required to start playback.");
+    }
+    if (maxBufferMs < minBufferMs) {
+      throw new IllegalArgumentException("maxBufferMs must not be shorter than minBufferMs.");
+    }
+    this.minBufferMs = minBufferMs;
+    this.maxBufferMs = maxBufferMs;
+    this.bufferForPlaybackMs = bufferForPlaybackMs;
+    this.bufferForPlaybackAfterRebufferMs = bufferForPlaybackAfterRebufferMs;
+    this.backBufferMs = backBufferMs;
+    this.targetBufferBytes = targetBufferBytes;
+  }
+
+  @NonNull
+  DefaultLoadControl createLoadControl() {
+    return new DefaultLoadControl.Builder()
+        .setBufferDurationsMs(
+            minBufferMs, maxBufferMs, bufferForPlaybackMs, bufferForPlaybackAfterRebufferMs)
+        .setBackBuffer(backBufferMs, false)
+        .setTargetBufferBytes(targetBufferBytes)
+        .build();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof BufferOptions)) {
+      return false;
+    }
+    BufferOptions that = (BufferOptions) o;
+    return minBufferMs == that.minBufferMs
+        && maxBufferMs == that.maxBufferMs
+        && bufferForPlaybackMs == that.bufferForPlaybackMs
+        && bufferForPlaybackAfterRebufferMs == that.bufferForPlaybackAfterRebufferMs
+        && backBufferMs == that.backBufferMs
+        && targetBufferBytes == that.targetBufferBytes;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = minBufferMs;
+    result = 31 * result + maxBufferMs;
+    result = 31 * result + bufferForPlaybackMs;
+    result = 31 * result + bufferForPlaybackAfterRebufferMs;
+    result = 31 * result + backBufferMs;
+    result = 31 * result + targetBufferBytes;
+    return result;
+  }
+}
@@ -0,0 +1,242 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.LoadControl;
+import com.google.android.exoplayer2.PlaybackParameters;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.trackselection.DefaultTrackSelector;
+import com.google.android.exoplayer2.upstream.BandwidthMeter;
+import com.google.android.exoplayer2.upstream.DefaultBandwidthMeter;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A bounded pool of {@link ExoPlayer} instances shared by all {@link VideoPlayer}s of the plugin.
+ *
+ * <p>Building a player spins up its playback thread, renderers and load control. Feeds that scroll
+ * through many short videos dispose and create players at a high rate, so released players are
+ * reset and kept for the next {@link VideoPlayer} instead, up to {@code maxIdlePlayers}. All
+ * players share one {@link BandwidthMeter}, so bitrate estimates carry over from one video to the
+ * next. Track selectors can't be shared between players; each pooled player keeps its own, and it
+ * is reset to its initial parameters on release. The same goes for load controls, so a player is
+ * only reused for equal {@link BufferOptions}. When the pool is full the least recently released
+ * player is evicted, so players built with options that are no longer used age out.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the main thread, which the players
+ * are bound to.
+ */
+final class ExoPlayerPool {
+  static final int DEFAULT_MAX_IDLE_PLAYERS = 3;
+
+  /** Creates the players of the pool, so tests can replace them. */
+  interface PlayerFactory {
+    @NonNull
+    DefaultTrackSelector createTrackSelector(@NonNull Context context);
+
+    @NonNull
+    LoadControl createLoadControl(@NonNull BufferOptions bufferOptions);
+
+    @NonNull
+    ExoPlayer createPlayer(
+        @NonNull Context context,
+        @NonNull BandwidthMeter bandwidthMeter,
+        @NonNull DefaultTrackSelector trackSelector,
+        @NonNull LoadControl loadControl);
+  }
+
+  private static final PlayerFactory DEFAULT_FACTORY =
+      new PlayerFactory() {
+        @NonNull
+        @Override
+        public DefaultTrackSelector createTrackSelector(@NonNull Context context) {
+          return new DefaultTrackSelector(context);
+        }
+
+        @NonNull
+        @Override
+        public LoadControl createLoadControl(@NonNull BufferOptions bufferOptions) {
+          return bufferOptions.createLoadControl();
+        }
+
+        @NonNull
+        @Override
+        public ExoPlayer createPlayer(
+            @NonNull Context context,
+            @NonNull BandwidthMeter bandwidthMeter,
+            @NonNull DefaultTrackSelector trackSelector,
+            @NonNull LoadControl loadControl) {
+          return new ExoPlayer.Builder(context)
+              .setBandwidthMeter(bandwidthMeter)
+              .setTrackSelector(trackSelector)
+              .setLoadControl(loadControl)
+              .build();
+        }
+      };
+
+  private final Context context;
+  private final int maxIdlePlayers;
+  private final PlayerFactory playerFactory;
+  private final BandwidthMeter bandwidthMeter;
+  private final ArrayDeque<PooledPlayer> idlePlayers = new ArrayDeque<>();
+
+  private long playersCreated;
+  private long playersReused;
+  private long firstFrames;
+  private long totalFirstFrameLatencyMs;
+  private long maxFirstFrameLatencyMs;
+
+  /** A player together with the track selector and load control it was built with. */
+  static final class PooledPlayer {
+    final ExoPlayer player;
+    final DefaultTrackSelector trackSelector;
+    final DefaultTrackSelector.Parameters initialParameters;
+    final LoadControl loadControl;
+    final BufferOptions bufferOptions;
+    final boolean reused;
+
+    PooledPlayer(
+        ExoPlayer player,
+        DefaultTrackSelector trackSelector,
+        DefaultTrackSelector.Parameters initialParameters,
+        LoadControl loadControl,
+        BufferOptions bufferOptions,
+        boolean reused) {
+      this.player = player;
+      this.trackSelector = trackSelector;
+      this.initialParameters = initialParameters;
+      this.loadControl = loadControl;
+      this.bufferOptions = bufferOptions;
+      this.reused = reused;
+    }
+  }
+
+  ExoPlayerPool(@NonNull Context context) {
+    this(
+        context,
+        DEFAULT_MAX_IDLE_PLAYERS,
+        DEFAULT_FACTORY,
+        DefaultBandwidthMeter.getSingletonInstance(context));
+  }
+
+  @VisibleForTesting
+  ExoPlayerPool(
+      @NonNull Context context,
+      int maxIdlePlayers,
+      @NonNull PlayerFactory playerFactory,
+      @NonNull BandwidthMeter bandwidthMeter) {
+    this.context = context;
+    this.maxIdlePlayers = maxIdlePlayers;
+    this.playerFactory = playerFactory;
+    this.bandwidthMeter = bandwidthMeter;
+  }
+
+  /**
+   * Takes an idle player built with {@code bufferOptions} from the pool, or builds a new one when
+   * there is none.
+   */
+  @NonNull
+  PooledPlayer acquire(@NonNull BufferOptions bufferOptions) {
+    Iterator<PooledPlayer> iterator = idlePlayers.iterator();
+    while (iterator.hasNext()) {
+      PooledPlayer idlePlayer = iterator.next();
+      if (idlePlayer.bufferOptions.equals(bufferOptions)) {
+        iterator.remove();
+        playersReused++;
+        return new PooledPlayer(
+            idlePlayer.player,
+            idlePlayer.trackSelector,
+            idlePlayer.initialParameters,
+            idlePlayer.loadControl,
+            idlePlayer.bufferOptions,
+            true);
+      }
+    }
+    playersCreated++;
+    DefaultTrackSelector trackSelector = playerFactory.createTrackSelector(context);
+    LoadControl loadControl = playerFactory.createLoadControl(bufferOptions);
+    return new PooledPlayer(
+        playerFactory.createPlayer(context, bandwidthMeter, trackSelector, loadControl),
+        trackSelector,
+        trackSelector.getParameters(),
+        loadControl,
+        bufferOptions,
+        false);
+  }
+
+  /**
+   * Returns a player to the pool once its {@link VideoPlayer} is disposed.
+   *
+   * <p>The player is stopped and reset to its initial state. When the pool is full, the idle player
+   * that was released first is released to make room for it.
+   */
+  void release(@NonNull PooledPlayer pooledPlayer) {
+    ExoPlayer player = pooledPlayer.player;
+    if (maxIdlePlayers <= 0) {
+      player.release();
+      return;
+    }
+    while (idlePlayers.size() >= maxIdlePlayers) {
+      idlePlayers.removeFirst().player.release();
+    }
+    player.stop();
+    player.clearMediaItems();
+    player.clearVideoSurface();
+    player.setPlayWhenReady(false);
+    player.setRepeatMode(Player.REPEAT_MODE_OFF);
+    player.setVolume(1f);
+    player.setPlaybackParameters(PlaybackParameters.DEFAULT);
+    pooledPlayer.trackSelector.setParameters(pooledPlayer.initialParameters);
+    idlePlayers.addLast(pooledPlayer);
+  }
+
+  /** Releases every idle player. */
+  void clear() {
+    for (PooledPlayer pooledPlayer : idlePlayers) {
+      pooledPlayer.player.release();
+    }
+    idlePlayers.clear();
+  }
+
+  /**
+   * Records the time between the creation of a {@link VideoPlayer} and its first rendered frame.
+   */
+  void recordFirstFrameLatency(long latencyMs) {
+    firstFrames++;
+    totalFirstFrameLatencyMs += latencyMs;
+    maxFirstFrameLatencyMs = Math.max(maxFirstFrameLatencyMs, latencyMs);
+  }
+
+  @VisibleForTesting
+  int getIdlePlayerCount() {
+    return idlePlayers.size();
+  }
+
+  /**
+   * Returns the number of created and reused players and the create-to-first-frame latency.
+   *
+   * @return a map with {@code playersCreated}, {@code playersReused}, {@code idlePlayers}, {@code
+   *     firstFrames}, {@code averageFirstFrameLatencyMs} and {@code maxFirstFrameLatencyMs}.
+   */
+  @NonNull
+  Map<String, Object> getStats() {
+    Map<String, Object> stats = new HashMap<>();
+    stats.put("playersCreated", playersCreated);
+    stats.put("playersReused", playersReused);
+    stats.put("idlePlayers", idlePlayers.size());
+    stats.put("firstFrames", firstFrames);
+    stats.put(
+        "averageFirstFrameLatencyMs",
+        firstFrames > 0 ? (double) totalFirstFrameLatencyMs / firstFrames : 0.0);
+    stats.put("maxFirstFrameLatencyMs", maxFirstFrameLatencyMs);
+    return stats;
+  }
+}
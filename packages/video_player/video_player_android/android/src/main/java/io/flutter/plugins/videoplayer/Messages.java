@@ -557,6 +557,1032 @@ public class Messages {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class CacheOptionsMessage {
+    private @NonNull Long maxCacheSizeBytes;
+
+    public @NonNull Long getMaxCacheSizeBytes() {
+      return maxCacheSizeBytes;
+    }
+
+    public void setMaxCacheSizeBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxCacheSizeBytes\" is null.");
+      }
+      this.maxCacheSizeBytes = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private CacheOptionsMessage() {}
+
+    public static class Builder {
+      private @Nullable Long maxCacheSizeBytes;
+
+      public @NonNull Builder setMaxCacheSizeBytes(@NonNull Long setterArg) {
+        this.maxCacheSizeBytes = setterArg;
+        return this;
+      }
+
+      public @NonNull CacheOptionsMessage build() {
+        CacheOptionsMessage pigeonReturn = new CacheOptionsMessage();
+        pigeonReturn.setMaxCacheSizeBytes(maxCacheSizeBytes);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("maxCacheSizeBytes", maxCacheSizeBytes);
+      return toMapResult;
+    }
+
+    static @NonNull CacheOptionsMessage fromMap(@NonNull Map<String, Object> map) {
+      CacheOptionsMessage pigeonResult = new CacheOptionsMessage();
+      Object maxCacheSizeBytes = map.get("maxCacheSizeBytes");
+      pigeonResult.setMaxCacheSizeBytes(
+          (maxCacheSizeBytes == null)
+              ? null
+              : ((maxCacheSizeBytes instanceof Integer)
+                  ? (Integer) maxCacheSizeBytes
+                  : (Long) maxCacheSizeBytes));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PrefetchMessage {
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @NonNull Long durationMs;
+
+    public @NonNull Long getDurationMs() {
+      return durationMs;
+    }
+
+    public void setDurationMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"durationMs\" is null.");
+      }
+      this.durationMs = setterArg;
+    }
+
+    private @Nullable Long bitrate;
+
+    public @Nullable Long getBitrate() {
+      return bitrate;
+    }
+
+    public void setBitrate(@Nullable Long setterArg) {
+      this.bitrate = setterArg;
+    }
+
+    private @Nullable Map<String, String> httpHeaders;
+
+    public @Nullable Map<String, String> getHttpHeaders() {
+      return httpHeaders;
+    }
+
+    public void setHttpHeaders(@Nullable Map<String, String> setterArg) {
+      this.httpHeaders = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private PrefetchMessage() {}
+
+    public static class Builder {
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable Long durationMs;
+
+      public @NonNull Builder setDurationMs(@NonNull Long setterArg) {
+        this.durationMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bitrate;
+
+      public @NonNull Builder setBitrate(@Nullable Long setterArg) {
+        this.bitrate = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> httpHeaders;
+
+      public @NonNull Builder setHttpHeaders(@Nullable Map<String, String> setterArg) {
+        this.httpHeaders = setterArg;
+        return this;
+      }
+
+      public @NonNull PrefetchMessage build() {
+        PrefetchMessage pigeonReturn = new PrefetchMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setDurationMs(durationMs);
+        pigeonReturn.setBitrate(bitrate);
+        pigeonReturn.setHttpHeaders(httpHeaders);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("uri", uri);
+      toMapResult.put("durationMs", durationMs);
+      toMapResult.put("bitrate", bitrate);
+      toMapResult.put("httpHeaders", httpHeaders);
+      return toMapResult;
+    }
+
+    static @NonNull PrefetchMessage fromMap(@NonNull Map<String, Object> map) {
+      PrefetchMessage pigeonResult = new PrefetchMessage();
+      Object uri = map.get("uri");
+      pigeonResult.setUri((String) uri);
+      Object durationMs = map.get("durationMs");
+      pigeonResult.setDurationMs(
+          (durationMs == null)
+              ? null
+              : ((durationMs instanceof Integer) ? (Integer) durationMs : (Long) durationMs));
+      Object bitrate = map.get("bitrate");
+      pigeonResult.setBitrate(
+          (bitrate == null)
+              ? null
+              : ((bitrate instanceof Integer) ? (Integer) bitrate : (Long) bitrate));
+      Object httpHeaders = map.get("httpHeaders");
+      pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class CacheStatsMessage {
+    private @NonNull Long cacheSizeBytes;
+
+    public @NonNull Long getCacheSizeBytes() {
+      return cacheSizeBytes;
+    }
+
+    public void setCacheSizeBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cacheSizeBytes\" is null.");
+      }
+      this.cacheSizeBytes = setterArg;
+    }
+
+    private @NonNull Long maxCacheSizeBytes;
+
+    public @NonNull Long getMaxCacheSizeBytes() {
+      return maxCacheSizeBytes;
+    }
+
+    public void setMaxCacheSizeBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxCacheSizeBytes\" is null.");
+      }
+      this.maxCacheSizeBytes = setterArg;
+    }
+
+    private @NonNull Long cachedBytesRead;
+
+    public @NonNull Long getCachedBytesRead() {
+      return cachedBytesRead;
+    }
+
+    public void setCachedBytesRead(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cachedBytesRead\" is null.");
+      }
+      this.cachedBytesRead = setterArg;
+    }
+
+    private @NonNull Long networkBytesRead;
+
+    public @NonNull Long getNetworkBytesRead() {
+      return networkBytesRead;
+    }
+
+    public void setNetworkBytesRead(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"networkBytesRead\" is null.");
+      }
+      this.networkBytesRead = setterArg;
+    }
+
+    private @NonNull Long prefetchedBytes;
+
+    public @NonNull Long getPrefetchedBytes() {
+      return prefetchedBytes;
+    }
+
+    public void setPrefetchedBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"prefetchedBytes\" is null.");
+      }
+      this.prefetchedBytes = setterArg;
+    }
+
+    private @NonNull Double hitRatio;
+
+    public @NonNull Double getHitRatio() {
+      return hitRatio;
+    }
+
+    public void setHitRatio(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"hitRatio\" is null.");
+      }
+      this.hitRatio = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private CacheStatsMessage() {}
+
+    public static class Builder {
+      private @Nullable Long cacheSizeBytes;
+
+      public @NonNull Builder setCacheSizeBytes(@NonNull Long setterArg) {
+        this.cacheSizeBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxCacheSizeBytes;
+
+      public @NonNull Builder setMaxCacheSizeBytes(@NonNull Long setterArg) {
+        this.maxCacheSizeBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cachedBytesRead;
+
+      public @NonNull Builder setCachedBytesRead(@NonNull Long setterArg) {
+        this.cachedBytesRead = setterArg;
+        return this;
+      }
+
+      private @Nullable Long networkBytesRead;
+
+      public @NonNull Builder setNetworkBytesRead(@NonNull Long setterArg) {
+        this.networkBytesRead = setterArg;
+        return this;
+      }
+
+      private @Nullable Long prefetchedBytes;
+
+      public @NonNull Builder setPrefetchedBytes(@NonNull Long setterArg) {
+        this.prefetchedBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Double hitRatio;
+
+      public @NonNull Builder setHitRatio(@NonNull Double setterArg) {
+        this.hitRatio = setterArg;
+        return this;
+      }
+
+      public @NonNull CacheStatsMessage build() {
+        CacheStatsMessage pigeonReturn = new CacheStatsMessage();
+        pigeonReturn.setCacheSizeBytes(cacheSizeBytes);
+        pigeonReturn.setMaxCacheSizeBytes(maxCacheSizeBytes);
+        pigeonReturn.setCachedBytesRead(cachedBytesRead);
+        pigeonReturn.setNetworkBytesRead(networkBytesRead);
+        pigeonReturn.setPrefetchedBytes(prefetchedBytes);
+        pigeonReturn.setHitRatio(hitRatio);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("cacheSizeBytes", cacheSizeBytes);
+      toMapResult.put("maxCacheSizeBytes", maxCacheSizeBytes);
+      toMapResult.put("cachedBytesRead", cachedBytesRead);
+      toMapResult.put("networkBytesRead", networkBytesRead);
+      toMapResult.put("prefetchedBytes", prefetchedBytes);
+      toMapResult.put("hitRatio", hitRatio);
+      return toMapResult;
+    }
+
+    static @NonNull CacheStatsMessage fromMap(@NonNull Map<String, Object> map) {
+      CacheStatsMessage pigeonResult = new CacheStatsMessage();
+      Object cacheSizeBytes = map.get("cacheSizeBytes");
+      pigeonResult.setCacheSizeBytes(
+          (cacheSizeBytes == null)
+              ? null
+              : ((cacheSizeBytes instanceof Integer)
+                  ? (Integer) cacheSizeBytes
+                  : (Long) cacheSizeBytes));
+      Object maxCacheSizeBytes = map.get("maxCacheSizeBytes");
+      pigeonResult.setMaxCacheSizeBytes(
+          (maxCacheSizeBytes == null)
+              ? null
+              : ((maxCacheSizeBytes instanceof Integer)
+                  ? (Integer) maxCacheSizeBytes
+                  : (Long) maxCacheSizeBytes));
+      Object cachedBytesRead = map.get("cachedBytesRead");
+      pigeonResult.setCachedBytesRead(
+          (cachedBytesRead == null)
+              ? null
+              : ((cachedBytesRead instanceof Integer)
+                  ? (Integer) cachedBytesRead
+                  : (Long) cachedBytesRead));
+      Object networkBytesRead = map.get("networkBytesRead");
+      pigeonResult.setNetworkBytesRead(
+          (networkBytesRead == null)
+              ? null
+              : ((networkBytesRead instanceof Integer)
+                  ? (Integer) networkBytesRead
+                  : (Long) networkBytesRead));
+      Object prefetchedBytes = map.get("prefetchedBytes");
+      pigeonResult.setPrefetchedBytes(
+          (prefetchedBytes == null)
+              ? null
+              : ((prefetchedBytes instanceof Integer)
+                  ? (Integer) prefetchedBytes
+                  : (Long) prefetchedBytes));
+      Object hitRatio = map.get("hitRatio");
+      pigeonResult.setHitRatio((Double) hitRatio);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PositionUpdatesMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Long intervalMs;
+
+    public @NonNull Long getIntervalMs() {
+      return intervalMs;
+    }
+
+    public void setIntervalMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"intervalMs\" is null.");
+      }
+      this.intervalMs = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private PositionUpdatesMessage() {}
+
+    public static class Builder {
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long intervalMs;
+
+      public @NonNull Builder setIntervalMs(@NonNull Long setterArg) {
+        this.intervalMs = setterArg;
+        return this;
+      }
+
+      public @NonNull PositionUpdatesMessage build() {
+        PositionUpdatesMessage pigeonReturn = new PositionUpdatesMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setIntervalMs(intervalMs);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("intervalMs", intervalMs);
+      return toMapResult;
+    }
+
+    static @NonNull PositionUpdatesMessage fromMap(@NonNull Map<String, Object> map) {
+      PositionUpdatesMessage pigeonResult = new PositionUpdatesMessage();
+      Object textureId = map.get("textureId");
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object intervalMs = map.get("intervalMs");
+      pigeonResult.setIntervalMs(
+          (intervalMs == null)
+              ? null
+              : ((intervalMs instanceof Integer) ? (Integer) intervalMs : (Long) intervalMs));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class BufferOptionsMessage {
+    private @NonNull Long minBufferMs;
+
+    public @NonNull Long getMinBufferMs() {
+      return minBufferMs;
+    }
+
+    public void setMinBufferMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"minBufferMs\" is null.");
+      }
+      this.minBufferMs = setterArg;
+    }
+
+    private @NonNull Long maxBufferMs;
+
+    public @NonNull Long getMaxBufferMs() {
+      return maxBufferMs;
+    }
+
+    public void setMaxBufferMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxBufferMs\" is null.");
+      }
+      this.maxBufferMs = setterArg;
+    }
+
+    private @NonNull Long bufferForPlaybackMs;
+
+    public @NonNull Long getBufferForPlaybackMs() {
+      return bufferForPlaybackMs;
+    }
+
+    public void setBufferForPlaybackMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bufferForPlaybackMs\" is null.");
+      }
+      this.bufferForPlaybackMs = setterArg;
+    }
+
+    private @NonNull Long bufferForPlaybackAfterRebufferMs;
+
+    public @NonNull Long getBufferForPlaybackAfterRebufferMs() {
+      return bufferForPlaybackAfterRebufferMs;
+    }
+
+    public void setBufferForPlaybackAfterRebufferMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bufferForPlaybackAfterRebufferMs\" is null.");
+      }
+      this.bufferForPlaybackAfterRebufferMs = setterArg;
+    }
+
+    private @NonNull Long backBufferMs;
+
+    public @NonNull Long getBackBufferMs() {
+      return backBufferMs;
+    }
+
+    public void setBackBufferMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"backBufferMs\" is null.");
+      }
+      this.backBufferMs = setterArg;
+    }
+
+    private @Nullable Long targetBufferBytes;
+
+    public @Nullable Long getTargetBufferBytes() {
+      return targetBufferBytes;
+    }
+
+    public void setTargetBufferBytes(@Nullable Long setterArg) {
+      this.targetBufferBytes = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private BufferOptionsMessage() {}
+
+    public static class Builder {
+      private @Nullable Long minBufferMs;
+
+      public @NonNull Builder setMinBufferMs(@NonNull Long setterArg) {
+        this.minBufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxBufferMs;
+
+      public @NonNull Builder setMaxBufferMs(@NonNull Long setterArg) {
+        this.maxBufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bufferForPlaybackMs;
+
+      public @NonNull Builder setBufferForPlaybackMs(@NonNull Long setterArg) {
+        this.bufferForPlaybackMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bufferForPlaybackAfterRebufferMs;
+
+      public @NonNull Builder setBufferForPlaybackAfterRebufferMs(@NonNull Long setterArg) {
+        this.bufferForPlaybackAfterRebufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long backBufferMs;
+
+      public @NonNull Builder setBackBufferMs(@NonNull Long setterArg) {
+        this.backBufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long targetBufferBytes;
+
+      public @NonNull Builder setTargetBufferBytes(@Nullable Long setterArg) {
+        this.targetBufferBytes = setterArg;
+        return this;
+      }
+
+      public @NonNull BufferOptionsMessage build() {
+        BufferOptionsMessage pigeonReturn = new BufferOptionsMessage();
+        pigeonReturn.setMinBufferMs(minBufferMs);
+        pigeonReturn.setMaxBufferMs(maxBufferMs);
+        pigeonReturn.setBufferForPlaybackMs(bufferForPlaybackMs);
+        pigeonReturn.setBufferForPlaybackAfterRebufferMs(bufferForPlaybackAfterRebufferMs);
+        pigeonReturn.setBackBufferMs(backBufferMs);
+        pigeonReturn.setTargetBufferBytes(targetBufferBytes);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("minBufferMs", minBufferMs);
+      toMapResult.put("maxBufferMs", maxBufferMs);
+      toMapResult.put("bufferForPlaybackMs", bufferForPlaybackMs);
+      toMapResult.put("bufferForPlaybackAfterRebufferMs", bufferForPlaybackAfterRebufferMs);
+      toMapResult.put("backBufferMs", backBufferMs);
+      toMapResult.put("targetBufferBytes", targetBufferBytes);
+      return toMapResult;
+    }
+
+    static @NonNull BufferOptionsMessage fromMap(@NonNull Map<String, Object> map) {
+      BufferOptionsMessage pigeonResult = new BufferOptionsMessage();
+      Object minBufferMs = map.get("minBufferMs");
+      pigeonResult.setMinBufferMs(
+          (minBufferMs == null)
+              ? null
+              : ((minBufferMs instanceof Integer) ? (Integer) minBufferMs : (Long) minBufferMs));
+      Object maxBufferMs = map.get("maxBufferMs");
+      pigeonResult.setMaxBufferMs(
+          (maxBufferMs == null)
+              ? null
+              : ((maxBufferMs instanceof Integer) ? (Integer) maxBufferMs : (Long) maxBufferMs));
+      Object bufferForPlaybackMs = map.get("bufferForPlaybackMs");
+      pigeonResult.setBufferForPlaybackMs(
+          (bufferForPlaybackMs == null)
+              ? null
+              : ((bufferForPlaybackMs instanceof Integer)
+                  ? (Integer) bufferForPlaybackMs
+                  : (Long) bufferForPlaybackMs));
+      Object bufferForPlaybackAfterRebufferMs = map.get("bufferForPlaybackAfterRebufferMs");
+      pigeonResult.setBufferForPlaybackAfterRebufferMs(
+          (bufferForPlaybackAfterRebufferMs == null)
+              ? null
+              : ((bufferForPlaybackAfterRebufferMs instanceof Integer)
+                  ? (Integer) bufferForPlaybackAfterRebufferMs
+                  : (Long) bufferForPlaybackAfterRebufferMs));
+      Object backBufferMs = map.get("backBufferMs");
+      pigeonResult.setBackBufferMs(
+          (backBufferMs == null)
+              ? null
+              : ((backBufferMs instanceof Integer) ? (Integer) backBufferMs : (Long) backBufferMs));
+      Object targetBufferBytes = map.get("targetBufferBytes");
+      pigeonResult.setTargetBufferBytes(
+          (targetBufferBytes == null)
+              ? null
+              : ((targetBufferBytes instanceof Integer)
+                  ? (Integer) targetBufferBytes
+                  : (Long) targetBufferBytes));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class BufferStatsMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Long allocatedBytes;
+
+    public @NonNull Long getAllocatedBytes() {
+      return allocatedBytes;
+    }
+
+    public void setAllocatedBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"allocatedBytes\" is null.");
+      }
+      this.allocatedBytes = setterArg;
+    }
+
+    private @NonNull Long bufferedDurationMs;
+
+    public @NonNull Long getBufferedDurationMs() {
+      return bufferedDurationMs;
+    }
+
+    public void setBufferedDurationMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bufferedDurationMs\" is null.");
+      }
+      this.bufferedDurationMs = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private BufferStatsMessage() {}
+
+    public static class Builder {
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long allocatedBytes;
+
+      public @NonNull Builder setAllocatedBytes(@NonNull Long setterArg) {
+        this.allocatedBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bufferedDurationMs;
+
+      public @NonNull Builder setBufferedDurationMs(@NonNull Long setterArg) {
+        this.bufferedDurationMs = setterArg;
+        return this;
+      }
+
+      public @NonNull BufferStatsMessage build() {
+        BufferStatsMessage pigeonReturn = new BufferStatsMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setAllocatedBytes(allocatedBytes);
+        pigeonReturn.setBufferedDurationMs(bufferedDurationMs);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("allocatedBytes", allocatedBytes);
+      toMapResult.put("bufferedDurationMs", bufferedDurationMs);
+      return toMapResult;
+    }
+
+    static @NonNull BufferStatsMessage fromMap(@NonNull Map<String, Object> map) {
+      BufferStatsMessage pigeonResult = new BufferStatsMessage();
+      Object textureId = map.get("textureId");
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object allocatedBytes = map.get("allocatedBytes");
+      pigeonResult.setAllocatedBytes(
+          (allocatedBytes == null)
+              ? null
+              : ((allocatedBytes instanceof Integer)
+                  ? (Integer) allocatedBytes
+                  : (Long) allocatedBytes));
+      Object bufferedDurationMs = map.get("bufferedDurationMs");
+      pigeonResult.setBufferedDurationMs(
+          (bufferedDurationMs == null)
+              ? null
+              : ((bufferedDurationMs instanceof Integer)
+                  ? (Integer) bufferedDurationMs
+                  : (Long) bufferedDurationMs));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class EventQueueStatsMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Long queuedEvents;
+
+    public @NonNull Long getQueuedEvents() {
+      return queuedEvents;
+    }
+
+    public void setQueuedEvents(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"queuedEvents\" is null.");
+      }
+      this.queuedEvents = setterArg;
+    }
+
+    private @NonNull Long droppedEvents;
+
+    public @NonNull Long getDroppedEvents() {
+      return droppedEvents;
+    }
+
+    public void setDroppedEvents(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"droppedEvents\" is null.");
+      }
+      this.droppedEvents = setterArg;
+    }
+
+    private @NonNull Long mergedEvents;
+
+    public @NonNull Long getMergedEvents() {
+      return mergedEvents;
+    }
+
+    public void setMergedEvents(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"mergedEvents\" is null.");
+      }
+      this.mergedEvents = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private EventQueueStatsMessage() {}
+
+    public static class Builder {
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long queuedEvents;
+
+      public @NonNull Builder setQueuedEvents(@NonNull Long setterArg) {
+        this.queuedEvents = setterArg;
+        return this;
+      }
+
+      private @Nullable Long droppedEvents;
+
+      public @NonNull Builder setDroppedEvents(@NonNull Long setterArg) {
+        this.droppedEvents = setterArg;
+        return this;
+      }
+
+      private @Nullable Long mergedEvents;
+
+      public @NonNull Builder setMergedEvents(@NonNull Long setterArg) {
+        this.mergedEvents = setterArg;
+        return this;
+      }
+
+      public @NonNull EventQueueStatsMessage build() {
+        EventQueueStatsMessage pigeonReturn = new EventQueueStatsMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setQueuedEvents(queuedEvents);
+        pigeonReturn.setDroppedEvents(droppedEvents);
+        pigeonReturn.setMergedEvents(mergedEvents);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("queuedEvents", queuedEvents);
+      toMapResult.put("droppedEvents", droppedEvents);
+      toMapResult.put("mergedEvents", mergedEvents);
+      return toMapResult;
+    }
+
+    static @NonNull EventQueueStatsMessage fromMap(@NonNull Map<String, Object> map) {
+      EventQueueStatsMessage pigeonResult = new EventQueueStatsMessage();
+      Object textureId = map.get("textureId");
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object queuedEvents = map.get("queuedEvents");
+      pigeonResult.setQueuedEvents(
+          (queuedEvents == null)
+              ? null
+              : ((queuedEvents instanceof Integer) ? (Integer) queuedEvents : (Long) queuedEvents));
+      Object droppedEvents = map.get("droppedEvents");
+      pigeonResult.setDroppedEvents(
+          (droppedEvents == null)
+              ? null
+              : ((droppedEvents instanceof Integer)
+                  ? (Integer) droppedEvents
+                  : (Long) droppedEvents));
+      Object mergedEvents = map.get("mergedEvents");
+      pigeonResult.setMergedEvents(
+          (mergedEvents == null)
+              ? null
+              : ((mergedEvents instanceof Integer) ? (Integer) mergedEvents : (Long) mergedEvents));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class TrackSelectionMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @Nullable Long maxVideoWidth;
+
+    public @Nullable Long getMaxVideoWidth() {
+      return maxVideoWidth;
+    }
+
+    public void setMaxVideoWidth(@Nullable Long setterArg) {
+      this.maxVideoWidth = setterArg;
+    }
+
+    private @Nullable Long maxVideoHeight;
+
+    public @Nullable Long getMaxVideoHeight() {
+      return maxVideoHeight;
+    }
+
+    public void setMaxVideoHeight(@Nullable Long setterArg) {
+      this.maxVideoHeight = setterArg;
+    }
+
+    private @Nullable Long maxVideoBitrate;
+
+    public @Nullable Long getMaxVideoBitrate() {
+      return maxVideoBitrate;
+    }
+
+    public void setMaxVideoBitrate(@Nullable Long setterArg) {
+      this.maxVideoBitrate = setterArg;
+    }
+
+    private @Nullable String preferredVideoMimeType;
+
+    public @Nullable String getPreferredVideoMimeType() {
+      return preferredVideoMimeType;
+    }
+
+    public void setPreferredVideoMimeType(@Nullable String setterArg) {
+      this.preferredVideoMimeType = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private TrackSelectionMessage() {}
+
+    public static class Builder {
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxVideoWidth;
+
+      public @NonNull Builder setMaxVideoWidth(@Nullable Long setterArg) {
+        this.maxVideoWidth = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxVideoHeight;
+
+      public @NonNull Builder setMaxVideoHeight(@Nullable Long setterArg) {
+        this.maxVideoHeight = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxVideoBitrate;
+
+      public @NonNull Builder setMaxVideoBitrate(@Nullable Long setterArg) {
+        this.maxVideoBitrate = setterArg;
+        return this;
+      }
+
+      private @Nullable String preferredVideoMimeType;
+
+      public @NonNull Builder setPreferredVideoMimeType(@Nullable String setterArg) {
+        this.preferredVideoMimeType = setterArg;
+        return this;
+      }
+
+      public @NonNull TrackSelectionMessage build() {
+        TrackSelectionMessage pigeonReturn = new TrackSelectionMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setMaxVideoWidth(maxVideoWidth);
+        pigeonReturn.setMaxVideoHeight(maxVideoHeight);
+        pigeonReturn.setMaxVideoBitrate(maxVideoBitrate);
+        pigeonReturn.setPreferredVideoMimeType(preferredVideoMimeType);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("maxVideoWidth", maxVideoWidth);
+      toMapResult.put("maxVideoHeight", maxVideoHeight);
+      toMapResult.put("maxVideoBitrate", maxVideoBitrate);
+      toMapResult.put("preferredVideoMimeType", preferredVideoMimeType);
+      return toMapResult;
+    }
+
+    static @NonNull TrackSelectionMessage fromMap(@NonNull Map<String, Object> map) {
+      TrackSelectionMessage pigeonResult = new TrackSelectionMessage();
+      Object textureId = map.get("textureId");
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object maxVideoWidth = map.get("maxVideoWidth");
+      pigeonResult.setMaxVideoWidth(
+          (maxVideoWidth == null)
+              ? null
+              : ((maxVideoWidth instanceof Integer)
+                  ? (Integer) maxVideoWidth
+                  : (Long) maxVideoWidth));
+      Object maxVideoHeight = map.get("maxVideoHeight");
+      pigeonResult.setMaxVideoHeight(
+          (maxVideoHeight == null)
+              ? null
+              : ((maxVideoHeight instanceof Integer)
+                  ? (Integer) maxVideoHeight
+                  : (Long) maxVideoHeight));
+      Object maxVideoBitrate = map.get("maxVideoBitrate");
+      pigeonResult.setMaxVideoBitrate(
+          (maxVideoBitrate == null)
+              ? null
+              : ((maxVideoBitrate instanceof Integer)
+                  ? (Integer) maxVideoBitrate
+                  : (Long) maxVideoBitrate));
+      Object preferredVideoMimeType = map.get("preferredVideoMimeType");
+      pigeonResult.setPreferredVideoMimeType((String) preferredVideoMimeType);
+      return pigeonResult;
+    }
+  }
+
   private static class AndroidVideoPlayerApiCodec extends StandardMessageCodec {
     public static final AndroidVideoPlayerApiCodec INSTANCE = new AndroidVideoPlayerApiCodec();
 
@@ -566,24 +1592,48 @@ public class Messages {
     protected Object readValueOfType(byte type, ByteBuffer buffer) {
       switch (type) {
         case (byte) 128:
-          return CreateMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return BufferOptionsMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 129:
-          return LoopingMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return BufferStatsMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 130:
-          return MixWithOthersMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return CacheOptionsMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 131:
-          return PlaybackSpeedMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return CacheStatsMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 132:
-          return PositionMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return CreateMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 133:
-          return TextureMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return EventQueueStatsMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 134:
+          return LoopingMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 135:
+          return MixWithOthersMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 136:
+          return PlaybackSpeedMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 137:
+          return PositionMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 138:
+          return PositionUpdatesMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 139:
+          return PrefetchMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 140:
+          return TextureMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 141:
+          return TrackSelectionMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 142:
           return VolumeMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         default:
@@ -593,26 +1643,50 @@ public class Messages {
 
     @Override
     protected void writeValue(ByteArrayOutputStream stream, Object value) {
-      if (value instanceof CreateMessage) {
+      if (value instanceof BufferOptionsMessage) {
         stream.write(128);
+        writeValue(stream, ((BufferOptionsMessage) value).toMap());
+      } else if (value instanceof BufferStatsMessage) {
+        stream.write(129);
+        writeValue(stream, ((BufferStatsMessage) value).toMap());
+      } else if (value instanceof CacheOptionsMessage) {
+        stream.write(130);
+        writeValue(stream, ((CacheOptionsMessage) value).toMap());
+      } else if (value instanceof CacheStatsMessage) {
+        stream.write(131);
+        writeValue(stream, ((CacheStatsMessage) value).toMap());
+      } else if (value instanceof CreateMessage) {
+        stream.write(132);
         writeValue(stream, ((CreateMessage) value).toMap());
+      } else if (value instanceof EventQueueStatsMessage) {
+        stream.write(133);
+        writeValue(stream, ((EventQueueStatsMessage) value).toMap());
       } else if (value instanceof LoopingMessage) {
-        stream.write(129);
+        stream.write(134);
         writeValue(stream, ((LoopingMessage) value).toMap());
       } else if (value instanceof MixWithOthersMessage) {
-        stream.write(130);
+        stream.write(135);
         writeValue(stream, ((MixWithOthersMessage) value).toMap());
       } else if (value instanceof PlaybackSpeedMessage) {
-        stream.write(131);
+        stream.write(136);
         writeValue(stream, ((PlaybackSpeedMessage) value).toMap());
       } else if (value instanceof PositionMessage) {
-        stream.write(132);
+        stream.write(137);
         writeValue(stream, ((PositionMessage) value).toMap());
+      } else if (value instanceof PositionUpdatesMessage) {
+        stream.write(138);
+        writeValue(stream, ((PositionUpdatesMessage) value).toMap());
+      } else if (value instanceof PrefetchMessage) {
+        stream.write(139);
+        writeValue(stream, ((PrefetchMessage) value).toMap());
       } else if (value instanceof TextureMessage) {
-        stream.write(133);
+        stream.write(140);
         writeValue(stream, ((TextureMessage) value).toMap());
+      } else if (value instanceof TrackSelectionMessage) {
+        stream.write(141);
+        writeValue(stream, ((TrackSelectionMessage) value).toMap());
       } else if (value instanceof VolumeMessage) {
-        stream.write(134);
+        stream.write(142);
         writeValue(stream, ((VolumeMessage) value).toMap());
       } else {
         super.writeValue(stream, value);
@@ -646,6 +1720,25 @@ public class Messages {
 
     void setMixWithOthers(@NonNull MixWithOthersMessage msg);
 
+    void setCacheOptions(@NonNull CacheOptionsMessage msg);
+
+    void prefetch(@NonNull PrefetchMessage msg);
+
+    @NonNull
+    CacheStatsMessage getCacheStats();
+
+    void setPositionUpdateInterval(@NonNull PositionUpdatesMessage msg);
+
+    void setBufferOptions(@NonNull BufferOptionsMessage msg);
+
+    @NonNull
+    BufferStatsMessage bufferStats(@NonNull TextureMessage msg);
+
+    @NonNull
+    EventQueueStatsMessage eventQueueStats(@NonNull TextureMessage msg);
+
+    void setTrackSelection(@NonNull TrackSelectionMessage msg);
+
     /** The codec used by AndroidVideoPlayerApi. */
     static MessageCodec<Object> getCodec() {
       return AndroidVideoPlayerApiCodec.INSTANCE;
@@ -930,6 +2023,215 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setCacheOptions",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  CacheOptionsMessage msgArg = (CacheOptionsMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.setCacheOptions(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.prefetch", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  PrefetchMessage msgArg = (PrefetchMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.prefetch(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.getCacheStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  CacheStatsMessage output = api.getCacheStats();
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPositionUpdateInterval",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  PositionUpdatesMessage msgArg = (PositionUpdatesMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.setPositionUpdateInterval(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setBufferOptions",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  BufferOptionsMessage msgArg = (BufferOptionsMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.setBufferOptions(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.bufferStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  TextureMessage msgArg = (TextureMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  BufferStatsMessage output = api.bufferStats(msgArg);
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.eventQueueStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  TextureMessage msgArg = (TextureMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  EventQueueStatsMessage output = api.eventQueueStats(msgArg);
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setTrackSelection",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  TrackSelectionMessage msgArg = (TrackSelectionMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.setTrackSelection(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -0,0 +1,107 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.os.Handler;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Player;
+import io.flutter.plugin.common.EventChannel;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pushes the position and buffered position of a player to Dart at a fixed interval while it plays.
+ *
+ * <p>Each tick sends a {@code positionUpdate} event only when a value changed since the last one.
+ * The buffered position is only included when it changed. The ticker is disabled until an interval
+ * is set.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the thread of {@code handler}.
+ */
+final class PositionTicker {
+  private final Handler handler;
+  private final Player player;
+  private final EventChannel.EventSink eventSink;
+
+  private long intervalMs;
+  private boolean running;
+  private long lastPosition = C.TIME_UNSET;
+  private long lastBufferedPosition = C.TIME_UNSET;
+
+  private final Runnable tick =
+      new Runnable() {
+        @Override
+        public void run() {
+          update();
+          handler.postDelayed(this, intervalMs);
+        }
+      };
+
+  PositionTicker(
+      @NonNull Handler handler,
+      @NonNull Player player,
+      @NonNull EventChannel.EventSink eventSink) {
+    this.handler = handler;
+    this.player = player;
+    this.eventSink = eventSink;
+  }
+
+  /** Sets the interval between two updates, or disables the updates when it is 0. */
+  void setInterval(long intervalMs) {
+    stop();
+    this.intervalMs = intervalMs;
+    if (player.isPlaying()) {
+      start();
+    }
+  }
+
+  /** Starts ticking when the player starts playing, and sends the final values when it stops. */
+  void onIsPlayingChanged(boolean isPlaying) {
+    if (isPlaying) {
+      start();
+    } else {
+      stop();
+      update();
+    }
+  }
+
+  /** Stops ticking. */
+  void stop() {
+    running = false;
+    handler.removeCallbacks(tick);
+  }
+
+  private void start() {
+    if (intervalMs <= 0 || running) {
+      return;
+    }
+    running = true;
+    handler.post(tick);
+  }
+
+  /** Sends the current values if they changed, for example after a seek. */
+  @VisibleForTesting
+  void update() {
+    if (intervalMs <= 0) {
+      return;
+    }
+    long position = player.getCurrentPosition();
+    long bufferedPosition = player.getBufferedPosition();
+    if (position == lastPosition && bufferedPosition == lastBufferedPosition) {
+      return;
+    }
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", "positionUpdate");
+    event.put("position", position);
+    if (bufferedPosition != lastBufferedPosition) {
+      event.put("buffered", bufferedPosition);
+    }
+    lastPosition = position;
+    lastBufferedPosition = bufferedPosition;
+    eventSink.success(event);
+  }
+}
@@ -4,8 +4,12 @@
 
 package io.flutter.plugins.videoplayer;
 
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import io.flutter.plugin.common.EventChannel;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * And implementation of {@link EventChannel.EventSink} which can wrap an underlying sink.
@@ -13,13 +17,33 @@ import java.util.ArrayList;
  * <p>It delivers messages immediately when downstream is available, but it queues messages before
  * the delegate event sink is set with setDelegate.
  *
+ * <p>The queue is bounded. A queued event that is superseded by a newer one of the same kind, such
+ * as a buffering update or a buffering state change, is merged into the newer one. When the queue
+ * is still full, the oldest event is dropped, except for errors, the end of the stream and the
+ * state changes Dart relies on: {@code initialized}, {@code completed} and the buffering state.
+ * These are rare or merged, so the queue can only exceed its capacity by a few events.
+ *
  * <p>This class is not thread-safe. All calls must be done on the same thread or synchronized
  * externally.
  */
 final class QueuingEventSink implements EventChannel.EventSink {
+  static final int DEFAULT_CAPACITY = 64;
+
   private EventChannel.EventSink delegate;
-  private ArrayList<Object> eventQueue = new ArrayList<>();
+  private final ArrayList<Object> eventQueue = new ArrayList<>();
+  private final int capacity;
   private boolean done = false;
+  private long droppedEvents;
+  private long mergedEvents;
+
+  QueuingEventSink() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  @VisibleForTesting
+  QueuingEventSink(int capacity) {
+    this.capacity = capacity;
+  }
 
   public void setDelegate(EventChannel.EventSink delegate) {
     this.delegate = delegate;
@@ -45,11 +69,91 @@ final class QueuingEventSink implements EventChannel.EventSink {
     maybeFlush();
   }
 
+  /** Returns the number of events waiting for a delegate. */
+  int getQueuedEventCount() {
+    return eventQueue.size();
+  }
+
+  /** Returns the number of events dropped because the queue was full. */
+  long getDroppedEventCount() {
+    return droppedEvents;
+  }
+
+  /** Returns the number of queued events that were merged into a newer event of the same kind. */
+  long getMergedEventCount() {
+    return mergedEvents;
+  }
+
   private void enqueue(Object event) {
     if (done) {
       return;
     }
+    String collapseKey = getCollapseKey(event);
+    if (collapseKey != null) {
+      for (int i = eventQueue.size() - 1; i >= 0; i--) {
+        Object queuedEvent = eventQueue.get(i);
+        if (collapseKey.equals(getCollapseKey(queuedEvent))) {
+          eventQueue.remove(i);
+          event = merge(queuedEvent, event);
+          mergedEvents++;
+          break;
+        }
+      }
+    }
     eventQueue.add(event);
+    if (eventQueue.size() > capacity) {
+      dropOldestEvent();
+    }
+  }
+
+  /** Returns the key shared by events that supersede each other, or null if the event is kept. */
+  @Nullable
+  private static String getCollapseKey(Object event) {
+    if (!(event instanceof Map)) {
+      return null;
+    }
+    Object name = ((Map<?, ?>) event).get("event");
+    if ("bufferingUpdate".equals(name) || "positionUpdate".equals(name)) {
+      return (String) name;
+    }
+    if ("bufferingStart".equals(name) || "bufferingEnd".equals(name)) {
+      return "buffering";
+    }
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object merge(Object queuedEvent, Object event) {
+    // A position update only carries the buffered position when it changed, so keep the last one.
+    if ("positionUpdate".equals(((Map<?, ?>) event).get("event"))) {
+      Map<String, Object> merged = new HashMap<>((Map<String, Object>) queuedEvent);
+      merged.putAll((Map<String, Object>) event);
+      return merged;
+    }
+    return event;
+  }
+
+  private void dropOldestEvent() {
+    for (int i = 0; i < eventQueue.size(); i++) {
+      Object event = eventQueue.get(i);
+      if (event instanceof ErrorEvent || event instanceof EndOfStreamEvent || isStateChange(event)) {
+        continue;
+      }
+      eventQueue.remove(i);
+      droppedEvents++;
+      return;
+    }
+  }
+
+  private static boolean isStateChange(Object event) {
+    if (!(event instanceof Map)) {
+      return false;
+    }
+    Object name = ((Map<?, ?>) event).get("event");
+    return "initialized".equals(name)
+        || "completed".equals(name)
+        || "bufferingStart".equals(name)
+        || "bufferingEnd".equals(name);
   }
 
   private void maybeFlush() {
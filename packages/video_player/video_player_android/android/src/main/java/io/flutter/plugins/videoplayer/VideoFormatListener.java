@@ -0,0 +1,80 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.analytics.AnalyticsListener;
+import com.google.android.exoplayer2.source.MediaLoadData;
+import com.google.android.exoplayer2.util.MimeTypes;
+import io.flutter.plugin.common.EventChannel;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends a {@code videoFormatChanged} event when the player switches to another video track, for
+ * example when adaptive streaming picks another bitrate.
+ *
+ * <p>Muxed HLS variants carry audio and video in one track of type {@link C#TRACK_TYPE_DEFAULT},
+ * so such tracks are told apart by their format.
+ */
+final class VideoFormatListener implements AnalyticsListener {
+  private final EventChannel.EventSink eventSink;
+  private Format currentFormat;
+  private int adaptiveSwitchCount;
+
+  VideoFormatListener(@NonNull EventChannel.EventSink eventSink) {
+    this.eventSink = eventSink;
+  }
+
+  @Override
+  public void onDownstreamFormatChanged(
+      @NonNull EventTime eventTime, @NonNull MediaLoadData mediaLoadData) {
+    Format format = mediaLoadData.trackFormat;
+    if (format == null || !isVideoTrack(mediaLoadData.trackType, format)) {
+      return;
+    }
+    if (format.equals(currentFormat)) {
+      return;
+    }
+    currentFormat = format;
+    if (mediaLoadData.trackSelectionReason == C.SELECTION_REASON_ADAPTIVE) {
+      adaptiveSwitchCount++;
+    }
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", "videoFormatChanged");
+    event.put("width", format.width);
+    event.put("height", format.height);
+    event.put("bitrate", format.bitrate);
+    event.put("codecs", format.codecs);
+    event.put("reason", getReasonName(mediaLoadData.trackSelectionReason));
+    event.put("adaptiveSwitches", adaptiveSwitchCount);
+    eventSink.success(event);
+  }
+
+  private static boolean isVideoTrack(int trackType, @NonNull Format format) {
+    if (trackType == C.TRACK_TYPE_VIDEO) {
+      return true;
+    }
+    return trackType == C.TRACK_TYPE_DEFAULT
+        && (MimeTypes.isVideo(format.sampleMimeType) || format.width != Format.NO_VALUE);
+  }
+
+  private static String getReasonName(int trackSelectionReason) {
+    switch (trackSelectionReason) {
+      case C.SELECTION_REASON_INITIAL:
+        return "initial";
+      case C.SELECTION_REASON_MANUAL:
+        return "manual";
+      case C.SELECTION_REASON_ADAPTIVE:
+        return "adaptive";
+      case C.SELECTION_REASON_TRICK_PLAY:
+        return "trickPlay";
+      default:
+        return "unknown";
+    }
+  }
+}
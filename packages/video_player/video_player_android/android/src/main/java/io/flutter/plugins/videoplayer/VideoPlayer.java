@@ -9,8 +9,12 @@ import static com.google.android.exoplayer2.Player.REPEAT_MODE_OFF;
 
 import android.content.Context;
 import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import com.google.android.exoplayer2.C;
 import com.google.android.exoplayer2.ExoPlayer;
 import com.google.android.exoplayer2.Format;
@@ -27,6 +31,7 @@ import com.google.android.exoplayer2.source.dash.DefaultDashChunkSource;
 import com.google.android.exoplayer2.source.hls.HlsMediaSource;
 import com.google.android.exoplayer2.source.smoothstreaming.DefaultSsChunkSource;
 import com.google.android.exoplayer2.source.smoothstreaming.SsMediaSource;
+import com.google.android.exoplayer2.trackselection.DefaultTrackSelector;
 import com.google.android.exoplayer2.upstream.DataSource;
 import com.google.android.exoplayer2.upstream.DefaultDataSource;
 import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
@@ -45,7 +50,19 @@ final class VideoPlayer {
   private static final String FORMAT_HLS = "hls";
   private static final String FORMAT_OTHER = "other";
 
-  private ExoPlayer exoPlayer;
+  private final ExoPlayerPool playerPool;
+
+  private final ExoPlayerPool.PooledPlayer pooledPlayer;
+
+  private final ExoPlayer exoPlayer;
+
+  private final long createdAtMs = SystemClock.elapsedRealtime();
+
+  private Listener listener;
+
+  private PositionTicker positionTicker;
+
+  private VideoFormatListener videoFormatListener;
 
   private Surface surface;
 
@@ -66,25 +83,24 @@ final class VideoPlayer {
       String dataSource,
       String formatHint,
       @NonNull Map<String, String> httpHeaders,
-      VideoPlayerOptions options) {
+      VideoPlayerOptions options,
+      ExoPlayerPool playerPool,
+      @Nullable VideoPlayerCache cache) {
     this.eventChannel = eventChannel;
     this.textureEntry = textureEntry;
     this.options = options;
+    this.playerPool = playerPool;
 
-    exoPlayer = new ExoPlayer.Builder(context).build();
+    pooledPlayer = playerPool.acquire(options.bufferOptions);
+    exoPlayer = pooledPlayer.player;
 
     Uri uri = Uri.parse(dataSource);
     DataSource.Factory dataSourceFactory;
     if (isHTTP(uri)) {
-      DefaultHttpDataSource.Factory httpDataSourceFactory =
-          new DefaultHttpDataSource.Factory()
-              .setUserAgent("ExoPlayer")
-              .setAllowCrossProtocolRedirects(true);
-
-      if (httpHeaders != null && !httpHeaders.isEmpty()) {
-        httpDataSourceFactory.setDefaultRequestProperties(httpHeaders);
+      dataSourceFactory = buildHttpDataSourceFactory(httpHeaders);
+      if (cache != null) {
+        dataSourceFactory = cache.createDataSourceFactory(dataSourceFactory);
       }
-      dataSourceFactory = httpDataSourceFactory;
     } else {
       dataSourceFactory = new DefaultDataSource.Factory(context);
     }
@@ -96,7 +112,19 @@ final class VideoPlayer {
     setupVideoPlayer(eventChannel, textureEntry);
   }
 
-  private static boolean isHTTP(Uri uri) {
+  static DataSource.Factory buildHttpDataSourceFactory(@Nullable Map<String, String> httpHeaders) {
+    DefaultHttpDataSource.Factory httpDataSourceFactory =
+        new DefaultHttpDataSource.Factory()
+            .setUserAgent("ExoPlayer")
+            .setAllowCrossProtocolRedirects(true);
+
+    if (httpHeaders != null && !httpHeaders.isEmpty()) {
+      httpDataSourceFactory.setDefaultRequestProperties(httpHeaders);
+    }
+    return httpDataSourceFactory;
+  }
+
+  static boolean isHTTP(Uri uri) {
     if (uri == null || uri.getScheme() == null) {
       return false;
     }
@@ -171,11 +199,15 @@ final class VideoPlayer {
     surface = new Surface(textureEntry.surfaceTexture());
     exoPlayer.setVideoSurface(surface);
     setAudioAttributes(exoPlayer, options.mixWithOthers);
+    positionTicker = new PositionTicker(new Handler(Looper.getMainLooper()), exoPlayer, eventSink);
 
-    exoPlayer.addListener(
+    listener =
         new Listener() {
           private boolean isBuffering = false;
 
+          // Seeks and surface changes render a first frame again, only the first one is reported.
+          private boolean isFirstFrameRendered = false;
+
           public void setBuffering(boolean buffering) {
             if (isBuffering != buffering) {
               isBuffering = buffering;
@@ -206,6 +238,35 @@ final class VideoPlayer {
             }
           }
 
+          @Override
+          public void onIsPlayingChanged(boolean isPlaying) {
+            positionTicker.onIsPlayingChanged(isPlaying);
+          }
+
+          @Override
+          public void onPositionDiscontinuity(
+              @NonNull Player.PositionInfo oldPosition,
+              @NonNull Player.PositionInfo newPosition,
+              int reason) {
+            positionTicker.update();
+          }
+
+          @Override
+          public void onRenderedFirstFrame() {
+            if (isFirstFrameRendered) {
+              return;
+            }
+            isFirstFrameRendered = true;
+            long latencyMs = SystemClock.elapsedRealtime() - createdAtMs;
+            playerPool.recordFirstFrameLatency(latencyMs);
+            Map<String, Object> event = new HashMap<>();
+            event.put("event", "firstFrame");
+            event.put("latencyMs", latencyMs);
+            event.put("reusedPlayer", pooledPlayer.reused);
+            event.put("poolStats", playerPool.getStats());
+            eventSink.success(event);
+          }
+
           @Override
           public void onPlayerError(final PlaybackException error) {
             setBuffering(false);
@@ -213,7 +274,10 @@ final class VideoPlayer {
               eventSink.error("VideoError", "Video player had error " + error, null);
             }
           }
-        });
+        };
+    exoPlayer.addListener(listener);
+    videoFormatListener = new VideoFormatListener(eventSink);
+    exoPlayer.addAnalyticsListener(videoFormatListener);
   }
 
   void sendBufferingUpdate() {
@@ -259,10 +323,49 @@ final class VideoPlayer {
     exoPlayer.seekTo(location);
   }
 
+  void setPositionUpdateInterval(long intervalMs) {
+    positionTicker.setInterval(intervalMs);
+  }
+
+  /**
+   * Limits the video tracks that the track selector may pick.
+   *
+   * <p>A null value removes that limit. The limits are reset when the player is disposed.
+   */
+  void setTrackSelectionConstraints(
+      @Nullable Integer maxVideoWidth,
+      @Nullable Integer maxVideoHeight,
+      @Nullable Integer maxVideoBitrate,
+      @Nullable String preferredVideoMimeType) {
+    DefaultTrackSelector trackSelector = pooledPlayer.trackSelector;
+    trackSelector.setParameters(
+        trackSelector
+            .buildUponParameters()
+            .setMaxVideoSize(
+                maxVideoWidth != null ? maxVideoWidth : Integer.MAX_VALUE,
+                maxVideoHeight != null ? maxVideoHeight : Integer.MAX_VALUE)
+            .setMaxVideoBitrate(maxVideoBitrate != null ? maxVideoBitrate : Integer.MAX_VALUE)
+            .setPreferredVideoMimeType(preferredVideoMimeType));
+  }
+
   long getPosition() {
     return exoPlayer.getCurrentPosition();
   }
 
+  /** Returns the number of bytes the load control of this player currently holds in memory. */
+  long getAllocatedBufferBytes() {
+    return pooledPlayer.loadControl.getAllocator().getTotalBytesAllocated();
+  }
+
+  QueuingEventSink getEventSink() {
+    return eventSink;
+  }
+
+  /** Returns the duration of media buffered ahead of the playback position. */
+  long getBufferedDurationMs() {
+    return exoPlayer.getTotalBufferedDuration();
+  }
+
   @SuppressWarnings("SuspiciousNameCombination")
   private void sendInitialized() {
     if (isInitialized) {
@@ -288,16 +391,15 @@ final class VideoPlayer {
   }
 
   void dispose() {
-    if (isInitialized) {
-      exoPlayer.stop();
-    }
+    positionTicker.stop();
     textureEntry.release();
     eventChannel.setStreamHandler(null);
+    exoPlayer.removeListener(listener);
+    exoPlayer.removeAnalyticsListener(videoFormatListener);
+    // The pool stops the player and detaches it from the surface before it is released.
+    playerPool.release(pooledPlayer);
     if (surface != null) {
       surface.release();
     }
-    if (exoPlayer != null) {
-      exoPlayer.release();
-    }
   }
 }
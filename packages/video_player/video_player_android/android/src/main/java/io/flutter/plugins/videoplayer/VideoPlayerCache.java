@@ -0,0 +1,222 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import android.net.Uri;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.database.StandaloneDatabaseProvider;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import com.google.android.exoplayer2.upstream.cache.Cache;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import com.google.android.exoplayer2.upstream.cache.CacheWriter;
+import com.google.android.exoplayer2.upstream.cache.LeastRecentlyUsedCacheEvictor;
+import com.google.android.exoplayer2.upstream.cache.SimpleCache;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An LRU disk cache for network videos, shared by all players of the process.
+ *
+ * <p>Only one {@link SimpleCache} may use a directory at a time, so there is a single instance per
+ * process. Its size cap is the one passed when it is first created.
+ */
+final class VideoPlayerCache {
+  private static final String TAG = "VideoPlayerCache";
+  private static final String CACHE_DIRECTORY = "video_player_cache";
+
+  /** The bitrate used to convert a prefetch duration to bytes when no bitrate is given. */
+  static final long DEFAULT_PREFETCH_BITRATE = 2_000_000;
+
+  private static VideoPlayerCache instance;
+
+  private final Cache cache;
+  private final long maxCacheSizeBytes;
+  private final ExecutorService prefetchExecutor;
+
+  private final AtomicLong cachedBytesRead = new AtomicLong();
+  private final AtomicLong networkBytesRead = new AtomicLong();
+  private final AtomicLong prefetchedBytes = new AtomicLong();
+
+  @VisibleForTesting
+  final CacheDataSource.EventListener cacheEventListener =
+      new CacheDataSource.EventListener() {
+        @Override
+        public void onCachedBytesRead(long cacheSizeBytes, long cachedBytes) {
+          cachedBytesRead.addAndGet(cachedBytes);
+        }
+
+        @Override
+        public void onCacheIgnored(int reason) {}
+      };
+
+  @VisibleForTesting
+  final TransferListener networkTransferListener =
+      new TransferListener() {
+        @Override
+        public void onTransferInitializing(
+            @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+        @Override
+        public void onTransferStart(
+            @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+        @Override
+        public void onBytesTransferred(
+            @NonNull DataSource source,
+            @NonNull DataSpec dataSpec,
+            boolean isNetwork,
+            int bytesTransferred) {
+          if (isNetwork) {
+            networkBytesRead.addAndGet(bytesTransferred);
+          }
+        }
+
+        @Override
+        public void onTransferEnd(
+            @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+      };
+
+  /**
+   * Returns the cache of the process, creating it in the app's cache directory on first use.
+   *
+   * @param maxCacheSizeBytes the size cap, once the cache exceeds it the least recently used
+   *     content is evicted. Ignored when the cache already exists.
+   */
+  @NonNull
+  static synchronized VideoPlayerCache getInstance(
+      @NonNull Context context, long maxCacheSizeBytes) {
+    if (instance == null) {
+      File directory = new File(context.getCacheDir(), CACHE_DIRECTORY);
+      instance =
+          new VideoPlayerCache(
+              new SimpleCache(
+                  directory,
+                  new LeastRecentlyUsedCacheEvictor(maxCacheSizeBytes),
+                  new StandaloneDatabaseProvider(context)),
+              maxCacheSizeBytes,
+              Executors.newSingleThreadExecutor());
+    }
+    return instance;
+  }
+
+  /** Returns the cache of the process, or null if it wasn't created yet. */
+  @Nullable
+  static synchronized VideoPlayerCache getExistingInstance() {
+    return instance;
+  }
+
+  @VisibleForTesting
+  VideoPlayerCache(
+      @NonNull Cache cache, long maxCacheSizeBytes, @NonNull ExecutorService prefetchExecutor) {
+    this.cache = cache;
+    this.maxCacheSizeBytes = maxCacheSizeBytes;
+    this.prefetchExecutor = prefetchExecutor;
+  }
+
+  /**
+   * Wraps {@code upstreamFactory} so that reads are served from the cache when possible.
+   *
+   * <p>Bytes read from the cache and from the network are counted for the hit ratio.
+   */
+  @NonNull
+  DataSource.Factory createDataSourceFactory(@NonNull DataSource.Factory upstreamFactory) {
+    return new CacheDataSource.Factory()
+        .setCache(cache)
+        .setUpstreamDataSourceFactory(
+            () -> {
+              DataSource dataSource = upstreamFactory.createDataSource();
+              dataSource.addTransferListener(networkTransferListener);
+              return dataSource;
+            })
+        .setFlags(CacheDataSource.FLAG_IGNORE_CACHE_ON_ERROR)
+        .setEventListener(cacheEventListener);
+  }
+
+  /**
+   * Writes the start of {@code uri} to the cache in the background.
+   *
+   * <p>The number of bytes is estimated from {@code durationMs} and {@code bitrate}, so this only
+   * helps progressive media. Prefetched bytes don't count as network reads for the hit ratio.
+   *
+   * @param bitrate the bitrate of the media in bits per second, or null to use {@link
+   *     #DEFAULT_PREFETCH_BITRATE}.
+   */
+  @NonNull
+  Future<?> prefetch(
+      @NonNull DataSource.Factory upstreamFactory,
+      @NonNull Uri uri,
+      long durationMs,
+      @Nullable Long bitrate) {
+    CacheDataSource dataSource =
+        new CacheDataSource.Factory()
+            .setCache(cache)
+            .setUpstreamDataSourceFactory(upstreamFactory)
+            .createDataSource();
+    DataSpec dataSpec =
+        new DataSpec.Builder()
+            .setUri(uri)
+            .setLength(
+                getPrefetchLength(
+                    durationMs, bitrate != null ? bitrate : DEFAULT_PREFETCH_BITRATE))
+            .build();
+    CacheWriter cacheWriter =
+        new CacheWriter(
+            dataSource,
+            dataSpec,
+            null,
+            (requestLength, bytesCached, newBytesCached) ->
+                prefetchedBytes.addAndGet(newBytesCached));
+    return prefetchExecutor.submit(
+        () -> {
+          try {
+            cacheWriter.cache();
+          } catch (IOException e) {
+            Log.w(TAG, "Failed to prefetch " + uri, e);
+          }
+        });
+  }
+
+  @VisibleForTesting
+  static long getPrefetchLength(long durationMs, long bitrate) {
+    return Math.max(1, durationMs * bitrate / 8000);
+  }
+
+  long getCacheSizeBytes() {
+    return cache.getCacheSpace();
+  }
+
+  long getMaxCacheSizeBytes() {
+    return maxCacheSizeBytes;
+  }
+
+  long getCachedBytesRead() {
+    return cachedBytesRead.get();
+  }
+
+  long getNetworkBytesRead() {
+    return networkBytesRead.get();
+  }
+
+  long getPrefetchedBytes() {
+    return prefetchedBytes.get();
+  }
+
+  /** Returns the share of bytes that players read from the cache rather than the network. */
+  double getHitRatio() {
+    long cached = cachedBytesRead.get();
+    long total = cached + networkBytesRead.get();
+    return total > 0 ? (double) cached / total : 0.0;
+  }
+}
@@ -6,4 +6,10 @@ package io.flutter.plugins.videoplayer;
 
 class VideoPlayerOptions {
   public boolean mixWithOthers;
+
+  /** The size cap of the disk cache for network videos, or 0 to play them without caching. */
+  public long maxCacheSizeBytes;
+
+  /** The buffer settings of the players created after they are set. */
+  public BufferOptions bufferOptions = BufferOptions.DEFAULT;
 }
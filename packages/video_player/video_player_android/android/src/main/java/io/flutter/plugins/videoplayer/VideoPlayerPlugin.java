@@ -5,20 +5,30 @@
 package io.flutter.plugins.videoplayer;
 
 import android.content.Context;
+import android.net.Uri;
 import android.os.Build;
 import android.util.LongSparseArray;
+import com.google.android.exoplayer2.C;
 import io.flutter.FlutterInjector;
 import io.flutter.Log;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.videoplayer.Messages.AndroidVideoPlayerApi;
+import io.flutter.plugins.videoplayer.Messages.BufferOptionsMessage;
+import io.flutter.plugins.videoplayer.Messages.BufferStatsMessage;
+import io.flutter.plugins.videoplayer.Messages.CacheOptionsMessage;
+import io.flutter.plugins.videoplayer.Messages.CacheStatsMessage;
 import io.flutter.plugins.videoplayer.Messages.CreateMessage;
+import io.flutter.plugins.videoplayer.Messages.EventQueueStatsMessage;
 import io.flutter.plugins.videoplayer.Messages.LoopingMessage;
 import io.flutter.plugins.videoplayer.Messages.MixWithOthersMessage;
 import io.flutter.plugins.videoplayer.Messages.PlaybackSpeedMessage;
 import io.flutter.plugins.videoplayer.Messages.PositionMessage;
+import io.flutter.plugins.videoplayer.Messages.PositionUpdatesMessage;
+import io.flutter.plugins.videoplayer.Messages.PrefetchMessage;
 import io.flutter.plugins.videoplayer.Messages.TextureMessage;
+import io.flutter.plugins.videoplayer.Messages.TrackSelectionMessage;
 import io.flutter.plugins.videoplayer.Messages.VolumeMessage;
 import io.flutter.view.TextureRegistry;
 import java.security.KeyManagementException;
@@ -32,6 +42,7 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
   private final LongSparseArray<VideoPlayer> videoPlayers = new LongSparseArray<>();
   private FlutterState flutterState;
   private VideoPlayerOptions options = new VideoPlayerOptions();
+  private ExoPlayerPool playerPool;
 
   /** Register this with the v2 embedding for the plugin to respond to lifecycle callbacks. */
   public VideoPlayerPlugin() {}
@@ -93,6 +104,10 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     flutterState.stopListening(binding.getBinaryMessenger());
     flutterState = null;
     initialize();
+    if (playerPool != null) {
+      playerPool.clear();
+      playerPool = null;
+    }
   }
 
   private void disposeAllPlayers() {
@@ -109,12 +124,29 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     // be replaced with just asserting that videoPlayers.isEmpty().
     // https://github.com/flutter/flutter/issues/20989 tracks this.
     disposeAllPlayers();
+    if (playerPool != null) {
+      playerPool.clear();
+    }
+  }
+
+  private ExoPlayerPool getPlayerPool() {
+    if (playerPool == null) {
+      playerPool = new ExoPlayerPool(flutterState.applicationContext);
+    }
+    return playerPool;
   }
 
   public void initialize() {
     disposeAllPlayers();
   }
 
+  private VideoPlayerCache getCache() {
+    if (options.maxCacheSizeBytes <= 0) {
+      return null;
+    }
+    return VideoPlayerCache.getInstance(flutterState.applicationContext, options.maxCacheSizeBytes);
+  }
+
   public TextureMessage create(CreateMessage arg) {
     TextureRegistry.SurfaceTextureEntry handle =
         flutterState.textureRegistry.createSurfaceTexture();
@@ -139,7 +171,9 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
               "asset:///" + assetLookupKey,
               null,
               null,
-              options);
+              options,
+              getPlayerPool(),
+              null);
     } else {
       @SuppressWarnings("unchecked")
       Map<String, String> httpHeaders = arg.getHttpHeaders();
@@ -151,7 +185,9 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
               arg.getUri(),
               arg.getFormatHint(),
               httpHeaders,
-              options);
+              options,
+              getPlayerPool(),
+              getCache());
     }
     videoPlayers.put(handle.id(), player);
 
@@ -196,6 +232,47 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     return result;
   }
 
+  @Override
+  public void setPositionUpdateInterval(PositionUpdatesMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setPositionUpdateInterval(arg.getIntervalMs());
+  }
+
+  @Override
+  public BufferStatsMessage bufferStats(TextureMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    return new BufferStatsMessage.Builder()
+        .setTextureId(arg.getTextureId())
+        .setAllocatedBytes(player.getAllocatedBufferBytes())
+        .setBufferedDurationMs(player.getBufferedDurationMs())
+        .build();
+  }
+
+  @Override
+  public EventQueueStatsMessage eventQueueStats(TextureMessage arg) {
+    QueuingEventSink eventSink = videoPlayers.get(arg.getTextureId()).getEventSink();
+    return new EventQueueStatsMessage.Builder()
+        .setTextureId(arg.getTextureId())
+        .setQueuedEvents((long) eventSink.getQueuedEventCount())
+        .setDroppedEvents(eventSink.getDroppedEventCount())
+        .setMergedEvents(eventSink.getMergedEventCount())
+        .build();
+  }
+
+  @Override
+  public void setTrackSelection(TrackSelectionMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setTrackSelectionConstraints(
+        toInteger(arg.getMaxVideoWidth()),
+        toInteger(arg.getMaxVideoHeight()),
+        toInteger(arg.getMaxVideoBitrate()),
+        arg.getPreferredVideoMimeType());
+  }
+
+  private static Integer toInteger(Long value) {
+    return value != null ? (int) Math.min(value, Integer.MAX_VALUE) : null;
+  }
+
   public void seekTo(PositionMessage arg) {
     VideoPlayer player = videoPlayers.get(arg.getTextureId());
     player.seekTo(arg.getPosition().intValue());
@@ -211,6 +288,66 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     options.mixWithOthers = arg.getMixWithOthers();
   }
 
+  @Override
+  public void setBufferOptions(BufferOptionsMessage arg) {
+    Long targetBufferBytes = arg.getTargetBufferBytes();
+    options.bufferOptions =
+        new BufferOptions(
+            arg.getMinBufferMs().intValue(),
+            arg.getMaxBufferMs().intValue(),
+            arg.getBufferForPlaybackMs().intValue(),
+            arg.getBufferForPlaybackAfterRebufferMs().intValue(),
+            arg.getBackBufferMs().intValue(),
+            targetBufferBytes != null ? targetBufferBytes.intValue() : C.LENGTH_UNSET);
+  }
+
+  @Override
+  public void setCacheOptions(CacheOptionsMessage arg) {
+    options.maxCacheSizeBytes = arg.getMaxCacheSizeBytes();
+  }
+
+  @Override
+  public void prefetch(PrefetchMessage arg) {
+    VideoPlayerCache cache = getCache();
+    if (cache == null) {
+      throw new IllegalStateException("Prefetching requires the cache to be enabled.");
+    }
+    Uri uri = Uri.parse(arg.getUri());
+    if (!VideoPlayer.isHTTP(uri)) {
+      throw new IllegalArgumentException("Only network videos can be prefetched: " + uri);
+    }
+    cache.prefetch(
+        VideoPlayer.buildHttpDataSourceFactory(arg.getHttpHeaders()),
+        uri,
+        arg.getDurationMs(),
+        arg.getBitrate());
+  }
+
+  @Override
+  public CacheStatsMessage getCacheStats() {
+    // Opening the cache scans its directory, so it isn't created just to report it is empty.
+    VideoPlayerCache cache =
+        options.maxCacheSizeBytes > 0 ? VideoPlayerCache.getExistingInstance() : null;
+    if (cache == null) {
+      return new CacheStatsMessage.Builder()
+          .setCacheSizeBytes(0L)
+          .setMaxCacheSizeBytes(0L)
+          .setCachedBytesRead(0L)
+          .setNetworkBytesRead(0L)
+          .setPrefetchedBytes(0L)
+          .setHitRatio(0.0)
+          .build();
+    }
+    return new CacheStatsMessage.Builder()
+        .setCacheSizeBytes(cache.getCacheSizeBytes())
+        .setMaxCacheSizeBytes(cache.getMaxCacheSizeBytes())
+        .setCachedBytesRead(cache.getCachedBytesRead())
+        .setNetworkBytesRead(cache.getNetworkBytesRead())
+        .setPrefetchedBytes(cache.getPrefetchedBytes())
+        .setHitRatio(cache.getHitRatio())
+        .build();
+  }
+
   private interface KeyForAssetFn {
     String get(String asset);
   }
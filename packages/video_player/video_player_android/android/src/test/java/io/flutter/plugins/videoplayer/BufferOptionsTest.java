@@ -0,0 +1,45 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+public class BufferOptionsTest {
+  @Test
+  public void equals_shouldCompareAllSettings() {
+    BufferOptions options = new BufferOptions(2000, 5000, 500, 1000, 0, 1048576);
+
+    assertEquals(new BufferOptions(2000, 5000, 500, 1000, 0, 1048576), options);
+    assertEquals(
+        new BufferOptions(2000, 5000, 500, 1000, 0, 1048576).hashCode(), options.hashCode());
+    assertNotEquals(new BufferOptions(2000, 5000, 500, 1000, 1000, 1048576), options);
+  }
+
+  @Test
+  public void constructor_shouldRejectMaxBufferShorterThanMinBuffer() {
+    try {
+      new BufferOptions(5000, 2000, 500, 1000, 0, 1048576);
+      fail("BufferOptions should reject a max buffer shorter than the min buffer");
+    } catch (IllegalArgumentException e) {
+      assertEquals("maxBufferMs must not be shorter than minBufferMs.", e.getMessage());
+    }
+  }
+
+  @Test
+  public void constructor_shouldRejectPlaybackThresholdAboveMinBuffer() {
+    try {
+      new BufferOptions(2000, 5000, 3000, 1000, 0, 1048576);
+      fail("BufferOptions should reject a playback threshold above the min buffer");
+    } catch (IllegalArgumentException e) {
+      assertEquals(
+          "minBufferMs must not be shorter than the buffer required to start playback.",
+          e.getMessage());
+    }
+  }
+}
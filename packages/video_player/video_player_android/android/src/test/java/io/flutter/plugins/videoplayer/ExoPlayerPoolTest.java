@@ -0,0 +1,165 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.LoadControl;
+import com.google.android.exoplayer2.trackselection.DefaultTrackSelector;
+import com.google.android.exoplayer2.upstream.BandwidthMeter;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ExoPlayerPoolTest {
+  private Context mockContext;
+  private BandwidthMeter mockBandwidthMeter;
+  private ExoPlayerPool.PlayerFactory mockFactory;
+  private ExoPlayerPool pool;
+
+  @Before
+  public void before() {
+    mockContext = mock(Context.class);
+    mockBandwidthMeter = mock(BandwidthMeter.class);
+    mockFactory = mock(ExoPlayerPool.PlayerFactory.class);
+    when(mockFactory.createTrackSelector(any()))
+        .thenAnswer(invocation -> mock(DefaultTrackSelector.class));
+    when(mockFactory.createLoadControl(any()))
+        .thenAnswer(invocation -> mock(LoadControl.class));
+    when(mockFactory.createPlayer(any(), any(), any(), any()))
+        .thenAnswer(invocation -> mock(ExoPlayer.class));
+    pool = new ExoPlayerPool(mockContext, 1, mockFactory, mockBandwidthMeter);
+  }
+
+  @Test
+  public void acquire_shouldShareBandwidthMeterBetweenNewPlayers() {
+    ExoPlayerPool.PooledPlayer first = pool.acquire(BufferOptions.DEFAULT);
+    ExoPlayerPool.PooledPlayer second = pool.acquire(BufferOptions.DEFAULT);
+
+    assertNotSame(first.player, second.player);
+    assertFalse(first.reused);
+    verify(mockFactory)
+        .createPlayer(mockContext, mockBandwidthMeter, first.trackSelector, first.loadControl);
+    verify(mockFactory)
+        .createPlayer(mockContext, mockBandwidthMeter, second.trackSelector, second.loadControl);
+  }
+
+  @Test
+  public void release_shouldResetPlayerAndReuseIt() {
+    ExoPlayerPool.PooledPlayer first = pool.acquire(BufferOptions.DEFAULT);
+
+    pool.release(first);
+    ExoPlayerPool.PooledPlayer second = pool.acquire(BufferOptions.DEFAULT);
+
+    verify(first.player).stop();
+    verify(first.player).clearMediaItems();
+    verify(first.player).clearVideoSurface();
+    verify(first.player, never()).release();
+    verify(first.trackSelector).setParameters(first.initialParameters);
+    assertSame(first.player, second.player);
+    assertSame(first.trackSelector, second.trackSelector);
+    assertTrue(second.reused);
+    verify(mockFactory, times(1)).createPlayer(any(), any(), any(), any());
+  }
+
+  @Test
+  public void acquire_shouldOnlyReusePlayersWithEqualBufferOptions() {
+    BufferOptions smallBuffer = new BufferOptions(2000, 5000, 500, 1000, 0, 1048576);
+    ExoPlayerPool.PooledPlayer first = pool.acquire(BufferOptions.DEFAULT);
+    pool.release(first);
+
+    ExoPlayerPool.PooledPlayer second =
+        pool.acquire(new BufferOptions(2000, 5000, 500, 1000, 0, 1048576));
+    ExoPlayerPool.PooledPlayer third = pool.acquire(BufferOptions.DEFAULT);
+
+    assertNotSame(first.player, second.player);
+    assertFalse(second.reused);
+    verify(mockFactory).createLoadControl(smallBuffer);
+    assertSame(first.player, third.player);
+    assertSame(first.loadControl, third.loadControl);
+  }
+
+  @Test
+  public void release_shouldEvictTheOldestIdlePlayerWhenPoolIsFull() {
+    ExoPlayerPool.PooledPlayer first = pool.acquire(BufferOptions.DEFAULT);
+    ExoPlayerPool.PooledPlayer second = pool.acquire(BufferOptions.DEFAULT);
+
+    pool.release(first);
+    pool.release(second);
+
+    verify(first.player).release();
+    verify(second.player, never()).release();
+    assertEquals(1, pool.getIdlePlayerCount());
+    assertSame(second.player, pool.acquire(BufferOptions.DEFAULT).player);
+  }
+
+  @Test
+  public void release_shouldEvictIdlePlayersWithOldBufferOptions() {
+    BufferOptions smallBuffer = new BufferOptions(2000, 5000, 500, 1000, 0, 1048576);
+    ExoPlayerPool.PooledPlayer old = pool.acquire(BufferOptions.DEFAULT);
+    pool.release(old);
+
+    // The buffer options changed, the idle player can't be reused.
+    ExoPlayerPool.PooledPlayer current = pool.acquire(smallBuffer);
+    pool.release(current);
+    ExoPlayerPool.PooledPlayer next = pool.acquire(smallBuffer);
+
+    verify(old.player).release();
+    assertSame(current.player, next.player);
+    assertTrue(next.reused);
+  }
+
+  @Test
+  public void release_shouldReleasePlayerWhenPoolHoldsNoPlayers() {
+    ExoPlayerPool emptyPool = new ExoPlayerPool(mockContext, 0, mockFactory, mockBandwidthMeter);
+    ExoPlayerPool.PooledPlayer first = emptyPool.acquire(BufferOptions.DEFAULT);
+
+    emptyPool.release(first);
+
+    verify(first.player).release();
+    verify(first.player, never()).stop();
+    assertEquals(0, emptyPool.getIdlePlayerCount());
+  }
+
+  @Test
+  public void clear_shouldReleaseIdlePlayers() {
+    ExoPlayerPool.PooledPlayer first = pool.acquire(BufferOptions.DEFAULT);
+    pool.release(first);
+
+    pool.clear();
+
+    verify(first.player).release();
+    assertEquals(0, pool.getIdlePlayerCount());
+  }
+
+  @Test
+  public void getStats_shouldReportReuseAndFirstFrameLatency() {
+    pool.release(pool.acquire(BufferOptions.DEFAULT));
+    pool.acquire(BufferOptions.DEFAULT);
+    pool.recordFirstFrameLatency(100);
+    pool.recordFirstFrameLatency(300);
+
+    Map<String, Object> stats = pool.getStats();
+
+    assertEquals(1L, stats.get("playersCreated"));
+    assertEquals(1L, stats.get("playersReused"));
+    assertEquals(0, stats.get("idlePlayers"));
+    assertEquals(2L, stats.get("firstFrames"));
+    assertEquals(200.0, (double) stats.get("averageFirstFrameLatencyMs"), 0.01);
+    assertEquals(300L, stats.get("maxFirstFrameLatencyMs"));
+  }
+}
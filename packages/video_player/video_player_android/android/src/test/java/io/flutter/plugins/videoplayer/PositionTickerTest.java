@@ -0,0 +1,96 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.Handler;
+import com.google.android.exoplayer2.Player;
+import io.flutter.plugin.common.EventChannel;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class PositionTickerTest {
+  private Handler mockHandler;
+  private Player mockPlayer;
+  private EventChannel.EventSink mockEventSink;
+  private PositionTicker ticker;
+
+  @Before
+  public void before() {
+    mockHandler = mock(Handler.class);
+    mockPlayer = mock(Player.class);
+    mockEventSink = mock(EventChannel.EventSink.class);
+    ticker = new PositionTicker(mockHandler, mockPlayer, mockEventSink);
+  }
+
+  @Test
+  public void onIsPlayingChanged_shouldNotTickWithoutInterval() {
+    ticker.onIsPlayingChanged(true);
+    ticker.onIsPlayingChanged(false);
+
+    verify(mockHandler, never()).post(any());
+    verify(mockEventSink, never()).success(any());
+  }
+
+  @Test
+  public void onIsPlayingChanged_shouldTickOnlyWhilePlaying() {
+    ticker.setInterval(250);
+    verify(mockHandler, never()).post(any());
+
+    ticker.onIsPlayingChanged(true);
+    ArgumentCaptor<Runnable> tickCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler).post(tickCaptor.capture());
+    tickCaptor.getValue().run();
+    verify(mockHandler).postDelayed(tickCaptor.getValue(), 250);
+
+    ticker.onIsPlayingChanged(false);
+    verify(mockHandler, times(2)).removeCallbacks(tickCaptor.getValue());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void update_shouldOnlySendChangedValues() {
+    ticker.setInterval(250);
+    when(mockPlayer.getCurrentPosition()).thenReturn(1000L);
+    when(mockPlayer.getBufferedPosition()).thenReturn(5000L);
+    ticker.update();
+    ticker.update();
+    when(mockPlayer.getCurrentPosition()).thenReturn(1250L);
+    ticker.update();
+
+    ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(mockEventSink, times(2)).success(eventCaptor.capture());
+    Map<String, Object> first = (Map<String, Object>) eventCaptor.getAllValues().get(0);
+    Map<String, Object> second = (Map<String, Object>) eventCaptor.getAllValues().get(1);
+    assertEquals("positionUpdate", first.get("event"));
+    assertEquals(1000L, first.get("position"));
+    assertEquals(5000L, first.get("buffered"));
+    assertEquals(1250L, second.get("position"));
+    assertFalse(second.containsKey("buffered"));
+  }
+
+  @Test
+  public void setInterval_shouldStartWhenAlreadyPlayingAndStopWhenDisabled() {
+    when(mockPlayer.isPlaying()).thenReturn(true);
+
+    ticker.setInterval(500);
+    ticker.setInterval(0);
+
+    verify(mockHandler, times(1)).post(any());
+    verify(mockHandler, times(2)).removeCallbacks(any());
+    verify(mockHandler, never()).postDelayed(any(), anyLong());
+  }
+}
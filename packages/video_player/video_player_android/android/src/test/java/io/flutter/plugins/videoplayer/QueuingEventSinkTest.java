@@ -0,0 +1,113 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.flutter.plugin.common.EventChannel;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+public class QueuingEventSinkTest {
+  private EventChannel.EventSink mockDelegate;
+
+  @Before
+  public void before() {
+    mockDelegate = mock(EventChannel.EventSink.class);
+  }
+
+  @Test
+  public void success_shouldDeliverImmediatelyWithDelegate() {
+    QueuingEventSink sink = new QueuingEventSink();
+    sink.setDelegate(mockDelegate);
+
+    sink.success(event("bufferingUpdate"));
+    sink.success(event("bufferingUpdate"));
+
+    verify(mockDelegate, times(2)).success(any());
+    assertEquals(0, sink.getMergedEventCount());
+  }
+
+  @Test
+  public void success_shouldMergeSupersededEventsWhileQueued() {
+    QueuingEventSink sink = new QueuingEventSink();
+    Map<String, Object> initialized = event("initialized");
+    Map<String, Object> lastBufferingUpdate = event("bufferingUpdate");
+
+    sink.success(event("bufferingStart"));
+    sink.success(event("bufferingUpdate"));
+    sink.success(initialized);
+    sink.success(lastBufferingUpdate);
+    sink.success(event("bufferingEnd"));
+    sink.setDelegate(mockDelegate);
+
+    assertEquals(2, sink.getMergedEventCount());
+    InOrder inOrder = inOrder(mockDelegate);
+    inOrder.verify(mockDelegate).success(initialized);
+    inOrder.verify(mockDelegate).success(lastBufferingUpdate);
+    inOrder.verify(mockDelegate).success(event("bufferingEnd"));
+    verify(mockDelegate, never()).success(event("bufferingStart"));
+  }
+
+  @Test
+  public void success_shouldKeepBufferedPositionWhenMergingPositionUpdates() {
+    QueuingEventSink sink = new QueuingEventSink();
+    Map<String, Object> first = event("positionUpdate");
+    first.put("position", 1000L);
+    first.put("buffered", 5000L);
+    Map<String, Object> second = event("positionUpdate");
+    second.put("position", 1250L);
+
+    sink.success(first);
+    sink.success(second);
+    sink.setDelegate(mockDelegate);
+
+    Map<String, Object> merged = event("positionUpdate");
+    merged.put("position", 1250L);
+    merged.put("buffered", 5000L);
+    verify(mockDelegate).success(merged);
+    assertEquals(1, sink.getMergedEventCount());
+  }
+
+  @Test
+  public void success_shouldDropOldestEventButKeepStateChangesAndErrors() {
+    QueuingEventSink sink = new QueuingEventSink(3);
+    Map<String, Object> initialized = event("initialized");
+    Map<String, Object> firstFrame = event("firstFrame");
+
+    sink.error("VideoError", "error", null);
+    sink.success(firstFrame);
+    sink.success(initialized);
+    sink.success(event("bufferingStart"));
+    sink.success(event("bufferingUpdate"));
+    sink.success(event("completed"));
+
+    assertEquals(2, sink.getDroppedEventCount());
+    assertEquals(4, sink.getQueuedEventCount());
+    sink.setDelegate(mockDelegate);
+    InOrder inOrder = inOrder(mockDelegate);
+    inOrder.verify(mockDelegate).error("VideoError", "error", null);
+    inOrder.verify(mockDelegate).success(initialized);
+    inOrder.verify(mockDelegate).success(event("bufferingStart"));
+    inOrder.verify(mockDelegate).success(event("completed"));
+    verify(mockDelegate, never()).success(firstFrame);
+    verify(mockDelegate, never()).success(event("bufferingUpdate"));
+  }
+
+  private static Map<String, Object> event(String name) {
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", name);
+    return event;
+  }
+}
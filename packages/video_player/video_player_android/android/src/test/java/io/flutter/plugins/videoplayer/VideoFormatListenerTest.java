@@ -0,0 +1,119 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.analytics.AnalyticsListener;
+import com.google.android.exoplayer2.source.MediaLoadData;
+import com.google.android.exoplayer2.util.MimeTypes;
+import io.flutter.plugin.common.EventChannel;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class VideoFormatListenerTest {
+  private EventChannel.EventSink mockEventSink;
+  private AnalyticsListener.EventTime mockEventTime;
+  private VideoFormatListener listener;
+
+  @Before
+  public void before() {
+    mockEventSink = mock(EventChannel.EventSink.class);
+    mockEventTime = mock(AnalyticsListener.EventTime.class);
+    listener = new VideoFormatListener(mockEventSink);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void onDownstreamFormatChanged_shouldSendVideoSwitches() {
+    Format low = videoFormat(640, 360, 800000);
+    Format high = videoFormat(1280, 720, 2500000);
+
+    listener.onDownstreamFormatChanged(
+        mockEventTime, loadData(C.TRACK_TYPE_VIDEO, low, C.SELECTION_REASON_INITIAL));
+    listener.onDownstreamFormatChanged(
+        mockEventTime, loadData(C.TRACK_TYPE_VIDEO, low, C.SELECTION_REASON_INITIAL));
+    listener.onDownstreamFormatChanged(
+        mockEventTime, loadData(C.TRACK_TYPE_VIDEO, high, C.SELECTION_REASON_ADAPTIVE));
+
+    ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(mockEventSink, times(2)).success(eventCaptor.capture());
+    Map<String, Object> initial = (Map<String, Object>) eventCaptor.getAllValues().get(0);
+    Map<String, Object> adaptive = (Map<String, Object>) eventCaptor.getAllValues().get(1);
+    assertEquals("videoFormatChanged", initial.get("event"));
+    assertEquals("initial", initial.get("reason"));
+    assertEquals(0, initial.get("adaptiveSwitches"));
+    assertEquals(1280, adaptive.get("width"));
+    assertEquals(720, adaptive.get("height"));
+    assertEquals(2500000, adaptive.get("bitrate"));
+    assertEquals("adaptive", adaptive.get("reason"));
+    assertEquals(1, adaptive.get("adaptiveSwitches"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void onDownstreamFormatChanged_shouldSendMuxedVariantSwitches() {
+    // A muxed HLS variant has no sample MIME type, only the size and codecs of the variant.
+    Format variant =
+        new Format.Builder()
+            .setContainerMimeType(MimeTypes.APPLICATION_M3U8)
+            .setWidth(1280)
+            .setHeight(720)
+            .setPeakBitrate(2500000)
+            .setCodecs("avc1.64001f,mp4a.40.2")
+            .build();
+
+    listener.onDownstreamFormatChanged(
+        mockEventTime, loadData(C.TRACK_TYPE_DEFAULT, variant, C.SELECTION_REASON_ADAPTIVE));
+
+    ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(mockEventSink).success(eventCaptor.capture());
+    Map<String, Object> event = (Map<String, Object>) eventCaptor.getValue();
+    assertEquals(1280, event.get("width"));
+    assertEquals("avc1.64001f,mp4a.40.2", event.get("codecs"));
+    assertEquals(1, event.get("adaptiveSwitches"));
+  }
+
+  @Test
+  public void onDownstreamFormatChanged_shouldIgnoreOtherTracks() {
+    listener.onDownstreamFormatChanged(
+        mockEventTime,
+        loadData(C.TRACK_TYPE_AUDIO, videoFormat(0, 0, 128000), C.SELECTION_REASON_INITIAL));
+    listener.onDownstreamFormatChanged(
+        mockEventTime,
+        loadData(
+            C.TRACK_TYPE_DEFAULT,
+            new Format.Builder().setSampleMimeType(MimeTypes.AUDIO_AAC).build(),
+            C.SELECTION_REASON_INITIAL));
+    listener.onDownstreamFormatChanged(
+        mockEventTime, loadData(C.TRACK_TYPE_VIDEO, null, C.SELECTION_REASON_UNKNOWN));
+
+    verify(mockEventSink, never()).success(any());
+  }
+
+  private static Format videoFormat(int width, int height, int bitrate) {
+    return new Format.Builder()
+        .setWidth(width)
+        .setHeight(height)
+        .setAverageBitrate(bitrate)
+        .setPeakBitrate(bitrate)
+        .setCodecs("avc1.64001f")
+        .build();
+  }
+
+  private static MediaLoadData loadData(int trackType, Format format, int reason) {
+    return new MediaLoadData(
+        C.DATA_TYPE_MEDIA, trackType, format, reason, null, C.TIME_UNSET, C.TIME_UNSET);
+  }
+}
@@ -0,0 +1,61 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.cache.Cache;
+import java.util.concurrent.ExecutorService;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VideoPlayerCacheTest {
+  private Cache mockCache;
+  private VideoPlayerCache cache;
+
+  @Before
+  public void before() {
+    mockCache = mock(Cache.class);
+    cache = new VideoPlayerCache(mockCache, 5000, mock(ExecutorService.class));
+  }
+
+  @Test
+  public void getHitRatio_shouldBeZeroBeforeAnyRead() {
+    assertEquals(0.0, cache.getHitRatio(), 0.001);
+  }
+
+  @Test
+  public void getHitRatio_shouldCompareCachedAndNetworkBytes() {
+    DataSource mockSource = mock(DataSource.class);
+    DataSpec dataSpec = mock(DataSpec.class);
+
+    cache.cacheEventListener.onCachedBytesRead(1000, 300);
+    cache.networkTransferListener.onBytesTransferred(mockSource, dataSpec, true, 100);
+    // Reads that don't touch the network are not misses.
+    cache.networkTransferListener.onBytesTransferred(mockSource, dataSpec, false, 500);
+
+    assertEquals(300, cache.getCachedBytesRead());
+    assertEquals(100, cache.getNetworkBytesRead());
+    assertEquals(0.75, cache.getHitRatio(), 0.001);
+  }
+
+  @Test
+  public void getCacheSizeBytes_shouldReportCacheSpace() {
+    when(mockCache.getCacheSpace()).thenReturn(1234L);
+
+    assertEquals(1234, cache.getCacheSizeBytes());
+    assertEquals(5000, cache.getMaxCacheSizeBytes());
+  }
+
+  @Test
+  public void getPrefetchLength_shouldConvertDurationWithBitrate() {
+    assertEquals(750000, VideoPlayerCache.getPrefetchLength(3000, 2_000_000));
+    assertEquals(1, VideoPlayerCache.getPrefetchLength(0, 2_000_000));
+  }
+}
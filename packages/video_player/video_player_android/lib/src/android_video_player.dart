@@ -16,6 +16,9 @@ import 'messages.g.dart';
 class AndroidVideoPlayer extends VideoPlayerPlatform {
   final AndroidVideoPlayerApi _api = AndroidVideoPlayerApi();
 
+  /// The last positions pushed by the players that send position updates.
+  final Map<int, Duration> _pushedPositions = <int, Duration>{};
+
   /// Registers this class as the default instance of [PathProviderPlatform].
   static void registerWith() {
     VideoPlayerPlatform.instance = AndroidVideoPlayer();
@@ -28,6 +31,7 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
 
   @override
   Future<void> dispose(int textureId) {
+    _pushedPositions.remove(textureId);
     return _api.dispose(TextureMessage(textureId: textureId));
   }
 
@@ -105,6 +109,9 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
 
   @override
   Future<void> seekTo(int textureId, Duration position) {
+    if (_pushedPositions.containsKey(textureId)) {
+      _pushedPositions[textureId] = position;
+    }
     return _api.seekTo(PositionMessage(
       textureId: textureId,
       position: position.inMilliseconds,
@@ -113,6 +120,10 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
 
   @override
   Future<Duration> getPosition(int textureId) async {
+    final Duration? pushedPosition = _pushedPositions[textureId];
+    if (pushedPosition != null) {
+      return pushedPosition;
+    }
     final PositionMessage response =
         await _api.position(TextureMessage(textureId: textureId));
     return Duration(milliseconds: response.position);
@@ -143,6 +154,21 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
             buffered: values.map<DurationRange>(_toDurationRange).toList(),
             eventType: VideoEventType.bufferingUpdate,
           );
+        case 'positionUpdate':
+          if (_pushedPositions.containsKey(textureId)) {
+            _pushedPositions[textureId] =
+                Duration(milliseconds: map['position'] as int);
+          }
+          final int? buffered = map['buffered'] as int?;
+          if (buffered == null) {
+            return VideoEvent(eventType: VideoEventType.unknown);
+          }
+          return VideoEvent(
+            buffered: <DurationRange>[
+              DurationRange(Duration.zero, Duration(milliseconds: buffered)),
+            ],
+            eventType: VideoEventType.bufferingUpdate,
+          );
         case 'bufferingStart':
           return VideoEvent(eventType: VideoEventType.bufferingStart);
         case 'bufferingEnd':
@@ -164,6 +190,142 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
         .setMixWithOthers(MixWithOthersMessage(mixWithOthers: mixWithOthers));
   }
 
+  /// Makes the player push its position and buffered position every
+  /// [interval] while it plays, instead of being polled.
+  ///
+  /// [getPosition] then answers from the last pushed position, which lags the
+  /// playback by up to [interval]. [Duration.zero] goes back to polling.
+  Future<void> setPositionUpdateInterval(
+      int textureId, Duration interval) async {
+    _pushedPositions.remove(textureId);
+    if (interval > Duration.zero) {
+      _pushedPositions[textureId] = await getPosition(textureId);
+    }
+    await _api.setPositionUpdateInterval(PositionUpdatesMessage(
+      textureId: textureId,
+      intervalMs: interval.inMilliseconds,
+    ));
+  }
+
+  /// Sets the buffer durations of the players created after this call.
+  ///
+  /// The player buffers up to [maxBuffer] ahead of the playback position and
+  /// loads again once less than [minBuffer] is left. Playback starts with
+  /// [bufferForPlayback] buffered, or [bufferForPlaybackAfterRebuffer] after
+  /// the buffer ran empty. [backBuffer] is kept behind the playback position
+  /// for fast seeks back. When [targetBufferBytes] is set, loading also stops
+  /// once that many bytes are buffered. The defaults are ExoPlayer's.
+  Future<void> setBufferOptions({
+    Duration minBuffer = const Duration(seconds: 50),
+    Duration maxBuffer = const Duration(seconds: 50),
+    Duration bufferForPlayback = const Duration(milliseconds: 2500),
+    Duration bufferForPlaybackAfterRebuffer = const Duration(seconds: 5),
+    Duration backBuffer = Duration.zero,
+    int? targetBufferBytes,
+  }) {
+    return _api.setBufferOptions(BufferOptionsMessage(
+      minBufferMs: minBuffer.inMilliseconds,
+      maxBufferMs: maxBuffer.inMilliseconds,
+      bufferForPlaybackMs: bufferForPlayback.inMilliseconds,
+      bufferForPlaybackAfterRebufferMs:
+          bufferForPlaybackAfterRebuffer.inMilliseconds,
+      backBufferMs: backBuffer.inMilliseconds,
+      targetBufferBytes: targetBufferBytes,
+    ));
+  }
+
+  /// Returns the bytes the player holds in its buffer and the duration
+  /// buffered ahead of the playback position.
+  Future<Map<String, int>> getBufferStats(int textureId) async {
+    final BufferStatsMessage stats =
+        await _api.bufferStats(TextureMessage(textureId: textureId));
+    return <String, int>{
+      'allocatedBytes': stats.allocatedBytes,
+      'bufferedDurationMs': stats.bufferedDurationMs,
+    };
+  }
+
+  /// Limits the video tracks that adaptive streams (HLS, DASH and
+  /// SmoothStreaming) may switch to.
+  ///
+  /// [maxVideoSize] is in physical pixels, typically the size of the widget
+  /// that shows the video multiplied by the device pixel ratio. [maxBitrate]
+  /// is in bits per second. [preferredVideoMimeType], such as `video/hevc`,
+  /// is picked when it is available. A null value removes that limit.
+  ///
+  /// The player sends a `videoFormatChanged` event when it switches tracks.
+  Future<void> setTrackSelection(
+    int textureId, {
+    Size? maxVideoSize,
+    int? maxBitrate,
+    String? preferredVideoMimeType,
+  }) {
+    return _api.setTrackSelection(TrackSelectionMessage(
+      textureId: textureId,
+      maxVideoWidth: maxVideoSize?.width.ceil(),
+      maxVideoHeight: maxVideoSize?.height.ceil(),
+      maxVideoBitrate: maxBitrate,
+      preferredVideoMimeType: preferredVideoMimeType,
+    ));
+  }
+
+  /// Returns how many events of the player wait for a listener, and how many
+  /// were dropped or merged into newer ones while waiting.
+  Future<Map<String, int>> getEventQueueStats(int textureId) async {
+    final EventQueueStatsMessage stats =
+        await _api.eventQueueStats(TextureMessage(textureId: textureId));
+    return <String, int>{
+      'queuedEvents': stats.queuedEvents,
+      'droppedEvents': stats.droppedEvents,
+      'mergedEvents': stats.mergedEvents,
+    };
+  }
+
+  /// Enables a disk cache for the network videos created after this call.
+  ///
+  /// The cache is shared by all players and evicts the least recently used
+  /// content once it holds more than [maxCacheSizeBytes]. A size of 0 disables
+  /// caching again. The size is fixed the first time the cache is enabled.
+  Future<void> setCacheOptions({required int maxCacheSizeBytes}) {
+    return _api.setCacheOptions(
+        CacheOptionsMessage(maxCacheSizeBytes: maxCacheSizeBytes));
+  }
+
+  /// Writes about the first [duration] of the network video at [uri] to the
+  /// cache in the background.
+  ///
+  /// The number of bytes is estimated from [bitrate] in bits per second, or
+  /// 2 Mbit/s when it is not given. The request carries [httpHeaders], like
+  /// the requests of a player created with them. Requires the cache to be
+  /// enabled with [setCacheOptions].
+  Future<void> prefetch(
+    String uri, {
+    required Duration duration,
+    int? bitrate,
+    Map<String, String> httpHeaders = const <String, String>{},
+  }) {
+    return _api.prefetch(PrefetchMessage(
+      uri: uri,
+      durationMs: duration.inMilliseconds,
+      bitrate: bitrate,
+      httpHeaders: httpHeaders,
+    ));
+  }
+
+  /// Returns the size of the cache and how many bytes players read from the
+  /// cache and from the network.
+  Future<Map<String, num>> getCacheStats() async {
+    final CacheStatsMessage stats = await _api.getCacheStats();
+    return <String, num>{
+      'cacheSizeBytes': stats.cacheSizeBytes,
+      'maxCacheSizeBytes': stats.maxCacheSizeBytes,
+      'cachedBytesRead': stats.cachedBytesRead,
+      'networkBytesRead': stats.networkBytesRead,
+      'prefetchedBytes': stats.prefetchedBytes,
+      'hitRatio': stats.hitRatio,
+    };
+  }
+
   EventChannel _eventChannelFor(int textureId) {
     return EventChannel('flutter.io/videoPlayer/videoEvents$textureId');
   }
@@ -191,31 +191,318 @@ class MixWithOthersMessage {
   }
 }
 
+class CacheOptionsMessage {
+  CacheOptionsMessage({
+    required this.maxCacheSizeBytes,
+  });
+
+  int maxCacheSizeBytes;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['maxCacheSizeBytes'] = maxCacheSizeBytes;
+    return pigeonMap;
+  }
+
+  static CacheOptionsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return CacheOptionsMessage(
+      maxCacheSizeBytes: pigeonMap['maxCacheSizeBytes']! as int,
+    );
+  }
+}
+
+class PrefetchMessage {
+  PrefetchMessage({
+    required this.uri,
+    required this.durationMs,
+    this.bitrate,
+    this.httpHeaders,
+  });
+
+  String uri;
+  int durationMs;
+  int? bitrate;
+  Map<String?, String?>? httpHeaders;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['uri'] = uri;
+    pigeonMap['durationMs'] = durationMs;
+    pigeonMap['bitrate'] = bitrate;
+    pigeonMap['httpHeaders'] = httpHeaders;
+    return pigeonMap;
+  }
+
+  static PrefetchMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PrefetchMessage(
+      uri: pigeonMap['uri']! as String,
+      durationMs: pigeonMap['durationMs']! as int,
+      bitrate: pigeonMap['bitrate'] as int?,
+      httpHeaders: (pigeonMap['httpHeaders'] as Map<Object?, Object?>?)
+          ?.cast<String?, String?>(),
+    );
+  }
+}
+
+class CacheStatsMessage {
+  CacheStatsMessage({
+    required this.cacheSizeBytes,
+    required this.maxCacheSizeBytes,
+    required this.cachedBytesRead,
+    required this.networkBytesRead,
+    required this.prefetchedBytes,
+    required this.hitRatio,
+  });
+
+  int cacheSizeBytes;
+  int maxCacheSizeBytes;
+  int cachedBytesRead;
+  int networkBytesRead;
+  int prefetchedBytes;
+  double hitRatio;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['cacheSizeBytes'] = cacheSizeBytes;
+    pigeonMap['maxCacheSizeBytes'] = maxCacheSizeBytes;
+    pigeonMap['cachedBytesRead'] = cachedBytesRead;
+    pigeonMap['networkBytesRead'] = networkBytesRead;
+    pigeonMap['prefetchedBytes'] = prefetchedBytes;
+    pigeonMap['hitRatio'] = hitRatio;
+    return pigeonMap;
+  }
+
+  static CacheStatsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return CacheStatsMessage(
+      cacheSizeBytes: pigeonMap['cacheSizeBytes']! as int,
+      maxCacheSizeBytes: pigeonMap['maxCacheSizeBytes']! as int,
+      cachedBytesRead: pigeonMap['cachedBytesRead']! as int,
+      networkBytesRead: pigeonMap['networkBytesRead']! as int,
+      prefetchedBytes: pigeonMap['prefetchedBytes']! as int,
+      hitRatio: pigeonMap['hitRatio']! as double,
+    );
+  }
+}
+
+class PositionUpdatesMessage {
+  PositionUpdatesMessage({
+    required this.textureId,
+    required this.intervalMs,
+  });
+
+  int textureId;
+  int intervalMs;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['intervalMs'] = intervalMs;
+    return pigeonMap;
+  }
+
+  static PositionUpdatesMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PositionUpdatesMessage(
+      textureId: pigeonMap['textureId']! as int,
+      intervalMs: pigeonMap['intervalMs']! as int,
+    );
+  }
+}
+
+class BufferOptionsMessage {
+  BufferOptionsMessage({
+    required this.minBufferMs,
+    required this.maxBufferMs,
+    required this.bufferForPlaybackMs,
+    required this.bufferForPlaybackAfterRebufferMs,
+    required this.backBufferMs,
+    this.targetBufferBytes,
+  });
+
+  int minBufferMs;
+  int maxBufferMs;
+  int bufferForPlaybackMs;
+  int bufferForPlaybackAfterRebufferMs;
+  int backBufferMs;
+  int? targetBufferBytes;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['minBufferMs'] = minBufferMs;
+    pigeonMap['maxBufferMs'] = maxBufferMs;
+    pigeonMap['bufferForPlaybackMs'] = bufferForPlaybackMs;
+    pigeonMap['bufferForPlaybackAfterRebufferMs'] =
+        bufferForPlaybackAfterRebufferMs;
+    pigeonMap['backBufferMs'] = backBufferMs;
+    pigeonMap['targetBufferBytes'] = targetBufferBytes;
+    return pigeonMap;
+  }
+
+  static BufferOptionsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return BufferOptionsMessage(
+      minBufferMs: pigeonMap['minBufferMs']! as int,
+      maxBufferMs: pigeonMap['maxBufferMs']! as int,
+      bufferForPlaybackMs: pigeonMap['bufferForPlaybackMs']! as int,
+      bufferForPlaybackAfterRebufferMs:
+          pigeonMap['bufferForPlaybackAfterRebufferMs']! as int,
+      backBufferMs: pigeonMap['backBufferMs']! as int,
+      targetBufferBytes: pigeonMap['targetBufferBytes'] as int?,
+    );
+  }
+}
+
+class BufferStatsMessage {
+  BufferStatsMessage({
+    required this.textureId,
+    required this.allocatedBytes,
+    required this.bufferedDurationMs,
+  });
+
+  int textureId;
+  int allocatedBytes;
+  int bufferedDurationMs;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['allocatedBytes'] = allocatedBytes;
+    pigeonMap['bufferedDurationMs'] = bufferedDurationMs;
+    return pigeonMap;
+  }
+
+  static BufferStatsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return BufferStatsMessage(
+      textureId: pigeonMap['textureId']! as int,
+      allocatedBytes: pigeonMap['allocatedBytes']! as int,
+      bufferedDurationMs: pigeonMap['bufferedDurationMs']! as int,
+    );
+  }
+}
+
+class EventQueueStatsMessage {
+  EventQueueStatsMessage({
+    required this.textureId,
+    required this.queuedEvents,
+    required this.droppedEvents,
+    required this.mergedEvents,
+  });
+
+  int textureId;
+  int queuedEvents;
+  int droppedEvents;
+  int mergedEvents;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['queuedEvents'] = queuedEvents;
+    pigeonMap['droppedEvents'] = droppedEvents;
+    pigeonMap['mergedEvents'] = mergedEvents;
+    return pigeonMap;
+  }
+
+  static EventQueueStatsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return EventQueueStatsMessage(
+      textureId: pigeonMap['textureId']! as int,
+      queuedEvents: pigeonMap['queuedEvents']! as int,
+      droppedEvents: pigeonMap['droppedEvents']! as int,
+      mergedEvents: pigeonMap['mergedEvents']! as int,
+    );
+  }
+}
+
+class TrackSelectionMessage {
+  TrackSelectionMessage({
+    required this.textureId,
+    this.maxVideoWidth,
+    this.maxVideoHeight,
+    this.maxVideoBitrate,
+    this.preferredVideoMimeType,
+  });
+
+  int textureId;
+  int? maxVideoWidth;
+  int? maxVideoHeight;
+  int? maxVideoBitrate;
+  String? preferredVideoMimeType;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['maxVideoWidth'] = maxVideoWidth;
+    pigeonMap['maxVideoHeight'] = maxVideoHeight;
+    pigeonMap['maxVideoBitrate'] = maxVideoBitrate;
+    pigeonMap['preferredVideoMimeType'] = preferredVideoMimeType;
+    return pigeonMap;
+  }
+
+  static TrackSelectionMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return TrackSelectionMessage(
+      textureId: pigeonMap['textureId']! as int,
+      maxVideoWidth: pigeonMap['maxVideoWidth'] as int?,
+      maxVideoHeight: pigeonMap['maxVideoHeight'] as int?,
+      maxVideoBitrate: pigeonMap['maxVideoBitrate'] as int?,
+      preferredVideoMimeType: pigeonMap['preferredVideoMimeType'] as String?,
+    );
+  }
+}
+
 class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
   const _AndroidVideoPlayerApiCodec();
   @override
   void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is CreateMessage) {
+    if (value is BufferOptionsMessage) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
-    } else if (value is LoopingMessage) {
+    } else if (value is BufferStatsMessage) {
       buffer.putUint8(129);
       writeValue(buffer, value.encode());
-    } else if (value is MixWithOthersMessage) {
+    } else if (value is CacheOptionsMessage) {
       buffer.putUint8(130);
       writeValue(buffer, value.encode());
-    } else if (value is PlaybackSpeedMessage) {
+    } else if (value is CacheStatsMessage) {
       buffer.putUint8(131);
       writeValue(buffer, value.encode());
-    } else if (value is PositionMessage) {
+    } else if (value is CreateMessage) {
       buffer.putUint8(132);
       writeValue(buffer, value.encode());
-    } else if (value is TextureMessage) {
+    } else if (value is EventQueueStatsMessage) {
       buffer.putUint8(133);
       writeValue(buffer, value.encode());
-    } else if (value is VolumeMessage) {
+    } else if (value is LoopingMessage) {
       buffer.putUint8(134);
       writeValue(buffer, value.encode());
+    } else if (value is MixWithOthersMessage) {
+      buffer.putUint8(135);
+      writeValue(buffer, value.encode());
+    } else if (value is PlaybackSpeedMessage) {
+      buffer.putUint8(136);
+      writeValue(buffer, value.encode());
+    } else if (value is PositionMessage) {
+      buffer.putUint8(137);
+      writeValue(buffer, value.encode());
+    } else if (value is PositionUpdatesMessage) {
+      buffer.putUint8(138);
+      writeValue(buffer, value.encode());
+    } else if (value is PrefetchMessage) {
+      buffer.putUint8(139);
+      writeValue(buffer, value.encode());
+    } else if (value is TextureMessage) {
+      buffer.putUint8(140);
+      writeValue(buffer, value.encode());
+    } else if (value is TrackSelectionMessage) {
+      buffer.putUint8(141);
+      writeValue(buffer, value.encode());
+    } else if (value is VolumeMessage) {
+      buffer.putUint8(142);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -225,24 +512,48 @@ class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
   Object? readValueOfType(int type, ReadBuffer buffer) {
     switch (type) {
       case 128:
-        return CreateMessage.decode(readValue(buffer)!);
+        return BufferOptionsMessage.decode(readValue(buffer)!);
 
       case 129:
-        return LoopingMessage.decode(readValue(buffer)!);
+        return BufferStatsMessage.decode(readValue(buffer)!);
 
       case 130:
-        return MixWithOthersMessage.decode(readValue(buffer)!);
+        return CacheOptionsMessage.decode(readValue(buffer)!);
 
       case 131:
-        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+        return CacheStatsMessage.decode(readValue(buffer)!);
 
       case 132:
-        return PositionMessage.decode(readValue(buffer)!);
+        return CreateMessage.decode(readValue(buffer)!);
 
       case 133:
-        return TextureMessage.decode(readValue(buffer)!);
+        return EventQueueStatsMessage.decode(readValue(buffer)!);
 
       case 134:
+        return LoopingMessage.decode(readValue(buffer)!);
+
+      case 135:
+        return MixWithOthersMessage.decode(readValue(buffer)!);
+
+      case 136:
+        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+
+      case 137:
+        return PositionMessage.decode(readValue(buffer)!);
+
+      case 138:
+        return PositionUpdatesMessage.decode(readValue(buffer)!);
+
+      case 139:
+        return PrefetchMessage.decode(readValue(buffer)!);
+
+      case 140:
+        return TextureMessage.decode(readValue(buffer)!);
+
+      case 141:
+        return TrackSelectionMessage.decode(readValue(buffer)!);
+
+      case 142:
         return VolumeMessage.decode(readValue(buffer)!);
 
       default:
@@ -535,4 +846,212 @@ class AndroidVideoPlayerApi {
       return;
     }
   }
+
+  Future<void> setCacheOptions(CacheOptionsMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setCacheOptions', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> prefetch(PrefetchMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.prefetch', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<CacheStatsMessage> getCacheStats() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.getCacheStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as CacheStatsMessage?)!;
+    }
+  }
+
+  Future<void> setPositionUpdateInterval(PositionUpdatesMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPositionUpdateInterval',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setBufferOptions(BufferOptionsMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setBufferOptions', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<BufferStatsMessage> bufferStats(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.bufferStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as BufferStatsMessage?)!;
+    }
+  }
+
+  Future<EventQueueStatsMessage> eventQueueStats(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.eventQueueStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as EventQueueStatsMessage?)!;
+    }
+  }
+
+  Future<void> setTrackSelection(TrackSelectionMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setTrackSelection', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
 }
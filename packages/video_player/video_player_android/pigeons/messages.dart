@@ -56,6 +56,91 @@ class MixWithOthersMessage {
   bool mixWithOthers;
 }
 
+class CacheOptionsMessage {
+  CacheOptionsMessage(this.maxCacheSizeBytes);
+  int maxCacheSizeBytes;
+}
+
+class PrefetchMessage {
+  PrefetchMessage({required this.uri, required this.durationMs});
+  String uri;
+  int durationMs;
+  int? bitrate;
+  Map<String?, String?>? httpHeaders;
+}
+
+class CacheStatsMessage {
+  CacheStatsMessage(
+    this.cacheSizeBytes,
+    this.maxCacheSizeBytes,
+    this.cachedBytesRead,
+    this.networkBytesRead,
+    this.prefetchedBytes,
+    this.hitRatio,
+  );
+  int cacheSizeBytes;
+  int maxCacheSizeBytes;
+  int cachedBytesRead;
+  int networkBytesRead;
+  int prefetchedBytes;
+  double hitRatio;
+}
+
+class PositionUpdatesMessage {
+  PositionUpdatesMessage(this.textureId, this.intervalMs);
+  int textureId;
+  int intervalMs;
+}
+
+class BufferOptionsMessage {
+  BufferOptionsMessage({
+    required this.minBufferMs,
+    required this.maxBufferMs,
+    required this.bufferForPlaybackMs,
+    required this.bufferForPlaybackAfterRebufferMs,
+    required this.backBufferMs,
+  });
+  int minBufferMs;
+  int maxBufferMs;
+  int bufferForPlaybackMs;
+  int bufferForPlaybackAfterRebufferMs;
+  int backBufferMs;
+  int? targetBufferBytes;
+}
+
+class BufferStatsMessage {
+  BufferStatsMessage(
+    this.textureId,
+    this.allocatedBytes,
+    this.bufferedDurationMs,
+  );
+  int textureId;
+  int allocatedBytes;
+  int bufferedDurationMs;
+}
+
+class EventQueueStatsMessage {
+  EventQueueStatsMessage(
+    this.textureId,
+    this.queuedEvents,
+    this.droppedEvents,
+    this.mergedEvents,
+  );
+  int textureId;
+  int queuedEvents;
+  int droppedEvents;
+  int mergedEvents;
+}
+
+class TrackSelectionMessage {
+  TrackSelectionMessage({required this.textureId});
+  int textureId;
+  int? maxVideoWidth;
+  int? maxVideoHeight;
+  int? maxVideoBitrate;
+  String? preferredVideoMimeType;
+}
+
 @HostApi(dartHostTestHandler: 'TestHostVideoPlayerApi')
 abstract class AndroidVideoPlayerApi {
   void initialize();
@@ -69,4 +154,12 @@ abstract class AndroidVideoPlayerApi {
   void seekTo(PositionMessage msg);
   void pause(TextureMessage msg);
   void setMixWithOthers(MixWithOthersMessage msg);
+  void setCacheOptions(CacheOptionsMessage msg);
+  void prefetch(PrefetchMessage msg);
+  CacheStatsMessage getCacheStats();
+  void setPositionUpdateInterval(PositionUpdatesMessage msg);
+  void setBufferOptions(BufferOptionsMessage msg);
+  BufferStatsMessage bufferStats(TextureMessage msg);
+  EventQueueStatsMessage eventQueueStats(TextureMessage msg);
+  void setTrackSelection(TrackSelectionMessage msg);
 }
@@ -21,6 +21,11 @@ class _ApiLogger implements TestHostVideoPlayerApi {
   VolumeMessage? volumeMessage;
   PlaybackSpeedMessage? playbackSpeedMessage;
   MixWithOthersMessage? mixWithOthersMessage;
+  CacheOptionsMessage? cacheOptionsMessage;
+  PrefetchMessage? prefetchMessage;
+  PositionUpdatesMessage? positionUpdatesMessage;
+  BufferOptionsMessage? bufferOptionsMessage;
+  TrackSelectionMessage? trackSelectionMessage;
 
   @override
   TextureMessage create(CreateMessage arg) {
@@ -58,6 +63,66 @@ class _ApiLogger implements TestHostVideoPlayerApi {
     mixWithOthersMessage = arg;
   }
 
+  @override
+  void setBufferOptions(BufferOptionsMessage arg) {
+    log.add('setBufferOptions');
+    bufferOptionsMessage = arg;
+  }
+
+  @override
+  BufferStatsMessage bufferStats(TextureMessage arg) {
+    log.add('bufferStats');
+    textureMessage = arg;
+    return BufferStatsMessage(
+      textureId: arg.textureId,
+      allocatedBytes: 65536,
+      bufferedDurationMs: 4000,
+    );
+  }
+
+  @override
+  EventQueueStatsMessage eventQueueStats(TextureMessage arg) {
+    log.add('eventQueueStats');
+    textureMessage = arg;
+    return EventQueueStatsMessage(
+      textureId: arg.textureId,
+      queuedEvents: 3,
+      droppedEvents: 1,
+      mergedEvents: 12,
+    );
+  }
+
+  @override
+  void setTrackSelection(TrackSelectionMessage arg) {
+    log.add('setTrackSelection');
+    trackSelectionMessage = arg;
+  }
+
+  @override
+  void setCacheOptions(CacheOptionsMessage arg) {
+    log.add('setCacheOptions');
+    cacheOptionsMessage = arg;
+  }
+
+  @override
+  void prefetch(PrefetchMessage arg) {
+    log.add('prefetch');
+    prefetchMessage = arg;
+  }
+
+  @override
+  CacheStatsMessage getCacheStats() {
+    log.add('getCacheStats');
+    return CacheStatsMessage(
+      cacheSizeBytes: 1000,
+      maxCacheSizeBytes: 5000,
+      cachedBytesRead: 300,
+      networkBytesRead: 100,
+      prefetchedBytes: 200,
+      hitRatio: 0.75,
+    );
+  }
+
   @override
   PositionMessage position(TextureMessage arg) {
     log.add('position');
@@ -65,6 +130,12 @@ class _ApiLogger implements TestHostVideoPlayerApi {
     return PositionMessage(textureId: arg.textureId, position: 234);
   }
 
+  @override
+  void setPositionUpdateInterval(PositionUpdatesMessage arg) {
+    log.add('setPositionUpdateInterval');
+    positionUpdatesMessage = arg;
+  }
+
   @override
   void seekTo(PositionMessage arg) {
     log.add('seekTo');
@@ -203,6 +274,92 @@ void main() {
       expect(log.mixWithOthersMessage?.mixWithOthers, false);
     });
 
+    test('setBufferOptions', () async {
+      await player.setBufferOptions(
+        minBuffer: const Duration(seconds: 2),
+        maxBuffer: const Duration(seconds: 5),
+        bufferForPlayback: const Duration(milliseconds: 500),
+        bufferForPlaybackAfterRebuffer: const Duration(seconds: 1),
+        targetBufferBytes: 1048576,
+      );
+      expect(log.log.last, 'setBufferOptions');
+      expect(log.bufferOptionsMessage?.minBufferMs, 2000);
+      expect(log.bufferOptionsMessage?.maxBufferMs, 5000);
+      expect(log.bufferOptionsMessage?.bufferForPlaybackMs, 500);
+      expect(log.bufferOptionsMessage?.bufferForPlaybackAfterRebufferMs, 1000);
+      expect(log.bufferOptionsMessage?.backBufferMs, 0);
+      expect(log.bufferOptionsMessage?.targetBufferBytes, 1048576);
+    });
+
+    test('getBufferStats', () async {
+      final Map<String, int> stats = await player.getBufferStats(1);
+      expect(log.log.last, 'bufferStats');
+      expect(log.textureMessage?.textureId, 1);
+      expect(stats['allocatedBytes'], 65536);
+      expect(stats['bufferedDurationMs'], 4000);
+    });
+
+    test('getEventQueueStats', () async {
+      final Map<String, int> stats = await player.getEventQueueStats(1);
+      expect(log.log.last, 'eventQueueStats');
+      expect(log.textureMessage?.textureId, 1);
+      expect(stats['queuedEvents'], 3);
+      expect(stats['droppedEvents'], 1);
+      expect(stats['mergedEvents'], 12);
+    });
+
+    test('setTrackSelection', () async {
+      await player.setTrackSelection(
+        1,
+        maxVideoSize: const Size(640.5, 360),
+        maxBitrate: 1500000,
+        preferredVideoMimeType: 'video/hevc',
+      );
+      expect(log.log.last, 'setTrackSelection');
+      expect(log.trackSelectionMessage?.textureId, 1);
+      expect(log.trackSelectionMessage?.maxVideoWidth, 641);
+      expect(log.trackSelectionMessage?.maxVideoHeight, 360);
+      expect(log.trackSelectionMessage?.maxVideoBitrate, 1500000);
+      expect(log.trackSelectionMessage?.preferredVideoMimeType, 'video/hevc');
+
+      await player.setTrackSelection(1);
+      expect(log.trackSelectionMessage?.maxVideoWidth, null);
+      expect(log.trackSelectionMessage?.maxVideoBitrate, null);
+    });
+
+    test('setCacheOptions', () async {
+      await player.setCacheOptions(maxCacheSizeBytes: 5000);
+      expect(log.log.last, 'setCacheOptions');
+      expect(log.cacheOptionsMessage?.maxCacheSizeBytes, 5000);
+    });
+
+    test('prefetch', () async {
+      await player.prefetch('someUri',
+          duration: const Duration(seconds: 3), bitrate: 800000);
+      expect(log.log.last, 'prefetch');
+      expect(log.prefetchMessage?.uri, 'someUri');
+      expect(log.prefetchMessage?.durationMs, 3000);
+      expect(log.prefetchMessage?.bitrate, 800000);
+      expect(log.prefetchMessage?.httpHeaders, <String, String>{});
+    });
+
+    test('prefetch with httpHeaders', () async {
+      await player.prefetch('someUri',
+          duration: const Duration(seconds: 3),
+          httpHeaders: <String, String>{'Authorization': 'Bearer token'});
+      expect(log.log.last, 'prefetch');
+      expect(log.prefetchMessage?.httpHeaders,
+          <String, String>{'Authorization': 'Bearer token'});
+    });
+
+    test('getCacheStats', () async {
+      final Map<String, num> stats = await player.getCacheStats();
+      expect(log.log.last, 'getCacheStats');
+      expect(stats['cacheSizeBytes'], 1000);
+      expect(stats['maxCacheSizeBytes'], 5000);
+      expect(stats['hitRatio'], 0.75);
+    });
+
     test('setVolume', () async {
       await player.setVolume(1, 0.7);
       expect(log.log.last, 'setVolume');
@@ -231,6 +388,26 @@ void main() {
       expect(position, const Duration(milliseconds: 234));
     });
 
+    test('setPositionUpdateInterval', () async {
+      await player.setPositionUpdateInterval(
+          1, const Duration(milliseconds: 250));
+      expect(log.log.last, 'setPositionUpdateInterval');
+      expect(log.positionUpdatesMessage?.textureId, 1);
+      expect(log.positionUpdatesMessage?.intervalMs, 250);
+
+      final Duration position = await player.getPosition(1);
+      expect(log.log.last, 'setPositionUpdateInterval');
+      expect(position, const Duration(milliseconds: 234));
+
+      await player.seekTo(1, const Duration(milliseconds: 1000));
+      expect(await player.getPosition(1), const Duration(milliseconds: 1000));
+
+      await player.setPositionUpdateInterval(1, Duration.zero);
+      expect(log.positionUpdatesMessage?.intervalMs, 0);
+      await player.getPosition(1);
+      expect(log.log.last, 'position');
+    });
+
     test('videoEventsFor', () async {
       _ambiguate(ServicesBinding.instance)
           ?.defaultBinaryMessenger
@@ -277,6 +454,29 @@ void main() {
                     }),
                     (ByteData? data) {});
 
+            await _ambiguate(ServicesBinding.instance)
+                ?.defaultBinaryMessenger
+                .handlePlatformMessage(
+                    'flutter.io/videoPlayer/videoEvents123',
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'positionUpdate',
+                      'position': 1000,
+                      'buffered': 5000,
+                    }),
+                    (ByteData? data) {});
+
+            await _ambiguate(ServicesBinding.instance)
+                ?.defaultBinaryMessenger
+                .handlePlatformMessage(
+                    'flutter.io/videoPlayer/videoEvents123',
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'positionUpdate',
+                      'position': 1250,
+                    }),
+                    (ByteData? data) {});
+
             await _ambiguate(ServicesBinding.instance)
                 ?.defaultBinaryMessenger
                 .handlePlatformMessage(
@@ -326,6 +526,15 @@ void main() {
                     const Duration(milliseconds: 4000),
                   ),
                 ]),
+            VideoEvent(
+                eventType: VideoEventType.bufferingUpdate,
+                buffered: <DurationRange>[
+                  DurationRange(
+                    Duration.zero,
+                    const Duration(milliseconds: 5000),
+                  ),
+                ]),
+            VideoEvent(eventType: VideoEventType.unknown),
             VideoEvent(eventType: VideoEventType.bufferingStart),
             VideoEvent(eventType: VideoEventType.bufferingEnd),
           ]));